@@ -0,0 +1,56 @@
+package de.tudresden.inf.lat.born.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.born.core.term.ProbClause;
+import de.tudresden.inf.lat.born.problog.connector.BayesianNetworkCreatorCore;
+
+/**
+ * Benchmark of the creation of Bayesian networks. The parameter has the same
+ * format as the command line of the Bayesian network creator, i.e. the number
+ * of variables with 0, 1, 2, ... parents, separated by commas.
+ *
+ * @author Julian Mendez
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BayesianNetworkCreatorBenchmark {
+
+	@Param({ "10,5,2", "100,50,20,10", "1000,500,200,100,50" })
+	public String variables;
+
+	List<Integer> listOfVariables;
+
+	@Setup
+	public void setUp() {
+		this.listOfVariables = new ArrayList<>();
+		for (String value : this.variables.split(",")) {
+			this.listOfVariables.add(Integer.parseInt(value.trim()));
+		}
+	}
+
+	@Benchmark
+	public List<ProbClause> createNetwork() {
+		return new BayesianNetworkCreatorCore().createNetwork(this.listOfVariables);
+	}
+
+}
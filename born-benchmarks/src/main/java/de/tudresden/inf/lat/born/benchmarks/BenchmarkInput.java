@@ -0,0 +1,203 @@
+package de.tudresden.inf.lat.born.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.module.DefaultModuleExtractor;
+import de.tudresden.inf.lat.born.module.Module;
+import de.tudresden.inf.lat.born.owlapi.example.ExampleLoader;
+import de.tudresden.inf.lat.born.owlapi.processor.ParallelPreprocessor;
+import de.tudresden.inf.lat.born.owlapi.processor.ProblogInputCreator;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.born.problog.type.ProblogProgram;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+
+/**
+ * An object of this class is the input shared by the benchmarks. The input is
+ * either one of the bundled examples (<code>example-0</code>, ...,
+ * <code>example-5</code>) or a generated ontology (<code>generated-n</code>),
+ * which has <i>n</i> classes, and a Bayesian network with one variable per
+ * axiom. Every stage of the pipeline is computed once in the setup, so that
+ * each benchmark can start from the output of the previous stage.
+ *
+ * @author Julian Mendez
+ *
+ */
+@State(Scope.Benchmark)
+public class BenchmarkInput {
+
+	public static final String GENERATED_PREFIX = "generated-";
+	public static final String GENERATED_NAMESPACE = "http://lat.inf.tu-dresden.de/systems/born/born-generated#";
+
+	static final Pattern QUOTED_SYMBOL = Pattern.compile("'([^']*)'");
+
+	@Param({ "example-0", "example-1", "example-2", "example-3", "example-4", "example-5", "generated-1000",
+			"generated-10000" })
+	public String input;
+
+	OWLOntology ontology;
+	String bayesianNetwork;
+	String query;
+	String expandedQuery;
+
+	ProblogInputCreator problogInputCreator;
+	IntegerOntologyObjectFactory factory;
+	List<ComplexIntegerAxiom> translatedAxioms;
+	Set<NormalizedIntegerAxiom> normalizedAxioms;
+	Set<Integer> queryClasses;
+	Module module;
+	ProblogProgram program;
+
+	/**
+	 * Returns a generated ontology in OWL functional syntax. Each class
+	 * <i>A<sub>i</sub></i> is a subclass of <i>A<sub>i-1</sub></i> and of
+	 * <i>&exist;r.A<sub>i/2</sub></i>, and each axiom is annotated with its
+	 * own variable.
+	 *
+	 * @param size
+	 *            number of classes
+	 * @return a generated ontology in OWL functional syntax
+	 */
+	static String generateOntology(int size) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Prefix(gen:=<" + GENERATED_NAMESPACE + ">)\n");
+		sb.append("Prefix(born:=<http://lat.inf.tu-dresden.de/systems/born#>)\n");
+		sb.append("Prefix(xsd:=<http://www.w3.org/2001/XMLSchema#>)\n");
+		sb.append("Ontology(<http://lat.inf.tu-dresden.de/systems/born/born-generated>\n");
+		sb.append("Declaration(ObjectProperty(gen:r))\n");
+		sb.append("Declaration(AnnotationProperty(born:probability))\n");
+		int variable = 0;
+		for (int index = 0; index < size; index++) {
+			sb.append("Declaration(Class(gen:A" + index + "))\n");
+			if (index > 0) {
+				sb.append("SubClassOf(Annotation(born:probability \"x" + variable + "\"^^xsd:string) gen:A" + index
+						+ " gen:A" + (index - 1) + ")\n");
+				variable++;
+				sb.append("SubClassOf(Annotation(born:probability \"x" + variable + "\"^^xsd:string) gen:A" + index
+						+ " ObjectSomeValuesFrom(gen:r gen:A" + (index / 2) + "))\n");
+				variable++;
+			}
+		}
+		sb.append(")\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Returns a Bayesian network with the given number of independent
+	 * variables.
+	 *
+	 * @param size
+	 *            number of variables
+	 * @return a Bayesian network with the given number of independent
+	 *         variables
+	 */
+	static String generateBayesianNetwork(int size) {
+		StringBuilder sb = new StringBuilder();
+		for (int index = 0; index < size; index++) {
+			sb.append("0.5::x" + index + ".");
+			sb.append(Symbol.NEW_LINE_CHAR);
+		}
+		return sb.toString();
+	}
+
+	InputStream getResource(String fileName) throws IOException {
+		InputStream ret = getClass().getClassLoader().getResourceAsStream(ExampleLoader.EXAMPLES_DIRECTORY + fileName);
+		if (Objects.isNull(ret)) {
+			throw new IOException("Resource not found: '" + fileName + "'.");
+		}
+		return ret;
+	}
+
+	void load() throws IOException, OWLOntologyCreationException {
+		if (this.input.startsWith(GENERATED_PREFIX)) {
+			int size = Integer.parseInt(this.input.substring(GENERATED_PREFIX.length()));
+			this.ontology = ProcessorConfigurationImpl.readOntology(
+					new ByteArrayInputStream(generateOntology(size).getBytes(StandardCharsets.UTF_8)));
+			this.bayesianNetwork = generateBayesianNetwork(2 * size);
+			this.query = "query(sub('gen:A" + (size - 1) + "', 'gen:A0')).";
+		} else {
+			this.ontology = ProcessorConfigurationImpl.readOntology(getResource(this.input + ExampleLoader.OWL_EXTENSION));
+			this.bayesianNetwork = ProcessorConfigurationImpl
+					.read(new InputStreamReader(getResource(this.input + ExampleLoader.NETWORK_EXTENSION)));
+			this.query = ProcessorConfigurationImpl
+					.read(new InputStreamReader(getResource(this.input + ExampleLoader.QUERY_EXTENSION)));
+		}
+	}
+
+	/**
+	 * Returns the classes mentioned in the query.
+	 *
+	 * @return the classes mentioned in the query
+	 */
+	Set<Integer> getQueryClasses() {
+		Set<String> names = new TreeSet<>();
+		Matcher matcher = QUOTED_SYMBOL.matcher(this.expandedQuery);
+		while (matcher.find()) {
+			names.add(matcher.group(1));
+		}
+		Set<Integer> ret = new TreeSet<>();
+		this.factory.getEntityManager().getEntities(IntegerEntityType.CLASS, false).forEach(id -> {
+			if (names.contains(this.factory.getEntityManager().getName(id))) {
+				ret.add(id);
+			}
+		});
+		return ret;
+	}
+
+	/**
+	 * Returns a new preprocessor with a new factory of integer ontology
+	 * objects.
+	 *
+	 * @return a new preprocessor with a new factory of integer ontology objects
+	 */
+	ParallelPreprocessor newPreprocessor() {
+		return new ParallelPreprocessor(this.ontology.getOWLOntologyManager().getOWLDataFactory(),
+				new IntegerOntologyObjectFactoryImpl());
+	}
+
+	/**
+	 * Loads the input and computes every stage of the pipeline once.
+	 *
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 * @throws OWLOntologyCreationException
+	 *             if the ontology could not be loaded
+	 */
+	@Setup
+	public void setUp() throws IOException, OWLOntologyCreationException {
+		load();
+		this.problogInputCreator = new ProblogInputCreator();
+		this.expandedQuery = this.problogInputCreator.expandPrefixes(this.ontology, this.query);
+
+		ParallelPreprocessor preprocessor = newPreprocessor();
+		this.factory = preprocessor.getOntologyObjectFactory();
+		this.translatedAxioms = preprocessor.translate(this.ontology.getAxioms());
+		this.normalizedAxioms = preprocessor.normalize(this.translatedAxioms);
+		this.queryClasses = getQueryClasses();
+		this.module = new DefaultModuleExtractor().extractModule(this.normalizedAxioms, this.queryClasses);
+		this.program = this.problogInputCreator.createProblogProgram(this.factory, this.module,
+				this.problogInputCreator.getDefaultCompletionRules(), "", this.bayesianNetwork, this.expandedQuery);
+	}
+
+}
@@ -0,0 +1,72 @@
+package de.tudresden.inf.lat.born.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.born.module.DefaultModuleExtractor;
+import de.tudresden.inf.lat.born.module.Module;
+import de.tudresden.inf.lat.born.owlapi.processor.ParallelPreprocessor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+
+/**
+ * Benchmarks of the stages that preprocess an ontology: translation of the
+ * OWL axioms into integer axioms, normalization, and module extraction.
+ *
+ * @author Julian Mendez
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreprocessingBenchmark {
+
+	/**
+	 * Translated axioms with their own factory of integer ontology objects,
+	 * because the normalization adds auxiliary entities to the factory.
+	 */
+	@State(Scope.Thread)
+	public static class TranslatedInput {
+
+		ParallelPreprocessor preprocessor;
+		List<ComplexIntegerAxiom> axioms;
+
+		@Setup(Level.Invocation)
+		public void setUp(BenchmarkInput input) {
+			this.preprocessor = input.newPreprocessor();
+			this.axioms = this.preprocessor.translate(input.ontology.getAxioms());
+		}
+
+	}
+
+	@Benchmark
+	public List<ComplexIntegerAxiom> translate(BenchmarkInput input) {
+		return input.newPreprocessor().translate(input.ontology.getAxioms());
+	}
+
+	@Benchmark
+	public Set<NormalizedIntegerAxiom> normalize(TranslatedInput translated) {
+		return translated.preprocessor.normalize(translated.axioms);
+	}
+
+	@Benchmark
+	public Module extractModule(BenchmarkInput input) {
+		return new DefaultModuleExtractor().extractModule(input.normalizedAxioms, input.queryClasses);
+	}
+
+}
@@ -0,0 +1,69 @@
+package de.tudresden.inf.lat.born.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfiguration;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorCore;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResult;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResultImpl;
+import de.tudresden.inf.lat.born.problog.type.ProblogProgram;
+
+/**
+ * Benchmarks of the stages that create the ProbLog program: expansion of the
+ * prefixes in the query, rendering of the module as clauses, and
+ * serialization of the program. The whole pipeline is measured with a stub
+ * query processor that does not call ProbLog, so that only the cost on the
+ * Java side is measured.
+ *
+ * @author Julian Mendez
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblogProgramBenchmark {
+
+	static final String STUB_RESULT = "";
+
+	@Benchmark
+	public String expandPrefixes(BenchmarkInput input) {
+		return input.problogInputCreator.expandPrefixes(input.ontology, input.query);
+	}
+
+	@Benchmark
+	public ProblogProgram createProblogProgram(BenchmarkInput input) throws IOException {
+		return input.problogInputCreator.createProblogProgram(input.factory, input.module,
+				input.problogInputCreator.getDefaultCompletionRules(), "", input.bayesianNetwork,
+				input.expandedQuery);
+	}
+
+	@Benchmark
+	public String asString(BenchmarkInput input) {
+		return input.program.asString();
+	}
+
+	@Benchmark
+	public ProcessorExecutionResult runWithStubQueryProcessor(BenchmarkInput input) {
+		ProcessorConfiguration conf = new ProcessorConfigurationImpl();
+		conf.setOntology(input.ontology);
+		conf.setBayesianNetwork(input.bayesianNetwork);
+		conf.setQuery(input.query);
+		conf.setQueryProcessor(program -> STUB_RESULT);
+		ProcessorExecutionResult ret = new ProcessorExecutionResultImpl();
+		new ProcessorCore().run(conf, System.nanoTime(), ret);
+		return ret;
+	}
+
+}
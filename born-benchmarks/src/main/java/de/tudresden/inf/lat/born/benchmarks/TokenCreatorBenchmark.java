@@ -0,0 +1,43 @@
+package de.tudresden.inf.lat.born.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.born.problog.parser.Token;
+import de.tudresden.inf.lat.born.problog.parser.TokenCreator;
+
+/**
+ * Benchmarks of the tokenizer of ProbLog programs, applied to the Bayesian
+ * network and to the whole ProbLog program of each input.
+ *
+ * @author Julian Mendez
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenCreatorBenchmark {
+
+	@Benchmark
+	public List<Token> createTokensOfBayesianNetwork(BenchmarkInput input) throws IOException {
+		return new TokenCreator().createTokens(new StringReader(input.bayesianNetwork));
+	}
+
+	@Benchmark
+	public List<Token> createTokensOfProgram(BenchmarkInput input) throws IOException {
+		return new TokenCreator().createTokens(new StringReader(input.program.asString()));
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains JMH benchmarks for the stages of the pipeline that
+ * computes probabilities, from the translation of the ontology to the
+ * creation of the ProbLog program.
+ */
+package de.tudresden.inf.lat.born.benchmarks;
@@ -7,8 +7,13 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
@@ -22,42 +27,24 @@ import de.tudresden.inf.lat.born.owlapi.multiprocessor.MultiProcessorCore;
  */
 public class ExperimentRunnerController implements ActionListener {
 
-	/**
-	 * This class lets the multi processor run in a separate thread.
-	 * 
-	 * @author Julian Mendez
-	 *
-	 */
-	class ExperimentMakerRunner extends Thread {
-
-		/**
-		 * Runs the experiments.
-		 */
-		public void run() {
-			long start = System.nanoTime();
-			MultiProcessorCore core = new MultiProcessorCore();
-			List<String> results = core.run(getModel(), start);
-
-			try {
-				core.storeResults(getModel(), results);
-			} catch (IOException e) {
-				throw new UncheckedIOException(e);
-			}
-			getView().setComputing(false);
-			getView().setButtonsEnabled(true);
-		}
-
-	}
-
 	private static final String actionInputOntology = "select directory of ontologies";
 	private static final String actionBayesianNetwork = "select directory of Bayesian network files";
 	private static final String actionConsoleInput = "read console";
 	private static final String actionConsoleOutput = "console output";
 	private static final String actionComputeInference = "compute inference";
+	private static final String errorTitle = "Error while running the experiments";
+
+	/**
+	 * Executor that runs each execution in a new thread, so that the
+	 * experiments do not occupy the common fork-join pool, which is used by
+	 * the parallel stages of the processor.
+	 */
+	private static final Executor EXPERIMENT_EXECUTOR = runnable -> new Thread(runnable,
+			ExperimentRunnerController.class.getSimpleName()).start();
 
 	private final OWLOntologyManager owlOntologyManager;
 	private final ExperimentRunnerView view;
-	private ExperimentMakerRunner experimentMakerRunner;
+	private CompletableFuture<Void> execution;
 	private File lastPath = null;
 
 	/**
@@ -162,8 +149,40 @@ public class ExperimentRunnerController implements ActionListener {
 		getView().setButtonsEnabled(false);
 		getView().setComputing(true);
 		getView().update();
-		experimentMakerRunner = new ExperimentMakerRunner();
-		experimentMakerRunner.start();
+		this.execution = CompletableFuture.runAsync(() -> runExperiments(), EXPERIMENT_EXECUTOR);
+		this.execution.whenComplete((result, exception) -> SwingUtilities.invokeLater(() -> {
+			getView().setComputing(false);
+			getView().setButtonsEnabled(true);
+			if (Objects.nonNull(exception)) {
+				showError(exception);
+			}
+		}));
+	}
+
+	/**
+	 * Shows the error that stopped the experiments.
+	 * 
+	 * @param exception
+	 *            exception thrown by the experiments
+	 */
+	void showError(Throwable exception) {
+		Throwable cause = (exception instanceof CompletionException) && Objects.nonNull(exception.getCause())
+				? exception.getCause() : exception;
+		JOptionPane.showMessageDialog(getView().getPanel(), "" + cause, errorTitle, JOptionPane.ERROR_MESSAGE);
+	}
+
+	/**
+	 * Runs the experiments and stores their results.
+	 */
+	void runExperiments() {
+		long start = System.nanoTime();
+		MultiProcessorCore core = new MultiProcessorCore();
+		List<String> results = core.run(getModel(), start);
+		try {
+			core.storeResults(getModel(), results);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	/**
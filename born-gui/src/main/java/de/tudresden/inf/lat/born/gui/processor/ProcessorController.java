@@ -7,8 +7,10 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.JFileChooser;
+import javax.swing.SwingUtilities;
 
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
@@ -20,7 +22,6 @@ import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfiguration;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorCore;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResult;
-import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResultImpl;
 import de.tudresden.inf.lat.born.problog.type.ProblogProgram;
 
 /**
@@ -30,31 +31,6 @@ import de.tudresden.inf.lat.born.problog.type.ProblogProgram;
  */
 public class ProcessorController implements ActionListener {
 
-	/**
-	 * This class lets the processor run in a separate thread.
-	 * 
-	 * @author Julian Mendez
-	 *
-	 */
-	class ProcessorRunner extends Thread {
-
-		public void run() {
-			long start = System.nanoTime();
-			ProcessorCore core = new ProcessorCore();
-			ProcessorExecutionResult executionResult = new ProcessorExecutionResultImpl();
-			core.run(getModel(), start, executionResult);
-
-			String resultText = executionResult.getResult();
-			ProblogInputCreator problogInputCreator = new ProblogInputCreator();
-			String result = problogInputCreator.replaceByPrefixes(getModel().getOntology(), resultText);
-
-			getView().setResult(result);
-			getView().setComputing(false);
-			getView().setButtonsEnabled(true);
-		}
-
-	}
-
 	private static final String actionInputOntology = "open ontology file";
 	private static final String actionViewOntology = "view ontology file";
 	private static final String actionBayesianNetwork = "Bayesian network file";
@@ -68,7 +44,8 @@ public class ProcessorController implements ActionListener {
 
 	private final OWLOntologyManager owlOntologyManager;
 	private final ProcessorView view;
-	private ProcessorRunner processorRunner;
+	private final ProcessorCore processorCore = new ProcessorCore();
+	private CompletableFuture<ProcessorExecutionResult> execution;
 	private final ExampleLoader exampleLoader = new ExampleLoader();
 	private String lastUsedCompletionRules = "";
 	private String previousToLastUsedCompletionRules = "";
@@ -218,8 +195,18 @@ public class ProcessorController implements ActionListener {
 		getView().updateQuery();
 		getView().updateCompletionRules();
 		updatePreviousToLastUsedCompletionRules(getModel().getAdditionalCompletionRules());
-		this.processorRunner = new ProcessorRunner();
-		this.processorRunner.start();
+		this.execution = this.processorCore.submit(getModel());
+		this.execution.whenComplete((executionResult, exception) -> SwingUtilities.invokeLater(() -> {
+			if (Objects.isNull(exception)) {
+				String resultText = executionResult.getResult();
+				ProblogInputCreator problogInputCreator = new ProblogInputCreator();
+				getView().setResult(problogInputCreator.replaceByPrefixes(getModel().getOntology(), resultText));
+			} else {
+				getView().setResult("" + exception.getMessage());
+			}
+			getView().setComputing(false);
+			getView().setButtonsEnabled(true);
+		}));
 	}
 
 	void executeActionComboBoxExample() {
@@ -0,0 +1,50 @@
+package de.tudresden.inf.lat.born.core.event;
+
+/**
+ * This class tells whether the Java Flight Recorder API is available. The API
+ * is part of Java 11 and later, and of OpenJDK 8 since update 262. The event
+ * classes of this package must only be instantiated if the API is available,
+ * so that the processor also runs on older Java 8 virtual machines.
+ * <p>
+ * A typical use is:
+ * 
+ * <pre>
+ * TranslationEvent event = FlightRecorderSupport.isAvailable() ? new TranslationEvent(ontology) : null;
+ * ...
+ * if (Objects.nonNull(event)) {
+ * 	event.end(...);
+ * }
+ * </pre>
+ *
+ * @author Julian Mendez
+ *
+ */
+public class FlightRecorderSupport {
+
+	static final String EVENT_CLASS_NAME = "jdk.jfr.Event";
+
+	private static final boolean AVAILABLE = findEventClass();
+
+	private FlightRecorderSupport() {
+	}
+
+	static boolean findEventClass() {
+		try {
+			Class.forName(EVENT_CLASS_NAME, false, FlightRecorderSupport.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Tells whether the Java Flight Recorder API is available.
+	 *
+	 * @return <code>true</code> if and only if the Java Flight Recorder API is
+	 *         available
+	 */
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+}
@@ -0,0 +1,67 @@
+package de.tudresden.inf.lat.born.core.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An object of this class is a Java Flight Recorder event that covers the
+ * extraction of the module of a query.
+ *
+ * @author Julian Mendez
+ *
+ */
+@Name(StageEvent.NAME_PREFIX + "ModuleExtraction")
+@Label("Module Extraction")
+@Description("The extraction of the module of a query.")
+public class ModuleExtractionEvent extends StageEvent {
+
+	@Label("Normalized Axioms")
+	int normalizedAxioms;
+
+	@Label("Module Size")
+	int moduleSize;
+
+	/**
+	 * Constructs and starts a new event.
+	 *
+	 * @param ontology
+	 *            name of the ontology
+	 */
+	public ModuleExtractionEvent(String ontology) {
+		super(ontology);
+	}
+
+	/**
+	 * Ends the event and commits it.
+	 *
+	 * @param normalizedAxioms
+	 *            number of normalized axioms
+	 * @param moduleSize
+	 *            number of axioms in the module
+	 */
+	public void end(int normalizedAxioms, int moduleSize) {
+		this.normalizedAxioms = normalizedAxioms;
+		this.moduleSize = moduleSize;
+		commit();
+	}
+
+	/**
+	 * Returns the number of normalized axioms.
+	 *
+	 * @return the number of normalized axioms
+	 */
+	public int getNormalizedAxioms() {
+		return this.normalizedAxioms;
+	}
+
+	/**
+	 * Returns the number of axioms in the module.
+	 *
+	 * @return the number of axioms in the module
+	 */
+	public int getModuleSize() {
+		return this.moduleSize;
+	}
+
+}
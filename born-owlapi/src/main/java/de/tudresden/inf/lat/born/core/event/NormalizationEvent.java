@@ -0,0 +1,67 @@
+package de.tudresden.inf.lat.born.core.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An object of this class is a Java Flight Recorder event that covers the
+ * normalization of the integer axioms.
+ *
+ * @author Julian Mendez
+ *
+ */
+@Name(StageEvent.NAME_PREFIX + "Normalization")
+@Label("Normalization")
+@Description("The normalization of the integer axioms.")
+public class NormalizationEvent extends StageEvent {
+
+	@Label("Axioms")
+	int axioms;
+
+	@Label("Normalized Axioms")
+	int normalizedAxioms;
+
+	/**
+	 * Constructs and starts a new event.
+	 *
+	 * @param ontology
+	 *            name of the ontology
+	 */
+	public NormalizationEvent(String ontology) {
+		super(ontology);
+	}
+
+	/**
+	 * Ends the event and commits it.
+	 *
+	 * @param axioms
+	 *            number of axioms
+	 * @param normalizedAxioms
+	 *            number of normalized axioms
+	 */
+	public void end(int axioms, int normalizedAxioms) {
+		this.axioms = axioms;
+		this.normalizedAxioms = normalizedAxioms;
+		commit();
+	}
+
+	/**
+	 * Returns the number of axioms.
+	 *
+	 * @return the number of axioms
+	 */
+	public int getAxioms() {
+		return this.axioms;
+	}
+
+	/**
+	 * Returns the number of normalized axioms.
+	 *
+	 * @return the number of normalized axioms
+	 */
+	public int getNormalizedAxioms() {
+		return this.normalizedAxioms;
+	}
+
+}
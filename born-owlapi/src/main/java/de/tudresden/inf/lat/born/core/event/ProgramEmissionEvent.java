@@ -0,0 +1,69 @@
+package de.tudresden.inf.lat.born.core.event;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An object of this class is a Java Flight Recorder event that covers the
+ * creation and the writing of a ProbLog program.
+ *
+ * @author Julian Mendez
+ *
+ */
+@Name(StageEvent.NAME_PREFIX + "ProgramEmission")
+@Label("Program Emission")
+@Description("The creation and the writing of a ProbLog program.")
+public class ProgramEmissionEvent extends StageEvent {
+
+	@Label("Module Size")
+	int moduleSize;
+
+	@Label("Program Size")
+	@DataAmount
+	long programSize;
+
+	/**
+	 * Constructs and starts a new event.
+	 *
+	 * @param ontology
+	 *            name of the ontology
+	 */
+	public ProgramEmissionEvent(String ontology) {
+		super(ontology);
+	}
+
+	/**
+	 * Ends the event and commits it.
+	 *
+	 * @param moduleSize
+	 *            number of axioms in the module
+	 * @param programSize
+	 *            size of the program in bytes
+	 */
+	public void end(int moduleSize, long programSize) {
+		this.moduleSize = moduleSize;
+		this.programSize = programSize;
+		commit();
+	}
+
+	/**
+	 * Returns the number of axioms in the module.
+	 *
+	 * @return the number of axioms in the module
+	 */
+	public int getModuleSize() {
+		return this.moduleSize;
+	}
+
+	/**
+	 * Returns the size of the program in bytes.
+	 *
+	 * @return the size of the program in bytes
+	 */
+	public long getProgramSize() {
+		return this.programSize;
+	}
+
+}
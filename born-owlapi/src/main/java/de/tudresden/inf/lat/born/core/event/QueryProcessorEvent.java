@@ -0,0 +1,69 @@
+package de.tudresden.inf.lat.born.core.event;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An object of this class is a Java Flight Recorder event that covers a call to
+ * the query processor, e.g. ProbLog.
+ *
+ * @author Julian Mendez
+ *
+ */
+@Name(StageEvent.NAME_PREFIX + "QueryProcessor")
+@Label("Query Processor")
+@Description("A call to the query processor, e.g. ProbLog.")
+public class QueryProcessorEvent extends StageEvent {
+
+	@Label("Program Size")
+	@DataAmount
+	long programSize;
+
+	@Label("Query")
+	String query;
+
+	/**
+	 * Constructs and starts a new event.
+	 *
+	 * @param ontology
+	 *            name of the ontology
+	 */
+	public QueryProcessorEvent(String ontology) {
+		super(ontology);
+	}
+
+	/**
+	 * Ends the event and commits it.
+	 *
+	 * @param programSize
+	 *            size of the program in bytes
+	 * @param query
+	 *            query
+	 */
+	public void end(long programSize, String query) {
+		this.programSize = programSize;
+		this.query = query;
+		commit();
+	}
+
+	/**
+	 * Returns the size of the program in bytes.
+	 *
+	 * @return the size of the program in bytes
+	 */
+	public long getProgramSize() {
+		return this.programSize;
+	}
+
+	/**
+	 * Returns the query.
+	 *
+	 * @return the query
+	 */
+	public String getQuery() {
+		return this.query;
+	}
+
+}
@@ -0,0 +1,49 @@
+package de.tudresden.inf.lat.born.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * An object of this class is a Java Flight Recorder event that covers a
+ * reasoning stage of an ontology. The event starts when it is created, and is
+ * committed when the stage ends. Each event has the duration of the stage and
+ * the thread that ran it, so that a slow query can be correlated with the
+ * garbage collections and the I/O that happened at the same time.
+ *
+ * @see FlightRecorderSupport
+ *
+ * @author Julian Mendez
+ *
+ */
+@Category({ StageEvent.CATEGORY })
+@StackTrace(false)
+public abstract class StageEvent extends jdk.jfr.Event {
+
+	public static final String CATEGORY = "BORN";
+	public static final String NAME_PREFIX = "de.tudresden.inf.lat.born.";
+
+	@Label("Ontology")
+	String ontology;
+
+	/**
+	 * Constructs and starts a new event.
+	 *
+	 * @param ontology
+	 *            name of the ontology
+	 */
+	protected StageEvent(String ontology) {
+		this.ontology = ontology;
+		begin();
+	}
+
+	/**
+	 * Returns the name of the ontology.
+	 *
+	 * @return the name of the ontology
+	 */
+	public String getOntology() {
+		return this.ontology;
+	}
+
+}
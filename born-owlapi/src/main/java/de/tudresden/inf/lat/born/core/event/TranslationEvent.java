@@ -0,0 +1,67 @@
+package de.tudresden.inf.lat.born.core.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An object of this class is a Java Flight Recorder event that covers the
+ * translation of the OWL axioms into integer axioms.
+ *
+ * @author Julian Mendez
+ *
+ */
+@Name(StageEvent.NAME_PREFIX + "Translation")
+@Label("Translation")
+@Description("The translation of the OWL axioms into integer axioms.")
+public class TranslationEvent extends StageEvent {
+
+	@Label("OWL Axioms")
+	int owlAxioms;
+
+	@Label("Axioms")
+	int axioms;
+
+	/**
+	 * Constructs and starts a new event.
+	 *
+	 * @param ontology
+	 *            name of the ontology
+	 */
+	public TranslationEvent(String ontology) {
+		super(ontology);
+	}
+
+	/**
+	 * Ends the event and commits it.
+	 *
+	 * @param owlAxioms
+	 *            number of OWL axioms
+	 * @param axioms
+	 *            number of translated axioms
+	 */
+	public void end(int owlAxioms, int axioms) {
+		this.owlAxioms = owlAxioms;
+		this.axioms = axioms;
+		commit();
+	}
+
+	/**
+	 * Returns the number of OWL axioms.
+	 *
+	 * @return the number of OWL axioms
+	 */
+	public int getOwlAxioms() {
+		return this.owlAxioms;
+	}
+
+	/**
+	 * Returns the number of translated axioms.
+	 *
+	 * @return the number of translated axioms
+	 */
+	public int getAxioms() {
+		return this.axioms;
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains the events that the reasoning stages emit to the Java
+ * Flight Recorder.
+ */
+package de.tudresden.inf.lat.born.core.event;
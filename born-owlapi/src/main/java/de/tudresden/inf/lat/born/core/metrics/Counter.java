@@ -0,0 +1,56 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An object of this class is a counter, i.e. a value that can only increase.
+ * It can be updated from several threads at the same time.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class Counter {
+
+	private final LongAdder value = new LongAdder();
+
+	/**
+	 * Constructs a new counter.
+	 */
+	public Counter() {
+	}
+
+	/**
+	 * Increments the counter by one.
+	 */
+	public void increment() {
+		this.value.increment();
+	}
+
+	/**
+	 * Increments the counter by the given amount.
+	 * 
+	 * @param amount
+	 *            amount, which must not be negative
+	 */
+	public void add(long amount) {
+		if (amount < 0) {
+			throw new IllegalArgumentException("A counter cannot decrease: " + amount);
+		}
+		this.value.add(amount);
+	}
+
+	/**
+	 * Returns the value of the counter.
+	 * 
+	 * @return the value of the counter
+	 */
+	public long get() {
+		return this.value.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "" + get();
+	}
+
+}
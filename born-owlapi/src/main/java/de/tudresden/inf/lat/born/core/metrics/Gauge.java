@@ -0,0 +1,60 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An object of this class is a gauge, i.e. a value that can increase and
+ * decrease, like the number of executions that are running.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class Gauge {
+
+	private final AtomicLong value = new AtomicLong();
+
+	/**
+	 * Constructs a new gauge.
+	 */
+	public Gauge() {
+	}
+
+	/**
+	 * Sets the value of the gauge.
+	 * 
+	 * @param value
+	 *            value
+	 */
+	public void set(long value) {
+		this.value.set(value);
+	}
+
+	/**
+	 * Increments the gauge by one.
+	 */
+	public void increment() {
+		this.value.incrementAndGet();
+	}
+
+	/**
+	 * Decrements the gauge by one.
+	 */
+	public void decrement() {
+		this.value.decrementAndGet();
+	}
+
+	/**
+	 * Returns the value of the gauge.
+	 * 
+	 * @return the value of the gauge
+	 */
+	public long get() {
+		return this.value.get();
+	}
+
+	@Override
+	public String toString() {
+		return "" + get();
+	}
+
+}
@@ -0,0 +1,183 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An object of this class is a histogram of latencies in nanoseconds. As in
+ * HDR histograms, the buckets are linear up to 2<sup><i>s</i></sup>
+ * nanoseconds, and after that each power of two is divided into
+ * 2<sup><i>s</i></sup> buckets, where <i>s</i> is {@link #SUB_BUCKET_BITS}.
+ * Thus, the relative error of a percentile is at most
+ * 2<sup>-<i>s</i></sup>, and the memory used does not depend on the number of
+ * recorded values. Values can be recorded from several threads at the same
+ * time.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class LatencyHistogram {
+
+	public static final int SUB_BUCKET_BITS = 5;
+
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	static final int NUMBER_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Constructs a new latency histogram.
+	 */
+	public LatencyHistogram() {
+	}
+
+	/**
+	 * Returns the index of the bucket of a value.
+	 *
+	 * @param value
+	 *            non-negative value
+	 * @return the index of the bucket of a value
+	 */
+	static int getBucket(long value) {
+		if (value < (SUB_BUCKET_COUNT << 1)) {
+			return (int) value;
+		} else {
+			int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+			int shift = exponent - SUB_BUCKET_BITS;
+			return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+		}
+	}
+
+	/**
+	 * Returns the highest value that belongs to a bucket.
+	 *
+	 * @param bucket
+	 *            index of a bucket
+	 * @return the highest value that belongs to a bucket
+	 */
+	static long getHighestValue(int bucket) {
+		if (bucket < (SUB_BUCKET_COUNT << 1)) {
+			return bucket;
+		} else {
+			int shift = bucket / SUB_BUCKET_COUNT - 1;
+			long mantissa = SUB_BUCKET_COUNT + (bucket % SUB_BUCKET_COUNT);
+			return ((mantissa + 1) << shift) - 1;
+		}
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanoseconds
+	 *            latency in nanoseconds, where negative values are recorded
+	 *            as zero
+	 */
+	public void record(long nanoseconds) {
+		long value = Math.max(0, nanoseconds);
+		this.buckets.incrementAndGet(getBucket(value));
+		this.count.increment();
+		this.sum.add(value);
+		this.max.accumulate(value);
+	}
+
+	/**
+	 * Records the time elapsed since the given start.
+	 *
+	 * @param start
+	 *            start, as given by {@link System#nanoTime()}
+	 */
+	public void recordSince(long start) {
+		record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Computes a value and records the time that the computation took, even
+	 * if it throws an exception.
+	 *
+	 * @param <T>
+	 *            type of the value
+	 * @param computation
+	 *            computation
+	 * @return the computed value
+	 */
+	public <T> T time(Supplier<T> computation) {
+		Objects.requireNonNull(computation);
+		long start = System.nanoTime();
+		try {
+			return computation.get();
+		} finally {
+			recordSince(start);
+		}
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return the number of recorded values
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * Returns the sum of the recorded values.
+	 *
+	 * @return the sum of the recorded values
+	 */
+	public long getSum() {
+		return this.sum.sum();
+	}
+
+	/**
+	 * Returns the maximum recorded value, or 0 if there is none.
+	 *
+	 * @return the maximum recorded value, or 0 if there is none
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * Returns the given percentile of the recorded values, or 0 if there is
+	 * none. The result is the highest value of the bucket that contains the
+	 * percentile, but never more than the maximum.
+	 *
+	 * @param percentile
+	 *            percentile, between 0 and 100
+	 * @return the given percentile of the recorded values, or 0 if there is
+	 *         none
+	 */
+	public long getPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Invalid percentile: " + percentile);
+		}
+		long total = 0;
+		long[] snapshot = new long[NUMBER_OF_BUCKETS];
+		for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+			snapshot[bucket] = this.buckets.get(bucket);
+			total += snapshot[bucket];
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long accumulated = 0;
+		for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+			accumulated += snapshot[bucket];
+			if (accumulated >= rank) {
+				return Math.min(getHighestValue(bucket), getMax());
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + getCount() + " p50=" + getPercentile(50) + " p90=" + getPercentile(90) + " p99="
+				+ getPercentile(99) + " max=" + getMax();
+	}
+
+}
@@ -0,0 +1,163 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class keeps the metrics by name. A metric is created the
+ * first time its name is requested, and the same metric is returned
+ * afterwards. The names follow the conventions of Prometheus, i.e. they have
+ * lowercase letters and underscores, the counters end with
+ * <code>_total</code>, and the latencies end with <code>_seconds</code>.
+ * <p>
+ * The stages of the processor record into the {@link #getDefault() default
+ * registry}.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class MetricsRegistry {
+
+	private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+	private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+	private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+	private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Constructs a new metrics registry.
+	 */
+	public MetricsRegistry() {
+	}
+
+	/**
+	 * Returns the registry where the stages of the processor record their
+	 * metrics.
+	 *
+	 * @return the registry where the stages of the processor record their
+	 *         metrics
+	 */
+	public static MetricsRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	void checkName(String name, Map<String, ?> map) {
+		Objects.requireNonNull(name);
+		if (!name.matches("[a-z_][a-z0-9_]*")) {
+			throw new IllegalArgumentException("Invalid metric name: '" + name + "'.");
+		}
+		if ((map != this.counters && this.counters.containsKey(name))
+				|| (map != this.gauges && this.gauges.containsKey(name))
+				|| (map != this.histograms && this.histograms.containsKey(name))) {
+			throw new IllegalArgumentException("Metric name already used by another type: '" + name + "'.");
+		}
+	}
+
+	/**
+	 * Returns the counter with the given name, creating it if necessary.
+	 *
+	 * @param name
+	 *            name
+	 * @return the counter with the given name
+	 */
+	public Counter getCounter(String name) {
+		Counter ret = this.counters.get(name);
+		if (Objects.isNull(ret)) {
+			checkName(name, this.counters);
+			ret = this.counters.computeIfAbsent(name, key -> new Counter());
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the gauge with the given name, creating it if necessary.
+	 *
+	 * @param name
+	 *            name
+	 * @return the gauge with the given name
+	 */
+	public Gauge getGauge(String name) {
+		Gauge ret = this.gauges.get(name);
+		if (Objects.isNull(ret)) {
+			checkName(name, this.gauges);
+			ret = this.gauges.computeIfAbsent(name, key -> new Gauge());
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the latency histogram with the given name, creating it if
+	 * necessary.
+	 *
+	 * @param name
+	 *            name
+	 * @return the latency histogram with the given name
+	 */
+	public LatencyHistogram getHistogram(String name) {
+		LatencyHistogram ret = this.histograms.get(name);
+		if (Objects.isNull(ret)) {
+			checkName(name, this.histograms);
+			ret = this.histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the counters, sorted by name.
+	 *
+	 * @return the counters, sorted by name
+	 */
+	public Map<String, Counter> getCounters() {
+		return Collections.unmodifiableMap(this.counters);
+	}
+
+	/**
+	 * Returns the gauges, sorted by name.
+	 *
+	 * @return the gauges, sorted by name
+	 */
+	public Map<String, Gauge> getGauges() {
+		return Collections.unmodifiableMap(this.gauges);
+	}
+
+	/**
+	 * Returns the latency histograms, sorted by name.
+	 *
+	 * @return the latency histograms, sorted by name
+	 */
+	public Map<String, LatencyHistogram> getHistograms() {
+		return Collections.unmodifiableMap(this.histograms);
+	}
+
+	/**
+	 * Returns a summary of the metrics, with one metric per line, where the
+	 * latencies are shown in milliseconds.
+	 *
+	 * @return a summary of the metrics
+	 */
+	public String getSummary() {
+		StringBuilder sb = new StringBuilder();
+		this.counters.forEach((name, counter) -> sb.append(name + " " + counter.get() + Symbol.NEW_LINE_CHAR));
+		this.gauges.forEach((name, gauge) -> sb.append(name + " " + gauge.get() + Symbol.NEW_LINE_CHAR));
+		this.histograms.forEach((name, histogram) -> sb.append(name + " count=" + histogram.getCount() + " p50="
+				+ asMilliseconds(histogram.getPercentile(50)) + "ms p90=" + asMilliseconds(histogram.getPercentile(90))
+				+ "ms p99=" + asMilliseconds(histogram.getPercentile(99)) + "ms max="
+				+ asMilliseconds(histogram.getMax()) + "ms" + Symbol.NEW_LINE_CHAR));
+		return sb.toString();
+	}
+
+	static String asMilliseconds(long nanoseconds) {
+		return String.format(Locale.ROOT, "%.3f", nanoseconds / 1e6);
+	}
+
+	@Override
+	public String toString() {
+		return getSummary();
+	}
+
+}
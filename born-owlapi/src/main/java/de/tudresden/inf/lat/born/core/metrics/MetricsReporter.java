@@ -0,0 +1,89 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An object of this class periodically reports the metrics of a registry,
+ * writing them to a file in the text format of Prometheus, logging a summary,
+ * or both. The metrics are reported one last time when the reporter is
+ * closed.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class MetricsReporter implements Closeable {
+
+	private static final Logger logger = Logger.getLogger(MetricsReporter.class.getName());
+
+	private final MetricsRegistry registry;
+	private final Path prometheusFile;
+	private final boolean logging;
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Constructs and starts a new metrics reporter.
+	 *
+	 * @param registry
+	 *            metrics registry
+	 * @param period
+	 *            time between two reports
+	 * @param prometheusFile
+	 *            file to write the metrics in the text format of Prometheus,
+	 *            or <code>null</code> if they are not written
+	 * @param logging
+	 *            <code>true</code> if a summary is logged
+	 */
+	public MetricsReporter(MetricsRegistry registry, Duration period, Path prometheusFile, boolean logging) {
+		Objects.requireNonNull(registry);
+		Objects.requireNonNull(period);
+		this.registry = registry;
+		this.prometheusFile = prometheusFile;
+		this.logging = logging;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, getClass().getSimpleName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		long nanoseconds = Math.max(1, period.toNanos());
+		this.scheduler.scheduleAtFixedRate(() -> {
+			try {
+				report();
+			} catch (RuntimeException e) {
+				logger.log(Level.WARNING, "Metrics could not be reported.", e);
+			}
+		}, nanoseconds, nanoseconds, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Reports the metrics.
+	 */
+	public void report() {
+		if (Objects.nonNull(this.prometheusFile)) {
+			try {
+				new PrometheusExporter(this.registry).write(this.prometheusFile);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		if (this.logging) {
+			logger.info("Metrics:\n" + this.registry.getSummary());
+		}
+	}
+
+	@Override
+	public void close() {
+		this.scheduler.shutdownNow();
+		report();
+	}
+
+}
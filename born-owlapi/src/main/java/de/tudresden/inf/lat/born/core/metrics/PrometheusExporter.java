@@ -0,0 +1,108 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Objects;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class writes metrics in the text format of Prometheus.
+ * Counters and gauges are written as such, and latency histograms are
+ * written as summaries in seconds, with the quantiles
+ * {@link #QUANTILES}.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class PrometheusExporter {
+
+	public static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+	static final String TYPE_PREFIX = "# TYPE ";
+	static final double NANOSECONDS_PER_SECOND = 1e9;
+
+	private final MetricsRegistry registry;
+
+	/**
+	 * Constructs a new exporter.
+	 *
+	 * @param registry
+	 *            metrics registry
+	 */
+	public PrometheusExporter(MetricsRegistry registry) {
+		Objects.requireNonNull(registry);
+		this.registry = registry;
+	}
+
+	static String asSeconds(long nanoseconds) {
+		return String.format(Locale.ROOT, "%.9f", nanoseconds / NANOSECONDS_PER_SECOND);
+	}
+
+	void writeLine(Writer output, String line) throws IOException {
+		output.write(line);
+		output.write(Symbol.NEW_LINE_CHAR);
+	}
+
+	/**
+	 * Writes the metrics.
+	 *
+	 * @param output
+	 *            output
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public void write(Writer output) throws IOException {
+		Objects.requireNonNull(output);
+		for (String name : this.registry.getCounters().keySet()) {
+			writeLine(output, TYPE_PREFIX + name + " counter");
+			writeLine(output, name + " " + this.registry.getCounters().get(name).get());
+		}
+		for (String name : this.registry.getGauges().keySet()) {
+			writeLine(output, TYPE_PREFIX + name + " gauge");
+			writeLine(output, name + " " + this.registry.getGauges().get(name).get());
+		}
+		for (String name : this.registry.getHistograms().keySet()) {
+			LatencyHistogram histogram = this.registry.getHistograms().get(name);
+			writeLine(output, TYPE_PREFIX + name + " summary");
+			for (double quantile : QUANTILES) {
+				writeLine(output, name + "{quantile=\"" + quantile + "\"} "
+						+ asSeconds(histogram.getPercentile(quantile * 100)));
+			}
+			writeLine(output, name + "_sum " + asSeconds(histogram.getSum()));
+			writeLine(output, name + "_count " + histogram.getCount());
+		}
+		output.flush();
+	}
+
+	/**
+	 * Writes the metrics to a file. The metrics are first written to a
+	 * temporary file, which then replaces the file, so that a reader never
+	 * sees a partially written file.
+	 *
+	 * @param file
+	 *            file
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public void write(Path file) throws IOException {
+		Objects.requireNonNull(file);
+		Path directory = file.toAbsolutePath().getParent();
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (Writer output = new BufferedWriter(Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8))) {
+				write(output);
+			}
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An object of this class accumulates the CPU time and the allocated bytes of
+ * the computations that it measures. Each computation is measured in the
+ * thread that runs it, so that a stage that runs in several threads is
+ * accounted correctly if each thread measures its own part. Computations can
+ * be measured from several threads at the same time.
+ * <p>
+ * The values are -1 if the Java virtual machine does not support the
+ * measurement.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ResourceUsage {
+
+	static final long UNSUPPORTED = -1;
+
+	private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+	private static final boolean CPU_TIME_SUPPORTED = THREAD_BEAN.isCurrentThreadCpuTimeSupported()
+			&& THREAD_BEAN.isThreadCpuTimeEnabled();
+
+	private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+	private final LongAdder cpuTime = new LongAdder();
+	private final LongAdder allocatedBytes = new LongAdder();
+
+	/**
+	 * Constructs a new resource usage.
+	 */
+	public ResourceUsage() {
+	}
+
+	static boolean isAllocatedBytesSupported() {
+		try {
+			return (THREAD_BEAN instanceof com.sun.management.ThreadMXBean)
+					&& ((com.sun.management.ThreadMXBean) THREAD_BEAN).isThreadAllocatedMemorySupported()
+					&& ((com.sun.management.ThreadMXBean) THREAD_BEAN).isThreadAllocatedMemoryEnabled();
+		} catch (LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the CPU time in nanoseconds used by the current thread, or -1
+	 * if it cannot be measured.
+	 *
+	 * @return the CPU time in nanoseconds used by the current thread, or -1
+	 *         if it cannot be measured
+	 */
+	public static long getCurrentThreadCpuTime() {
+		return CPU_TIME_SUPPORTED ? THREAD_BEAN.getCurrentThreadCpuTime() : UNSUPPORTED;
+	}
+
+	/**
+	 * Returns the number of bytes allocated in the heap by the current thread,
+	 * or -1 if it cannot be measured.
+	 *
+	 * @return the number of bytes allocated in the heap by the current thread,
+	 *         or -1 if it cannot be measured
+	 */
+	public static long getCurrentThreadAllocatedBytes() {
+		return ALLOCATED_BYTES_SUPPORTED
+				? ((com.sun.management.ThreadMXBean) THREAD_BEAN)
+						.getThreadAllocatedBytes(Thread.currentThread().getId())
+				: UNSUPPORTED;
+	}
+
+	/**
+	 * Runs a computation in the current thread and adds its CPU time and its
+	 * allocated bytes, even if it throws an exception.
+	 *
+	 * @param <T>
+	 *            type of the value
+	 * @param computation
+	 *            computation
+	 * @return the computed value
+	 */
+	public <T> T measure(Supplier<T> computation) {
+		Objects.requireNonNull(computation);
+		long cpuTimeStart = getCurrentThreadCpuTime();
+		long allocatedBytesStart = getCurrentThreadAllocatedBytes();
+		try {
+			return computation.get();
+		} finally {
+			this.cpuTime.add(getCurrentThreadCpuTime() - cpuTimeStart);
+			this.allocatedBytes.add(getCurrentThreadAllocatedBytes() - allocatedBytesStart);
+		}
+	}
+
+	/**
+	 * Runs a computation in the current thread and adds its CPU time and its
+	 * allocated bytes, even if it throws an exception.
+	 *
+	 * @param computation
+	 *            computation
+	 */
+	public void measure(Runnable computation) {
+		Objects.requireNonNull(computation);
+		measure(() -> {
+			computation.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Returns the accumulated CPU time in nanoseconds, or -1 if it cannot be
+	 * measured.
+	 *
+	 * @return the accumulated CPU time in nanoseconds, or -1 if it cannot be
+	 *         measured
+	 */
+	public long getCpuTime() {
+		return CPU_TIME_SUPPORTED ? this.cpuTime.sum() : UNSUPPORTED;
+	}
+
+	/**
+	 * Returns the accumulated number of allocated bytes, or -1 if it cannot be
+	 * measured.
+	 *
+	 * @return the accumulated number of allocated bytes, or -1 if it cannot be
+	 *         measured
+	 */
+	public long getAllocatedBytes() {
+		return ALLOCATED_BYTES_SUPPORTED ? this.allocatedBytes.sum() : UNSUPPORTED;
+	}
+
+	@Override
+	public String toString() {
+		return "cpu_time_ns=" + getCpuTime() + " allocated_bytes=" + getAllocatedBytes();
+	}
+
+}
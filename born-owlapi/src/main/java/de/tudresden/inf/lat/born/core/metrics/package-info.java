@@ -0,0 +1,5 @@
+/**
+ * This package contains classes to record metrics, i.e. counters, gauges and
+ * latency histograms, and to export them.
+ */
+package de.tudresden.inf.lat.born.core.metrics;
@@ -0,0 +1,142 @@
+package de.tudresden.inf.lat.born.module;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import com.clarkparsia.owlapi.modularity.locality.LocalityClass;
+import com.clarkparsia.owlapi.modularity.locality.SyntacticLocalityEvaluator;
+
+/**
+ * An object of this class extracts &perp;-locality modules from a set of OWL
+ * axioms. The axioms are indexed by the entities in their signature, so that
+ * when the signature of the module grows, only the axioms that contain a new
+ * entity are checked again. Since an axiom that is not &perp;-local with
+ * respect to a signature is not &perp;-local with respect to any larger
+ * signature, each axiom is checked at most once for each entity of its
+ * signature.
+ * <p>
+ * Axioms that are not &perp;-local with respect to the empty signature are in
+ * every module. The module also contains the declarations of the entities in
+ * its signature.
+ * <p>
+ * The index is not modified after construction, but the locality evaluator
+ * is not thread-safe, so each thread should use its own extractor.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class BottomLocalityModuleExtractor {
+
+	private final SyntacticLocalityEvaluator evaluator = new SyntacticLocalityEvaluator(
+			LocalityClass.BOTTOM_BOTTOM);
+	private final List<OWLAxiom> axioms = new ArrayList<>();
+	private final Map<OWLEntity, List<Integer>> axiomsOfEntity = new HashMap<>();
+	private final Map<OWLEntity, OWLDeclarationAxiom> declarations = new HashMap<>();
+	private final List<Integer> globalAxioms = new ArrayList<>();
+
+	/**
+	 * Constructs a new &perp;-locality module extractor.
+	 *
+	 * @param owlAxioms
+	 *            OWL axioms
+	 */
+	public BottomLocalityModuleExtractor(Collection<OWLAxiom> owlAxioms) {
+		Objects.requireNonNull(owlAxioms);
+		Set<OWLEntity> emptySignature = new HashSet<>();
+		owlAxioms.forEach(axiom -> {
+			if (axiom instanceof OWLDeclarationAxiom) {
+				OWLDeclarationAxiom declaration = (OWLDeclarationAxiom) axiom;
+				this.declarations.put(declaration.getEntity(), declaration);
+			} else if (axiom.isLogicalAxiom()) {
+				int index = this.axioms.size();
+				this.axioms.add(axiom);
+				if (this.evaluator.isLocal(axiom, emptySignature)) {
+					axiom.getSignature().forEach(
+							entity -> this.axiomsOfEntity.computeIfAbsent(entity, key -> new ArrayList<>()).add(index));
+				} else {
+					this.globalAxioms.add(index);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the number of logical axioms in the index.
+	 *
+	 * @return the number of logical axioms in the index
+	 */
+	public int getNumberOfAxioms() {
+		return this.axioms.size();
+	}
+
+	/**
+	 * Returns the &perp;-locality module for the given signature.
+	 *
+	 * @param signature
+	 *            signature
+	 * @return the &perp;-locality module for the given signature
+	 */
+	public Set<OWLAxiom> extractModule(Set<? extends OWLEntity> signature) {
+		Objects.requireNonNull(signature);
+		boolean[] inModule = new boolean[this.axioms.size()];
+		Set<OWLAxiom> ret = new HashSet<>();
+		Set<OWLEntity> moduleSignature = new HashSet<>();
+		Deque<OWLEntity> entitiesToVisit = new ArrayDeque<>();
+
+		signature.forEach(entity -> {
+			if (moduleSignature.add(entity)) {
+				entitiesToVisit.add(entity);
+			}
+		});
+		this.globalAxioms.forEach(index -> {
+			inModule[index] = true;
+			OWLAxiom axiom = this.axioms.get(index);
+			ret.add(axiom);
+			axiom.getSignature().forEach(entity -> {
+				if (moduleSignature.add(entity)) {
+					entitiesToVisit.add(entity);
+				}
+			});
+		});
+
+		while (!entitiesToVisit.isEmpty()) {
+			OWLEntity entity = entitiesToVisit.poll();
+			List<Integer> candidates = this.axiomsOfEntity.get(entity);
+			if (Objects.nonNull(candidates)) {
+				for (Integer index : candidates) {
+					OWLAxiom axiom = this.axioms.get(index);
+					if (!inModule[index] && !this.evaluator.isLocal(axiom, moduleSignature)) {
+						inModule[index] = true;
+						ret.add(axiom);
+						axiom.getSignature().forEach(newEntity -> {
+							if (moduleSignature.add(newEntity)) {
+								entitiesToVisit.add(newEntity);
+							}
+						});
+					}
+				}
+			}
+		}
+
+		moduleSignature.forEach(entity -> {
+			OWLDeclarationAxiom declaration = this.declarations.get(entity);
+			if (Objects.nonNull(declaration)) {
+				ret.add(declaration);
+			}
+		});
+		return ret;
+	}
+
+}
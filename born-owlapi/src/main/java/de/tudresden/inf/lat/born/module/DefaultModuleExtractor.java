@@ -9,6 +9,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 
+import de.tudresden.inf.lat.born.core.metrics.LatencyHistogram;
+import de.tudresden.inf.lat.born.core.metrics.MetricsRegistry;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
 
@@ -20,6 +22,11 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
  */
 public class DefaultModuleExtractor {
 
+	public static final String MODULE_EXTRACTION_METRIC = "born_module_extraction_seconds";
+
+	static final LatencyHistogram MODULE_EXTRACTION_TIME = MetricsRegistry.getDefault()
+			.getHistogram(MODULE_EXTRACTION_METRIC);
+
 	/**
 	 * Constructs a new module extractor.
 	 */
@@ -93,7 +100,29 @@ public class DefaultModuleExtractor {
 	 * @return a module, i.e. a subset of axioms relevant to answer a query
 	 */
 	public Module extractModule(Collection<NormalizedIntegerAxiom> setOfAxioms, Set<Integer> setOfClasses) {
+		return MODULE_EXTRACTION_TIME.time(() -> extract(setOfAxioms, setOfClasses));
+	}
+
+	/**
+	 * Returns a module that contains all the given axioms. This is used when
+	 * the axioms were already restricted by another notion of module.
+	 * 
+	 * @param setOfAxioms
+	 *            set of axioms
+	 * @param setOfClasses
+	 *            set of classes
+	 * @return a module that contains all the given axioms
+	 */
+	public Module createModule(Collection<NormalizedIntegerAxiom> setOfAxioms, Set<Integer> setOfClasses) {
+		Objects.requireNonNull(setOfAxioms);
+		Objects.requireNonNull(setOfClasses);
+		Set<Integer> entities = new TreeSet<>();
+		entities.addAll(setOfClasses);
+		setOfAxioms.forEach(axiom -> entities.addAll(getEntities(axiom)));
+		return new Module(entities, new HashSet<>(setOfAxioms));
+	}
 
+	Module extract(Collection<NormalizedIntegerAxiom> setOfAxioms, Set<Integer> setOfClasses) {
 		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
 
 		Set<DefaultIdentifierCollector> axioms = new HashSet<>();
@@ -0,0 +1,157 @@
+package de.tudresden.inf.lat.born.module;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+
+/**
+ * An object of this class is a module extractor that keeps its index of axioms
+ * up to date while axioms are added or removed. It extracts the same modules
+ * as the {@link DefaultModuleExtractor}, without building the index for each
+ * extraction.
+ *
+ * @author Julian Mendez
+ */
+public class IncrementalModuleExtractor {
+
+	private final DefaultModuleExtractor extractor = new DefaultModuleExtractor();
+	private final Map<NormalizedIntegerAxiom, DefaultIdentifierCollector> axioms = new HashMap<>();
+	private final Map<Integer, Set<DefaultIdentifierCollector>> mapOfAxioms = new HashMap<>();
+	private final Set<NormalizedIntegerAxiom> axiomsWithoutEntitiesOnTheLeft = new HashSet<>();
+
+	/**
+	 * Constructs a new incremental module extractor.
+	 */
+	public IncrementalModuleExtractor() {
+	}
+
+	/**
+	 * Returns the axioms in the index.
+	 *
+	 * @return the axioms in the index
+	 */
+	public Set<NormalizedIntegerAxiom> getAxioms() {
+		return Collections.unmodifiableSet(this.axioms.keySet());
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given axiom would be part of
+	 * any module that contains any of the given entities.
+	 *
+	 * @param axiom
+	 *            normalized axiom
+	 * @param entities
+	 *            entities of a module
+	 * @return <code>true</code> if and only if the given axiom would be part of
+	 *         any module that contains any of the given entities
+	 */
+	public boolean isRelevant(NormalizedIntegerAxiom axiom, Set<Integer> entities) {
+		Objects.requireNonNull(axiom);
+		Objects.requireNonNull(entities);
+		DefaultIdentifierCollector collector = new DefaultIdentifierCollector(axiom);
+		return isWithoutEntitiesOnTheLeft(collector)
+				|| collector.getClassesOnTheLeft().stream().anyMatch(classId -> entities.contains(classId));
+	}
+
+	boolean isWithoutEntitiesOnTheLeft(DefaultIdentifierCollector axiom) {
+		return axiom.getClassesOnTheLeft().isEmpty() && axiom.getObjectPropertiesOnTheLeft().isEmpty();
+	}
+
+	/**
+	 * Adds an axiom to the index.
+	 *
+	 * @param axiom
+	 *            normalized axiom
+	 * @return <code>true</code> if and only if the axiom was not already in the
+	 *         index
+	 */
+	public boolean add(NormalizedIntegerAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		if (this.axioms.containsKey(axiom)) {
+			return false;
+		} else {
+			DefaultIdentifierCollector collector = new DefaultIdentifierCollector(axiom);
+			this.axioms.put(axiom, collector);
+			if (isWithoutEntitiesOnTheLeft(collector)) {
+				this.axiomsWithoutEntitiesOnTheLeft.add(axiom);
+			}
+			collector.getClassesOnTheLeft().forEach(classId -> {
+				Set<DefaultIdentifierCollector> value = this.mapOfAxioms.get(classId);
+				if (Objects.isNull(value)) {
+					value = new HashSet<>();
+					this.mapOfAxioms.put(classId, value);
+				}
+				value.add(collector);
+			});
+			return true;
+		}
+	}
+
+	/**
+	 * Removes an axiom from the index.
+	 *
+	 * @param axiom
+	 *            normalized axiom
+	 * @return <code>true</code> if and only if the axiom was in the index
+	 */
+	public boolean remove(NormalizedIntegerAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		DefaultIdentifierCollector collector = this.axioms.remove(axiom);
+		if (Objects.isNull(collector)) {
+			return false;
+		} else {
+			this.axiomsWithoutEntitiesOnTheLeft.remove(axiom);
+			collector.getClassesOnTheLeft().forEach(classId -> {
+				Set<DefaultIdentifierCollector> value = this.mapOfAxioms.get(classId);
+				if (Objects.nonNull(value)) {
+					value.remove(collector);
+					if (value.isEmpty()) {
+						this.mapOfAxioms.remove(classId);
+					}
+				}
+			});
+			return true;
+		}
+	}
+
+	/**
+	 * Returns a module, i.e. a subset of axioms relevant to answer a query.
+	 *
+	 * @param setOfClasses
+	 *            set of classes
+	 * @return a module, i.e. a subset of axioms relevant to answer a query
+	 */
+	public Module extractModule(Set<Integer> setOfClasses) {
+		Objects.requireNonNull(setOfClasses);
+		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
+		newAxioms.addAll(this.axiomsWithoutEntitiesOnTheLeft);
+
+		Set<Integer> visitedClasses = new TreeSet<>();
+		Set<Integer> classesToVisit = new TreeSet<>();
+		classesToVisit.addAll(setOfClasses);
+		while (!classesToVisit.isEmpty()) {
+			Set<DefaultIdentifierCollector> axiomsToVisit = this.extractor
+					.getAxiomsWithClassesOnTheLeft(classesToVisit, this.mapOfAxioms);
+			visitedClasses.addAll(classesToVisit);
+			classesToVisit.clear();
+
+			axiomsToVisit.forEach(axiom -> {
+				classesToVisit.addAll(axiom.getClassesOnTheRight());
+				newAxioms.add(axiom.getAxiom());
+			});
+			classesToVisit.removeAll(visitedClasses);
+		}
+
+		Set<Integer> entities = new TreeSet<>();
+		entities.addAll(visitedClasses);
+		newAxioms.forEach(axiom -> entities.addAll(this.extractor.getEntities(axiom)));
+		return new Module(entities, newAxioms);
+	}
+
+}
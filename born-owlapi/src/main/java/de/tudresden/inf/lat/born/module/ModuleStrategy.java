@@ -0,0 +1,66 @@
+package de.tudresden.inf.lat.born.module;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This enumeration models the notion of module used to restrict the ontology
+ * before creating a ProbLog program.
+ * <ul>
+ * <li><code>reachability</code>: the normalized axioms that are reachable
+ * from the classes of the query, from left to right, as extracted by
+ * {@link DefaultModuleExtractor}</li>
+ * <li><code>bottom-locality</code>: the OWL axioms that are not
+ * &perp;-local with respect to the signature of the query, as extracted by
+ * {@link BottomLocalityModuleExtractor}, which are then normalized</li>
+ * </ul>
+ *
+ * @author Julian Mendez
+ *
+ */
+public enum ModuleStrategy {
+
+	REACHABILITY("reachability"), //
+	BOTTOM_LOCALITY("bottom-locality"); //
+
+	public static final ModuleStrategy DEFAULT = REACHABILITY;
+
+	private final String name;
+
+	private ModuleStrategy(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the strategy with the given name, if it exists.
+	 *
+	 * @param name
+	 *            name
+	 * @return the strategy with the given name, if it exists
+	 */
+	public static Optional<ModuleStrategy> find(String name) {
+		Objects.requireNonNull(name);
+		return getValues().stream().filter(value -> value.getName().equals(name)).findFirst();
+	}
+
+	/**
+	 * Returns the values.
+	 *
+	 * @return the values
+	 */
+	public static List<ModuleStrategy> getValues() {
+		return Arrays.asList(values());
+	}
+
+}
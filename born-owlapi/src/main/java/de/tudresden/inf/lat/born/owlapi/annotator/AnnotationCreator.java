@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
@@ -48,9 +49,6 @@ import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
-import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
 import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
@@ -82,35 +80,38 @@ public class AnnotationCreator implements OWLAxiomVisitorEx<Boolean> {
 
 	private final OWLAnnotationProperty annotationProperty;
 	private final OWLDataFactory df;
-	private final OWLOntology owlOntology;
+	private final SplittableRandom random;
+	private final List<OWLAxiom> axioms = new ArrayList<>();
 	private final List<String> variableOrder = new ArrayList<>();
 	private final Set<String> bayesianNetworkVariableSet = new TreeSet<>();
 	private final List<String> bayesianNetworkVariableList = new ArrayList<>();
 	private final Map<String, String> network = new TreeMap<>();
-	private int counter = 0;
 	private final double threshold;
 
 	/**
-	 * Constructs a new annotation creator.
+	 * Constructs a new annotation creator. The annotated axioms and their
+	 * variables are decided only by the given random number generator, which
+	 * is not shared with other annotation creators.
 	 * 
-	 * @param manager
-	 *            OWL ontology manager
+	 * @param dataFactory
+	 *            OWL data factory
 	 * @param threshold
 	 *            threshold
 	 * @param bayesianNetworkVariables
 	 *            variables of the input Bayesian network
-	 * @throws OWLOntologyCreationException
-	 *             if something went wrong while creating the OWL ontology
+	 * @param random
+	 *            random number generator
 	 */
-	public AnnotationCreator(OWLOntologyManager manager, double threshold, Set<String> bayesianNetworkVariables)
-			throws OWLOntologyCreationException {
-		Objects.requireNonNull(manager);
+	public AnnotationCreator(OWLDataFactory dataFactory, double threshold, Set<String> bayesianNetworkVariables,
+			SplittableRandom random) {
+		Objects.requireNonNull(dataFactory);
 		Objects.requireNonNull(bayesianNetworkVariables);
-		this.owlOntology = manager.createOntology();
-		this.df = manager.getOWLDataFactory();
+		Objects.requireNonNull(random);
+		this.df = dataFactory;
 		IRI probabilityIri = IRI.create(PROBABILITY_URI);
-		this.annotationProperty = manager.getOWLDataFactory().getOWLAnnotationProperty(probabilityIri);
+		this.annotationProperty = dataFactory.getOWLAnnotationProperty(probabilityIri);
 		this.threshold = threshold;
+		this.random = random;
 		this.bayesianNetworkVariableSet.addAll(bayesianNetworkVariables);
 		this.bayesianNetworkVariableList.addAll(bayesianNetworkVariables);
 	}
@@ -151,8 +152,13 @@ public class AnnotationCreator implements OWLAxiomVisitorEx<Boolean> {
 		return this.network.get(variable);
 	}
 
-	public OWLOntology getOWLOntology() {
-		return this.owlOntology;
+	/**
+	 * Returns the annotated axioms, in the order in which they were visited.
+	 * 
+	 * @return the annotated axioms
+	 */
+	public List<OWLAxiom> getAxioms() {
+		return Collections.unmodifiableList(this.axioms);
 	}
 
 	public Map<String, String> getNetwork() {
@@ -179,11 +185,7 @@ public class AnnotationCreator implements OWLAxiomVisitorEx<Boolean> {
 	}
 
 	String getNextVariable() {
-		this.counter++;
-		if (this.counter >= this.bayesianNetworkVariableList.size()) {
-			this.counter = 0;
-		}
-		return this.bayesianNetworkVariableList.get(counter);
+		return this.bayesianNetworkVariableList.get(this.random.nextInt(this.bayesianNetworkVariableList.size()));
 	}
 
 	OWLAnnotation createNewAnnotation() {
@@ -195,7 +197,7 @@ public class AnnotationCreator implements OWLAxiomVisitorEx<Boolean> {
 
 	Set<OWLAnnotation> annot() {
 		Set<OWLAnnotation> ret = new TreeSet<OWLAnnotation>();
-		if (Math.random() < this.threshold) {
+		if (!this.bayesianNetworkVariableList.isEmpty() && this.random.nextDouble() < this.threshold) {
 			ret.add(createNewAnnotation());
 		}
 		return ret;
@@ -207,7 +209,7 @@ public class AnnotationCreator implements OWLAxiomVisitorEx<Boolean> {
 
 	boolean add(OWLAxiom axiom) {
 		Objects.requireNonNull(axiom);
-		this.owlOntology.getOWLOntologyManager().addAxiom(this.owlOntology, axiom);
+		this.axioms.add(axiom);
 		return true;
 	}
 
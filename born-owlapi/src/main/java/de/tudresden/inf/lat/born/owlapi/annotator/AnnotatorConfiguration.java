@@ -4,6 +4,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Set;
 
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+
 /**
  * This interface models the configuration of an annotator.
  * 
@@ -57,6 +59,21 @@ public interface AnnotatorConfiguration {
 	 */
 	void setThreshold(double threshold);
 
+	/**
+	 * Returns the seed of the random number generator.
+	 * 
+	 * @return the seed of the random number generator
+	 */
+	long getSeed();
+
+	/**
+	 * Sets the seed of the random number generator.
+	 * 
+	 * @param seed
+	 *            seed of the random number generator
+	 */
+	void setSeed(long seed);
+
 	/**
 	 * Returns the variables of the input Bayesian network.
 	 * 
@@ -72,4 +89,19 @@ public interface AnnotatorConfiguration {
 	 */
 	void setInputBayesianNetworkVariables(Set<String> variables);
 
+	/**
+	 * Returns the format of the output ontology.
+	 * 
+	 * @return the format of the output ontology
+	 */
+	OntologyFormat getOutputFormat();
+
+	/**
+	 * Sets the format of the output ontology.
+	 * 
+	 * @param outputFormat
+	 *            format of the output ontology
+	 */
+	void setOutputFormat(OntologyFormat outputFormat);
+
 }
@@ -5,6 +5,8 @@ import java.io.OutputStream;
 import java.util.Objects;
 import java.util.Set;
 
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+
 /**
  * 
  * @author Julian Mendez
@@ -12,10 +14,14 @@ import java.util.Set;
  */
 public class AnnotatorConfigurationImpl implements AnnotatorConfiguration {
 
+	public static final long DEFAULT_SEED = 0;
+
 	private InputStream inputOntology;
 	private Set<String> inputBayesianNetworkVariables;
 	private OutputStream outputOntology;
 	private double threshold;
+	private long seed = DEFAULT_SEED;
+	private OntologyFormat outputFormat = OntologyFormat.DEFAULT;
 
 	@Override
 	public InputStream getInputOntology() {
@@ -49,6 +55,16 @@ public class AnnotatorConfigurationImpl implements AnnotatorConfiguration {
 		this.threshold = threshold;
 	}
 
+	@Override
+	public long getSeed() {
+		return seed;
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
 	@Override
 	public Set<String> getInputBayesianNetworkVariables() {
 		return inputBayesianNetworkVariables;
@@ -60,6 +76,17 @@ public class AnnotatorConfigurationImpl implements AnnotatorConfiguration {
 		this.inputBayesianNetworkVariables = inputBayesianNetworkVariables;
 	}
 
+	@Override
+	public OntologyFormat getOutputFormat() {
+		return outputFormat;
+	}
+
+	@Override
+	public void setOutputFormat(OntologyFormat outputFormat) {
+		Objects.requireNonNull(outputFormat);
+		this.outputFormat = outputFormat;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -70,6 +97,7 @@ public class AnnotatorConfigurationImpl implements AnnotatorConfiguration {
 			AnnotatorConfiguration other = (AnnotatorConfiguration) obj;
 			return getInputOntology().equals(other.getInputOntology())
 					&& getOutputOntology().equals(other.getOutputOntology()) && getThreshold() == other.getThreshold()
+					&& getSeed() == other.getSeed() && getOutputFormat().equals(other.getOutputFormat())
 					&& getInputBayesianNetworkVariables().equals(other.getInputBayesianNetworkVariables());
 		}
 	}
@@ -77,13 +105,14 @@ public class AnnotatorConfigurationImpl implements AnnotatorConfiguration {
 	@Override
 	public int hashCode() {
 		return this.inputOntology.hashCode() + 0x1F * (this.outputOntology.hashCode() + 0x1F
-				* ((new Double(this.threshold)).hashCode() + 0x1F * this.inputBayesianNetworkVariables.hashCode()));
+				* (Double.hashCode(this.threshold) + 0x1F * (Long.hashCode(this.seed) + 0x1F
+						* (this.outputFormat.hashCode() + 0x1F * this.inputBayesianNetworkVariables.hashCode()))));
 	}
 
 	@Override
 	public String toString() {
 		return this.inputOntology.toString() + " " + this.outputOntology.toString() + " " + this.threshold + " "
-				+ this.inputBayesianNetworkVariables.toString();
+				+ this.seed + " " + this.outputFormat.getName() + " " + this.inputBayesianNetworkVariables.toString();
 	}
 
 }
@@ -3,63 +3,105 @@ package de.tudresden.inf.lat.born.owlapi.annotator;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.semanticweb.owlapi.apibinding.OWLManager;
-import org.semanticweb.owlapi.io.AbstractOWLRenderer;
 import org.semanticweb.owlapi.io.OWLRendererException;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
-import org.semanticweb.owlapi.owlxml.renderer.OWLXMLRenderer;
+
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyReader;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
 
 /**
  * An object of this class add annotations with variables to an OWL ontology.
- * 
- * 
+ * <p>
+ * The axioms are sorted and split in chunks of a fixed size, which are
+ * annotated in parallel. Each chunk has its own random number generator,
+ * split from a generator created with the given seed, so that the annotated
+ * ontology only depends on the input ontology, the threshold, the variables
+ * and the seed, and not on the number of threads.
  * 
  * @author Julian Mendez
  *
  */
 public class AnnotatorCore {
 
+	static final int CHUNK_SIZE = 0x400;
+
 	public AnnotatorCore() {
 	}
 
 	OWLOntology loadOWLOntology(InputStream input) throws OWLOntologyCreationException {
 		Objects.requireNonNull(input);
-		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
-		return manager.loadOntologyFromOntologyDocument(input);
+		return new OntologyReader().read(input);
 	}
 
-	void storeOWLOntology(OWLOntology ontology, OutputStream ontologyOutputStream)
-			throws IOException, OWLRendererException {
-		Objects.requireNonNull(ontology);
-		Objects.requireNonNull(ontologyOutputStream);
-		AbstractOWLRenderer renderer = new OWLXMLRenderer();
-		renderer.render(ontology, ontologyOutputStream);
-		ontologyOutputStream.flush();
+	/**
+	 * Returns the annotated axioms of the given axioms. The axioms are
+	 * annotated in parallel, in chunks of a fixed size.
+	 * 
+	 * @param dataFactory
+	 *            OWL data factory
+	 * @param axioms
+	 *            axioms
+	 * @param threshold
+	 *            threshold
+	 * @param bayesianNetworkVariables
+	 *            variables of the input Bayesian network
+	 * @param seed
+	 *            seed of the random number generator
+	 * @return the annotated axioms
+	 */
+	public List<OWLAxiom> annotate(OWLDataFactory dataFactory, Collection<OWLAxiom> axioms, double threshold,
+			Set<String> bayesianNetworkVariables, long seed) {
+		Objects.requireNonNull(dataFactory);
+		Objects.requireNonNull(axioms);
+		Objects.requireNonNull(bayesianNetworkVariables);
+		List<OWLAxiom> sortedAxioms = new ArrayList<>(axioms);
+		Collections.sort(sortedAxioms);
+		int numberOfChunks = (sortedAxioms.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		SplittableRandom random = new SplittableRandom(seed);
+		List<SplittableRandom> randoms = new ArrayList<>();
+		IntStream.range(0, numberOfChunks).forEach(index -> randoms.add(random.split()));
+		return IntStream.range(0, numberOfChunks).parallel().mapToObj(index -> {
+			AnnotationCreator processor = new AnnotationCreator(dataFactory, threshold, bayesianNetworkVariables,
+					randoms.get(index));
+			sortedAxioms.subList(index * CHUNK_SIZE, Math.min((index + 1) * CHUNK_SIZE, sortedAxioms.size()))
+					.forEach(axiom -> axiom.accept(processor));
+			return processor.getAxioms();
+		}).flatMap(List::stream).collect(Collectors.toList());
 	}
 
 	public void annotate(InputStream ontologyInputStream, OutputStream newOntologyOutputStream, double threshold,
-			Set<String> bayesianNetworkVariables)
+			Set<String> bayesianNetworkVariables, long seed, OntologyFormat outputFormat)
 					throws IOException, OWLOntologyCreationException, OWLRendererException {
 		Objects.requireNonNull(ontologyInputStream);
 		Objects.requireNonNull(newOntologyOutputStream);
 		Objects.requireNonNull(bayesianNetworkVariables);
+		Objects.requireNonNull(outputFormat);
 		OWLOntology ont = loadOWLOntology(ontologyInputStream);
-		AnnotationCreator processor = new AnnotationCreator(ont.getOWLOntologyManager(), threshold,
-				bayesianNetworkVariables);
-		ont.getAxioms().forEach(axiom -> axiom.accept(processor));
-		storeOWLOntology(processor.getOWLOntology(), newOntologyOutputStream);
+		List<OWLAxiom> axioms = annotate(ont.getOWLOntologyManager().getOWLDataFactory(), ont.getAxioms(), threshold,
+				bayesianNetworkVariables, seed);
+		new OntologyWriter().write(axioms, Optional.empty(), newOntologyOutputStream, outputFormat);
 	}
 
 	public void run(AnnotatorConfiguration conf) {
 		Objects.requireNonNull(conf);
 		try {
 			annotate(conf.getInputOntology(), conf.getOutputOntology(), conf.getThreshold(),
-					conf.getInputBayesianNetworkVariables());
+					conf.getInputBayesianNetworkVariables(), conf.getSeed(), conf.getOutputFormat());
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		} catch (OWLRendererException e) {
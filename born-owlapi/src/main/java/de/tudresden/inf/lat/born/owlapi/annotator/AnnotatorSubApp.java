@@ -12,6 +12,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
 import de.tudresden.inf.lat.born.core.term.SubApp;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
 
 /**
@@ -27,7 +28,8 @@ public class AnnotatorSubApp implements SubApp {
 
 	public static final String COLON_COLON = "::";
 	public static final String POINT = ".";
-	public static final String HELP = "Parameters: <input ontology> <output ontology> [<threshold> <input Bayesian network>]";
+	public static final String HELP = "Parameters: <input ontology> <output ontology>"
+			+ " [<threshold> <input Bayesian network> [<seed>]] [--format=<format>]\n\n" + OntologyFormat.HELP;
 	public static final String COMMAND = "put";
 
 	@Override
@@ -36,15 +38,17 @@ public class AnnotatorSubApp implements SubApp {
 	}
 
 	@Override
-	public boolean isValid(String[] args) {
-		Objects.requireNonNull(args);
-		return (2 <= args.length) && (args.length <= 4);
+	public boolean isValid(String[] arguments) {
+		Objects.requireNonNull(arguments);
+		String[] args = OntologyFormat.removeFormatOption(arguments);
+		return OntologyFormat.hasValidFormatOption(arguments) && (2 <= args.length) && (args.length <= 5);
 	}
 
 	@Override
-	public String run(String args[]) {
-		Objects.requireNonNull(args);
-		if (isValid(args)) {
+	public String run(String arguments[]) {
+		Objects.requireNonNull(arguments);
+		if (isValid(arguments)) {
+			String[] args = OntologyFormat.removeFormatOption(arguments);
 			AnnotatorConfiguration conf = new AnnotatorConfigurationImpl();
 
 			double threshold = 1;
@@ -53,6 +57,10 @@ public class AnnotatorSubApp implements SubApp {
 			}
 			conf.setThreshold(threshold);
 
+			if (args.length >= 5) {
+				conf.setSeed(Long.parseLong(args[4]));
+			}
+
 			try {
 				InputStream in = new FileInputStream(args[0]);
 				conf.setInputOntology(in);
@@ -63,6 +71,7 @@ public class AnnotatorSubApp implements SubApp {
 
 				OutputStream outOnt = new FileOutputStream(ResourceUtil.ensurePath(args[1]));
 				conf.setOutputOntology(outOnt);
+				conf.setOutputFormat(OntologyFormat.getFormat(arguments, args[1]));
 
 				AnnotatorCore instance = new AnnotatorCore();
 				instance.run(conf);
@@ -0,0 +1,92 @@
+package de.tudresden.inf.lat.born.owlapi.classifier;
+
+import java.io.OutputStream;
+import java.util.function.Function;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+
+/**
+ * This interface models the configuration of a classifier.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public interface ClassifierConfiguration {
+
+	/**
+	 * Returns the ontology.
+	 * 
+	 * @return the ontology
+	 */
+	OWLOntology getOntology();
+
+	/**
+	 * Sets the ontology.
+	 * 
+	 * @param ontology
+	 *            ontology
+	 */
+	void setOntology(OWLOntology ontology);
+
+	/**
+	 * Returns the Bayesian network.
+	 * 
+	 * @return the Bayesian network
+	 */
+	String getBayesianNetwork();
+
+	/**
+	 * Sets the Bayesian network.
+	 * 
+	 * @param bayesianNetwork
+	 *            Bayesian network
+	 */
+	void setBayesianNetwork(String bayesianNetwork);
+
+	/**
+	 * Returns the output, where the subsumptions and their probabilities are
+	 * written.
+	 * 
+	 * @return the output
+	 */
+	OutputStream getOutput();
+
+	/**
+	 * Sets the output.
+	 * 
+	 * @param output
+	 *            output
+	 */
+	void setOutput(OutputStream output);
+
+	/**
+	 * Returns the query processor.
+	 * 
+	 * @return the query processor
+	 */
+	Function<String, String> getQueryProcessor();
+
+	/**
+	 * Sets the query processor.
+	 * 
+	 * @param queryProcessor
+	 *            query processor
+	 */
+	void setQueryProcessor(Function<String, String> queryProcessor);
+
+	/**
+	 * Returns the number of threads.
+	 * 
+	 * @return the number of threads
+	 */
+	int getNumberOfThreads();
+
+	/**
+	 * Sets the number of threads.
+	 * 
+	 * @param numberOfThreads
+	 *            number of threads
+	 */
+	void setNumberOfThreads(int numberOfThreads);
+
+}
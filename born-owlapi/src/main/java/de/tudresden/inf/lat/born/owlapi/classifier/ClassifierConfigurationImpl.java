@@ -0,0 +1,106 @@
+package de.tudresden.inf.lat.born.owlapi.classifier;
+
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+
+/**
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class ClassifierConfigurationImpl implements ClassifierConfiguration {
+
+	private OWLOntology ontology;
+	private String bayesianNetwork = "";
+	private OutputStream output;
+	private Function<String, String> queryProcessor;
+	private int numberOfThreads = Runtime.getRuntime().availableProcessors();
+
+	@Override
+	public OWLOntology getOntology() {
+		return this.ontology;
+	}
+
+	@Override
+	public void setOntology(OWLOntology ontology) {
+		Objects.requireNonNull(ontology);
+		this.ontology = ontology;
+	}
+
+	@Override
+	public String getBayesianNetwork() {
+		return this.bayesianNetwork;
+	}
+
+	@Override
+	public void setBayesianNetwork(String bayesianNetwork) {
+		Objects.requireNonNull(bayesianNetwork);
+		this.bayesianNetwork = bayesianNetwork;
+	}
+
+	@Override
+	public OutputStream getOutput() {
+		return this.output;
+	}
+
+	@Override
+	public void setOutput(OutputStream output) {
+		Objects.requireNonNull(output);
+		this.output = output;
+	}
+
+	@Override
+	public Function<String, String> getQueryProcessor() {
+		return this.queryProcessor;
+	}
+
+	@Override
+	public void setQueryProcessor(Function<String, String> queryProcessor) {
+		Objects.requireNonNull(queryProcessor);
+		this.queryProcessor = queryProcessor;
+	}
+
+	@Override
+	public int getNumberOfThreads() {
+		return this.numberOfThreads;
+	}
+
+	@Override
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads + ".");
+		}
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof ClassifierConfiguration)) {
+			return false;
+		} else {
+			ClassifierConfiguration other = (ClassifierConfiguration) obj;
+			return Objects.equals(getOntology(), other.getOntology())
+					&& getBayesianNetwork().equals(other.getBayesianNetwork())
+					&& Objects.equals(getOutput(), other.getOutput())
+					&& Objects.equals(getQueryProcessor(), other.getQueryProcessor())
+					&& getNumberOfThreads() == other.getNumberOfThreads();
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(this.ontology) + 0x1F * (this.bayesianNetwork.hashCode()
+				+ 0x1F * (Objects.hashCode(this.output) + 0x1F * this.numberOfThreads));
+	}
+
+	@Override
+	public String toString() {
+		return this.ontology + " " + this.output + " " + this.numberOfThreads;
+	}
+
+}
@@ -0,0 +1,172 @@
+package de.tudresden.inf.lat.born.owlapi.classifier;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.owlapi.main.BornReasoner;
+
+/**
+ * An object of this class computes the probabilities of all the subsumptions
+ * between named classes that are entailed by an ontology, where the
+ * probabilistic annotations are ignored. The subsumptions are grouped by sub
+ * class, so that each group shares one module and one execution of ProbLog.
+ * The groups are computed in parallel, and each row is written as soon as its
+ * group and all the previous groups are finished.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ClassifierCore {
+
+	public static final char TAB_CHAR = '\t';
+	public static final String LINE_SEPARATOR = Symbol.LINE_SEPARATOR;
+
+	public static final String[] FIRST_LINE = { "sub class", "super class", "probability" };
+	public static final List<String> FIRST_LINE_LIST = Arrays.asList(FIRST_LINE);
+
+	/**
+	 * Constructs a new classifier.
+	 */
+	public ClassifierCore() {
+	}
+
+	/**
+	 * Returns the subsumptions between named classes entailed by the
+	 * ontology, grouped by sub class. Neither the subsumptions of a class by
+	 * itself nor the subsumptions by the top class are included.
+	 *
+	 * @param reasoner
+	 *            reasoner that has already classified the ontology
+	 * @param dataFactory
+	 *            OWL data factory
+	 * @return the subsumptions between named classes entailed by the ontology,
+	 *         grouped by sub class
+	 */
+	List<List<OWLSubClassOfAxiom>> getSubsumptionsBySubClass(BornReasoner reasoner, OWLDataFactory dataFactory) {
+		List<List<OWLSubClassOfAxiom>> ret = new ArrayList<>();
+		Set<OWLClass> classes = new TreeSet<>(reasoner.getRootOntology().getClassesInSignature());
+		classes.remove(dataFactory.getOWLThing());
+		classes.remove(dataFactory.getOWLNothing());
+		classes.forEach(subClass -> {
+			Set<OWLClass> superClasses = new TreeSet<>();
+			superClasses.addAll(reasoner.getSuperClasses(subClass, false).getFlattened());
+			superClasses.addAll(reasoner.getEquivalentClasses(subClass).getEntities());
+			superClasses.remove(subClass);
+			superClasses.remove(dataFactory.getOWLThing());
+			if (!superClasses.isEmpty()) {
+				List<OWLSubClassOfAxiom> group = new ArrayList<>();
+				superClasses.forEach(
+						superClass -> group.add(dataFactory.getOWLSubClassOfAxiom(subClass, superClass)));
+				ret.add(group);
+			}
+		});
+		return ret;
+	}
+
+	/**
+	 * Returns a line of the output, for the given columns.
+	 *
+	 * @param columns
+	 *            columns
+	 * @return a line of the output
+	 */
+	public String makeLine(List<String> columns) {
+		StringBuilder sb = new StringBuilder();
+		columns.forEach(column -> {
+			if (sb.length() > 0) {
+				sb.append(TAB_CHAR);
+			}
+			sb.append(column);
+		});
+		sb.append(LINE_SEPARATOR);
+		return sb.toString();
+	}
+
+	long write(Writer output, Map<OWLAxiom, Double> probabilities) {
+		try {
+			for (OWLAxiom axiom : probabilities.keySet()) {
+				OWLSubClassOfAxiom subsumption = (OWLSubClassOfAxiom) axiom;
+				output.write(makeLine(Arrays.asList(subsumption.getSubClass().asOWLClass().getIRI().toString(),
+						subsumption.getSuperClass().asOWLClass().getIRI().toString(),
+						"" + probabilities.get(axiom))));
+			}
+			output.flush();
+			return probabilities.size();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Computes the probabilities of all the entailed subsumptions between
+	 * named classes, and writes them to the output.
+	 *
+	 * @param conf
+	 *            configuration
+	 * @return the number of subsumptions written
+	 */
+	public long run(ClassifierConfiguration conf) {
+		Objects.requireNonNull(conf);
+		BornReasoner reasoner = new BornReasoner(conf.getOntology(), false);
+		ForkJoinPool pool = new ForkJoinPool(conf.getNumberOfThreads());
+		try {
+			reasoner.setBayesianNetwork(conf.getBayesianNetwork());
+			Function<String, String> queryProcessor = conf.getQueryProcessor();
+			if (Objects.nonNull(queryProcessor)) {
+				reasoner.setQueryProcessor(queryProcessor);
+			}
+			reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY);
+			List<List<OWLSubClassOfAxiom>> groups = getSubsumptionsBySubClass(reasoner,
+					conf.getOntology().getOWLOntologyManager().getOWLDataFactory());
+
+			Writer output = new BufferedWriter(new OutputStreamWriter(conf.getOutput(), StandardCharsets.UTF_8));
+			try {
+				output.write(makeLine(FIRST_LINE_LIST));
+				AtomicLong counter = new AtomicLong();
+				pool.submit(() -> groups.parallelStream().map(group -> reasoner.getProbabilities(group))
+						.forEachOrdered(probabilities -> counter.addAndGet(write(output, probabilities)))).get();
+				return counter.get();
+			} finally {
+				output.flush();
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else {
+				throw new RuntimeException(e.getCause());
+			}
+		} finally {
+			pool.shutdown();
+			reasoner.dispose();
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+package de.tudresden.inf.lat.born.owlapi.classifier;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.core.term.SubApp;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.jproblog.JProblog;
+
+/**
+ * An object of this class computes the probabilities of all the subsumptions
+ * between named classes that are entailed by an ontology.
+ *
+ * @see ClassifierCore
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ClassifierSubApp implements SubApp {
+
+	public static final String COMMAND = "classify";
+	static final String HELP = ""
+			+ "\nParameters: <ontology file> <Bayesian network file> <output file> [<number of threads>]" + "\n"
+			+ "\n  <ontology file>          : file name of the probabilistic ontology, i.e. the OWL file with annotations"
+			+ "\n  <Bayesian network file>  : file name of the Bayesian network"
+			+ "\n  <output file>            : file name of the output, where each row has a sub class, a super class, and a probability, separated by tabs"
+			+ "\n  <number of threads>      : (optional) number of threads, by default the number of processors"
+			+ "\n" + "\nExample:" + "\n  java -jar born.jar " + COMMAND + " ontology.owl network.pl taxonomy.tsv" + "\n"
+			+ "\nNote: this program requires an Internet connection to install ProbLog." + "\n";
+
+	/**
+	 * Constructs a new classifier.
+	 */
+	public ClassifierSubApp() {
+	}
+
+	@Override
+	public String getHelp() {
+		return HELP;
+	}
+
+	@Override
+	public boolean isValid(String[] args) {
+		Objects.requireNonNull(args);
+		return (args.length == 3) || ((args.length == 4) && args[3].matches("[1-9][0-9]*"));
+	}
+
+	@Override
+	public String run(String[] args) {
+		Objects.requireNonNull(args);
+		if (isValid(args)) {
+			try {
+				ClassifierConfiguration conf = new ClassifierConfigurationImpl();
+				conf.setOntology(ProcessorConfigurationImpl.readOntology(new FileInputStream(args[0])));
+				conf.setBayesianNetwork(ProcessorConfigurationImpl.read(new FileReader(args[1])));
+				if (args.length == 4) {
+					conf.setNumberOfThreads(Integer.parseInt(args[3]));
+				}
+
+				// ProbLog uses the same working files for every execution,
+				// so only one execution can run at a time
+				JProblog problog = new JProblog();
+				conf.setQueryProcessor(program -> {
+					synchronized (problog) {
+						return problog.apply(program);
+					}
+				});
+
+				OutputStream output = new FileOutputStream(ResourceUtil.ensurePath(args[2]));
+				conf.setOutput(output);
+				long count = new ClassifierCore().run(conf);
+				output.close();
+				return "Subsumptions: " + count;
+
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} catch (OWLOntologyCreationException e) {
+				throw new RuntimeException(e);
+			}
+		} else {
+			return getHelp();
+		}
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains classes and interfaces to compute the probabilities of
+ * all the subsumptions between named classes that are entailed by an OWL
+ * ontology.
+ */
+package de.tudresden.inf.lat.born.owlapi.classifier;
@@ -0,0 +1,94 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.functional.renderer.FunctionalSyntaxObjectRenderer;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.util.DefaultPrefixManager;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class renders single axioms in OWL functional syntax, with
+ * full IRIs except for the standard prefixes.
+ * 
+ * @author Julian Mendez
+ *
+ */
+class AxiomTextRenderer {
+
+	static final String PREFIX_KEYWORD = "Prefix";
+	static final String ONTOLOGY_KEYWORD = "Ontology";
+	static final String PREFIX_SEPARATOR = "=";
+	static final char LESS_THAN_CHAR = '<';
+	static final char GREATER_THAN_CHAR = '>';
+
+	private final DefaultPrefixManager prefixManager = new DefaultPrefixManager();
+	private final StringWriter buffer = new StringWriter();
+	private final FunctionalSyntaxObjectRenderer renderer;
+
+	/**
+	 * Constructs a new axiom text renderer.
+	 */
+	AxiomTextRenderer() {
+		try {
+			this.renderer = new FunctionalSyntaxObjectRenderer(OWLManager.createOWLOntologyManager().createOntology(),
+					this.buffer);
+		} catch (OWLOntologyCreationException e) {
+			throw new RuntimeException(e);
+		}
+		this.renderer.setPrefixManager(this.prefixManager);
+	}
+
+	/**
+	 * Returns the given axiom in OWL functional syntax.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @return the given axiom in OWL functional syntax
+	 */
+	String render(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		this.buffer.getBuffer().setLength(0);
+		axiom.accept(this.renderer);
+		return this.buffer.toString();
+	}
+
+	/**
+	 * Returns the header of an ontology document, which declares the prefixes
+	 * used by this renderer and opens the ontology.
+	 * 
+	 * @param ontologyIri
+	 *            ontology IRI, if the ontology is not anonymous
+	 * @return the header of an ontology document
+	 */
+	String getHeader(Optional<IRI> ontologyIri) {
+		Objects.requireNonNull(ontologyIri);
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, String> entry : this.prefixManager.getPrefixName2PrefixMap().entrySet()) {
+			sb.append(PREFIX_KEYWORD + Symbol.PAR_A_CHAR + entry.getKey() + PREFIX_SEPARATOR + LESS_THAN_CHAR
+					+ entry.getValue() + GREATER_THAN_CHAR + Symbol.PAR_B_CHAR + Symbol.NEW_LINE_CHAR);
+		}
+		sb.append(Symbol.NEW_LINE_CHAR);
+		sb.append(ONTOLOGY_KEYWORD + Symbol.PAR_A_CHAR);
+		ontologyIri.ifPresent(iri -> sb.append(LESS_THAN_CHAR + iri.toString() + GREATER_THAN_CHAR));
+		sb.append(Symbol.NEW_LINE_CHAR);
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the footer of an ontology document, which closes the ontology.
+	 * 
+	 * @return the footer of an ontology document
+	 */
+	String getFooter() {
+		return "" + Symbol.PAR_B_CHAR + Symbol.NEW_LINE_CHAR;
+	}
+
+}
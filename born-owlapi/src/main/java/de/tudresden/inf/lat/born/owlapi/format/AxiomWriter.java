@@ -0,0 +1,45 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * An axiom writer writes an ontology axiom by axiom, without keeping the
+ * axioms in memory. Closing the writer completes the ontology and closes the
+ * underlying output stream.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public interface AxiomWriter extends Closeable {
+
+	/**
+	 * Writes an axiom.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	void write(OWLAxiom axiom) throws IOException;
+
+	/**
+	 * Writes the given axioms.
+	 * 
+	 * @param axioms
+	 *            axioms
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	default void write(Collection<? extends OWLAxiom> axioms) throws IOException {
+		Objects.requireNonNull(axioms);
+		for (OWLAxiom axiom : axioms) {
+			write(axiom);
+		}
+	}
+
+}
@@ -0,0 +1,249 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class reads an ontology written by a
+ * {@link BinaryAxiomWriter}. The structured axioms are created directly, and
+ * the axioms written as text are parsed together at the end.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class BinaryAxiomReader {
+
+	private final List<IRI> iris = new ArrayList<>();
+	private OWLDataFactory df;
+	private DataInputStream input;
+
+	/**
+	 * Constructs a new binary axiom reader.
+	 */
+	public BinaryAxiomReader() {
+	}
+
+	/**
+	 * Tells whether the given bytes are the beginning of an ontology in the
+	 * binary format.
+	 * 
+	 * @param header
+	 *            first bytes of a document
+	 * @return <code>true</code> if and only if the given bytes are the
+	 *         beginning of an ontology in the binary format
+	 */
+	public static boolean isBinary(byte[] header) {
+		Objects.requireNonNull(header);
+		try {
+			return header.length >= Integer.BYTES && new DataInputStream(new ByteArrayInputStream(header))
+					.readInt() == BinaryAxiomWriter.MAGIC_NUMBER;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	int readNumber() throws IOException {
+		int ret = 0;
+		int shift = 0;
+		int next = this.input.readUnsignedByte();
+		while ((next & BinaryAxiomWriter.VARIABLE_LENGTH_CONTINUATION) != 0) {
+			ret |= (next & BinaryAxiomWriter.VARIABLE_LENGTH_MASK) << shift;
+			shift += BinaryAxiomWriter.VARIABLE_LENGTH_SHIFT;
+			next = this.input.readUnsignedByte();
+		}
+		return ret | (next << shift);
+	}
+
+	String readString() throws IOException {
+		byte[] bytes = new byte[readNumber()];
+		this.input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	IRI readIri() throws IOException {
+		int id = readNumber();
+		if (id >= this.iris.size()) {
+			throw new IOException("Invalid IRI reference: " + id + ".");
+		}
+		return this.iris.get(id);
+	}
+
+	OWLObjectProperty readProperty() throws IOException {
+		return this.df.getOWLObjectProperty(readIri());
+	}
+
+	List<OWLObjectPropertyExpression> readProperties() throws IOException {
+		int size = readNumber();
+		List<OWLObjectPropertyExpression> ret = new ArrayList<>(size);
+		for (int index = 0; index < size; index++) {
+			ret.add(readProperty());
+		}
+		return ret;
+	}
+
+	OWLClassExpression readExpression() throws IOException {
+		int kind = readNumber();
+		if (kind == BinaryAxiomWriter.EXPRESSION_CLASS) {
+			return this.df.getOWLClass(readIri());
+		} else if (kind == BinaryAxiomWriter.EXPRESSION_INTERSECTION) {
+			return this.df.getOWLObjectIntersectionOf(readExpressions());
+		} else if (kind == BinaryAxiomWriter.EXPRESSION_SOME_VALUES_FROM) {
+			OWLObjectProperty property = readProperty();
+			return this.df.getOWLObjectSomeValuesFrom(property, readExpression());
+		} else {
+			throw new IOException("Invalid class expression: " + kind + ".");
+		}
+	}
+
+	Set<OWLClassExpression> readExpressions() throws IOException {
+		int size = readNumber();
+		Set<OWLClassExpression> ret = new HashSet<>();
+		for (int index = 0; index < size; index++) {
+			ret.add(readExpression());
+		}
+		return ret;
+	}
+
+	Set<OWLAnnotation> readAnnotations() throws IOException {
+		int size = readNumber();
+		Set<OWLAnnotation> ret = new HashSet<>();
+		for (int index = 0; index < size; index++) {
+			IRI property = readIri();
+			String lexicalForm = readString();
+			IRI datatype = readIri();
+			String language = readString();
+			ret.add(this.df.getOWLAnnotation(this.df.getOWLAnnotationProperty(property),
+					language.isEmpty() ? this.df.getOWLLiteral(lexicalForm, this.df.getOWLDatatype(datatype))
+							: this.df.getOWLLiteral(lexicalForm, language)));
+		}
+		return ret;
+	}
+
+	OWLAxiom readAxiom() throws IOException {
+		int type = readNumber();
+		if (type == BinaryAxiomWriter.AXIOM_DECLARATION) {
+			int entityType = readNumber();
+			if (entityType >= BinaryAxiomWriter.ENTITY_TYPES.size()) {
+				throw new IOException("Invalid entity type: " + entityType + ".");
+			}
+			IRI iri = readIri();
+			return this.df.getOWLDeclarationAxiom(
+					this.df.getOWLEntity(BinaryAxiomWriter.ENTITY_TYPES.get(entityType), iri), readAnnotations());
+		} else if (type == BinaryAxiomWriter.AXIOM_SUBCLASS_OF) {
+			OWLClassExpression subClass = readExpression();
+			OWLClassExpression superClass = readExpression();
+			return this.df.getOWLSubClassOfAxiom(subClass, superClass, readAnnotations());
+		} else if (type == BinaryAxiomWriter.AXIOM_EQUIVALENT_CLASSES) {
+			Set<OWLClassExpression> expressions = readExpressions();
+			return this.df.getOWLEquivalentClassesAxiom(expressions, readAnnotations());
+		} else if (type == BinaryAxiomWriter.AXIOM_SUB_OBJECT_PROPERTY_OF) {
+			OWLObjectProperty subProperty = readProperty();
+			OWLObjectProperty superProperty = readProperty();
+			return this.df.getOWLSubObjectPropertyOfAxiom(subProperty, superProperty, readAnnotations());
+		} else if (type == BinaryAxiomWriter.AXIOM_SUB_PROPERTY_CHAIN_OF) {
+			List<OWLObjectPropertyExpression> chain = readProperties();
+			OWLObjectProperty superProperty = readProperty();
+			return this.df.getOWLSubPropertyChainOfAxiom(chain, superProperty, readAnnotations());
+		} else if (type == BinaryAxiomWriter.AXIOM_TRANSITIVE_OBJECT_PROPERTY) {
+			OWLObjectProperty property = readProperty();
+			return this.df.getOWLTransitiveObjectPropertyAxiom(property, readAnnotations());
+		} else if (type == BinaryAxiomWriter.AXIOM_OBJECT_PROPERTY_DOMAIN) {
+			OWLObjectProperty property = readProperty();
+			OWLClassExpression domain = readExpression();
+			return this.df.getOWLObjectPropertyDomainAxiom(property, domain, readAnnotations());
+		} else if (type == BinaryAxiomWriter.AXIOM_OBJECT_PROPERTY_RANGE) {
+			OWLObjectProperty property = readProperty();
+			OWLClassExpression range = readExpression();
+			return this.df.getOWLObjectPropertyRangeAxiom(property, range, readAnnotations());
+		} else {
+			throw new IOException("Invalid axiom type: " + type + ".");
+		}
+	}
+
+	/**
+	 * Reads an ontology in the binary format.
+	 * 
+	 * @param inputStream
+	 *            input stream
+	 * @param manager
+	 *            OWL ontology manager that creates the ontology
+	 * @return the ontology
+	 * @throws IOException
+	 *             if something goes wrong with I/O, or the input is not in the
+	 *             binary format
+	 * @throws OWLOntologyCreationException
+	 *             if something goes wrong with the ontology creation
+	 */
+	public OWLOntology read(InputStream inputStream, OWLOntologyManager manager)
+			throws IOException, OWLOntologyCreationException {
+		Objects.requireNonNull(inputStream);
+		Objects.requireNonNull(manager);
+		this.input = new DataInputStream(new BufferedInputStream(inputStream));
+		this.df = manager.getOWLDataFactory();
+		this.iris.clear();
+		if (this.input.readInt() != BinaryAxiomWriter.MAGIC_NUMBER) {
+			throw new IOException("The input is not an ontology in the binary format.");
+		}
+		int version = readNumber();
+		if (version != BinaryAxiomWriter.VERSION) {
+			throw new IOException("Unsupported version of the binary format: " + version + ".");
+		}
+		String ontologyIri = readString();
+
+		List<OWLAxiom> axioms = new ArrayList<>();
+		StringBuilder text = new StringBuilder();
+		for (int tag = readNumber(); tag != BinaryAxiomWriter.TAG_END; tag = readNumber()) {
+			if (tag == BinaryAxiomWriter.TAG_IRI) {
+				this.iris.add(IRI.create(readString()));
+			} else if (tag == BinaryAxiomWriter.TAG_AXIOM) {
+				axioms.add(readAxiom());
+			} else if (tag == BinaryAxiomWriter.TAG_TEXT) {
+				text.append(readString());
+				text.append(Symbol.NEW_LINE_CHAR);
+			} else {
+				throw new IOException("Invalid record: " + tag + ".");
+			}
+		}
+
+		OWLOntology ret = ontologyIri.isEmpty() ? manager.createOntology()
+				: manager.createOntology(IRI.create(ontologyIri));
+		manager.setOntologyFormat(ret, new FunctionalSyntaxDocumentFormat());
+		manager.addAxioms(ret, new HashSet<>(axioms));
+		if (text.length() > 0) {
+			AxiomTextRenderer renderer = new AxiomTextRenderer();
+			String document = renderer.getHeader(Optional.empty()) + text + renderer.getFooter();
+			OWLOntology textOntology = OWLManager.createOWLOntologyManager().loadOntologyFromOntologyDocument(
+					new StreamDocumentSource(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)),
+							IRI.generateDocumentIRI(), new FunctionalSyntaxDocumentFormat(), null));
+			manager.addAxioms(ret, textOntology.getAxioms());
+		}
+		return ret;
+	}
+
+}
@@ -0,0 +1,275 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
+import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+
+/**
+ * An object of this class writes an ontology in a compact binary format. Each
+ * IRI is written once, and later referred to by its number. The axioms of the
+ * EL fragment used by the processor are written as a structure of numbers, so
+ * that they can be read without parsing. Any other axiom is written as a line
+ * of OWL functional syntax.
+ * <p>
+ * The format is a header, with a magic number, a version and the ontology IRI,
+ * followed by records. Each record starts with a tag: an IRI, a structured
+ * axiom, an axiom as text, or the end of the ontology. Numbers are written as
+ * variable-length integers, and strings are written in UTF-8 after their
+ * length.
+ * 
+ * @see BinaryAxiomReader
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class BinaryAxiomWriter implements AxiomWriter {
+
+	static final int MAGIC_NUMBER = 0x424F524E;
+	static final int VERSION = 1;
+
+	static final int TAG_END = 0;
+	static final int TAG_IRI = 1;
+	static final int TAG_AXIOM = 2;
+	static final int TAG_TEXT = 3;
+
+	static final int AXIOM_DECLARATION = 0;
+	static final int AXIOM_SUBCLASS_OF = 1;
+	static final int AXIOM_EQUIVALENT_CLASSES = 2;
+	static final int AXIOM_SUB_OBJECT_PROPERTY_OF = 3;
+	static final int AXIOM_SUB_PROPERTY_CHAIN_OF = 4;
+	static final int AXIOM_TRANSITIVE_OBJECT_PROPERTY = 5;
+	static final int AXIOM_OBJECT_PROPERTY_DOMAIN = 6;
+	static final int AXIOM_OBJECT_PROPERTY_RANGE = 7;
+
+	static final int EXPRESSION_CLASS = 0;
+	static final int EXPRESSION_INTERSECTION = 1;
+	static final int EXPRESSION_SOME_VALUES_FROM = 2;
+
+	static final List<EntityType<?>> ENTITY_TYPES = Arrays.asList(EntityType.CLASS, EntityType.OBJECT_PROPERTY,
+			EntityType.NAMED_INDIVIDUAL, EntityType.ANNOTATION_PROPERTY, EntityType.DATA_PROPERTY,
+			EntityType.DATATYPE);
+
+	static final int VARIABLE_LENGTH_MASK = 0x7F;
+	static final int VARIABLE_LENGTH_CONTINUATION = 0x80;
+	static final int VARIABLE_LENGTH_SHIFT = 7;
+
+	private final DataOutputStream output;
+	private final ByteArrayOutputStream axiomBuffer = new ByteArrayOutputStream();
+	private final DataOutputStream axiomOutput = new DataOutputStream(this.axiomBuffer);
+	private final Map<IRI, Integer> iris = new HashMap<>();
+	private final List<IRI> newIris = new ArrayList<>();
+	private final AxiomTextRenderer renderer = new AxiomTextRenderer();
+
+	/**
+	 * Constructs a new binary axiom writer.
+	 * 
+	 * @param output
+	 *            output stream
+	 * @param ontologyIri
+	 *            ontology IRI, if the ontology is not anonymous
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public BinaryAxiomWriter(OutputStream output, Optional<IRI> ontologyIri) throws IOException {
+		Objects.requireNonNull(output);
+		Objects.requireNonNull(ontologyIri);
+		this.output = new DataOutputStream(new BufferedOutputStream(output));
+		this.output.writeInt(MAGIC_NUMBER);
+		writeNumber(this.output, VERSION);
+		writeString(this.output, ontologyIri.map(IRI::toString).orElse(""));
+	}
+
+	static void writeNumber(DataOutputStream output, int number) throws IOException {
+		int value = number;
+		while ((value & ~VARIABLE_LENGTH_MASK) != 0) {
+			output.writeByte((value & VARIABLE_LENGTH_MASK) | VARIABLE_LENGTH_CONTINUATION);
+			value >>>= VARIABLE_LENGTH_SHIFT;
+		}
+		output.writeByte(value);
+	}
+
+	static void writeString(DataOutputStream output, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		writeNumber(output, bytes.length);
+		output.write(bytes);
+	}
+
+	void writeIri(IRI iri) throws IOException {
+		Integer id = this.iris.get(iri);
+		if (Objects.isNull(id)) {
+			id = this.iris.size();
+			this.iris.put(iri, id);
+			this.newIris.add(iri);
+		}
+		writeNumber(this.axiomOutput, id);
+	}
+
+	boolean writeProperty(OWLObjectPropertyExpression property) throws IOException {
+		if (property.isAnonymous()) {
+			return false;
+		}
+		writeIri(property.asOWLObjectProperty().getIRI());
+		return true;
+	}
+
+	boolean writeProperties(List<OWLObjectPropertyExpression> properties) throws IOException {
+		writeNumber(this.axiomOutput, properties.size());
+		boolean ret = true;
+		for (OWLObjectPropertyExpression property : properties) {
+			ret = ret && writeProperty(property);
+		}
+		return ret;
+	}
+
+	boolean writeExpression(OWLClassExpression expression) throws IOException {
+		if (!expression.isAnonymous()) {
+			writeNumber(this.axiomOutput, EXPRESSION_CLASS);
+			writeIri(expression.asOWLClass().getIRI());
+			return true;
+		} else if (expression instanceof OWLObjectIntersectionOf) {
+			writeNumber(this.axiomOutput, EXPRESSION_INTERSECTION);
+			return writeExpressions(((OWLObjectIntersectionOf) expression).getOperandsAsList());
+		} else if (expression instanceof OWLObjectSomeValuesFrom) {
+			OWLObjectSomeValuesFrom restriction = (OWLObjectSomeValuesFrom) expression;
+			writeNumber(this.axiomOutput, EXPRESSION_SOME_VALUES_FROM);
+			return writeProperty(restriction.getProperty()) && writeExpression(restriction.getFiller());
+		} else {
+			return false;
+		}
+	}
+
+	boolean writeExpressions(Collection<OWLClassExpression> expressions) throws IOException {
+		writeNumber(this.axiomOutput, expressions.size());
+		boolean ret = true;
+		for (OWLClassExpression expression : expressions) {
+			ret = ret && writeExpression(expression);
+		}
+		return ret;
+	}
+
+	boolean writeAnnotations(Collection<OWLAnnotation> annotations) throws IOException {
+		writeNumber(this.axiomOutput, annotations.size());
+		for (OWLAnnotation annotation : annotations) {
+			if (!(annotation.getValue() instanceof OWLLiteral) || !annotation.getAnnotations().isEmpty()) {
+				return false;
+			}
+			OWLLiteral literal = (OWLLiteral) annotation.getValue();
+			writeIri(annotation.getProperty().getIRI());
+			writeString(this.axiomOutput, literal.getLiteral());
+			writeIri(literal.getDatatype().getIRI());
+			writeString(this.axiomOutput, literal.getLang());
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the given axiom as a structure of numbers in the axiom buffer, if
+	 * it is supported.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @return <code>true</code> if and only if the axiom is supported
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	boolean writeStructure(OWLAxiom axiom) throws IOException {
+		if (axiom instanceof OWLDeclarationAxiom) {
+			OWLDeclarationAxiom declaration = (OWLDeclarationAxiom) axiom;
+			int entityType = ENTITY_TYPES.indexOf(declaration.getEntity().getEntityType());
+			writeNumber(this.axiomOutput, AXIOM_DECLARATION);
+			writeNumber(this.axiomOutput, entityType);
+			writeIri(declaration.getEntity().getIRI());
+			return entityType != -1 && writeAnnotations(axiom.getAnnotations());
+		} else if (axiom instanceof OWLSubClassOfAxiom) {
+			OWLSubClassOfAxiom subClassOf = (OWLSubClassOfAxiom) axiom;
+			writeNumber(this.axiomOutput, AXIOM_SUBCLASS_OF);
+			return writeExpression(subClassOf.getSubClass()) && writeExpression(subClassOf.getSuperClass())
+					&& writeAnnotations(axiom.getAnnotations());
+		} else if (axiom instanceof OWLEquivalentClassesAxiom) {
+			writeNumber(this.axiomOutput, AXIOM_EQUIVALENT_CLASSES);
+			return writeExpressions(((OWLEquivalentClassesAxiom) axiom).getClassExpressionsAsList())
+					&& writeAnnotations(axiom.getAnnotations());
+		} else if (axiom instanceof OWLSubObjectPropertyOfAxiom) {
+			OWLSubObjectPropertyOfAxiom subPropertyOf = (OWLSubObjectPropertyOfAxiom) axiom;
+			writeNumber(this.axiomOutput, AXIOM_SUB_OBJECT_PROPERTY_OF);
+			return writeProperty(subPropertyOf.getSubProperty()) && writeProperty(subPropertyOf.getSuperProperty())
+					&& writeAnnotations(axiom.getAnnotations());
+		} else if (axiom instanceof OWLSubPropertyChainOfAxiom) {
+			OWLSubPropertyChainOfAxiom chain = (OWLSubPropertyChainOfAxiom) axiom;
+			writeNumber(this.axiomOutput, AXIOM_SUB_PROPERTY_CHAIN_OF);
+			return writeProperties(chain.getPropertyChain()) && writeProperty(chain.getSuperProperty())
+					&& writeAnnotations(axiom.getAnnotations());
+		} else if (axiom instanceof OWLTransitiveObjectPropertyAxiom) {
+			writeNumber(this.axiomOutput, AXIOM_TRANSITIVE_OBJECT_PROPERTY);
+			return writeProperty(((OWLTransitiveObjectPropertyAxiom) axiom).getProperty())
+					&& writeAnnotations(axiom.getAnnotations());
+		} else if (axiom instanceof OWLObjectPropertyDomainAxiom) {
+			OWLObjectPropertyDomainAxiom domain = (OWLObjectPropertyDomainAxiom) axiom;
+			writeNumber(this.axiomOutput, AXIOM_OBJECT_PROPERTY_DOMAIN);
+			return writeProperty(domain.getProperty()) && writeExpression(domain.getDomain())
+					&& writeAnnotations(axiom.getAnnotations());
+		} else if (axiom instanceof OWLObjectPropertyRangeAxiom) {
+			OWLObjectPropertyRangeAxiom range = (OWLObjectPropertyRangeAxiom) axiom;
+			writeNumber(this.axiomOutput, AXIOM_OBJECT_PROPERTY_RANGE);
+			return writeProperty(range.getProperty()) && writeExpression(range.getRange())
+					&& writeAnnotations(axiom.getAnnotations());
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public void write(OWLAxiom axiom) throws IOException {
+		Objects.requireNonNull(axiom);
+		this.axiomBuffer.reset();
+		this.newIris.clear();
+		if (writeStructure(axiom)) {
+			for (IRI iri : this.newIris) {
+				writeNumber(this.output, TAG_IRI);
+				writeString(this.output, iri.toString());
+			}
+			writeNumber(this.output, TAG_AXIOM);
+			this.axiomBuffer.writeTo(this.output);
+		} else {
+			this.newIris.forEach(this.iris::remove);
+			writeNumber(this.output, TAG_TEXT);
+			writeString(this.output, this.renderer.render(axiom));
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		writeNumber(this.output, TAG_END);
+		this.output.close();
+	}
+
+}
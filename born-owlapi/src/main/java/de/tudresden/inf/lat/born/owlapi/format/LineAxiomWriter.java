@@ -0,0 +1,60 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class writes an ontology in OWL functional syntax, with
+ * one axiom per line. The prefixes and the ontology header are written when
+ * the writer is created, and the closing parenthesis when it is closed.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class LineAxiomWriter implements AxiomWriter {
+
+	private final Writer output;
+	private final AxiomTextRenderer renderer = new AxiomTextRenderer();
+
+	/**
+	 * Constructs a new line axiom writer.
+	 * 
+	 * @param output
+	 *            output stream
+	 * @param ontologyIri
+	 *            ontology IRI, if the ontology is not anonymous
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public LineAxiomWriter(OutputStream output, Optional<IRI> ontologyIri) throws IOException {
+		Objects.requireNonNull(output);
+		Objects.requireNonNull(ontologyIri);
+		this.output = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		this.output.write(this.renderer.getHeader(ontologyIri));
+	}
+
+	@Override
+	public void write(OWLAxiom axiom) throws IOException {
+		Objects.requireNonNull(axiom);
+		this.output.write(this.renderer.render(axiom));
+		this.output.write(Symbol.NEW_LINE_CHAR);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.output.write(this.renderer.getFooter());
+		this.output.close();
+	}
+
+}
@@ -0,0 +1,154 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This enumeration models the formats in which the tools write ontologies.
+ * <ul>
+ * <li><code>owlxml</code> (<code>.owx</code>): OWL/XML</li>
+ * <li><code>functional</code> (<code>.ofn</code>): OWL functional syntax</li>
+ * <li><code>lines</code> (<code>.ofnl</code>): OWL functional syntax with full
+ * IRIs and one axiom per line, which is written axiom by axiom</li>
+ * <li><code>binary</code> (<code>.bax</code>): compact binary format, where
+ * each IRI is written once, which is written axiom by axiom</li>
+ * </ul>
+ * 
+ * @author Julian Mendez
+ *
+ */
+public enum OntologyFormat {
+
+	OWL_XML("owlxml", ".owx"), //
+	FUNCTIONAL("functional", ".ofn"), //
+	LINES("lines", ".ofnl"), //
+	BINARY("binary", ".bax"); //
+
+	public static final OntologyFormat DEFAULT = OWL_XML;
+	public static final String FORMAT_OPTION = "--format=";
+	public static final String HELP = "  " + FORMAT_OPTION
+			+ "<format> : (optional) format of the output ontology: owlxml (.owx), functional (.ofn), lines (.ofnl),"
+			+ " binary (.bax); by default, the format given by the extension of the output file, or owlxml\n";
+
+	private final String name;
+	private final String extension;
+
+	private OntologyFormat(String name, String extension) {
+		this.name = name;
+		this.extension = extension;
+	}
+
+	/**
+	 * Returns the name.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the file extension, including the point.
+	 * 
+	 * @return the file extension, including the point
+	 */
+	public String getExtension() {
+		return this.extension;
+	}
+
+	/**
+	 * Tells whether the ontology can be written axiom by axiom.
+	 * 
+	 * @return <code>true</code> if and only if the ontology can be written
+	 *         axiom by axiom
+	 */
+	public boolean isStreaming() {
+		return this == LINES || this == BINARY;
+	}
+
+	/**
+	 * Returns the format with the given name, if it exists.
+	 * 
+	 * @param name
+	 *            name
+	 * @return the format with the given name, if it exists
+	 */
+	public static Optional<OntologyFormat> find(String name) {
+		Objects.requireNonNull(name);
+		return getValues().stream().filter(value -> value.getName().equals(name)).findFirst();
+	}
+
+	/**
+	 * Returns the format of the given file name according to its extension,
+	 * or the default format if the extension is not known.
+	 * 
+	 * @param fileName
+	 *            file name
+	 * @return the format of the given file name according to its extension
+	 */
+	public static OntologyFormat getFormat(String fileName) {
+		Objects.requireNonNull(fileName);
+		return getValues().stream().filter(value -> fileName.endsWith(value.getExtension())).findFirst()
+				.orElse(DEFAULT);
+	}
+
+	/**
+	 * Returns the format given by a <code>--format=</code> option among the
+	 * arguments, or the format of the given file name if there is no option.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @param fileName
+	 *            file name
+	 * @return the format given by a <code>--format=</code> option, or the
+	 *         format of the given file name
+	 */
+	public static OntologyFormat getFormat(String[] args, String fileName) {
+		Objects.requireNonNull(args);
+		Objects.requireNonNull(fileName);
+		Optional<OntologyFormat> option = Arrays.stream(args).filter(arg -> arg.startsWith(FORMAT_OPTION))
+				.map(arg -> arg.substring(FORMAT_OPTION.length())).reduce((first, second) -> second)
+				.map(name -> find(name)
+						.orElseThrow(() -> new IllegalArgumentException("Unknown format: '" + name + "'.")));
+		return option.orElse(getFormat(fileName));
+	}
+
+	/**
+	 * Tells whether all the <code>--format=</code> options among the arguments
+	 * name a known format.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @return <code>true</code> if and only if all the <code>--format=</code>
+	 *         options name a known format
+	 */
+	public static boolean hasValidFormatOption(String[] args) {
+		Objects.requireNonNull(args);
+		return Arrays.stream(args).filter(arg -> arg.startsWith(FORMAT_OPTION))
+				.allMatch(arg -> find(arg.substring(FORMAT_OPTION.length())).isPresent());
+	}
+
+	/**
+	 * Returns the arguments without the <code>--format=</code> options.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @return the arguments without the <code>--format=</code> options
+	 */
+	public static String[] removeFormatOption(String[] args) {
+		Objects.requireNonNull(args);
+		return Arrays.stream(args).filter(arg -> !arg.startsWith(FORMAT_OPTION)).toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the values.
+	 * 
+	 * @return the values
+	 */
+	public static List<OntologyFormat> getValues() {
+		return Arrays.asList(values());
+	}
+
+}
@@ -0,0 +1,125 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class reads ontologies. The format is recognized from the
+ * first bytes of the document. The binary format is read by a
+ * {@link BinaryAxiomReader}, and OWL functional syntax is read directly by its
+ * parser. Any other format is read by the OWL API, which tries every parser
+ * until one succeeds.
+ * 
+ * @see OntologyWriter
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class OntologyReader {
+
+	static final int HEADER_SIZE = 0x100;
+
+	/**
+	 * Constructs a new ontology reader.
+	 */
+	public OntologyReader() {
+	}
+
+	/**
+	 * Returns the first bytes of the given input stream, without consuming
+	 * them.
+	 * 
+	 * @param input
+	 *            input stream that supports mark and reset
+	 * @return the first bytes of the given input stream
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	static byte[] getHeader(InputStream input) throws IOException {
+		byte[] buffer = new byte[HEADER_SIZE];
+		input.mark(HEADER_SIZE);
+		int length = 0;
+		for (int read = 0; read != -1 && length < HEADER_SIZE; read = input.read(buffer, length,
+				HEADER_SIZE - length)) {
+			length += read;
+		}
+		input.reset();
+		return Arrays.copyOf(buffer, length);
+	}
+
+	/**
+	 * Tells whether the ontology document provided by the given input stream
+	 * is written in OWL functional syntax, without consuming the input stream.
+	 * 
+	 * @param input
+	 *            input stream that supports mark and reset
+	 * @return <code>true</code> if and only if the ontology document starts
+	 *         like an ontology written in OWL functional syntax
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public static boolean isFunctionalSyntax(InputStream input) throws IOException {
+		Objects.requireNonNull(input);
+		String header = new String(getHeader(input), StandardCharsets.UTF_8).trim();
+		return header.startsWith(AxiomTextRenderer.PREFIX_KEYWORD + Symbol.PAR_A_CHAR)
+				|| header.startsWith(AxiomTextRenderer.ONTOLOGY_KEYWORD + Symbol.PAR_A_CHAR);
+	}
+
+	/**
+	 * Tells whether the ontology document provided by the given input stream
+	 * is written in the binary format, without consuming the input stream.
+	 * 
+	 * @param input
+	 *            input stream that supports mark and reset
+	 * @return <code>true</code> if and only if the ontology document is
+	 *         written in the binary format
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public static boolean isBinary(InputStream input) throws IOException {
+		Objects.requireNonNull(input);
+		return BinaryAxiomReader.isBinary(getHeader(input));
+	}
+
+	/**
+	 * Reads an ontology.
+	 * 
+	 * @param inputStream
+	 *            input stream
+	 * @return the ontology
+	 * @throws OWLOntologyCreationException
+	 *             if the ontology could not be read
+	 */
+	public OWLOntology read(InputStream inputStream) throws OWLOntologyCreationException {
+		Objects.requireNonNull(inputStream);
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		BufferedInputStream input = new BufferedInputStream(inputStream);
+		try {
+			if (isBinary(input)) {
+				return new BinaryAxiomReader().read(input, manager);
+			} else if (isFunctionalSyntax(input)) {
+				return manager.loadOntologyFromOntologyDocument(new StreamDocumentSource(input,
+						IRI.generateDocumentIRI(), new FunctionalSyntaxDocumentFormat(), null));
+			} else {
+				return manager.loadOntologyFromOntologyDocument(input);
+			}
+		} catch (IOException e) {
+			throw new OWLOntologyCreationException(e);
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.functional.renderer.OWLFunctionalSyntaxRenderer;
+import org.semanticweb.owlapi.io.OWLRendererException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.owlxml.renderer.OWLXMLRenderer;
+
+/**
+ * An object of this class writes ontologies in a given format. This is the
+ * output layer shared by the tools.
+ * 
+ * @see OntologyReader
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class OntologyWriter {
+
+	/**
+	 * Constructs a new ontology writer.
+	 */
+	public OntologyWriter() {
+	}
+
+	/**
+	 * Returns the IRI of the given ontology, if it is not anonymous.
+	 * 
+	 * @param ontology
+	 *            ontology
+	 * @return the IRI of the given ontology, if it is not anonymous
+	 */
+	public static Optional<IRI> getOntologyIri(OWLOntology ontology) {
+		Objects.requireNonNull(ontology);
+		com.google.common.base.Optional<IRI> ontologyIri = ontology.getOntologyID().getOntologyIRI();
+		return ontologyIri.isPresent() ? Optional.of(ontologyIri.get()) : Optional.empty();
+	}
+
+	/**
+	 * Returns a writer that writes an ontology axiom by axiom in the given
+	 * format.
+	 * 
+	 * @param output
+	 *            output stream
+	 * @param format
+	 *            format, which must be a streaming format
+	 * @param ontologyIri
+	 *            ontology IRI, if the ontology is not anonymous
+	 * @return a writer that writes an ontology axiom by axiom
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 * @throws IllegalArgumentException
+	 *             if the format cannot be written axiom by axiom
+	 */
+	public AxiomWriter createAxiomWriter(OutputStream output, OntologyFormat format, Optional<IRI> ontologyIri)
+			throws IOException {
+		Objects.requireNonNull(output);
+		Objects.requireNonNull(format);
+		Objects.requireNonNull(ontologyIri);
+		if (format == OntologyFormat.LINES) {
+			return new LineAxiomWriter(output, ontologyIri);
+		} else if (format == OntologyFormat.BINARY) {
+			return new BinaryAxiomWriter(output, ontologyIri);
+		} else {
+			throw new IllegalArgumentException("Format cannot be written axiom by axiom: '" + format.getName() + "'.");
+		}
+	}
+
+	/**
+	 * Writes an ontology in the given format. The output stream is flushed but
+	 * not closed.
+	 * 
+	 * @param ontology
+	 *            ontology
+	 * @param output
+	 *            output stream
+	 * @param format
+	 *            format
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 * @throws OWLRendererException
+	 *             if the ontology could not be rendered
+	 */
+	public void write(OWLOntology ontology, OutputStream output, OntologyFormat format)
+			throws IOException, OWLRendererException {
+		Objects.requireNonNull(ontology);
+		Objects.requireNonNull(output);
+		Objects.requireNonNull(format);
+		if (format == OntologyFormat.OWL_XML) {
+			new OWLXMLRenderer().render(ontology, output);
+		} else if (format == OntologyFormat.FUNCTIONAL) {
+			new OWLFunctionalSyntaxRenderer().render(ontology, output);
+		} else {
+			AxiomWriter writer = createAxiomWriter(new UnclosableOutputStream(output), format,
+					getOntologyIri(ontology));
+			writer.write(ontology.getAxioms());
+			writer.close();
+		}
+		output.flush();
+	}
+
+	/**
+	 * Writes an ontology with the given axioms in the given format. If the
+	 * format can be written axiom by axiom, no ontology is created. The output
+	 * stream is flushed but not closed.
+	 * 
+	 * @param axioms
+	 *            axioms
+	 * @param ontologyIri
+	 *            ontology IRI, if the ontology is not anonymous
+	 * @param output
+	 *            output stream
+	 * @param format
+	 *            format
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 * @throws OWLRendererException
+	 *             if the ontology could not be rendered
+	 * @throws OWLOntologyCreationException
+	 *             if the ontology could not be created
+	 */
+	public void write(Collection<? extends OWLAxiom> axioms, Optional<IRI> ontologyIri, OutputStream output,
+			OntologyFormat format) throws IOException, OWLRendererException, OWLOntologyCreationException {
+		Objects.requireNonNull(axioms);
+		Objects.requireNonNull(ontologyIri);
+		Objects.requireNonNull(output);
+		Objects.requireNonNull(format);
+		if (format.isStreaming()) {
+			AxiomWriter writer = createAxiomWriter(new UnclosableOutputStream(output), format, ontologyIri);
+			writer.write(axioms);
+			writer.close();
+			output.flush();
+		} else {
+			OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+			OWLOntology ontology = ontologyIri.isPresent() ? manager.createOntology(ontologyIri.get())
+					: manager.createOntology();
+			manager.addAxioms(ontology, new HashSet<>(axioms));
+			write(ontology, output, format);
+		}
+	}
+
+}
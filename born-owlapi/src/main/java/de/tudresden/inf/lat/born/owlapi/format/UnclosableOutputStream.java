@@ -0,0 +1,30 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An object of this class is an output stream that flushes, but does not
+ * close, the underlying output stream when it is closed.
+ * 
+ * @author Julian Mendez
+ *
+ */
+class UnclosableOutputStream extends FilterOutputStream {
+
+	UnclosableOutputStream(OutputStream output) {
+		super(output);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		this.out.write(bytes, offset, length);
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains classes to read and write ontologies in the formats
+ * used by the tools: OWL/XML, OWL functional syntax, OWL functional syntax with
+ * one axiom per line, and a compact binary format.
+ */
+package de.tudresden.inf.lat.born.owlapi.format;
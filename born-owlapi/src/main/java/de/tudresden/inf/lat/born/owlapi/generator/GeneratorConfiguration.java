@@ -0,0 +1,216 @@
+package de.tudresden.inf.lat.born.owlapi.generator;
+
+import java.io.OutputStream;
+
+/**
+ * This interface models the configuration of an ontology generator.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public interface GeneratorConfiguration {
+
+	/**
+	 * Returns the output ontology.
+	 * 
+	 * @return the output ontology
+	 */
+	OutputStream getOutputOntology();
+
+	/**
+	 * Sets the output ontology.
+	 * 
+	 * @param outputOntology
+	 *            output ontology
+	 */
+	void setOutputOntology(OutputStream outputOntology);
+
+	/**
+	 * Returns the output Bayesian network, or <code>null</code> if the
+	 * ontology is not annotated.
+	 * 
+	 * @return the output Bayesian network, or <code>null</code> if the
+	 *         ontology is not annotated
+	 */
+	OutputStream getOutputBayesianNetwork();
+
+	/**
+	 * Sets the output Bayesian network. If it is <code>null</code>, the
+	 * ontology is not annotated.
+	 * 
+	 * @param outputBayesianNetwork
+	 *            output Bayesian network
+	 */
+	void setOutputBayesianNetwork(OutputStream outputBayesianNetwork);
+
+	/**
+	 * Returns the number of classes.
+	 * 
+	 * @return the number of classes
+	 */
+	int getNumberOfClasses();
+
+	/**
+	 * Sets the number of classes.
+	 * 
+	 * @param numberOfClasses
+	 *            number of classes
+	 */
+	void setNumberOfClasses(int numberOfClasses);
+
+	/**
+	 * Returns the number of object properties.
+	 * 
+	 * @return the number of object properties
+	 */
+	int getNumberOfRoles();
+
+	/**
+	 * Sets the number of object properties.
+	 * 
+	 * @param numberOfRoles
+	 *            number of object properties
+	 */
+	void setNumberOfRoles(int numberOfRoles);
+
+	/**
+	 * Returns the number of individuals.
+	 * 
+	 * @return the number of individuals
+	 */
+	int getNumberOfIndividuals();
+
+	/**
+	 * Sets the number of individuals.
+	 * 
+	 * @param numberOfIndividuals
+	 *            number of individuals
+	 */
+	void setNumberOfIndividuals(int numberOfIndividuals);
+
+	/**
+	 * Returns the depth of the class hierarchy.
+	 * 
+	 * @return the depth of the class hierarchy
+	 */
+	int getDepth();
+
+	/**
+	 * Sets the depth of the class hierarchy.
+	 * 
+	 * @param depth
+	 *            depth of the class hierarchy
+	 */
+	void setDepth(int depth);
+
+	/**
+	 * Returns the number of direct subclasses of each class in the class
+	 * hierarchy.
+	 * 
+	 * @return the number of direct subclasses of each class in the class
+	 *         hierarchy
+	 */
+	int getFanOut();
+
+	/**
+	 * Sets the number of direct subclasses of each class in the class
+	 * hierarchy.
+	 * 
+	 * @param fanOut
+	 *            number of direct subclasses of each class in the class
+	 *            hierarchy
+	 */
+	void setFanOut(int fanOut);
+
+	/**
+	 * Returns the average number of existential restrictions per class.
+	 * 
+	 * @return the average number of existential restrictions per class
+	 */
+	double getExistentialDensity();
+
+	/**
+	 * Sets the average number of existential restrictions per class.
+	 * 
+	 * @param existentialDensity
+	 *            average number of existential restrictions per class
+	 */
+	void setExistentialDensity(double existentialDensity);
+
+	/**
+	 * Returns the probability of a class to have an axiom with a conjunction.
+	 * 
+	 * @return the probability of a class to have an axiom with a conjunction
+	 */
+	double getConjunctionRatio();
+
+	/**
+	 * Sets the probability of a class to have an axiom with a conjunction.
+	 * 
+	 * @param conjunctionRatio
+	 *            probability of a class to have an axiom with a conjunction
+	 */
+	void setConjunctionRatio(double conjunctionRatio);
+
+	/**
+	 * Returns the probability of an existential restriction to create a
+	 * cycle.
+	 * 
+	 * @return the probability of an existential restriction to create a cycle
+	 */
+	double getCycleRate();
+
+	/**
+	 * Sets the probability of an existential restriction to create a cycle.
+	 * 
+	 * @param cycleRate
+	 *            probability of an existential restriction to create a cycle
+	 */
+	void setCycleRate(double cycleRate);
+
+	/**
+	 * Returns the number of variables of the Bayesian network.
+	 * 
+	 * @return the number of variables of the Bayesian network
+	 */
+	int getNumberOfVariables();
+
+	/**
+	 * Sets the number of variables of the Bayesian network.
+	 * 
+	 * @param numberOfVariables
+	 *            number of variables of the Bayesian network
+	 */
+	void setNumberOfVariables(int numberOfVariables);
+
+	/**
+	 * Returns the probability of an axiom to be annotated.
+	 * 
+	 * @return the probability of an axiom to be annotated
+	 */
+	double getAnnotationRate();
+
+	/**
+	 * Sets the probability of an axiom to be annotated.
+	 * 
+	 * @param annotationRate
+	 *            probability of an axiom to be annotated
+	 */
+	void setAnnotationRate(double annotationRate);
+
+	/**
+	 * Returns the seed of the pseudorandom number generator.
+	 * 
+	 * @return the seed of the pseudorandom number generator
+	 */
+	long getSeed();
+
+	/**
+	 * Sets the seed of the pseudorandom number generator.
+	 * 
+	 * @param seed
+	 *            seed of the pseudorandom number generator
+	 */
+	void setSeed(long seed);
+
+}
@@ -0,0 +1,200 @@
+package de.tudresden.inf.lat.born.owlapi.generator;
+
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class GeneratorConfigurationImpl implements GeneratorConfiguration {
+
+	public static final int DEFAULT_NUMBER_OF_ROLES = 1;
+	public static final int DEFAULT_DEPTH = 5;
+	public static final int DEFAULT_FAN_OUT = 4;
+	public static final double DEFAULT_EXISTENTIAL_DENSITY = 0.5;
+	public static final double DEFAULT_CONJUNCTION_RATIO = 0.1;
+	public static final double DEFAULT_ANNOTATION_RATE = 1;
+
+	private OutputStream outputOntology;
+	private OutputStream outputBayesianNetwork;
+	private int numberOfClasses;
+	private int numberOfRoles = DEFAULT_NUMBER_OF_ROLES;
+	private int numberOfIndividuals;
+	private int depth = DEFAULT_DEPTH;
+	private int fanOut = DEFAULT_FAN_OUT;
+	private double existentialDensity = DEFAULT_EXISTENTIAL_DENSITY;
+	private double conjunctionRatio = DEFAULT_CONJUNCTION_RATIO;
+	private double cycleRate;
+	private int numberOfVariables;
+	private double annotationRate = DEFAULT_ANNOTATION_RATE;
+	private long seed;
+
+	@Override
+	public OutputStream getOutputOntology() {
+		return this.outputOntology;
+	}
+
+	@Override
+	public void setOutputOntology(OutputStream outputOntology) {
+		Objects.requireNonNull(outputOntology);
+		this.outputOntology = outputOntology;
+	}
+
+	@Override
+	public OutputStream getOutputBayesianNetwork() {
+		return this.outputBayesianNetwork;
+	}
+
+	@Override
+	public void setOutputBayesianNetwork(OutputStream outputBayesianNetwork) {
+		this.outputBayesianNetwork = outputBayesianNetwork;
+	}
+
+	@Override
+	public int getNumberOfClasses() {
+		return this.numberOfClasses;
+	}
+
+	@Override
+	public void setNumberOfClasses(int numberOfClasses) {
+		this.numberOfClasses = numberOfClasses;
+	}
+
+	@Override
+	public int getNumberOfRoles() {
+		return this.numberOfRoles;
+	}
+
+	@Override
+	public void setNumberOfRoles(int numberOfRoles) {
+		this.numberOfRoles = numberOfRoles;
+	}
+
+	@Override
+	public int getNumberOfIndividuals() {
+		return this.numberOfIndividuals;
+	}
+
+	@Override
+	public void setNumberOfIndividuals(int numberOfIndividuals) {
+		this.numberOfIndividuals = numberOfIndividuals;
+	}
+
+	@Override
+	public int getDepth() {
+		return this.depth;
+	}
+
+	@Override
+	public void setDepth(int depth) {
+		this.depth = depth;
+	}
+
+	@Override
+	public int getFanOut() {
+		return this.fanOut;
+	}
+
+	@Override
+	public void setFanOut(int fanOut) {
+		this.fanOut = fanOut;
+	}
+
+	@Override
+	public double getExistentialDensity() {
+		return this.existentialDensity;
+	}
+
+	@Override
+	public void setExistentialDensity(double existentialDensity) {
+		this.existentialDensity = existentialDensity;
+	}
+
+	@Override
+	public double getConjunctionRatio() {
+		return this.conjunctionRatio;
+	}
+
+	@Override
+	public void setConjunctionRatio(double conjunctionRatio) {
+		this.conjunctionRatio = conjunctionRatio;
+	}
+
+	@Override
+	public double getCycleRate() {
+		return this.cycleRate;
+	}
+
+	@Override
+	public void setCycleRate(double cycleRate) {
+		this.cycleRate = cycleRate;
+	}
+
+	@Override
+	public int getNumberOfVariables() {
+		return this.numberOfVariables;
+	}
+
+	@Override
+	public void setNumberOfVariables(int numberOfVariables) {
+		this.numberOfVariables = numberOfVariables;
+	}
+
+	@Override
+	public double getAnnotationRate() {
+		return this.annotationRate;
+	}
+
+	@Override
+	public void setAnnotationRate(double annotationRate) {
+		this.annotationRate = annotationRate;
+	}
+
+	@Override
+	public long getSeed() {
+		return this.seed;
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof GeneratorConfiguration)) {
+			return false;
+		} else {
+			GeneratorConfiguration other = (GeneratorConfiguration) obj;
+			return Objects.equals(getOutputOntology(), other.getOutputOntology())
+					&& Objects.equals(getOutputBayesianNetwork(), other.getOutputBayesianNetwork())
+					&& getNumberOfClasses() == other.getNumberOfClasses()
+					&& getNumberOfRoles() == other.getNumberOfRoles()
+					&& getNumberOfIndividuals() == other.getNumberOfIndividuals() && getDepth() == other.getDepth()
+					&& getFanOut() == other.getFanOut()
+					&& getExistentialDensity() == other.getExistentialDensity()
+					&& getConjunctionRatio() == other.getConjunctionRatio()
+					&& getCycleRate() == other.getCycleRate()
+					&& getNumberOfVariables() == other.getNumberOfVariables()
+					&& getAnnotationRate() == other.getAnnotationRate() && getSeed() == other.getSeed();
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return this.numberOfClasses + 0x1F * (this.numberOfRoles + 0x1F * (this.numberOfIndividuals + 0x1F
+				* (this.depth + 0x1F * (this.fanOut + 0x1F * (this.numberOfVariables + 0x1F * Long.hashCode(this.seed))))));
+	}
+
+	@Override
+	public String toString() {
+		return this.numberOfClasses + " " + this.numberOfRoles + " " + this.numberOfIndividuals + " " + this.depth + " "
+				+ this.fanOut + " " + this.existentialDensity + " " + this.conjunctionRatio + " " + this.cycleRate
+				+ " " + this.numberOfVariables + " " + this.annotationRate + " " + this.seed;
+	}
+
+}
@@ -0,0 +1,301 @@
+package de.tudresden.inf.lat.born.owlapi.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.owlapi.annotator.AnnotationCreator;
+import de.tudresden.inf.lat.born.problog.connector.BayesianNetworkCreatorCore;
+
+/**
+ * An object of this class generates a synthetic EL ontology in OWL functional
+ * syntax. The axioms are written as soon as they are generated, so that the
+ * memory used does not depend on the size of the ontology.
+ * <p>
+ * The classes form a forest where each tree has the given depth and each
+ * class has the given number of direct subclasses. Each class can have
+ * existential restrictions as superclasses, which point to a random class or,
+ * to create a cycle, to a subclass of itself. Each class can also have an
+ * axiom with a conjunction as subclass. Each individual is asserted to belong
+ * to a random class and, if there are more individuals, to be related to
+ * another random individual.
+ * <p>
+ * If an output Bayesian network is given, the axioms are annotated with
+ * variables of a Bayesian network of independent variables, which is written
+ * to that output.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class GeneratorCore {
+
+	public static final String NAMESPACE = "http://lat.inf.tu-dresden.de/systems/born/born-generated#";
+	public static final String ONTOLOGY_IRI = "http://lat.inf.tu-dresden.de/systems/born/born-generated";
+	public static final String PREFIX = "ont:";
+	public static final String CLASS_PREFIX = PREFIX + "C";
+	public static final String ROLE_PREFIX = PREFIX + "r";
+	public static final String INDIVIDUAL_PREFIX = PREFIX + "i";
+
+	static final String HEADER = "" //
+			+ "Prefix(ont:=<" + NAMESPACE + ">)\n" //
+			+ "Prefix(born:=<http://lat.inf.tu-dresden.de/systems/born#>)\n" //
+			+ "Prefix(owl:=<http://www.w3.org/2002/07/owl#>)\n" //
+			+ "Prefix(rdf:=<http://www.w3.org/1999/02/22-rdf-syntax-ns#>)\n" //
+			+ "Prefix(xml:=<http://www.w3.org/XML/1998/namespace>)\n" //
+			+ "Prefix(xsd:=<http://www.w3.org/2001/XMLSchema#>)\n" //
+			+ "Prefix(rdfs:=<http://www.w3.org/2000/01/rdf-schema#>)\n" //
+			+ "\n\n" //
+			+ "Ontology(<" + ONTOLOGY_IRI + ">\n\n";
+	static final String FOOTER = ")\n\n";
+	static final String PROBABILITY_FORMAT = "%." + BayesianNetworkCreatorCore.PRECISION + "f";
+
+	/**
+	 * Constructs a new ontology generator.
+	 */
+	public GeneratorCore() {
+	}
+
+	/**
+	 * Returns the number of classes of each tree in the class hierarchy.
+	 *
+	 * @param depth
+	 *            depth
+	 * @param fanOut
+	 *            fan-out
+	 * @return the number of classes of each tree in the class hierarchy
+	 */
+	static long getTreeSize(int depth, int fanOut) {
+		long ret = 0;
+		long level = 1;
+		for (int index = 0; index <= depth && ret < Integer.MAX_VALUE; index++) {
+			ret += level;
+			level *= fanOut;
+		}
+		return Math.min(ret, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the direct superclass of a class in the class hierarchy, or -1
+	 * if the class is a root.
+	 *
+	 * @param cls
+	 *            class
+	 * @param treeSize
+	 *            number of classes of each tree
+	 * @param fanOut
+	 *            fan-out
+	 * @return the direct superclass of a class in the class hierarchy, or -1
+	 *         if the class is a root
+	 */
+	static int getParent(int cls, long treeSize, int fanOut) {
+		long local = cls % treeSize;
+		return (local == 0) ? -1 : (int) (cls - local + (local - 1) / fanOut);
+	}
+
+	/**
+	 * Returns a direct subclass of a class in the class hierarchy, or the
+	 * class itself if it has no subclasses.
+	 *
+	 * @param cls
+	 *            class
+	 * @param numberOfClasses
+	 *            number of classes
+	 * @param treeSize
+	 *            number of classes of each tree
+	 * @param fanOut
+	 *            fan-out
+	 * @return a direct subclass of a class in the class hierarchy, or the
+	 *         class itself if it has no subclasses
+	 */
+	static int getChild(int cls, int numberOfClasses, long treeSize, int fanOut) {
+		long local = cls % treeSize;
+		long child = local * fanOut + 1;
+		long ret = cls - local + child;
+		return (fanOut > 0 && child < treeSize && ret < numberOfClasses) ? (int) ret : cls;
+	}
+
+	/**
+	 * An object of this class writes the axioms of one generation.
+	 */
+	static class AxiomWriter {
+
+		private final GeneratorConfiguration conf;
+		private final Writer output;
+		private final Random random;
+		private long numberOfAxioms = 0;
+
+		AxiomWriter(GeneratorConfiguration conf, Writer output, Random random) {
+			this.conf = conf;
+			this.output = output;
+			this.random = random;
+		}
+
+		long getNumberOfAxioms() {
+			return this.numberOfAxioms;
+		}
+
+		String getClass(int index) {
+			return CLASS_PREFIX + index;
+		}
+
+		String getRandomClass() {
+			return getClass(this.random.nextInt(this.conf.getNumberOfClasses()));
+		}
+
+		String getRandomRole() {
+			return ROLE_PREFIX + this.random.nextInt(this.conf.getNumberOfRoles());
+		}
+
+		void writeDeclarations(String type, String prefix, int size) throws IOException {
+			for (int index = 0; index < size; index++) {
+				this.output.write("Declaration(" + type + Symbol.PAR_A_CHAR + prefix + index + Symbol.PAR_B_CHAR
+						+ Symbol.PAR_B_CHAR + Symbol.NEW_LINE_CHAR);
+			}
+		}
+
+		void writeAxiom(String type, String arguments) throws IOException {
+			this.output.write(type);
+			this.output.write(Symbol.PAR_A_CHAR);
+			if (Objects.nonNull(this.conf.getOutputBayesianNetwork()) && this.conf.getNumberOfVariables() > 0
+					&& this.random.nextDouble() < this.conf.getAnnotationRate()) {
+				this.output.write("Annotation(born:probability \"" + AnnotationCreator.VARIABLE_PREFIX
+						+ this.random.nextInt(this.conf.getNumberOfVariables()) + "\"^^xsd:string) ");
+			}
+			this.output.write(arguments);
+			this.output.write(Symbol.PAR_B_CHAR);
+			this.output.write(Symbol.NEW_LINE_CHAR);
+			this.numberOfAxioms++;
+		}
+
+		void writeClassAxioms(int cls, long treeSize) throws IOException {
+			int numberOfClasses = this.conf.getNumberOfClasses();
+			int fanOut = this.conf.getFanOut();
+			int parent = getParent(cls, treeSize, fanOut);
+			if (parent >= 0) {
+				writeAxiom("SubClassOf", getClass(cls) + " " + getClass(parent));
+			}
+
+			double density = this.conf.getExistentialDensity();
+			int numberOfExistentials = (int) density + ((this.random.nextDouble() < density - (int) density) ? 1 : 0);
+			for (int index = 0; index < numberOfExistentials; index++) {
+				String filler = (this.random.nextDouble() < this.conf.getCycleRate())
+						? getClass(getChild(cls, numberOfClasses, treeSize, fanOut)) : getRandomClass();
+				writeAxiom("SubClassOf",
+						getClass(cls) + " ObjectSomeValuesFrom(" + getRandomRole() + " " + filler + Symbol.PAR_B_CHAR);
+			}
+
+			if (this.random.nextDouble() < this.conf.getConjunctionRatio()) {
+				writeAxiom("SubClassOf", "ObjectIntersectionOf(" + getClass(cls) + " " + getRandomClass()
+						+ Symbol.PAR_B_CHAR + " " + getRandomClass());
+			}
+		}
+
+		void writeIndividualAxioms(int individual) throws IOException {
+			int numberOfIndividuals = this.conf.getNumberOfIndividuals();
+			writeAxiom("ClassAssertion", getRandomClass() + " " + INDIVIDUAL_PREFIX + individual);
+			if (numberOfIndividuals > 1) {
+				writeAxiom("ObjectPropertyAssertion", getRandomRole() + " " + INDIVIDUAL_PREFIX + individual + " "
+						+ INDIVIDUAL_PREFIX + this.random.nextInt(numberOfIndividuals));
+			}
+		}
+
+		void writeOntology() throws IOException {
+			GeneratorConfiguration conf = this.conf;
+			long treeSize = getTreeSize(conf.getDepth(), conf.getFanOut());
+			this.output.write(HEADER);
+			writeDeclarations("Class", CLASS_PREFIX, conf.getNumberOfClasses());
+			writeDeclarations("ObjectProperty", ROLE_PREFIX, conf.getNumberOfRoles());
+			writeDeclarations("NamedIndividual", INDIVIDUAL_PREFIX, conf.getNumberOfIndividuals());
+			this.output.write("Declaration(AnnotationProperty(born:probability))\n");
+			for (int cls = 0; cls < conf.getNumberOfClasses(); cls++) {
+				writeClassAxioms(cls, treeSize);
+			}
+			for (int individual = 0; individual < conf.getNumberOfIndividuals(); individual++) {
+				writeIndividualAxioms(individual);
+			}
+			this.output.write(FOOTER);
+			this.output.flush();
+		}
+
+	}
+
+	/**
+	 * Writes a Bayesian network of independent variables.
+	 *
+	 * @param output
+	 *            output
+	 * @param numberOfVariables
+	 *            number of variables
+	 * @param random
+	 *            pseudorandom number generator
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	void writeBayesianNetwork(Writer output, int numberOfVariables, Random random) throws IOException {
+		for (int index = 0; index < numberOfVariables; index++) {
+			output.write(String.format(Locale.ROOT, PROBABILITY_FORMAT, random.nextDouble())
+					+ AnnotationCreator.PROBABILITY_OPERATOR + AnnotationCreator.VARIABLE_PREFIX + index
+					+ Symbol.POINT_CHAR + Symbol.NEW_LINE_CHAR);
+		}
+		output.flush();
+	}
+
+	/**
+	 * Checks that the configuration can be used to generate an ontology.
+	 *
+	 * @param conf
+	 *            configuration
+	 * @throws IllegalArgumentException
+	 *             if the configuration cannot be used to generate an
+	 *             ontology
+	 */
+	void validate(GeneratorConfiguration conf) {
+		if (conf.getNumberOfClasses() < 1 || conf.getNumberOfRoles() < 0 || conf.getNumberOfIndividuals() < 0
+				|| conf.getDepth() < 0 || conf.getFanOut() < 1 || conf.getExistentialDensity() < 0
+				|| conf.getNumberOfVariables() < 0) {
+			throw new IllegalArgumentException("Invalid configuration: " + conf);
+		}
+		if (conf.getNumberOfRoles() == 0
+				&& (conf.getExistentialDensity() > 0 || conf.getNumberOfIndividuals() > 1)) {
+			throw new IllegalArgumentException("Existential restrictions need at least one object property.");
+		}
+	}
+
+	/**
+	 * Generates an ontology and, if there is an output Bayesian network, the
+	 * Bayesian network.
+	 *
+	 * @param conf
+	 *            configuration
+	 * @return the number of logical axioms written
+	 */
+	public long run(GeneratorConfiguration conf) {
+		Objects.requireNonNull(conf);
+		validate(conf);
+		try {
+			Random random = new Random(conf.getSeed());
+			Writer output = new BufferedWriter(
+					new OutputStreamWriter(conf.getOutputOntology(), StandardCharsets.UTF_8));
+			AxiomWriter axiomWriter = new AxiomWriter(conf, output, random);
+			axiomWriter.writeOntology();
+
+			if (Objects.nonNull(conf.getOutputBayesianNetwork())) {
+				writeBayesianNetwork(new BufferedWriter(
+						new OutputStreamWriter(conf.getOutputBayesianNetwork(), StandardCharsets.UTF_8)),
+						conf.getNumberOfVariables(), random);
+			}
+			return axiomWriter.getNumberOfAxioms();
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
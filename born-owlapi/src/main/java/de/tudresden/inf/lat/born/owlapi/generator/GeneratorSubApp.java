@@ -0,0 +1,198 @@
+package de.tudresden.inf.lat.born.owlapi.generator;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.core.term.SubApp;
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class generates a synthetic EL ontology, optionally with
+ * probabilistic annotations and a Bayesian network.
+ *
+ * @see GeneratorCore
+ *
+ * @author Julian Mendez
+ *
+ */
+public class GeneratorSubApp implements SubApp {
+
+	static final String OPTION_PREFIX = "--";
+	static final String ROLES_OPTION = "roles";
+	static final String INDIVIDUALS_OPTION = "individuals";
+	static final String DEPTH_OPTION = "depth";
+	static final String FAN_OUT_OPTION = "fan-out";
+	static final String EXISTENTIAL_DENSITY_OPTION = "existential-density";
+	static final String CONJUNCTION_RATIO_OPTION = "conjunction-ratio";
+	static final String CYCLE_RATE_OPTION = "cycle-rate";
+	static final String NETWORK_OPTION = "network";
+	static final String VARIABLES_OPTION = "variables";
+	static final String ANNOTATION_RATE_OPTION = "annotation-rate";
+	static final String SEED_OPTION = "seed";
+	static final String[] OPTIONS = { ROLES_OPTION, INDIVIDUALS_OPTION, DEPTH_OPTION, FAN_OUT_OPTION,
+			EXISTENTIAL_DENSITY_OPTION, CONJUNCTION_RATIO_OPTION, CYCLE_RATE_OPTION, NETWORK_OPTION, VARIABLES_OPTION,
+			ANNOTATION_RATE_OPTION, SEED_OPTION };
+	static final int NUMBER_OF_PARAMETERS = 2;
+
+	public static final String COMMAND = "generate";
+	static final String HELP = "" + "\nParameters: <output ontology> <number of classes> [<option>=<value> ...]"
+			+ "\n" + "\n  <output ontology>    : file name of the generated ontology, in OWL functional syntax"
+			+ "\n  <number of classes>  : number of classes" + "\n" + "\n Options:"
+			+ "\n   --roles=<n>                : number of object properties, by default "
+			+ GeneratorConfigurationImpl.DEFAULT_NUMBER_OF_ROLES
+			+ "\n   --individuals=<n>          : number of individuals, by default 0"
+			+ "\n   --depth=<n>                : depth of the class hierarchy, by default "
+			+ GeneratorConfigurationImpl.DEFAULT_DEPTH
+			+ "\n   --fan-out=<n>              : number of direct subclasses of each class, by default "
+			+ GeneratorConfigurationImpl.DEFAULT_FAN_OUT
+			+ "\n   --existential-density=<d>  : average number of existential restrictions per class, by default "
+			+ GeneratorConfigurationImpl.DEFAULT_EXISTENTIAL_DENSITY
+			+ "\n   --conjunction-ratio=<d>    : probability of a class to have an axiom with a conjunction, by default "
+			+ GeneratorConfigurationImpl.DEFAULT_CONJUNCTION_RATIO
+			+ "\n   --cycle-rate=<d>           : probability of an existential restriction to create a cycle, by default 0"
+			+ "\n   --network=<file>           : file name of the generated Bayesian network; if given, the axioms are annotated"
+			+ "\n   --variables=<n>            : number of variables of the Bayesian network, by default the number of classes"
+			+ "\n   --annotation-rate=<d>      : probability of an axiom to be annotated, by default "
+			+ GeneratorConfigurationImpl.DEFAULT_ANNOTATION_RATE
+			+ "\n   --seed=<n>                 : seed used by the pseudorandom number generator, by default 0" + "\n"
+			+ "\nExample:" + "\n  java -jar born.jar " + COMMAND
+			+ " ontology.owl 1000000 --roles=10 --existential-density=1.5 --network=network.pl --seed=127" + "\n";
+
+	/**
+	 * Constructs a new ontology generator.
+	 */
+	public GeneratorSubApp() {
+	}
+
+	/**
+	 * Returns the options given after the parameters, or <code>null</code> if
+	 * they are not valid.
+	 *
+	 * @param args
+	 *            arguments
+	 * @return the options given after the parameters, or <code>null</code> if
+	 *         they are not valid
+	 */
+	Map<String, String> getOptions(String[] args) {
+		Map<String, String> ret = new TreeMap<>();
+		for (int index = NUMBER_OF_PARAMETERS; index < args.length; index++) {
+			String arg = args[index];
+			int pos = arg.indexOf(Symbol.EQUALS_CHAR);
+			if (!arg.startsWith(OPTION_PREFIX) || pos == -1) {
+				return null;
+			}
+			String key = arg.substring(OPTION_PREFIX.length(), pos);
+			String value = arg.substring(pos + 1);
+			if (!isOption(key) || Objects.nonNull(ret.put(key, value))) {
+				return null;
+			}
+		}
+		return ret;
+	}
+
+	boolean isOption(String key) {
+		for (String option : OPTIONS) {
+			if (option.equals(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	boolean isValidValue(String key, String value) {
+		if (key.equals(NETWORK_OPTION)) {
+			return !value.isEmpty();
+		} else if (key.equals(EXISTENTIAL_DENSITY_OPTION) || key.equals(CONJUNCTION_RATIO_OPTION)
+				|| key.equals(CYCLE_RATE_OPTION) || key.equals(ANNOTATION_RATE_OPTION)) {
+			try {
+				return Double.parseDouble(value) >= 0;
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		} else if (key.equals(SEED_OPTION)) {
+			return value.matches("-?[0-9]+");
+		} else {
+			return value.matches("[0-9]+");
+		}
+	}
+
+	@Override
+	public String getHelp() {
+		return HELP;
+	}
+
+	@Override
+	public boolean isValid(String[] args) {
+		Objects.requireNonNull(args);
+		if (args.length < NUMBER_OF_PARAMETERS || !args[1].matches("[1-9][0-9]*")) {
+			return false;
+		}
+		Map<String, String> options = getOptions(args);
+		return Objects.nonNull(options)
+				&& options.keySet().stream().allMatch(key -> isValidValue(key, options.get(key)));
+	}
+
+	@Override
+	public String run(String[] args) {
+		Objects.requireNonNull(args);
+		if (isValid(args)) {
+			Map<String, String> options = getOptions(args);
+			GeneratorConfiguration conf = new GeneratorConfigurationImpl();
+			conf.setNumberOfClasses(Integer.parseInt(args[1]));
+			conf.setNumberOfVariables(conf.getNumberOfClasses());
+			options.forEach((key, value) -> {
+				if (key.equals(ROLES_OPTION)) {
+					conf.setNumberOfRoles(Integer.parseInt(value));
+				} else if (key.equals(INDIVIDUALS_OPTION)) {
+					conf.setNumberOfIndividuals(Integer.parseInt(value));
+				} else if (key.equals(DEPTH_OPTION)) {
+					conf.setDepth(Integer.parseInt(value));
+				} else if (key.equals(FAN_OUT_OPTION)) {
+					conf.setFanOut(Integer.parseInt(value));
+				} else if (key.equals(EXISTENTIAL_DENSITY_OPTION)) {
+					conf.setExistentialDensity(Double.parseDouble(value));
+				} else if (key.equals(CONJUNCTION_RATIO_OPTION)) {
+					conf.setConjunctionRatio(Double.parseDouble(value));
+				} else if (key.equals(CYCLE_RATE_OPTION)) {
+					conf.setCycleRate(Double.parseDouble(value));
+				} else if (key.equals(VARIABLES_OPTION)) {
+					conf.setNumberOfVariables(Integer.parseInt(value));
+				} else if (key.equals(ANNOTATION_RATE_OPTION)) {
+					conf.setAnnotationRate(Double.parseDouble(value));
+				} else if (key.equals(SEED_OPTION)) {
+					conf.setSeed(Long.parseLong(value));
+				}
+			});
+
+			try {
+				OutputStream outputOntology = new FileOutputStream(ResourceUtil.ensurePath(args[0]));
+				conf.setOutputOntology(outputOntology);
+				OutputStream outputBayesianNetwork = null;
+				if (options.containsKey(NETWORK_OPTION)) {
+					outputBayesianNetwork = new FileOutputStream(ResourceUtil.ensurePath(options.get(NETWORK_OPTION)));
+					conf.setOutputBayesianNetwork(outputBayesianNetwork);
+				}
+
+				long count = new GeneratorCore().run(conf);
+
+				outputOntology.close();
+				if (Objects.nonNull(outputBayesianNetwork)) {
+					outputBayesianNetwork.close();
+				}
+				return "Axioms: " + count;
+
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		} else {
+			return getHelp();
+		}
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains classes and interfaces to generate synthetic EL
+ * ontologies of a given size, optionally with probabilistic annotations and a
+ * Bayesian network.
+ */
+package de.tudresden.inf.lat.born.owlapi.generator;
@@ -7,8 +7,11 @@ import java.util.TreeMap;
 import de.tudresden.inf.lat.born.core.term.SubApp;
 import de.tudresden.inf.lat.born.core.term.Symbol;
 import de.tudresden.inf.lat.born.owlapi.annotator.AnnotatorSubApp;
+import de.tudresden.inf.lat.born.owlapi.classifier.ClassifierSubApp;
+import de.tudresden.inf.lat.born.owlapi.generator.GeneratorSubApp;
 import de.tudresden.inf.lat.born.owlapi.multiprocessor.MultiProcessorSubApp;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorSubApp;
+import de.tudresden.inf.lat.born.owlapi.server.ServerSubApp;
 import de.tudresden.inf.lat.born.owlapi.splitter.SplitterSubApp;
 import de.tudresden.inf.lat.born.problog.connector.BayesianNetworkCreatorSubApp;
 
@@ -31,6 +34,9 @@ public class BornMain implements SubApp {
 		this.subAppMap.put(AnnotatorSubApp.COMMAND, new AnnotatorSubApp());
 		this.subAppMap.put(SplitterSubApp.COMMAND, new SplitterSubApp());
 		this.subAppMap.put(BayesianNetworkCreatorSubApp.COMMAND, new BayesianNetworkCreatorSubApp());
+		this.subAppMap.put(ClassifierSubApp.COMMAND, new ClassifierSubApp());
+		this.subAppMap.put(ServerSubApp.COMMAND, new ServerSubApp());
+		this.subAppMap.put(GeneratorSubApp.COMMAND, new GeneratorSubApp());
 	}
 
 	@Override
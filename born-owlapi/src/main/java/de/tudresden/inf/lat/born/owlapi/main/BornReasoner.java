@@ -7,26 +7,42 @@
 package de.tudresden.inf.lat.born.owlapi.main;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.reasoner.AxiomNotInProfileException;
 import org.semanticweb.owlapi.reasoner.BufferingMode;
 import org.semanticweb.owlapi.reasoner.ClassExpressionNotInProfileException;
@@ -45,9 +61,28 @@ import org.semanticweb.owlapi.reasoner.TimeOutException;
 import org.semanticweb.owlapi.reasoner.UnsupportedEntailmentTypeException;
 import org.semanticweb.owlapi.util.Version;
 
+import de.tudresden.inf.lat.born.core.event.FlightRecorderSupport;
+import de.tudresden.inf.lat.born.core.event.QueryProcessorEvent;
+import de.tudresden.inf.lat.born.core.metrics.MetricsRegistry;
+import de.tudresden.inf.lat.born.owlapi.annotator.AnnotationCreator;
+import de.tudresden.inf.lat.born.owlapi.processor.PreprocessedOntology;
+import de.tudresden.inf.lat.born.owlapi.processor.ProbabilityEvaluator;
+import de.tudresden.inf.lat.born.owlapi.processor.ProblogInputCreator;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorCore;
+import de.tudresden.inf.lat.jproblog.JProblog;
+
 /**
  * This class is the connection with the OWL API. It implements some functions,
  * and throws an exception for the unimplemented ones.
+ * <p>
+ * A reasoning task is stopped by {@link #interrupt()} and by the time out of
+ * the reasoner configuration, which interrupt the thread running the task.
+ * This only stops the Java side of the task. The query processor, like
+ * JProblog, starts the ProbLog process without giving access to it, so a
+ * ProbLog process that is already running is not destroyed. The task throws a
+ * {@link ReasonerInterruptedException} or a {@link TimeOutException} right
+ * away, but the ProbLog process keeps using CPU until it finishes, also while
+ * the next queries are processed, and its result is discarded.
  * 
  * @author Julian Mendez
  */
@@ -56,12 +91,81 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	private static final Logger logger = Logger.getLogger(BornReasoner.class.getName());
 
 	public static final String REASONER_NAME = "BORN";
-	private final boolean buffering = false;
+	public static final Double CERTAIN_PROBABILITY = 1.0;
+	private final boolean buffering;
 	private OWLReasonerConfiguration reasonerConfiguration = null;
 	private final OWLOntology rootOntology;
 	private final Date start = new Date();
-	private boolean isUpdateNeeded = false;
+	private final List<OWLOntologyChange> pendingChanges = new ArrayList<>();
+	private PreprocessedOntology preprocessedOntology = null;
+	private String bayesianNetwork = "";
+	private Function<String, String> queryProcessor = null;
+	private ProbabilityEvaluator probabilityEvaluator = null;
+	private ClassTaxonomy classTaxonomy = null;
+	private ClassTaxonomy certainClassTaxonomy = null;
 	private long timeOut = 0x100000000L;
+	private final Set<ReasoningTask> activeTasks = ConcurrentHashMap.newKeySet();
+	private final ThreadLocal<ReasoningTask> currentTask = new ThreadLocal<>();
+
+	private static final ScheduledExecutorService TIME_OUT_SCHEDULER = Executors
+			.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	/**
+	 * An object of this class is a reasoning task run by a thread. A task is
+	 * stopped by interrupting its thread, and it records whether it was
+	 * stopped because of a call to {@link BornReasoner#interrupt()} or because
+	 * of its time out.
+	 */
+	static class ReasoningTask {
+
+		private final Thread thread;
+		private boolean interrupted = false;
+		private boolean timedOut = false;
+		private boolean finished = false;
+
+		ReasoningTask(Thread thread) {
+			this.thread = thread;
+		}
+
+		synchronized boolean isInterrupted() {
+			return this.interrupted;
+		}
+
+		synchronized boolean isTimedOut() {
+			return this.timedOut;
+		}
+
+		/**
+		 * Stops this task, unless it is already finished.
+		 * 
+		 * @param timedOut
+		 *            <code>true</code> if the task is stopped because of its
+		 *            time out
+		 */
+		synchronized void stop(boolean timedOut) {
+			if (!this.finished) {
+				this.timedOut = this.timedOut || timedOut;
+				this.interrupted = this.interrupted || !timedOut;
+				this.thread.interrupt();
+			}
+		}
+
+		/**
+		 * Finishes this task. This must be called by the thread running the
+		 * task, and clears the interruption caused by stopping the task.
+		 */
+		synchronized void finish() {
+			this.finished = true;
+			if (this.interrupted || this.timedOut) {
+				Thread.interrupted();
+			}
+		}
+
+	}
 
 	/**
 	 * Constructs a new BORN reasoner.
@@ -75,8 +179,10 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 		Objects.requireNonNull(rootOntology);
 		logger.fine("configuring BORN reasoner ...");
 		this.rootOntology = rootOntology;
+		this.buffering = buffering;
 		logger.fine("resetting reasoner ...");
 		resetReasoner();
+		this.rootOntology.getOWLOntologyManager().addOntologyChangeListener(this);
 
 		logger.fine("BORN reasoner configured.");
 	}
@@ -96,33 +202,54 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 		Objects.requireNonNull(rootOntology);
 		Objects.requireNonNull(configuration);
 		this.reasonerConfiguration = configuration;
+		this.timeOut = configuration.getTimeOut();
 	}
 
-	public boolean addAxiom(OWLAxiom axiom) {
+	/**
+	 * Adds an axiom to the axioms used by the reasoner, without modifying the
+	 * root ontology.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @return <code>true</code> if and only if the axiom was not already used
+	 *         by the reasoner
+	 */
+	public synchronized boolean addAxiom(OWLAxiom axiom) {
 		Objects.requireNonNull(axiom);
 		logger.finer("addAxiom(" + axiom + ")");
-		if (!this.buffering) {
-			resetReasoner();
+		boolean ret = !getPreprocessedOntology().getAxioms().contains(axiom);
+		resetClassTaxonomies();
+		if (isIncrementalChange(axiom)) {
+			getPreprocessedOntology().addAxiom(axiom);
+			removeInvalidProbabilities();
+		} else {
+			Set<OWLAxiom> axioms = new HashSet<>(getPreprocessedOntology().getAxioms());
+			axioms.add(axiom);
+			rebuildPreprocessedOntology(axioms);
 		}
-		return true;
+		return ret;
 	}
 
 	@Override
-	public void dispose() {
+	public synchronized void dispose() {
 		logger.finer("dispose()");
 		this.rootOntology.getOWLOntologyManager().removeOntologyChangeListener(this);
+		this.pendingChanges.clear();
+		resetReasoner();
 	}
 
 	@Override
-	public void flush() {
+	public synchronized void flush() {
 		logger.finer("flush()");
-		resetReasoner();
+		List<OWLOntologyChange> changes = new ArrayList<>(this.pendingChanges);
+		this.pendingChanges.clear();
+		applyChanges(changes);
 	}
 
 	@Override
-	public Node<OWLClass> getBottomClassNode() {
+	public synchronized Node<OWLClass> getBottomClassNode() {
 		logger.finer("getBottomClassNode()");
-		throw new UnsupportedReasonerOperationInBornException("Unsupported operation : getBottomClassNode()");
+		return getClassTaxonomy().getBottomNode();
 	}
 
 	@Override
@@ -206,11 +333,10 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	}
 
 	@Override
-	public Node<OWLClass> getEquivalentClasses(OWLClassExpression classExpression) {
+	public synchronized Node<OWLClass> getEquivalentClasses(OWLClassExpression classExpression) {
 		Objects.requireNonNull(classExpression);
 		logger.finer("getEquivalentClasses(" + classExpression + ")");
-		throw new UnsupportedReasonerOperationInBornException(
-				"Unsupported operation :  getEquivalentClasses(OWLClassExpression)");
+		return getClassTaxonomy().getNode(asOWLClass(classExpression));
 	}
 
 	@Override
@@ -297,25 +423,30 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	}
 
 	@Override
-	public Set<OWLAxiom> getPendingAxiomAdditions() {
+	public synchronized Set<OWLAxiom> getPendingAxiomAdditions() {
 		logger.finer("getPendingAxiomAdditions()");
 		Set<OWLAxiom> ret = new HashSet<OWLAxiom>();
+		this.pendingChanges.stream().filter(change -> change.isAddAxiom())
+				.forEach(change -> ret.add(change.getAxiom()));
 		logger.finer("" + ret);
 		return Collections.unmodifiableSet(ret);
 	}
 
 	@Override
-	public Set<OWLAxiom> getPendingAxiomRemovals() {
+	public synchronized Set<OWLAxiom> getPendingAxiomRemovals() {
 		logger.finer("getPendingAxiomRemovals()");
 		Set<OWLAxiom> ret = new HashSet<OWLAxiom>();
+		this.pendingChanges.stream().filter(change -> change.isRemoveAxiom())
+				.forEach(change -> ret.add(change.getAxiom()));
 		logger.finer("" + ret);
 		return Collections.unmodifiableSet(ret);
 	}
 
 	@Override
-	public List<OWLOntologyChange> getPendingChanges() {
+	public synchronized List<OWLOntologyChange> getPendingChanges() {
 		logger.finer("getPendingChanges()");
 		List<OWLOntologyChange> ret = new ArrayList<OWLOntologyChange>();
+		ret.addAll(this.pendingChanges);
 		logger.finer("" + ret);
 		return Collections.unmodifiableList(ret);
 	}
@@ -334,6 +465,17 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 		return ret;
 	}
 
+	/**
+	 * Returns the metrics registry where this reasoner records the latencies
+	 * of its stages, which is shared by all the reasoners.
+	 *
+	 * @return the metrics registry where this reasoner records the latencies
+	 *         of its stages
+	 */
+	public MetricsRegistry getMetricsRegistry() {
+		return MetricsRegistry.getDefault();
+	}
+
 	public OWLReasonerConfiguration getReasonerConfiguration() {
 		return this.reasonerConfiguration;
 	}
@@ -377,11 +519,10 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	}
 
 	@Override
-	public NodeSet<OWLClass> getSubClasses(OWLClassExpression classExpression, boolean direct) {
+	public synchronized NodeSet<OWLClass> getSubClasses(OWLClassExpression classExpression, boolean direct) {
 		Objects.requireNonNull(classExpression);
 		logger.finer("getSubClasses(" + classExpression + ", " + direct + ")");
-		throw new UnsupportedReasonerOperationInBornException(
-				"Unsupported operation : getSubClasses(OWLClassExpression, boolean)");
+		return getClassTaxonomy().getSubClasses(asOWLClass(classExpression), direct);
 	}
 
 	@Override
@@ -405,13 +546,12 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	}
 
 	@Override
-	public NodeSet<OWLClass> getSuperClasses(OWLClassExpression classExpression, boolean direct)
+	public synchronized NodeSet<OWLClass> getSuperClasses(OWLClassExpression classExpression, boolean direct)
 			throws InconsistentOntologyException, ClassExpressionNotInProfileException, FreshEntitiesException,
 			ReasonerInterruptedException, TimeOutException {
 		Objects.requireNonNull(classExpression);
 		logger.finer("getSuperClasses(" + classExpression + ", " + direct + ")");
-		throw new UnsupportedReasonerOperationInBornException(
-				"Unsupported operation : getSuperClasses(OWLClassExpression, boolean)");
+		return getClassTaxonomy().getSuperClasses(asOWLClass(classExpression), direct);
 	}
 
 	@Override
@@ -443,9 +583,9 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	}
 
 	@Override
-	public Node<OWLClass> getTopClassNode() {
+	public synchronized Node<OWLClass> getTopClassNode() {
 		logger.finer("getTopClassNode()");
-		throw new UnsupportedReasonerOperationInBornException("Unsupported operation :  getTopClassNode() ");
+		return getClassTaxonomy().getTopNode();
 	}
 
 	@Override
@@ -471,71 +611,112 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	}
 
 	@Override
-	public Node<OWLClass> getUnsatisfiableClasses() throws ReasonerInterruptedException, TimeOutException {
+	public synchronized Node<OWLClass> getUnsatisfiableClasses() throws ReasonerInterruptedException, TimeOutException {
 		logger.finer("getUnsatisfiableClasses()");
-		throw new UnsupportedReasonerOperationInBornException("Unsupported operation : getUnsatisfiableClasses()");
+		return getClassTaxonomy().getBottomNode();
 	}
 
+	/**
+	 * Stops the reasoning tasks that are running. Only the threads running
+	 * them are interrupted, and a ProbLog process that is already running is
+	 * not destroyed.
+	 */
 	@Override
 	public void interrupt() {
 		logger.finer("interrupt()");
-		throw new UnsupportedReasonerOperationInBornException("Unsupported operation : interrupt()");
+		this.activeTasks.forEach(task -> task.stop(false));
 	}
 
 	@Override
-	public boolean isConsistent() throws ReasonerInterruptedException, TimeOutException {
+	public synchronized boolean isConsistent() throws ReasonerInterruptedException, TimeOutException {
 		logger.finer("isConsistent()");
-		throw new UnsupportedReasonerOperationInBornException("Unsupported operation : isConsistent()");
+		return getClassTaxonomy().isConsistent();
 	}
 
 	@Override
-	public boolean isEntailed(OWLAxiom axiom) throws ReasonerInterruptedException, UnsupportedEntailmentTypeException,
-			TimeOutException, AxiomNotInProfileException, FreshEntitiesException {
+	public synchronized boolean isEntailed(OWLAxiom axiom) throws ReasonerInterruptedException,
+			UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, FreshEntitiesException {
 		Objects.requireNonNull(axiom);
 		logger.finer("isEntailed((OWLAxiom) " + axiom + ")");
-		throw new UnsupportedReasonerOperationInBornException("Unsupported operation :  isEntailed(OWLAxiom)");
+		return isEntailed(getClassTaxonomy(), axiom);
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given axiom is entailed
+	 * according to the given class hierarchy.
+	 * 
+	 * @param taxonomy
+	 *            class hierarchy
+	 * @param axiom
+	 *            subsumption or equivalence between named classes
+	 * @return <code>true</code> if and only if the given axiom is entailed
+	 *         according to the given class hierarchy
+	 */
+	boolean isEntailed(ClassTaxonomy taxonomy, OWLAxiom axiom) {
+		if (axiom instanceof OWLSubClassOfAxiom) {
+			OWLSubClassOfAxiom subClassOfAxiom = (OWLSubClassOfAxiom) axiom;
+			return taxonomy.isSubsumedBy(asOWLClass(subClassOfAxiom.getSubClass()),
+					asOWLClass(subClassOfAxiom.getSuperClass()));
+		} else if (axiom instanceof OWLEquivalentClassesAxiom) {
+			OWLEquivalentClassesAxiom equivalentClassesAxiom = (OWLEquivalentClassesAxiom) axiom;
+			Set<Node<OWLClass>> nodes = new HashSet<>();
+			equivalentClassesAxiom.getClassExpressions()
+					.forEach(classExpression -> nodes.add(taxonomy.getNode(asOWLClass(classExpression))));
+			return nodes.size() <= 1;
+		} else {
+			throw new UnsupportedEntailmentTypeException(axiom);
+		}
 	}
 
 	@Override
-	public boolean isEntailed(Set<? extends OWLAxiom> axiomSet) throws ReasonerInterruptedException,
+	public synchronized boolean isEntailed(Set<? extends OWLAxiom> axiomSet) throws ReasonerInterruptedException,
 			UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, FreshEntitiesException {
 		Objects.requireNonNull(axiomSet);
 		logger.finer("isEntailed((Set<? extends OWLAxiom>) " + axiomSet + ")");
-		throw new UnsupportedReasonerOperationInBornException(
-				"Unsupported operation : isEntailed(Set<? extends OWLAxiom>)");
+		ClassTaxonomy taxonomy = getClassTaxonomy();
+		return axiomSet.stream().allMatch(axiom -> isEntailed(taxonomy, axiom));
 	}
 
 	@Override
 	public boolean isEntailmentCheckingSupported(AxiomType<?> axiomType) {
 		Objects.requireNonNull(axiomType);
 		logger.finer("isEntailmentCheckingSupported(" + axiomType + ")");
-		throw new UnsupportedReasonerOperationInBornException(
-				"Unsupported operation : isEntailmentCheckingSupported(AxiomType<?>)");
+		return axiomType.equals(AxiomType.SUBCLASS_OF) || axiomType.equals(AxiomType.EQUIVALENT_CLASSES);
 	}
 
 	@Override
-	public boolean isPrecomputed(InferenceType inferenceType) {
+	public synchronized boolean isPrecomputed(InferenceType inferenceType) {
 		Objects.requireNonNull(inferenceType);
 		logger.finer("isPrecomputed(" + inferenceType + ")");
-		throw new UnsupportedReasonerOperationInBornException("Unsupported operation : isPrecomputed()");
+		return inferenceType.equals(InferenceType.CLASS_HIERARCHY) && Objects.nonNull(this.classTaxonomy);
 	}
 
 	@Override
-	public boolean isSatisfiable(OWLClassExpression classExpression) {
+	public synchronized boolean isSatisfiable(OWLClassExpression classExpression) {
 		Objects.requireNonNull(classExpression);
 		logger.finer("isSatisfiable(" + classExpression + ")");
-		throw new UnsupportedReasonerOperationInBornException(
-				"Unsupported operation : isSatisfiable(OWLClassExpression)");
+		return getClassTaxonomy().isSatisfiable(asOWLClass(classExpression));
 	}
 
 	@Override
-	public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+	public synchronized void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
 		Objects.requireNonNull(changes);
-		// TODO not implemented
+		List<OWLOntologyChange> relevantChanges = new ArrayList<>();
+		changes.forEach(change -> {
+			if (change.isAxiomChange() && change.getOntology().equals(this.rootOntology)) {
+				relevantChanges.add(change);
+			}
+		});
+		logger.finer("ontologiesChanged(" + relevantChanges + ")");
+		if (this.buffering) {
+			this.pendingChanges.addAll(relevantChanges);
+		} else {
+			applyChanges(relevantChanges);
+		}
 	}
 
 	@Override
-	public void precomputeInferences(InferenceType... inferenceTypes)
+	public synchronized void precomputeInferences(InferenceType... inferenceTypes)
 			throws ReasonerInterruptedException, TimeOutException, InconsistentOntologyException {
 		Objects.requireNonNull(inferenceTypes);
 		logger.finer("precomputeInferences(" + inferenceTypes + ")");
@@ -544,31 +725,482 @@ public class BornReasoner implements OWLReasoner, OWLOntologyChangeListener {
 			this.reasonerConfiguration.getProgressMonitor().reasonerTaskBusy();
 		}
 
-		logger.finer("preparing ontology ...");
-		Date start = new Date();
-		resetReasoner();
-		logger.finer("BORN prepared the ontology in " + ((new Date()).getTime() - start.getTime()) + "ms");
-
-		if (Objects.nonNull(this.reasonerConfiguration)) {
-			this.reasonerConfiguration.getProgressMonitor().reasonerTaskStopped();
+		try {
+			runTask(() -> {
+				logger.finer("preparing ontology ...");
+				Date start = new Date();
+				getPreprocessedOntology();
+				logger.finer("BORN prepared the ontology in " + ((new Date()).getTime() - start.getTime()) + "ms");
+
+				if (Arrays.asList(inferenceTypes).contains(InferenceType.CLASS_HIERARCHY)) {
+					logger.finer("classifying ontology ...");
+					start = new Date();
+					getClassTaxonomy();
+					logger.finer(
+							"BORN classified the ontology in " + ((new Date()).getTime() - start.getTime()) + "ms");
+				}
+				return null;
+			});
+		} finally {
+			if (Objects.nonNull(this.reasonerConfiguration)) {
+				this.reasonerConfiguration.getProgressMonitor().reasonerTaskStopped();
+			}
 		}
 	}
 
-	public boolean removeAxiom(OWLAxiom axiom) {
+	/**
+	 * Removes an axiom from the axioms used by the reasoner, without modifying
+	 * the root ontology.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @return <code>true</code> if and only if the axiom was used by the
+	 *         reasoner
+	 */
+	public synchronized boolean removeAxiom(OWLAxiom axiom) {
 		Objects.requireNonNull(axiom);
 		logger.finer("removeAxiom(" + axiom + ")");
-		this.isUpdateNeeded = true;
-		if (!this.buffering) {
+		boolean ret = getPreprocessedOntology().getAxioms().contains(axiom);
+		resetClassTaxonomies();
+		if (isIncrementalChange(axiom)) {
+			getPreprocessedOntology().removeAxiom(axiom);
+			removeInvalidProbabilities();
+		} else {
+			Set<OWLAxiom> axioms = new HashSet<>(getPreprocessedOntology().getAxioms());
+			axioms.remove(axiom);
+			rebuildPreprocessedOntology(axioms);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given axiom can be added or
+	 * removed without preprocessing the whole ontology again. This is not
+	 * possible for axioms declaring inverse object properties, because they
+	 * change the normalization of the other axioms.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @return <code>true</code> if and only if the given axiom can be added or
+	 *         removed without preprocessing the whole ontology again
+	 */
+	boolean isIncrementalChange(OWLAxiom axiom) {
+		return !axiom.isOfType(AxiomType.INVERSE_OBJECT_PROPERTIES);
+	}
+
+	/**
+	 * Applies the given changes to the preprocessed ontology, if it has been
+	 * created.
+	 * 
+	 * @param changes
+	 *            changes
+	 */
+	void applyChanges(List<OWLOntologyChange> changes) {
+		if (Objects.nonNull(this.preprocessedOntology)) {
+			changes.forEach(change -> {
+				if (change.isAddAxiom()) {
+					addAxiom(change.getAxiom());
+				} else if (change.isRemoveAxiom()) {
+					removeAxiom(change.getAxiom());
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns the axioms of the root ontology, as they were before the pending
+	 * changes.
+	 * 
+	 * @return the axioms of the root ontology, as they were before the pending
+	 *         changes
+	 */
+	Set<OWLAxiom> getAxiomsWithoutPendingChanges() {
+		Set<OWLAxiom> ret = new HashSet<>(this.rootOntology.getAxioms());
+		List<OWLOntologyChange> changes = new ArrayList<>(this.pendingChanges);
+		Collections.reverse(changes);
+		changes.forEach(change -> {
+			if (change.isAddAxiom()) {
+				ret.remove(change.getAxiom());
+			} else if (change.isRemoveAxiom()) {
+				ret.add(change.getAxiom());
+			}
+		});
+		return ret;
+	}
+
+	void removeInvalidProbabilities() {
+		if (Objects.nonNull(this.probabilityEvaluator)) {
+			this.probabilityEvaluator.removeInvalidProbabilities();
+		}
+	}
+
+	PreprocessedOntology createPreprocessedOntology(Set<OWLAxiom> axioms) {
+		return runTask(
+				() -> new PreprocessedOntology(this.rootOntology.getOWLOntologyManager().getOWLDataFactory(), axioms));
+	}
+
+	/**
+	 * Replaces the preprocessed ontology by a new one created from the given
+	 * axioms. If the creation does not finish, the reasoner is reset, so that
+	 * the preprocessed ontology is created again from the root ontology when
+	 * it is needed.
+	 * 
+	 * @param axioms
+	 *            axioms
+	 */
+	void rebuildPreprocessedOntology(Set<OWLAxiom> axioms) {
+		try {
+			this.preprocessedOntology = createPreprocessedOntology(axioms);
+		} catch (RuntimeException e) {
 			resetReasoner();
+			throw e;
+		}
+	}
+
+	/**
+	 * Runs a reasoning task in the current thread. The task is stopped if
+	 * {@link #interrupt()} is called, or if it takes longer than the time out.
+	 * A task that is run inside another task shares the time out of the outer
+	 * task. The caches are only updated when the computations that produce
+	 * them are finished, so they remain consistent when a task is stopped.
+	 * 
+	 * @param supplier
+	 *            task
+	 * @param <T>
+	 *            type of the result
+	 * @return the result of the task
+	 * @throws ReasonerInterruptedException
+	 *             if the task was interrupted
+	 * @throws TimeOutException
+	 *             if the task took longer than the time out
+	 */
+	<T> T runTask(Supplier<T> supplier) throws ReasonerInterruptedException, TimeOutException {
+		if (Objects.nonNull(this.currentTask.get())) {
+			return supplier.get();
+		}
+		ReasoningTask task = new ReasoningTask(Thread.currentThread());
+		this.currentTask.set(task);
+		this.activeTasks.add(task);
+		ScheduledFuture<?> timer = (this.timeOut < Long.MAX_VALUE)
+				? TIME_OUT_SCHEDULER.schedule(() -> task.stop(true), this.timeOut, TimeUnit.MILLISECONDS) : null;
+		try {
+			return supplier.get();
+		} catch (RuntimeException e) {
+			if (task.isTimedOut()) {
+				throw new TimeOutException("The reasoner exceeded its time out of " + this.timeOut + " ms.", e);
+			} else if (task.isInterrupted()) {
+				throw new ReasonerInterruptedException(e);
+			} else {
+				throw e;
+			}
+		} finally {
+			if (Objects.nonNull(timer)) {
+				timer.cancel(false);
+			}
+			this.activeTasks.remove(task);
+			this.currentTask.remove();
+			task.finish();
+		}
+	}
+
+	/**
+	 * Returns the translated and normalized axioms used by this reasoner. They
+	 * are created the first time they are needed, and then they are updated
+	 * incrementally.
+	 * 
+	 * @return the translated and normalized axioms used by this reasoner
+	 */
+	public synchronized PreprocessedOntology getPreprocessedOntology() {
+		if (Objects.isNull(this.preprocessedOntology)) {
+			logger.fine("preprocessing ontology ...");
+			this.preprocessedOntology = createPreprocessedOntology(getAxiomsWithoutPendingChanges());
+			logger.fine("ontology preprocessed.");
 		}
-		return true;
+		return this.preprocessedOntology;
 	}
 
 	private void resetReasoner() {
-		if (isUpdateNeeded) {
-			// TO DO
+		this.preprocessedOntology = null;
+		this.probabilityEvaluator = null;
+		resetClassTaxonomies();
+	}
+
+	private void resetClassTaxonomies() {
+		this.classTaxonomy = null;
+		this.certainClassTaxonomy = null;
+	}
+
+	/**
+	 * Returns the classical class hierarchy of the ontology, where the
+	 * probabilistic annotations are ignored, i.e. every axiom is considered
+	 * possible. The hierarchy is computed the first time it is needed.
+	 * 
+	 * @return the classical class hierarchy of the ontology
+	 */
+	synchronized ClassTaxonomy getClassTaxonomy() {
+		if (Objects.isNull(this.classTaxonomy)) {
+			this.classTaxonomy = runTask(() -> ClassTaxonomy.classify(getPreprocessedOntology().getAxioms()));
+		}
+		return this.classTaxonomy;
+	}
+
+	/**
+	 * Returns the class hierarchy of the axioms that hold in every context,
+	 * i.e. the axioms without probabilistic annotations. A subsumption in this
+	 * hierarchy has probability 1. The hierarchy is computed the first time it
+	 * is needed.
+	 * 
+	 * @return the class hierarchy of the axioms that hold in every context
+	 */
+	synchronized ClassTaxonomy getCertainClassTaxonomy() {
+		if (Objects.isNull(this.certainClassTaxonomy)) {
+			this.certainClassTaxonomy = runTask(() -> {
+				IRI probabilityIri = IRI.create(AnnotationCreator.PROBABILITY_URI);
+				Set<OWLAxiom> certainAxioms = new HashSet<>();
+				getPreprocessedOntology().getAxioms().forEach(axiom -> {
+					if (axiom.getAnnotations().stream()
+							.noneMatch(annotation -> annotation.getProperty().getIRI().equals(probabilityIri))) {
+						certainAxioms.add(axiom);
+					}
+				});
+				return ClassTaxonomy.classify(certainAxioms);
+			});
+		}
+		return this.certainClassTaxonomy;
+	}
+
+	/**
+	 * Returns the Bayesian network used to compute probabilities.
+	 * 
+	 * @return the Bayesian network used to compute probabilities
+	 */
+	public synchronized String getBayesianNetwork() {
+		return this.bayesianNetwork;
+	}
+
+	/**
+	 * Sets the Bayesian network used to compute probabilities. This discards
+	 * the memoized probabilities.
+	 * 
+	 * @param bayesianNetwork
+	 *            Bayesian network
+	 */
+	public synchronized void setBayesianNetwork(String bayesianNetwork) {
+		Objects.requireNonNull(bayesianNetwork);
+		this.bayesianNetwork = bayesianNetwork;
+		this.probabilityEvaluator = null;
+	}
+
+	/**
+	 * Returns the query processor, which receives a ProbLog program and returns
+	 * the ProbLog output. By default, this is ProbLog itself.
+	 * 
+	 * @return the query processor
+	 */
+	public synchronized Function<String, String> getQueryProcessor() {
+		if (Objects.isNull(this.queryProcessor)) {
+			this.queryProcessor = new JProblog();
+		}
+		return this.queryProcessor;
+	}
+
+	/**
+	 * Sets the query processor. This discards the memoized probabilities.
+	 * 
+	 * @param queryProcessor
+	 *            query processor
+	 */
+	public synchronized void setQueryProcessor(Function<String, String> queryProcessor) {
+		Objects.requireNonNull(queryProcessor);
+		this.queryProcessor = queryProcessor;
+		this.probabilityEvaluator = null;
+	}
+
+	/**
+	 * Returns the probability evaluator for the current preprocessed ontology.
+	 * 
+	 * @return the probability evaluator for the current preprocessed ontology
+	 */
+	synchronized ProbabilityEvaluator getProbabilityEvaluator() {
+		if (Objects.isNull(this.probabilityEvaluator)
+				|| this.probabilityEvaluator.getPreprocessedOntology() != getPreprocessedOntology()) {
+			this.probabilityEvaluator = new ProbabilityEvaluator(getPreprocessedOntology(), this.bayesianNetwork,
+					getQueryProcessor());
+		}
+		return this.probabilityEvaluator;
+	}
+
+	OWLClass asOWLClass(OWLClassExpression classExpression) {
+		if (classExpression.isAnonymous()) {
+			throw new UnsupportedReasonerOperationInBornException(
+					"Only named classes are supported: '" + classExpression + "'.");
+		}
+		return classExpression.asOWLClass();
+	}
+
+	OWLNamedIndividual asOWLNamedIndividual(OWLIndividual individual) {
+		if (individual.isAnonymous()) {
+			throw new UnsupportedReasonerOperationInBornException(
+					"Only named individuals are supported: '" + individual + "'.");
 		}
-		this.isUpdateNeeded = false;
+		return individual.asOWLNamedIndividual();
+	}
+
+	/**
+	 * Returns the probability of the given subsumption.
+	 * 
+	 * @param axiom
+	 *            subsumption between named classes
+	 * @return the probability of the given subsumption
+	 */
+	public double getProbability(OWLSubClassOfAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		logger.finer("getProbability(" + axiom + ")");
+		return getProbabilities(Collections.singleton(axiom)).get(axiom);
+	}
+
+	/**
+	 * Returns the probability of the given class assertion.
+	 * 
+	 * @param axiom
+	 *            class assertion of a named individual and a named class
+	 * @return the probability of the given class assertion
+	 */
+	public double getProbability(OWLClassAssertionAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		logger.finer("getProbability(" + axiom + ")");
+		return getProbabilities(Collections.singleton(axiom)).get(axiom);
+	}
+
+	/**
+	 * Returns the probabilities of the given subsumptions and class
+	 * assertions. The probabilities that are not memoized are computed with a
+	 * single execution of the query processor. The query processor is
+	 * executed without locking the reasoner, so several threads can compute
+	 * probabilities at the same time if the query processor allows it. The
+	 * computation is stopped by {@link #interrupt()} and by the time out, and
+	 * the wait for the query processor is stopped as well, but not the ProbLog
+	 * process that is already running.
+	 * 
+	 * @param axioms
+	 *            subsumptions between named classes and class assertions of
+	 *            named individuals and named classes
+	 * @return a map from the given axioms to their probabilities
+	 */
+	public Map<OWLAxiom, Double> getProbabilities(Collection<? extends OWLAxiom> axioms)
+			throws ReasonerInterruptedException, TimeOutException {
+		Objects.requireNonNull(axioms);
+		logger.finer("getProbabilities(" + axioms.size() + " axioms)");
+		return runTask(() -> {
+			ProbabilityRequest request = prepareProbabilities(axioms);
+			ProbabilityEvaluator.Computation computation = request.getComputation();
+			String output = computation.isComplete() ? ""
+					: process(request.getEvaluator().getQueryProcessor(), computation.getProgram(),
+							request.getTerms().values());
+			Map<String, Double> probabilities = completeProbabilities(request, output);
+
+			Map<OWLAxiom, Double> ret = new LinkedHashMap<>();
+			axioms.forEach(axiom -> ret.put(axiom, request.getCertainAxioms().contains(axiom) ? CERTAIN_PROBABILITY
+					: probabilities.get(request.getTerms().get(axiom))));
+			return ret;
+		});
+	}
+
+	/**
+	 * Applies the query processor to a ProbLog program, recording its latency
+	 * and, if possible, a Java Flight Recorder event.
+	 *
+	 * @param queryProcessor
+	 *            query processor
+	 * @param program
+	 *            ProbLog program
+	 * @param terms
+	 *            ProbLog terms queried by the program
+	 * @return the output of the query processor
+	 */
+	String process(Function<String, String> queryProcessor, String program, Collection<String> terms) {
+		QueryProcessorEvent event = FlightRecorderSupport.isAvailable()
+				? new QueryProcessorEvent(ProblogInputCreator.getOntologyName(this.rootOntology)) : null;
+		String ret = MetricsRegistry.getDefault().getHistogram(ProcessorCore.QUERY_PROCESSOR_METRIC)
+				.time(() -> queryProcessor.apply(program));
+		if (Objects.nonNull(event)) {
+			event.end(program.getBytes().length, String.join(" ", terms));
+		}
+		return ret;
+	}
+
+	/**
+	 * An object of this class keeps the state of a probability request between
+	 * its preparation and its completion.
+	 */
+	static class ProbabilityRequest {
+
+		private final ProbabilityEvaluator evaluator;
+		private final Map<OWLAxiom, String> terms = new LinkedHashMap<>();
+		private final Set<OWLAxiom> certainAxioms = new HashSet<>();
+		private ProbabilityEvaluator.Computation computation;
+
+		ProbabilityRequest(ProbabilityEvaluator evaluator) {
+			this.evaluator = evaluator;
+		}
+
+		ProbabilityEvaluator getEvaluator() {
+			return this.evaluator;
+		}
+
+		Map<OWLAxiom, String> getTerms() {
+			return this.terms;
+		}
+
+		Set<OWLAxiom> getCertainAxioms() {
+			return this.certainAxioms;
+		}
+
+		ProbabilityEvaluator.Computation getComputation() {
+			return this.computation;
+		}
+
+		void setComputation(ProbabilityEvaluator.Computation computation) {
+			this.computation = computation;
+		}
+
+	}
+
+	synchronized ProbabilityRequest prepareProbabilities(Collection<? extends OWLAxiom> axioms) {
+		ProbabilityEvaluator evaluator = getProbabilityEvaluator();
+		ProbabilityRequest ret = new ProbabilityRequest(evaluator);
+		Map<String, Set<Integer>> queries = new LinkedHashMap<>();
+		axioms.forEach(axiom -> {
+			if (axiom instanceof OWLSubClassOfAxiom) {
+				OWLSubClassOfAxiom subClassOfAxiom = (OWLSubClassOfAxiom) axiom;
+				OWLClass subClass = asOWLClass(subClassOfAxiom.getSubClass());
+				OWLClass superClass = asOWLClass(subClassOfAxiom.getSuperClass());
+				if (getCertainClassTaxonomy().isSubsumedBy(subClass, superClass)) {
+					// this subsumption holds in every context
+					ret.getCertainAxioms().add(axiom);
+				} else {
+					String term = evaluator.getSubsumptionTerm(subClass, superClass);
+					ret.getTerms().put(axiom, term);
+					queries.put(term, evaluator.getSubsumptionSeed(subClass));
+				}
+			} else if (axiom instanceof OWLClassAssertionAxiom) {
+				OWLClassAssertionAxiom classAssertionAxiom = (OWLClassAssertionAxiom) axiom;
+				OWLNamedIndividual individual = asOWLNamedIndividual(classAssertionAxiom.getIndividual());
+				String term = evaluator.getInstanceTerm(individual,
+						asOWLClass(classAssertionAxiom.getClassExpression()));
+				ret.getTerms().put(axiom, term);
+				queries.put(term, evaluator.getInstanceSeed(individual));
+			} else {
+				throw new UnsupportedReasonerOperationInBornException(
+						"Unsupported operation : getProbability(" + axiom + ")");
+			}
+		});
+		ret.setComputation(evaluator.prepare(queries));
+		return ret;
+	}
+
+	synchronized Map<String, Double> completeProbabilities(ProbabilityRequest request, String output) {
+		return request.getEvaluator().complete(request.getComputation(), output);
 	}
 
 }
@@ -0,0 +1,269 @@
+package de.tudresden.inf.lat.born.owlapi.main;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+import org.semanticweb.owlapi.reasoner.Node;
+import org.semanticweb.owlapi.reasoner.NodeSet;
+import org.semanticweb.owlapi.reasoner.impl.OWLClassNode;
+import org.semanticweb.owlapi.reasoner.impl.OWLClassNodeSet;
+
+import de.tudresden.inf.lat.born.owlapi.processor.ProblogInputCreator;
+import de.tudresden.inf.lat.jcel.owlapi.main.JcelReasoner;
+
+/**
+ * An object of this class is a classical class hierarchy of an ontology. It is
+ * computed once with jcel, and then it is kept in maps, so that the direct
+ * super and sub classes of each class can be found in constant time. The
+ * indirect super and sub classes are computed the first time they are
+ * requested, and then kept.
+ *
+ * @author Julian Mendez
+ *
+ */
+class ClassTaxonomy {
+
+	private static final Logger logger = Logger.getLogger(ClassTaxonomy.class.getName());
+
+	private final boolean consistent;
+	private final Node<OWLClass> topNode;
+	private final Node<OWLClass> bottomNode;
+	private final Map<OWLClass, Node<OWLClass>> nodeMap = new HashMap<>();
+	private final Map<Node<OWLClass>, Set<Node<OWLClass>>> directSuperNodes = new HashMap<>();
+	private final Map<Node<OWLClass>, Set<Node<OWLClass>>> directSubNodes = new HashMap<>();
+	private final Map<Node<OWLClass>, Set<Node<OWLClass>>> superNodes = new HashMap<>();
+	private final Map<Node<OWLClass>, Set<Node<OWLClass>>> subNodes = new HashMap<>();
+
+	/**
+	 * Classifies the given axioms, ignoring their annotations, and returns the
+	 * class hierarchy. The classification stops with a cancellation exception
+	 * if the current thread is interrupted before or after jcel classifies the
+	 * axioms.
+	 *
+	 * @param axioms
+	 *            axioms
+	 * @return the class hierarchy of the given axioms
+	 */
+	static ClassTaxonomy classify(Set<OWLAxiom> axioms) {
+		Objects.requireNonNull(axioms);
+		long start = System.nanoTime();
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		Set<OWLAxiom> axiomsWithoutAnnotations = new HashSet<>();
+		axioms.forEach(axiom -> axiomsWithoutAnnotations.add(axiom.getAxiomWithoutAnnotations()));
+		try {
+			OWLOntology ontology = manager.createOntology(axiomsWithoutAnnotations);
+			ProblogInputCreator.checkInterruption();
+			JcelReasoner reasoner = new JcelReasoner(ontology, false);
+			reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY);
+			ProblogInputCreator.checkInterruption();
+			ClassTaxonomy ret = new ClassTaxonomy(reasoner, ontology.getClassesInSignature(),
+					manager.getOWLDataFactory());
+			reasoner.dispose();
+			logger.fine("classified " + axioms.size() + " axioms in " + (System.nanoTime() - start) + " ns");
+			return ret;
+		} catch (OWLOntologyCreationException e) {
+			throw new BornReasonerException(e);
+		}
+	}
+
+	/**
+	 * Constructs a new class taxonomy using a reasoner that has already
+	 * classified the ontology.
+	 *
+	 * @param reasoner
+	 *            jcel reasoner
+	 * @param classes
+	 *            classes of the ontology
+	 * @param dataFactory
+	 *            OWL data factory
+	 */
+	ClassTaxonomy(JcelReasoner reasoner, Set<OWLClass> classes, OWLDataFactory dataFactory) {
+		Objects.requireNonNull(reasoner);
+		Objects.requireNonNull(classes);
+		Objects.requireNonNull(dataFactory);
+		this.consistent = reasoner.isConsistent();
+
+		Set<OWLClass> allClasses = new HashSet<>(classes);
+		allClasses.add(dataFactory.getOWLThing());
+		allClasses.add(dataFactory.getOWLNothing());
+		allClasses.forEach(cls -> {
+			if (!this.nodeMap.containsKey(cls)) {
+				Node<OWLClass> node = reasoner.getEquivalentClasses(cls);
+				node.getEntities().forEach(equivalentClass -> this.nodeMap.put(equivalentClass, node));
+				this.nodeMap.put(cls, node);
+			}
+		});
+		this.topNode = this.nodeMap.get(dataFactory.getOWLThing());
+		this.bottomNode = this.nodeMap.get(dataFactory.getOWLNothing());
+
+		new HashSet<>(this.nodeMap.values()).forEach(node -> {
+			OWLClass representative = node.getRepresentativeElement();
+			this.directSuperNodes.put(node, getNodes(reasoner.getSuperClasses(representative, true)));
+			this.directSubNodes.put(node, getNodes(reasoner.getSubClasses(representative, true)));
+		});
+	}
+
+	Set<Node<OWLClass>> getNodes(NodeSet<OWLClass> nodeSet) {
+		Set<Node<OWLClass>> ret = new HashSet<>();
+		nodeSet.getNodes().forEach(node -> {
+			Node<OWLClass> knownNode = this.nodeMap.get(node.getRepresentativeElement());
+			ret.add(Objects.isNull(knownNode) ? node : knownNode);
+		});
+		return Collections.unmodifiableSet(ret);
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the ontology is consistent.
+	 *
+	 * @return <code>true</code> if and only if the ontology is consistent
+	 */
+	boolean isConsistent() {
+		return this.consistent;
+	}
+
+	/**
+	 * Returns the node of the top class.
+	 *
+	 * @return the node of the top class
+	 */
+	Node<OWLClass> getTopNode() {
+		return this.topNode;
+	}
+
+	/**
+	 * Returns the node of the bottom class, which contains the unsatisfiable
+	 * classes.
+	 *
+	 * @return the node of the bottom class
+	 */
+	Node<OWLClass> getBottomNode() {
+		return this.bottomNode;
+	}
+
+	/**
+	 * Returns the node of the classes equivalent to the given class. A class
+	 * that does not occur in the ontology is only equivalent to itself.
+	 *
+	 * @param cls
+	 *            class
+	 * @return the node of the classes equivalent to the given class
+	 */
+	Node<OWLClass> getNode(OWLClass cls) {
+		Objects.requireNonNull(cls);
+		Node<OWLClass> ret = this.nodeMap.get(cls);
+		return Objects.isNull(ret) ? new OWLClassNode(cls) : ret;
+	}
+
+	/**
+	 * Returns the super classes of the given class.
+	 *
+	 * @param cls
+	 *            class
+	 * @param direct
+	 *            <code>true</code> if only the direct super classes are
+	 *            requested
+	 * @return the super classes of the given class
+	 */
+	NodeSet<OWLClass> getSuperClasses(OWLClass cls, boolean direct) {
+		return new OWLClassNodeSet(getSuperNodes(getNode(cls), direct));
+	}
+
+	/**
+	 * Returns the sub classes of the given class.
+	 *
+	 * @param cls
+	 *            class
+	 * @param direct
+	 *            <code>true</code> if only the direct sub classes are requested
+	 * @return the sub classes of the given class
+	 */
+	NodeSet<OWLClass> getSubClasses(OWLClass cls, boolean direct) {
+		return new OWLClassNodeSet(getSubNodes(getNode(cls), direct));
+	}
+
+	Set<Node<OWLClass>> getSuperNodes(Node<OWLClass> node, boolean direct) {
+		if (!this.directSuperNodes.containsKey(node)) {
+			return node.equals(this.topNode) ? Collections.emptySet() : Collections.singleton(this.topNode);
+		} else if (direct) {
+			return this.directSuperNodes.get(node);
+		} else {
+			return getClosure(node, this.directSuperNodes, this.superNodes);
+		}
+	}
+
+	Set<Node<OWLClass>> getSubNodes(Node<OWLClass> node, boolean direct) {
+		if (!this.directSubNodes.containsKey(node)) {
+			return node.equals(this.bottomNode) ? Collections.emptySet() : Collections.singleton(this.bottomNode);
+		} else if (direct) {
+			return this.directSubNodes.get(node);
+		} else {
+			return getClosure(node, this.directSubNodes, this.subNodes);
+		}
+	}
+
+	Set<Node<OWLClass>> getClosure(Node<OWLClass> node, Map<Node<OWLClass>, Set<Node<OWLClass>>> directMap,
+			Map<Node<OWLClass>, Set<Node<OWLClass>>> closureMap) {
+		Set<Node<OWLClass>> ret = closureMap.get(node);
+		if (Objects.isNull(ret)) {
+			Set<Node<OWLClass>> visited = new HashSet<>();
+			Deque<Node<OWLClass>> toVisit = new ArrayDeque<>(directMap.get(node));
+			while (!toVisit.isEmpty()) {
+				Node<OWLClass> current = toVisit.pop();
+				if (visited.add(current)) {
+					Set<Node<OWLClass>> next = directMap.get(current);
+					if (Objects.nonNull(next)) {
+						toVisit.addAll(next);
+					}
+				}
+			}
+			ret = Collections.unmodifiableSet(visited);
+			closureMap.put(node, ret);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given class is satisfiable.
+	 *
+	 * @param cls
+	 *            class
+	 * @return <code>true</code> if and only if the given class is satisfiable
+	 */
+	boolean isSatisfiable(OWLClass cls) {
+		return !getNode(cls).equals(this.bottomNode);
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the sub class is subsumed by
+	 * the super class.
+	 *
+	 * @param subClass
+	 *            sub class
+	 * @param superClass
+	 *            super class
+	 * @return <code>true</code> if and only if the sub class is subsumed by the
+	 *         super class
+	 */
+	boolean isSubsumedBy(OWLClass subClass, OWLClass superClass) {
+		Node<OWLClass> subNode = getNode(subClass);
+		Node<OWLClass> superNode = getNode(superClass);
+		return subNode.equals(superNode) || subNode.equals(this.bottomNode) || superNode.equals(this.topNode)
+				|| getSuperNodes(subNode, false).contains(superNode);
+	}
+
+}
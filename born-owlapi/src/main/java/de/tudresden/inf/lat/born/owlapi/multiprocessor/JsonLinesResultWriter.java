@@ -0,0 +1,196 @@
+package de.tudresden.inf.lat.born.owlapi.multiprocessor;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Objects;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.owlapi.processor.ProbabilityEvaluator;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResult;
+
+/**
+ * An object of this class writes the results of queries in JSON Lines format,
+ * i.e. one JSON object per line and per query. Each object is written as soon
+ * as its query is finished, and nothing is kept in memory, so that the output
+ * can be read while the queries are still being processed.
+ * <p>
+ * Each object has the following fields: <code>ontology</code>,
+ * <code>bayesian_network</code>, <code>sub_class</code>,
+ * <code>super_class</code>, <code>query</code>, <code>probability</code> (a
+ * number, or <code>null</code> if ProbLog did not return one),
+ * <code>timed_out</code>, <code>translation_time</code>,
+ * <code>normalization_time</code>, <code>module_extraction_time</code>,
+ * <code>problog_reasoning_time</code>, <code>total_time</code> (all in
+ * nanoseconds), <code>ontology_size</code>,
+ * <code>normalized_ontology_size</code>, <code>module_size</code>,
+ * <code>translation_cpu_time</code>, <code>translation_allocated_bytes</code>,
+ * <code>normalization_cpu_time</code>,
+ * <code>normalization_allocated_bytes</code>,
+ * <code>module_extraction_cpu_time</code>,
+ * <code>module_extraction_allocated_bytes</code>,
+ * <code>problog_reasoning_cpu_time</code>,
+ * <code>problog_reasoning_allocated_bytes</code>, and <code>program_size</code>
+ * (CPU times in nanoseconds, and sizes in bytes, where -1 means that the value
+ * could not be measured).
+ * <p>
+ * There are no fields telling whether a module or a result comes from a
+ * cache, or whether a stage was skipped, because every query of an experiment
+ * goes through all the stages, including ProbLog. The module cache and the
+ * memoized probabilities of {@link ProbabilityEvaluator} are only used by the
+ * reasoner.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class JsonLinesResultWriter implements Closeable {
+
+	public static final String JSON_LINES_EXTENSION = ".jsonl";
+
+	static final char QUOTATION_MARK_CHAR = '"';
+	static final char BACKSLASH_CHAR = '\\';
+	static final char OPEN_BRACE_CHAR = '{';
+	static final char CLOSE_BRACE_CHAR = '}';
+	static final String NULL_VALUE = "null";
+
+	private final Writer output;
+	private boolean firstField = true;
+	private long numberOfResults = 0;
+
+	/**
+	 * Constructs a new JSON Lines result writer.
+	 *
+	 * @param output
+	 *            output
+	 */
+	public JsonLinesResultWriter(Writer output) {
+		Objects.requireNonNull(output);
+		this.output = new BufferedWriter(output);
+	}
+
+	/**
+	 * Returns the number of results written.
+	 *
+	 * @return the number of results written
+	 */
+	public long getNumberOfResults() {
+		return this.numberOfResults;
+	}
+
+	/**
+	 * Returns the probability given by ProbLog for a query, or
+	 * <code>null</code> if there is none.
+	 *
+	 * @param result
+	 *            output of ProbLog for one query
+	 * @return the probability given by ProbLog for a query, or
+	 *         <code>null</code> if there is none
+	 */
+	Double getProbability(String result) {
+		Map<String, Double> probabilities = ProbabilityEvaluator.parseResult(result);
+		return probabilities.isEmpty() ? null : probabilities.values().iterator().next();
+	}
+
+	/**
+	 * Writes the result of one query as a line, and flushes the output.
+	 *
+	 * @param ontPair
+	 *            ontology-network pair
+	 * @param query
+	 *            query
+	 * @param executionResult
+	 *            execution result
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public void write(OntologyAndNetwork ontPair, SubsumptionQuery query, ProcessorExecutionResult executionResult)
+			throws IOException {
+		Objects.requireNonNull(ontPair);
+		Objects.requireNonNull(query);
+		Objects.requireNonNull(executionResult);
+		this.firstField = true;
+		this.output.write(OPEN_BRACE_CHAR);
+		writeString("ontology", ontPair.getOntologyName() + MultiProcessorCore.OWL_EXTENSION);
+		writeString("bayesian_network", ontPair.getOntologyName() + MultiProcessorCore.PL_EXTENSION);
+		writeString("sub_class", query.getSubClass().getIRI().toString());
+		writeString("super_class", query.getSuperClass().getIRI().toString());
+		writeString("query", query.asProblogString());
+		Double probability = getProbability(executionResult.getResult());
+		writeValue("probability", (Objects.isNull(probability) || probability.isNaN() || probability.isInfinite())
+				? NULL_VALUE : "" + probability);
+		writeValue("timed_out", "" + executionResult.isTimedOut());
+		writeValue("translation_time", "" + executionResult.getTranslationTime());
+		writeValue("normalization_time", "" + executionResult.getNormalizationTime());
+		writeValue("module_extraction_time", "" + executionResult.getModuleExtractionTime());
+		writeValue("problog_reasoning_time", "" + executionResult.getProblogReasoningTime());
+		writeValue("total_time", "" + executionResult.getTotalTime());
+		writeValue("ontology_size", "" + executionResult.getOntologySize());
+		writeValue("normalized_ontology_size", "" + executionResult.getNormalizedOntologySize());
+		writeValue("module_size", "" + executionResult.getModuleSize());
+		writeValue("translation_cpu_time", "" + executionResult.getTranslationCpuTime());
+		writeValue("translation_allocated_bytes", "" + executionResult.getTranslationAllocatedBytes());
+		writeValue("normalization_cpu_time", "" + executionResult.getNormalizationCpuTime());
+		writeValue("normalization_allocated_bytes", "" + executionResult.getNormalizationAllocatedBytes());
+		writeValue("module_extraction_cpu_time", "" + executionResult.getModuleExtractionCpuTime());
+		writeValue("module_extraction_allocated_bytes", "" + executionResult.getModuleExtractionAllocatedBytes());
+		writeValue("problog_reasoning_cpu_time", "" + executionResult.getProblogReasoningCpuTime());
+		writeValue("problog_reasoning_allocated_bytes", "" + executionResult.getProblogReasoningAllocatedBytes());
+		writeValue("program_size", "" + executionResult.getProgramSize());
+		this.output.write(CLOSE_BRACE_CHAR);
+		this.output.write(Symbol.NEW_LINE_CHAR);
+		this.output.flush();
+		this.numberOfResults++;
+	}
+
+	void writeName(String name) throws IOException {
+		if (!this.firstField) {
+			this.output.write(Symbol.COMMA_CHAR);
+		}
+		this.firstField = false;
+		writeQuoted(name);
+		this.output.write(Symbol.COLON_CHAR);
+	}
+
+	void writeValue(String name, String value) throws IOException {
+		writeName(name);
+		this.output.write(value);
+	}
+
+	void writeString(String name, String value) throws IOException {
+		writeName(name);
+		writeQuoted(value);
+	}
+
+	/**
+	 * Writes a JSON string, escaping the characters that cannot appear
+	 * unescaped.
+	 *
+	 * @param str
+	 *            string
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	void writeQuoted(String str) throws IOException {
+		this.output.write(QUOTATION_MARK_CHAR);
+		for (int index = 0; index < str.length(); index++) {
+			char ch = str.charAt(index);
+			if (ch == QUOTATION_MARK_CHAR || ch == BACKSLASH_CHAR) {
+				this.output.write(BACKSLASH_CHAR);
+				this.output.write(ch);
+			} else if (ch < 0x20) {
+				this.output.write(String.format("\\u%04x", (int) ch));
+			} else {
+				this.output.write(ch);
+			}
+		}
+		this.output.write(QUOTATION_MARK_CHAR);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.output.close();
+	}
+
+}
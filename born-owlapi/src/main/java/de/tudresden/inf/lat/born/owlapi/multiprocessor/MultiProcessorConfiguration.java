@@ -56,6 +56,25 @@ public interface MultiProcessorConfiguration {
 	 */
 	void setNumberOfQueries(int numberOfQueries);
 
+	/**
+	 * Returns the number of ontologies that are read in parallel while the
+	 * queries of the current ontology are processed.
+	 * 
+	 * @return the number of ontologies that are read in parallel while the
+	 *         queries of the current ontology are processed
+	 */
+	int getLookAhead();
+
+	/**
+	 * Sets the number of ontologies that are read in parallel while the
+	 * queries of the current ontology are processed. If it is 0, each ontology
+	 * is read when its queries are processed.
+	 * 
+	 * @param lookAhead
+	 *            number of ontologies that are read in advance
+	 */
+	void setLookAhead(int lookAhead);
+
 	/**
 	 * Returns the seed for the pseudorandom number generator.
 	 * 
@@ -20,6 +20,7 @@ public class MultiProcessorConfigurationImpl implements MultiProcessorConfigurat
 	private boolean showingLog = true;
 	private int seed = 1;
 	private int numberOfQueries = 1;
+	private int lookAhead = MultiProcessorCore.DEFAULT_LOOK_AHEAD;
 
 	@Override
 	public List<OntologyAndNetwork> getOntologyList() {
@@ -53,6 +54,19 @@ public class MultiProcessorConfigurationImpl implements MultiProcessorConfigurat
 		this.numberOfQueries = numberOfQueries;
 	}
 
+	@Override
+	public int getLookAhead() {
+		return lookAhead;
+	}
+
+	@Override
+	public void setLookAhead(int lookAhead) {
+		if (lookAhead < 0) {
+			throw new IllegalArgumentException("Look-ahead cannot be negative: " + lookAhead + ".");
+		}
+		this.lookAhead = lookAhead;
+	}
+
 	@Override
 	public int getSeed() {
 		return seed;
@@ -94,6 +108,7 @@ public class MultiProcessorConfigurationImpl implements MultiProcessorConfigurat
 			MultiProcessorConfiguration other = (MultiProcessorConfiguration) obj;
 			return getOntologyList().equals(other.getOntologyList())
 					&& (getNumberOfQueries() == other.getNumberOfQueries()) && (getSeed() == other.getSeed())
+					&& (getLookAhead() == other.getLookAhead())
 					&& getOutputDirectory().equals(other.getOutputDirectory())
 					&& getQueryProcessor().equals(other.getQueryProcessor())
 					&& (isShowingLog() == other.isShowingLog());
@@ -108,7 +123,8 @@ public class MultiProcessorConfigurationImpl implements MultiProcessorConfigurat
 	@Override
 	public String toString() {
 		return this.ontologyList.size() + " ontologies, number of queries=" + this.numberOfQueries + ", seed="
-				+ this.seed + " " + this.outputDirectory + " " + this.queryProcessor + " " + this.showingLog;
+				+ this.seed + ", look-ahead=" + this.lookAhead + " " + this.outputDirectory + " " + this.queryProcessor
+				+ " " + this.showingLog;
 	}
 
 }
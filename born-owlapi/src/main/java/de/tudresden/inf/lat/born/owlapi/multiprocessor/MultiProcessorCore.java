@@ -1,24 +1,33 @@
 package de.tudresden.inf.lat.born.owlapi.multiprocessor;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileReader;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
 import de.tudresden.inf.lat.born.core.term.Symbol;
@@ -45,10 +54,20 @@ public class MultiProcessorCore {
 	public static final String LOG_EXTENSION = ".log";
 	public static final String OWL_EXTENSION = ".owl";
 	public static final String PL_EXTENSION = ".pl";
+	public static final int DEFAULT_LOOK_AHEAD = 2;
+
+	private static final ThreadFactory DAEMON_THREAD_FACTORY = runnable -> {
+		Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+		thread.setDaemon(true);
+		return thread;
+	};
 
 	public static final String[] FIRST_LINE = { "ontology file name", "Bayesian network file name", "sub class",
 			"super class", "query", "result", "translation time", "normalization time", "module extraction time",
-			"ProbLog reasoning time", "total time", "ontology size", "normalized ontology size", "module size" };
+			"ProbLog reasoning time", "total time", "ontology size", "normalized ontology size", "module size",
+			"translation CPU time", "translation allocated bytes", "normalization CPU time",
+			"normalization allocated bytes", "module extraction CPU time", "module extraction allocated bytes",
+			"ProbLog reasoning CPU time", "ProbLog reasoning allocated bytes", "program size" };
 	public static final List<String> FIRST_LINE_LIST = Arrays.asList(FIRST_LINE);
 
 	/**
@@ -141,6 +160,15 @@ public class MultiProcessorCore {
 		ret.add("" + executionResult.getOntologySize());
 		ret.add("" + executionResult.getNormalizedOntologySize());
 		ret.add("" + executionResult.getModuleSize());
+		ret.add("" + executionResult.getTranslationCpuTime());
+		ret.add("" + executionResult.getTranslationAllocatedBytes());
+		ret.add("" + executionResult.getNormalizationCpuTime());
+		ret.add("" + executionResult.getNormalizationAllocatedBytes());
+		ret.add("" + executionResult.getModuleExtractionCpuTime());
+		ret.add("" + executionResult.getModuleExtractionAllocatedBytes());
+		ret.add("" + executionResult.getProblogReasoningCpuTime());
+		ret.add("" + executionResult.getProblogReasoningAllocatedBytes());
+		ret.add("" + executionResult.getProgramSize());
 		return ret;
 	}
 
@@ -154,27 +182,105 @@ public class MultiProcessorCore {
 		return str;
 	}
 
+	/**
+	 * Returns the configuration to process the queries of one
+	 * ontology-network pair.
+	 * 
+	 * @param conf
+	 *            multi processor configuration
+	 * @param ontPair
+	 *            ontology-network pair
+	 * @return the configuration to process the queries of one
+	 *         ontology-network pair
+	 */
+	ProcessorConfiguration createConfiguration(MultiProcessorConfiguration conf, OntologyAndNetwork ontPair) {
+		String temporaryFileName = conf.getOutputDirectory() + FILE_SEPARATOR + ontPair.getOntologyName()
+				+ TEMP_FILE_SUFFIX;
+		ProcessorConfiguration ret = new ProcessorConfigurationImpl();
+		ret.setOntology(ontPair.getOntology());
+		ret.setBayesianNetwork(ontPair.getBayesianNetwork());
+		ret.setOutputFileName(temporaryFileName);
+		ret.setQueryProcessor(conf.getQueryProcessor());
+		ret.setShowingLog(conf.isShowingLog());
+		return ret;
+	}
+
+	void await(Future<?> future) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else {
+				throw new RuntimeException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Applies the given action to each ontology-network pair, in order. While
+	 * the action is applied to one pair, the next pairs given by the
+	 * look-ahead are read in parallel. Each pair is released after the action,
+	 * even if the action fails, so that only a few ontologies are in memory at
+	 * the same time.
+	 * 
+	 * @param conf
+	 *            configuration
+	 * @param action
+	 *            action
+	 */
+	void forEachOntology(MultiProcessorConfiguration conf, Consumer<OntologyAndNetwork> action) {
+		List<OntologyAndNetwork> ontologyList = conf.getOntologyList();
+		int lookAhead = conf.getLookAhead();
+		ExecutorService loader = (lookAhead > 0) ? Executors.newFixedThreadPool(lookAhead, DAEMON_THREAD_FACTORY)
+				: null;
+		Map<Integer, Future<?>> loading = new HashMap<>();
+		try {
+			for (int index = 0; index < ontologyList.size(); index++) {
+				int last = Math.min(index + lookAhead, ontologyList.size() - 1);
+				for (int next = index + 1; next <= last; next++) {
+					if (!loading.containsKey(next)) {
+						OntologyAndNetwork nextPair = ontologyList.get(next);
+						loading.put(next, loader.submit(() -> nextPair.load()));
+					}
+				}
+
+				OntologyAndNetwork ontPair = ontologyList.get(index);
+				Future<?> future = loading.remove(index);
+				if (Objects.nonNull(future)) {
+					await(future);
+				}
+				try {
+					ontPair.load();
+					action.accept(ontPair);
+				} finally {
+					ontPair.release();
+				}
+			}
+		} finally {
+			if (Objects.nonNull(loader)) {
+				loader.shutdownNow();
+			}
+		}
+	}
+
 	public List<String> run(MultiProcessorConfiguration conf, long start) {
 		Objects.requireNonNull(conf);
 		List<String> ret = new ArrayList<>();
 		PseudorandomNumberGenerator random = new PseudorandomNumberGenerator(conf.getSeed());
 		ProcessorCore core = new ProcessorCore();
 
-		conf.getOntologyList().forEach(ontPair -> {
+		forEachOntology(conf, ontPair -> {
 			try {
 
 				String resultFileName = conf.getOutputDirectory() + FILE_SEPARATOR + ontPair.getOntologyName()
 						+ LOG_EXTENSION;
 				Writer output = new FileWriter(ResourceUtil.ensurePath(resultFileName), true);
 
-				String temporaryFileName = conf.getOutputDirectory() + FILE_SEPARATOR + ontPair.getOntologyName()
-						+ TEMP_FILE_SUFFIX;
-				ProcessorConfiguration configuration = new ProcessorConfigurationImpl();
-				configuration.setOntology(ontPair.getOntology());
-				configuration.setBayesianNetwork(ontPair.getBayesianNetwork());
-				configuration.setOutputFileName(temporaryFileName);
-				configuration.setQueryProcessor(conf.getQueryProcessor());
-				configuration.setShowingLog(conf.isShowingLog());
+				ProcessorConfiguration configuration = createConfiguration(conf, ontPair);
 				List<SubsumptionQuery> queries = getQueries(ontPair.getOntology(), conf.getNumberOfQueries(), random);
 
 				StringBuffer sbuf = new StringBuffer();
@@ -198,46 +304,83 @@ public class MultiProcessorCore {
 		return ret;
 	}
 
+	/**
+	 * Processes the queries and writes the result of each query as soon as it
+	 * is finished, in one JSON Lines file per ontology. Unlike
+	 * {@link #run(MultiProcessorConfiguration, long)}, the results are not
+	 * kept in memory.
+	 * 
+	 * @param conf
+	 *            configuration
+	 * @param start
+	 *            execution start
+	 * @return the number of queries processed
+	 * @see JsonLinesResultWriter
+	 */
+	public long runAndStream(MultiProcessorConfiguration conf, long start) {
+		Objects.requireNonNull(conf);
+		PseudorandomNumberGenerator random = new PseudorandomNumberGenerator(conf.getSeed());
+		ProcessorCore core = new ProcessorCore();
+		AtomicLong ret = new AtomicLong();
+		forEachOntology(conf, ontPair -> {
+			String resultFileName = conf.getOutputDirectory() + FILE_SEPARATOR + ontPair.getOntologyName()
+					+ JsonLinesResultWriter.JSON_LINES_EXTENSION;
+			ProcessorConfiguration configuration = createConfiguration(conf, ontPair);
+			List<SubsumptionQuery> queries = getQueries(ontPair.getOntology(), conf.getNumberOfQueries(), random);
+			try (JsonLinesResultWriter output = new JsonLinesResultWriter(
+					new OutputStreamWriter(new FileOutputStream(ResourceUtil.ensurePath(resultFileName)),
+							StandardCharsets.UTF_8))) {
+				for (SubsumptionQuery query : queries) {
+					configuration.setQuery(query.asProblogString());
+					ProcessorExecutionResult executionResult = new ProcessorExecutionResultImpl();
+					core.run(configuration, start, executionResult);
+					output.write(ontPair, query, executionResult);
+				}
+				ret.addAndGet(output.getNumberOfResults());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		return ret.get();
+	}
+
+	/**
+	 * Returns the ontology-network pairs of the ontologies in the given
+	 * directory. The ontologies and Bayesian networks are not read by this
+	 * method, but on first use.
+	 * 
+	 * @param ontologyDirectory
+	 *            directory of the ontologies
+	 * @param bayesianNetworkDirectory
+	 *            directory of the Bayesian networks
+	 * @return the ontology-network pairs of the ontologies in the given
+	 *         directory
+	 */
 	public static List<OntologyAndNetwork> getOntologyAndNetworkList(String ontologyDirectory,
 			String bayesianNetworkDirectory) {
 		Objects.requireNonNull(ontologyDirectory);
 		Objects.requireNonNull(bayesianNetworkDirectory);
-		try {
-			List<OntologyAndNetwork> ret = new ArrayList<>();
-			if (!ontologyDirectory.isEmpty() && !bayesianNetworkDirectory.isEmpty()) {
-				File file = new File(ontologyDirectory);
-				File[] files = file.listFiles();
-				Arrays.sort(files);
-
-				for (int index = 0; index < files.length; index++) {
+		List<OntologyAndNetwork> ret = new ArrayList<>();
+		if (!ontologyDirectory.isEmpty() && !bayesianNetworkDirectory.isEmpty()) {
+			File file = new File(ontologyDirectory);
+			File[] files = file.listFiles();
+			Arrays.sort(files);
 
-					String fileName = files[index].getName();
-					if (fileName.endsWith(OWL_EXTENSION)) {
-						String ontologyName = fileName.substring(0, fileName.length() - OWL_EXTENSION.length());
+			for (int index = 0; index < files.length; index++) {
 
-						File ontologyFile = new File(ontologyDirectory + FILE_SEPARATOR + ontologyName + OWL_EXTENSION);
-						File bayesianNetworkFile = new File(
-								bayesianNetworkDirectory + FILE_SEPARATOR + ontologyName + PL_EXTENSION);
+				String fileName = files[index].getName();
+				if (fileName.endsWith(OWL_EXTENSION)) {
+					String ontologyName = fileName.substring(0, fileName.length() - OWL_EXTENSION.length());
 
-						OWLOntology owlOntology = ProcessorConfigurationImpl
-								.readOntology(new FileInputStream(ontologyFile));
+					File ontologyFile = new File(ontologyDirectory + FILE_SEPARATOR + ontologyName + OWL_EXTENSION);
+					File bayesianNetworkFile = new File(
+							bayesianNetworkDirectory + FILE_SEPARATOR + ontologyName + PL_EXTENSION);
 
-						String bayesianNetwork = "";
-						if (bayesianNetworkFile.exists()) {
-							bayesianNetwork = ProcessorConfigurationImpl.read(new FileReader(bayesianNetworkFile));
-						}
-
-						ret.add(new OntologyAndNetwork(ontologyName, owlOntology, bayesianNetwork));
-					}
+					ret.add(new OntologyAndNetwork(ontologyName, ontologyFile, bayesianNetworkFile));
 				}
 			}
-			return ret;
-
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		} catch (OWLOntologyCreationException e) {
-			throw new RuntimeException(e);
 		}
+		return ret;
 	}
 
 	public void storeResults(MultiProcessorConfiguration conf, List<String> list) throws IOException {
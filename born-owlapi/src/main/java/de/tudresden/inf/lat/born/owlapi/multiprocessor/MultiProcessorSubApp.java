@@ -1,10 +1,18 @@
 package de.tudresden.inf.lat.born.owlapi.multiprocessor;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
+import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.core.metrics.MetricsRegistry;
+import de.tudresden.inf.lat.born.core.metrics.MetricsReporter;
 import de.tudresden.inf.lat.born.core.term.SubApp;
 import de.tudresden.inf.lat.jproblog.JProblog;
 
@@ -20,22 +28,33 @@ import de.tudresden.inf.lat.jproblog.JProblog;
 public class MultiProcessorSubApp implements SubApp {
 
 	static final String LOGGING_OPTION = "--log";
+	static final String JSON_LINES_OPTION = "--jsonl";
+	static final int NUMBER_OF_PARAMETERS = 5;
+	static final String METRICS_FILE_NAME = "metrics.prom";
+	static final Duration METRICS_PERIOD = Duration.ofSeconds(10);
 	public static final String COMMAND = "experiment";
 	static final String HELP = ""
-			+ "\nParameters: [--log] <directory of ontologies> <directory of Bayesian networks> <number of queries> <seed> <directory of results> [<ProbLog directory>]"
+			+ "\nParameters: [--log] [--jsonl] <directory of ontologies> <directory of Bayesian networks> <number of queries> <seed> <directory of results> [<ProbLog directory>]"
 			+ "\n"
 			+ "\n  <directory of ontologies>         : directory of probabilistic ontology files, only '.owl' files are read"
 			+ "\n  <directory of Bayesian networks>  : directory of Bayesian network files, the file names must coincide with the ontology files, and only '.pl' files are read"
 			+ "\n  <number of queries>               : number of queries to generate"
 			+ "\n  <seed>                            : seed used by the pseudorandom number generator"
 			+ "\n  <directory of results>            : directory to write the output files, each output file has the ontology name and a '.csv' extension"
-			+ "\n" + "\n Option:" + "\n   --log                            : shows log" + "\n" + "\nExamples:" + "\n"
+			+ "\n                                      the latencies of the stages are periodically written to '" + METRICS_FILE_NAME + "' in this directory"
+			+ "\n" + "\n Options:" + "\n   --log                            : shows log and periodically logs the metrics"
+			+ "\n   --jsonl                          : writes one JSON object per query to a '.jsonl' file as soon as the query is finished, instead of the '.csv' file"
+			+ "\n" + "\nExamples:" + "\n"
 			+ "\n Execution:" + "\n  java -jar born.jar " + COMMAND + " ontologies/ networks/ 10 127 results/" + "\n"
 			+ "\n Execution not showing log:" + "\n  java -jar born.jar " + COMMAND
 			+ " ontologies/ networks/ 10 127 results/" + "\n" //
 			+ "\n Execution showing log:" + "\n  java -jar born.jar " + COMMAND
 			+ " --log ontologies/ networks/ 10 127 results/" + "\n"
+			+ "\n Execution writing JSON Lines:" + "\n  java -jar born.jar " + COMMAND
+			+ " --jsonl ontologies/ networks/ 1000000 127 results/" + "\n"
 			+ "\nNote: this program requires an Internet connection to install ProbLog." + "\n" //
+			+ "\nNote: a running execution cannot be cancelled from the graphical user interface, and a ProbLog process"
+			+ "\n      that is already running is not stopped when the execution times out or is cancelled." + "\n" //
 			+ "\n";
 
 	/**
@@ -44,11 +63,27 @@ public class MultiProcessorSubApp implements SubApp {
 	public MultiProcessorSubApp() {
 	}
 
+	/**
+	 * Returns the number of options at the beginning of the arguments.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @return the number of options at the beginning of the arguments
+	 */
+	int getNumberOfOptions(String[] args) {
+		Set<String> options = new HashSet<>();
+		int ret = 0;
+		while (ret < args.length && (args[ret].equals(LOGGING_OPTION) || args[ret].equals(JSON_LINES_OPTION))
+				&& options.add(args[ret])) {
+			ret++;
+		}
+		return ret;
+	}
+
 	@Override
 	public boolean isValid(String[] args) {
 		Objects.requireNonNull(args);
-		return (((args.length == 5) && !args[0].equals(LOGGING_OPTION))
-				|| ((args.length == 6) && args[0].equals(LOGGING_OPTION)));
+		return args.length == getNumberOfOptions(args) + NUMBER_OF_PARAMETERS;
 	}
 
 	@Override
@@ -64,16 +99,11 @@ public class MultiProcessorSubApp implements SubApp {
 			MultiProcessorConfiguration conf = new MultiProcessorConfigurationImpl();
 
 			StringBuffer sbuf = new StringBuffer();
-			String[] newArgs = null;
-			if (args[0].equals(LOGGING_OPTION)) {
-				newArgs = new String[args.length - 1];
-				System.arraycopy(args, 1, newArgs, 0, args.length - 1);
-				conf.setShowingLog(true);
-			} else {
-				newArgs = new String[args.length];
-				System.arraycopy(args, 0, newArgs, 0, args.length);
-				conf.setShowingLog(false);
-			}
+			int numberOfOptions = getNumberOfOptions(args);
+			List<String> options = Arrays.asList(args).subList(0, numberOfOptions);
+			String[] newArgs = new String[args.length - numberOfOptions];
+			System.arraycopy(args, numberOfOptions, newArgs, 0, newArgs.length);
+			conf.setShowingLog(options.contains(LOGGING_OPTION));
 
 			conf.setOntologyList(MultiProcessorCore.getOntologyAndNetworkList(newArgs[0], newArgs[1]));
 			conf.setNumberOfQueries(Integer.parseInt(newArgs[2]));
@@ -84,13 +114,27 @@ public class MultiProcessorSubApp implements SubApp {
 			conf.setQueryProcessor(queryProcessor);
 
 			MultiProcessorCore core = new MultiProcessorCore();
-			List<String> result = core.run(conf, start);
+			MetricsReporter reporter;
+			try {
+				reporter = new MetricsReporter(MetricsRegistry.getDefault(), METRICS_PERIOD,
+						ResourceUtil.ensurePath(new File(conf.getOutputDirectory(), METRICS_FILE_NAME)).toPath(),
+						conf.isShowingLog());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
 			try {
-				core.storeResults(conf, result);
+				if (options.contains(JSON_LINES_OPTION)) {
+					sbuf.append("Queries: " + core.runAndStream(conf, start));
+				} else {
+					List<String> result = core.run(conf, start);
+					core.storeResults(conf, result);
+					sbuf.append(result);
+				}
 			} catch (IOException e) {
 				throw new UncheckedIOException(e);
+			} finally {
+				reporter.close();
 			}
-			sbuf.append(result);
 
 			return sbuf.toString();
 		} else {
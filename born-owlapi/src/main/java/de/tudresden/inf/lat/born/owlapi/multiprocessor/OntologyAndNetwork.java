@@ -1,13 +1,27 @@
 package de.tudresden.inf.lat.born.owlapi.multiprocessor;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
 
 /**
  * An object of this class is a tuple containing an ontology name, an OWL
  * ontology, and a Bayesian network. The ontology name can be a file name, but
  * that is not mandatory.
+ * <p>
+ * If the object is created from files, the ontology and the Bayesian network
+ * are read on first use, and can be released when they are no longer needed.
+ * They are read again if they are used after being released.
  * 
  * @author Julian Mendez
  *
@@ -15,8 +29,10 @@ import org.semanticweb.owlapi.model.OWLOntology;
 public class OntologyAndNetwork {
 
 	private final String ontologyName;
-	private final OWLOntology owlOntology;
-	private final String bayesianNetwork;
+	private final File ontologyFile;
+	private final File bayesianNetworkFile;
+	private OWLOntology owlOntology;
+	private String bayesianNetwork;
 
 	/**
 	 * Constructs a new ontology and Bayesian network object with an empty
@@ -44,6 +60,8 @@ public class OntologyAndNetwork {
 		this.owlOntology = owlOntology;
 		this.ontologyName = owlOntology.getOntologyID().toString();
 		this.bayesianNetwork = bayesianNetwork;
+		this.ontologyFile = null;
+		this.bayesianNetworkFile = null;
 	}
 
 	/**
@@ -63,6 +81,88 @@ public class OntologyAndNetwork {
 		this.ontologyName = ontologyName;
 		this.owlOntology = owlOntology;
 		this.bayesianNetwork = bayesianNetwork;
+		this.ontologyFile = null;
+		this.bayesianNetworkFile = null;
+	}
+
+	/**
+	 * Constructs a new ontology and Bayesian network object that reads the
+	 * ontology and the Bayesian network on first use. If the Bayesian network
+	 * file does not exist, the Bayesian network is empty.
+	 * 
+	 * @param ontologyName
+	 *            ontology name
+	 * @param ontologyFile
+	 *            OWL ontology file
+	 * @param bayesianNetworkFile
+	 *            Bayesian network file
+	 */
+	public OntologyAndNetwork(String ontologyName, File ontologyFile, File bayesianNetworkFile) {
+		Objects.requireNonNull(ontologyName);
+		Objects.requireNonNull(ontologyFile);
+		Objects.requireNonNull(bayesianNetworkFile);
+		this.ontologyName = ontologyName;
+		this.ontologyFile = ontologyFile;
+		this.bayesianNetworkFile = bayesianNetworkFile;
+	}
+
+	/**
+	 * Tells whether the ontology and the Bayesian network are read from files
+	 * on first use.
+	 * 
+	 * @return <code>true</code> if and only if the ontology and the Bayesian
+	 *         network are read from files on first use
+	 */
+	public boolean isLazy() {
+		return Objects.nonNull(this.ontologyFile);
+	}
+
+	/**
+	 * Tells whether the ontology and the Bayesian network are in memory.
+	 * 
+	 * @return <code>true</code> if and only if the ontology and the Bayesian
+	 *         network are in memory
+	 */
+	public synchronized boolean isLoaded() {
+		return Objects.nonNull(this.owlOntology);
+	}
+
+	/**
+	 * Reads the ontology and the Bayesian network, if they are not in memory.
+	 * 
+	 * @throws UncheckedIOException
+	 *             if something goes wrong with I/O
+	 */
+	public synchronized void load() {
+		if (!isLoaded()) {
+			try (InputStream input = new FileInputStream(this.ontologyFile)) {
+				OWLOntology newOntology = ProcessorConfigurationImpl.readOntology(input);
+				String newBayesianNetwork = "";
+				if (this.bayesianNetworkFile.exists()) {
+					try (Reader reader = new FileReader(this.bayesianNetworkFile)) {
+						newBayesianNetwork = ProcessorConfigurationImpl.read(reader);
+					}
+				}
+				this.owlOntology = newOntology;
+				this.bayesianNetwork = newBayesianNetwork;
+
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} catch (OWLOntologyCreationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * Releases the ontology and the Bayesian network, if they are read from
+	 * files. Otherwise, this method does nothing.
+	 */
+	public synchronized void release() {
+		if (isLazy()) {
+			this.owlOntology = null;
+			this.bayesianNetwork = null;
+		}
 	}
 
 	/**
@@ -79,7 +179,8 @@ public class OntologyAndNetwork {
 	 * 
 	 * @return the OWL ontology
 	 */
-	public OWLOntology getOntology() {
+	public synchronized OWLOntology getOntology() {
+		load();
 		return this.owlOntology;
 	}
 
@@ -88,14 +189,23 @@ public class OntologyAndNetwork {
 	 * 
 	 * @return the Bayesian network
 	 */
-	public String getBayesianNetwork() {
+	public synchronized String getBayesianNetwork() {
+		load();
 		return this.bayesianNetwork;
 	}
 
+	// objects created from files are compared by their files, so that they
+	// are not read only to be compared
+
 	@Override
 	public int hashCode() {
-		return this.ontologyName.hashCode()
-				+ 0x1F * (this.owlOntology.hashCode() + 0x1F * this.bayesianNetwork.hashCode());
+		if (isLazy()) {
+			return this.ontologyName.hashCode()
+					+ 0x1F * (this.ontologyFile.hashCode() + 0x1F * this.bayesianNetworkFile.hashCode());
+		} else {
+			return this.ontologyName.hashCode()
+					+ 0x1F * (this.owlOntology.hashCode() + 0x1F * this.bayesianNetwork.hashCode());
+		}
 	}
 
 	@Override
@@ -104,8 +214,14 @@ public class OntologyAndNetwork {
 			return true;
 		} else if (obj instanceof OntologyAndNetwork) {
 			OntologyAndNetwork other = (OntologyAndNetwork) obj;
-			return getOntologyName().equals(other.getOntologyName()) && getOntology().equals(other.getOntology())
-					&& getBayesianNetwork().equals(other.getBayesianNetwork());
+			if (isLazy() || other.isLazy()) {
+				return getOntologyName().equals(other.getOntologyName())
+						&& Objects.equals(this.ontologyFile, other.ontologyFile)
+						&& Objects.equals(this.bayesianNetworkFile, other.bayesianNetworkFile);
+			} else {
+				return getOntologyName().equals(other.getOntologyName()) && getOntology().equals(other.getOntology())
+						&& getBayesianNetwork().equals(other.getBayesianNetwork());
+			}
 		} else {
 			return false;
 		}
@@ -113,7 +229,11 @@ public class OntologyAndNetwork {
 
 	@Override
 	public String toString() {
-		return getOntologyName() + ":\n" + getBayesianNetwork() + "\n\n" + getOntology();
+		if (isLazy()) {
+			return getOntologyName() + ":\n" + this.bayesianNetworkFile + "\n\n" + this.ontologyFile;
+		} else {
+			return getOntologyName() + ":\n" + getBayesianNetwork() + "\n\n" + getOntology();
+		}
 	}
 
 }
@@ -0,0 +1,120 @@
+package de.tudresden.inf.lat.born.owlapi.processor;
+
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.FunctObjectPropAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI0Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NominalAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomVisitor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RangeAxiom;
+
+/**
+ * An object of this class creates a copy of a normalized axiom where each
+ * identifier is replaced according to a given function. The annotations are
+ * kept unchanged.
+ *
+ * @author Julian Mendez
+ *
+ */
+class IdentifierRenamer implements NormalizedIntegerAxiomVisitor<NormalizedIntegerAxiom> {
+
+	private final NormalizedIntegerAxiomFactory factory;
+	private final IntUnaryOperator renaming;
+
+	/**
+	 * Constructs a new identifier renamer.
+	 *
+	 * @param factory
+	 *            factory of normalized axioms
+	 * @param renaming
+	 *            function that gives the new identifier for each identifier
+	 */
+	IdentifierRenamer(NormalizedIntegerAxiomFactory factory, IntUnaryOperator renaming) {
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(renaming);
+		this.factory = factory;
+		this.renaming = renaming;
+	}
+
+	int rename(int identifier) {
+		return this.renaming.applyAsInt(identifier);
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(FunctObjectPropAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createFunctObjectPropAxiom(rename(axiom.getProperty()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI0Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI0Axiom(rename(axiom.getSubClass()), rename(axiom.getSuperClass()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI1Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI1Axiom(rename(axiom.getLeftSubClass()), rename(axiom.getRightSubClass()),
+				rename(axiom.getSuperClass()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI2Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI2Axiom(rename(axiom.getSubClass()), rename(axiom.getPropertyInSuperClass()),
+				rename(axiom.getClassInSuperClass()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI3Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI3Axiom(rename(axiom.getPropertyInSubClass()), rename(axiom.getClassInSubClass()),
+				rename(axiom.getSuperClass()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(NominalAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createNominalAxiom(rename(axiom.getClassExpression()), rename(axiom.getIndividual()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RangeAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRangeAxiom(rename(axiom.getProperty()), rename(axiom.getRange()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RI1Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRI1Axiom(rename(axiom.getSuperProperty()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RI2Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRI2Axiom(rename(axiom.getSubProperty()), rename(axiom.getSuperProperty()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RI3Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRI3Axiom(rename(axiom.getLeftSubProperty()), rename(axiom.getRightSubProperty()),
+				rename(axiom.getSuperProperty()), axiom.getAnnotations());
+	}
+
+}
@@ -0,0 +1,512 @@
+package de.tudresden.inf.lat.born.owlapi.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationValue;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataHasValue;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import de.tudresden.inf.lat.born.core.metrics.LatencyHistogram;
+import de.tudresden.inf.lat.born.core.metrics.MetricsRegistry;
+import de.tudresden.inf.lat.born.core.metrics.ResourceUsage;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerInverseObjectPropertiesAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.normalization.SimpleNormalizer;
+import de.tudresden.inf.lat.jcel.owlapi.translator.TranslationRepository;
+import de.tudresden.inf.lat.jcel.owlapi.translator.Translator;
+
+/**
+ * An object of this class translates OWL axioms into integer axioms and
+ * normalizes them using a fork-join pool.
+ * <p>
+ * The identifiers are deterministic: they only depend on the axioms and not
+ * on the number of threads. The entities are registered in their natural
+ * order before the translation starts, so that the translation of the axioms
+ * only reads the shared translation repository. The axioms are normalized in
+ * partitions of a fixed size, each one with its own entity manager, which
+ * starts as a copy of the shared one. The auxiliary entities created for each
+ * partition are then allocated in the shared entity manager following the
+ * order of the partitions.
+ * </p>
+ * <p>
+ * The CPU time and the allocated bytes of the translation and of the
+ * normalization are accumulated over all the threads that take part in them.
+ * The calling thread is measured as a whole, and each part that runs in a
+ * worker thread is measured separately. The parts that the calling thread runs
+ * itself while it waits for the pool, which happens when it is a worker of the
+ * same pool, are not measured again.
+ * </p>
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ParallelPreprocessor {
+
+	public static final String TRANSLATION_METRIC = "born_translation_seconds";
+	public static final String NORMALIZATION_METRIC = "born_normalization_seconds";
+
+	static final LatencyHistogram TRANSLATION_TIME = MetricsRegistry.getDefault().getHistogram(TRANSLATION_METRIC);
+	static final LatencyHistogram NORMALIZATION_TIME = MetricsRegistry.getDefault()
+			.getHistogram(NORMALIZATION_METRIC);
+
+	static final int DEFAULT_PARTITION_SIZE = 0x400;
+	static final int MAX_NUMBER_OF_PARTITIONS = 0x100;
+	static final int TRANSLATION_CHUNK_SIZE = 0x40;
+
+	static final Set<AxiomType<?>> PARALLEL_AXIOM_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			AxiomType.DECLARATION, AxiomType.SUBCLASS_OF, AxiomType.EQUIVALENT_CLASSES, AxiomType.DISJOINT_CLASSES,
+			AxiomType.CLASS_ASSERTION, AxiomType.OBJECT_PROPERTY_ASSERTION, AxiomType.SUB_OBJECT_PROPERTY,
+			AxiomType.SUB_PROPERTY_CHAIN_OF, AxiomType.TRANSITIVE_OBJECT_PROPERTY, AxiomType.REFLEXIVE_OBJECT_PROPERTY,
+			AxiomType.OBJECT_PROPERTY_DOMAIN, AxiomType.OBJECT_PROPERTY_RANGE)));
+
+	private final IntegerOntologyObjectFactory factory;
+	private final Translator translator;
+	private final ForkJoinPool pool;
+	private final int partitionSize;
+	private final ResourceUsage translationUsage = new ResourceUsage();
+	private final ResourceUsage normalizationUsage = new ResourceUsage();
+
+	/**
+	 * Constructs a new parallel preprocessor that uses the common fork-join
+	 * pool.
+	 *
+	 * @param dataFactory
+	 *            OWL data factory
+	 * @param factory
+	 *            factory of integer ontology objects, which is shared by all
+	 *            the partitions
+	 */
+	public ParallelPreprocessor(OWLDataFactory dataFactory, IntegerOntologyObjectFactory factory) {
+		this(dataFactory, factory, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs a new parallel preprocessor.
+	 *
+	 * @param dataFactory
+	 *            OWL data factory
+	 * @param factory
+	 *            factory of integer ontology objects, which is shared by all
+	 *            the partitions
+	 * @param pool
+	 *            fork-join pool
+	 */
+	public ParallelPreprocessor(OWLDataFactory dataFactory, IntegerOntologyObjectFactory factory, ForkJoinPool pool) {
+		this(dataFactory, factory, pool, DEFAULT_PARTITION_SIZE);
+	}
+
+	/**
+	 * Constructs a new parallel preprocessor.
+	 *
+	 * @param dataFactory
+	 *            OWL data factory
+	 * @param factory
+	 *            factory of integer ontology objects, which is shared by all
+	 *            the partitions
+	 * @param pool
+	 *            fork-join pool
+	 * @param partitionSize
+	 *            minimum number of axioms in each partition
+	 */
+	ParallelPreprocessor(OWLDataFactory dataFactory, IntegerOntologyObjectFactory factory, ForkJoinPool pool,
+			int partitionSize) {
+		Objects.requireNonNull(dataFactory);
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(pool);
+		if (partitionSize < 1) {
+			throw new IllegalArgumentException("Invalid partition size: '" + partitionSize + "'.");
+		}
+		this.factory = factory;
+		this.translator = new Translator(dataFactory, factory);
+		this.pool = pool;
+		this.partitionSize = partitionSize;
+	}
+
+	/**
+	 * Returns the CPU time and the allocated bytes of the translations done by
+	 * this preprocessor.
+	 *
+	 * @return the CPU time and the allocated bytes of the translations done by
+	 *         this preprocessor
+	 */
+	public ResourceUsage getTranslationUsage() {
+		return this.translationUsage;
+	}
+
+	/**
+	 * Returns the CPU time and the allocated bytes of the normalizations done
+	 * by this preprocessor.
+	 *
+	 * @return the CPU time and the allocated bytes of the normalizations done
+	 *         by this preprocessor
+	 */
+	public ResourceUsage getNormalizationUsage() {
+		return this.normalizationUsage;
+	}
+
+	/**
+	 * Returns the translator.
+	 *
+	 * @return the translator
+	 */
+	public Translator getTranslator() {
+		return this.translator;
+	}
+
+	/**
+	 * Returns the factory of integer ontology objects.
+	 *
+	 * @return the factory of integer ontology objects
+	 */
+	public IntegerOntologyObjectFactory getOntologyObjectFactory() {
+		return this.factory;
+	}
+
+	/**
+	 * Returns the partitions of the given list. The size of the partitions
+	 * only depends on the size of the list.
+	 *
+	 * @param list
+	 *            list
+	 * @return the partitions of the given list
+	 */
+	<T> List<List<T>> getPartitions(List<T> list) {
+		int size = Math.max(this.partitionSize,
+				(list.size() + MAX_NUMBER_OF_PARTITIONS - 1) / MAX_NUMBER_OF_PARTITIONS);
+		List<List<T>> ret = new ArrayList<>();
+		for (int index = 0; index < list.size(); index += size) {
+			ret.add(list.subList(index, Math.min(index + size, list.size())));
+		}
+		return ret;
+	}
+
+	/**
+	 * Runs a part of a parallel stage and measures it only if it does not run
+	 * in the calling thread, which is already measured as a whole.
+	 *
+	 * @param <T>
+	 *            type of the value
+	 * @param usage
+	 *            accumulated usage of the stage
+	 * @param caller
+	 *            thread that started the stage
+	 * @param computation
+	 *            part of the stage
+	 * @return the computed value
+	 */
+	static <T> T measureInWorker(ResourceUsage usage, Thread caller, Supplier<T> computation) {
+		return Thread.currentThread() == caller ? computation.get() : usage.measure(computation);
+	}
+
+	/**
+	 * Registers, in their natural order, the entities that the translator
+	 * would register while translating the given axioms.
+	 *
+	 * @param axioms
+	 *            OWL axioms
+	 */
+	void registerEntities(Collection<OWLAxiom> axioms) {
+		Set<OWLClass> classes = new TreeSet<>();
+		Set<OWLObjectProperty> objectProperties = new TreeSet<>();
+		Set<OWLDataProperty> dataProperties = new TreeSet<>();
+		Set<OWLNamedIndividual> individuals = new TreeSet<>();
+		Set<OWLLiteral> literals = new TreeSet<>();
+		Set<OWLAnnotationProperty> annotationProperties = new TreeSet<>();
+		Set<OWLAnnotationValue> annotationValues = new TreeSet<>();
+		axioms.forEach(axiom -> {
+			classes.addAll(axiom.getClassesInSignature());
+			objectProperties.addAll(axiom.getObjectPropertiesInSignature());
+			dataProperties.addAll(axiom.getDataPropertiesInSignature());
+			individuals.addAll(axiom.getIndividualsInSignature());
+			axiom.getNestedClassExpressions().forEach(classExpression -> {
+				if (classExpression instanceof OWLDataHasValue) {
+					literals.add(((OWLDataHasValue) classExpression).getFiller());
+				}
+			});
+			axiom.getAnnotations().forEach(annotation -> {
+				annotationProperties.add(annotation.getProperty());
+				annotationValues.add(annotation.getValue());
+			});
+		});
+
+		TranslationRepository repository = this.translator.getTranslationRepository();
+		classes.forEach(repository::addClass);
+		objectProperties.forEach(repository::addObjectProperty);
+		dataProperties.forEach(repository::addDataProperty);
+		individuals.forEach(repository::addNamedIndividual);
+		literals.forEach(repository::addLiteral);
+		annotationProperties.forEach(repository::addAnnotationProperty);
+		annotationValues.forEach(repository::addAnnotationValue);
+	}
+
+	/**
+	 * Translates the given OWL axioms into integer axioms. The axioms that are
+	 * not in the EL fragment handled by the processor are translated
+	 * sequentially, the others are translated in parallel.
+	 *
+	 * @param owlAxioms
+	 *            OWL axioms
+	 * @return the translated axioms, in a deterministic order
+	 */
+	public List<ComplexIntegerAxiom> translate(Set<OWLAxiom> owlAxioms) {
+		Objects.requireNonNull(owlAxioms);
+		return TRANSLATION_TIME.time(() -> this.translationUsage.measure(() -> translateAxioms(owlAxioms)));
+	}
+
+	List<ComplexIntegerAxiom> translateAxioms(Set<OWLAxiom> owlAxioms) {
+		List<OWLAxiom> axioms = new ArrayList<>(owlAxioms);
+		Collections.sort(axioms);
+		List<Set<ComplexIntegerAxiom>> translated = new ArrayList<>(Collections.nCopies(axioms.size(), null));
+
+		List<Integer> parallelIndices = new ArrayList<>();
+		for (int index = 0; index < axioms.size(); index++) {
+			OWLAxiom axiom = axioms.get(index);
+			if (PARALLEL_AXIOM_TYPES.contains(axiom.getAxiomType())) {
+				parallelIndices.add(index);
+			} else {
+				translated.set(index, axiom.accept(this.translator.getAxiomTranslator()));
+			}
+		}
+
+		registerEntities(parallelIndices.stream().map(axioms::get).collect(Collectors.toList()));
+		int numberOfEntities = this.factory.getEntityManager().size();
+		int numberOfChunks = (parallelIndices.size() + TRANSLATION_CHUNK_SIZE - 1) / TRANSLATION_CHUNK_SIZE;
+		Thread caller = Thread.currentThread();
+		this.pool.submit(() -> IntStream.range(0, numberOfChunks).parallel()
+				.forEach(chunk -> measureInWorker(this.translationUsage, caller, () -> {
+					parallelIndices
+							.subList(chunk * TRANSLATION_CHUNK_SIZE,
+									Math.min((chunk + 1) * TRANSLATION_CHUNK_SIZE, parallelIndices.size()))
+							.forEach(index -> translated.set(index,
+									axioms.get(index).accept(this.translator.getAxiomTranslator())));
+					return null;
+				}))).join();
+		if (this.factory.getEntityManager().size() != numberOfEntities) {
+			throw new IllegalStateException("Entities were registered during parallel translation.");
+		}
+
+		Set<ComplexIntegerAxiom> ret = new LinkedHashSet<>();
+		translated.forEach(ret::addAll);
+		return new ArrayList<>(ret);
+	}
+
+	/**
+	 * Normalizes the given axioms until only normalized axioms remain.
+	 *
+	 * @param normalizer
+	 *            normalizer
+	 * @param axioms
+	 *            axioms
+	 * @return the normalized axioms, in a deterministic order
+	 */
+	List<NormalizedIntegerAxiom> normalize(SimpleNormalizer normalizer, Collection<? extends IntegerAxiom> axioms) {
+		Set<NormalizedIntegerAxiom> ret = new LinkedHashSet<>();
+		List<IntegerAxiom> pending = new ArrayList<>(axioms);
+		while (!pending.isEmpty()) {
+			List<IntegerAxiom> next = new ArrayList<>();
+			pending.forEach(axiom -> {
+				if (axiom instanceof NormalizedIntegerAxiom) {
+					ret.add((NormalizedIntegerAxiom) axiom);
+				} else {
+					next.addAll(normalizer.normalize(axiom));
+				}
+			});
+			pending = next;
+		}
+		return new ArrayList<>(ret);
+	}
+
+	/**
+	 * Normalizes a partition using a new entity manager that replicates the
+	 * shared one.
+	 *
+	 * @param partition
+	 *            partition
+	 * @param types
+	 *            types of the entities in the shared entity manager
+	 * @param auxiliary
+	 *            whether the entities in the shared entity manager are
+	 *            auxiliary
+	 * @param names
+	 *            names of the entities in the shared entity manager
+	 * @param inverseAxioms
+	 *            axioms declaring inverse object properties
+	 * @param firstLocalIdentifier
+	 *            first identifier that is not in the shared entity manager
+	 * @return the result of normalizing the partition
+	 */
+	PartitionResult normalizePartition(List<ComplexIntegerAxiom> partition, IntegerEntityType[] types,
+			boolean[] auxiliary, String[] names, List<ComplexIntegerAxiom> inverseAxioms, int firstLocalIdentifier) {
+		IntegerOntologyObjectFactory localFactory = new IntegerOntologyObjectFactoryImpl();
+		IntegerEntityManager localManager = localFactory.getEntityManager();
+		for (int index = 0; index < types.length; index++) {
+			int expected = IntegerEntityManager.firstUsableIdentifier + index;
+			int actual = localManager.createNamedEntity(types[index], names[index], auxiliary[index]);
+			if (actual != expected) {
+				throw new IllegalStateException(
+						"Identifier '" + actual + "' was created instead of '" + expected + "'.");
+			}
+		}
+		SimpleNormalizer localNormalizer = new SimpleNormalizer(localFactory);
+		inverseAxioms.forEach(localNormalizer::normalize);
+		if (localManager.size() != firstLocalIdentifier) {
+			throw new IllegalStateException("Entity managers are not synchronized.");
+		}
+		return new PartitionResult(localManager, normalize(localNormalizer, partition));
+	}
+
+	/**
+	 * Allocates the entities created for a partition in the shared entity
+	 * manager and returns the axioms of the partition with the shared
+	 * identifiers.
+	 *
+	 * @param result
+	 *            result of normalizing a partition
+	 * @param firstLocalIdentifier
+	 *            first identifier that is not in the shared entity manager
+	 * @return the axioms of the partition with the shared identifiers
+	 */
+	List<NormalizedIntegerAxiom> merge(PartitionResult result, int firstLocalIdentifier) {
+		IntegerEntityManager manager = this.factory.getEntityManager();
+		IntegerEntityManager localManager = result.getEntityManager();
+		Set<Integer> localInverseObjectProperties = localManager.getAuxiliaryInverseObjectProperties();
+		int[] map = new int[localManager.size() - firstLocalIdentifier];
+		for (int localId = firstLocalIdentifier; localId < localManager.size(); localId++) {
+			int id;
+			Optional<Integer> individual = localManager.getIndividual(localId);
+			if (individual.isPresent()) {
+				id = manager.createOrGetClassIdForIndividual(rename(map, firstLocalIdentifier, individual.get()));
+			} else if (localInverseObjectProperties.contains(localId)) {
+				int property = localManager.createOrGetInverseObjectPropertyOf(localId);
+				id = manager.createOrGetInverseObjectPropertyOf(rename(map, firstLocalIdentifier, property));
+			} else {
+				id = manager.createAnonymousEntity(localManager.getType(localId), localManager.isAuxiliary(localId));
+			}
+			map[localId - firstLocalIdentifier] = id;
+		}
+		IdentifierRenamer renamer = new IdentifierRenamer(this.factory.getNormalizedAxiomFactory(),
+				localId -> rename(map, firstLocalIdentifier, localId));
+		return result.getAxioms().stream().map(axiom -> axiom.accept(renamer)).collect(Collectors.toList());
+	}
+
+	int rename(int[] map, int firstLocalIdentifier, int localId) {
+		return localId < firstLocalIdentifier ? localId : map[localId - firstLocalIdentifier];
+	}
+
+	/**
+	 * Normalizes the given axioms. This gives the same axioms as the jcel
+	 * ontology normalizer, up to the identifiers of the auxiliary entities.
+	 *
+	 * @param axioms
+	 *            axioms
+	 * @return the normalized axioms
+	 */
+	public Set<NormalizedIntegerAxiom> normalize(List<ComplexIntegerAxiom> axioms) {
+		Objects.requireNonNull(axioms);
+		return NORMALIZATION_TIME.time(() -> this.normalizationUsage.measure(() -> normalizeAxioms(axioms)));
+	}
+
+	Set<NormalizedIntegerAxiom> normalizeAxioms(List<ComplexIntegerAxiom> axioms) {
+		IntegerEntityManager manager = this.factory.getEntityManager();
+		SimpleNormalizer normalizer = new SimpleNormalizer(this.factory);
+
+		Set<Integer> objectProperties = new TreeSet<>();
+		List<ComplexIntegerAxiom> inverseAxioms = new ArrayList<>();
+		List<ComplexIntegerAxiom> otherAxioms = new ArrayList<>();
+		axioms.forEach(axiom -> {
+			objectProperties.addAll(axiom.getObjectPropertiesInSignature());
+			if (axiom instanceof IntegerInverseObjectPropertiesAxiom) {
+				inverseAxioms.add(axiom);
+			} else {
+				otherAxioms.add(axiom);
+			}
+		});
+
+		int numberOfEntities = manager.size() - IntegerEntityManager.firstUsableIdentifier;
+		IntegerEntityType[] types = new IntegerEntityType[numberOfEntities];
+		boolean[] auxiliary = new boolean[numberOfEntities];
+		String[] names = new String[numberOfEntities];
+		for (int index = 0; index < numberOfEntities; index++) {
+			int id = IntegerEntityManager.firstUsableIdentifier + index;
+			types[index] = manager.getType(id);
+			auxiliary[index] = manager.isAuxiliary(id);
+			names[index] = manager.getName(id);
+		}
+
+		List<IntegerAxiom> pending = new ArrayList<>();
+		inverseAxioms.forEach(axiom -> pending.addAll(normalizer.normalize(axiom)));
+		int firstLocalIdentifier = manager.size();
+
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		List<List<ComplexIntegerAxiom>> partitions = getPartitions(otherAxioms);
+		if (partitions.size() == 1) {
+			ret.addAll(normalize(normalizer, otherAxioms));
+		} else {
+			Thread caller = Thread.currentThread();
+			List<PartitionResult> results = this.pool.submit(() -> partitions.parallelStream()
+					.map(partition -> measureInWorker(this.normalizationUsage, caller, () -> normalizePartition(
+							partition, types, auxiliary, names, inverseAxioms, firstLocalIdentifier)))
+					.collect(Collectors.toList())).join();
+			results.forEach(result -> ret.addAll(merge(result, firstLocalIdentifier)));
+		}
+
+		objectProperties.forEach(property -> {
+			Integer inverseProperty = manager.createOrGetInverseObjectPropertyOf(property);
+			pending.addAll(normalizer.getAxiomsForInverseObjectProperties(property, inverseProperty));
+		});
+		ret.addAll(normalize(normalizer, pending));
+		return ret;
+	}
+
+	/**
+	 * An object of this class is the result of normalizing a partition.
+	 */
+	static class PartitionResult {
+
+		private final IntegerEntityManager entityManager;
+		private final List<NormalizedIntegerAxiom> axioms;
+
+		PartitionResult(IntegerEntityManager entityManager, List<NormalizedIntegerAxiom> axioms) {
+			this.entityManager = entityManager;
+			this.axioms = axioms;
+		}
+
+		IntegerEntityManager getEntityManager() {
+			return this.entityManager;
+		}
+
+		List<NormalizedIntegerAxiom> getAxioms() {
+			return this.axioms;
+		}
+
+	}
+
+}
@@ -0,0 +1,316 @@
+package de.tudresden.inf.lat.born.owlapi.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import de.tudresden.inf.lat.born.module.IncrementalModuleExtractor;
+import de.tudresden.inf.lat.born.module.Module;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerInverseObjectPropertiesAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.normalization.SimpleNormalizer;
+import de.tudresden.inf.lat.jcel.owlapi.translator.Translator;
+
+/**
+ * An object of this class keeps an ontology translated and normalized, and
+ * updates it incrementally. Each OWL axiom is translated and normalized in
+ * isolation, so that adding or removing an axiom only adds or removes its own
+ * normalized axioms. The extracted modules are cached, and a cached module is
+ * only discarded when a change can modify it.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class PreprocessedOntology {
+
+	private final IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+	private final Translator translator;
+	private final SimpleNormalizer normalizer;
+	private final ProblogInputCreator problogInputCreator = new ProblogInputCreator();
+	private final Map<OWLAxiom, Set<NormalizedIntegerAxiom>> normalizedAxiomMap = new HashMap<>();
+	private final Map<NormalizedIntegerAxiom, Integer> referenceCount = new HashMap<>();
+	private final Set<Integer> objectProperties = new HashSet<>();
+	private final IncrementalModuleExtractor moduleExtractor = new IncrementalModuleExtractor();
+	private final Map<Set<Integer>, Module> moduleCache = new HashMap<>();
+	private boolean hasInverseObjectProperties = false;
+
+	/**
+	 * Constructs a new preprocessed ontology. The construction stops with a
+	 * cancellation exception if the current thread is interrupted.
+	 *
+	 * @param dataFactory
+	 *            OWL data factory
+	 * @param axioms
+	 *            OWL axioms
+	 */
+	public PreprocessedOntology(OWLDataFactory dataFactory, Set<OWLAxiom> axioms) {
+		Objects.requireNonNull(dataFactory);
+		Objects.requireNonNull(axioms);
+		this.translator = new Translator(dataFactory, this.factory);
+		this.normalizer = new SimpleNormalizer(this.factory);
+
+		List<OWLAxiom> sortedAxioms = new ArrayList<>(axioms);
+		Collections.sort(sortedAxioms);
+		Map<OWLAxiom, Set<ComplexIntegerAxiom>> translatedAxioms = new HashMap<>();
+		sortedAxioms.forEach(axiom -> {
+			ProblogInputCreator.checkInterruption();
+			translatedAxioms.put(axiom, translate(axiom));
+		});
+
+		// axioms declaring inverse object properties need to be normalized first
+		sortedAxioms.stream().filter(axiom -> isInverseObjectPropertiesAxiom(translatedAxioms.get(axiom)))
+				.forEach(axiom -> add(axiom, translatedAxioms.get(axiom)));
+		sortedAxioms.stream().filter(axiom -> !isInverseObjectPropertiesAxiom(translatedAxioms.get(axiom)))
+				.forEach(axiom -> {
+					ProblogInputCreator.checkInterruption();
+					add(axiom, translatedAxioms.get(axiom));
+				});
+	}
+
+	/**
+	 * Returns the factory of integer ontology objects.
+	 *
+	 * @return the factory of integer ontology objects
+	 */
+	public IntegerOntologyObjectFactory getOntologyObjectFactory() {
+		return this.factory;
+	}
+
+	/**
+	 * Returns the translator.
+	 *
+	 * @return the translator
+	 */
+	public Translator getTranslator() {
+		return this.translator;
+	}
+
+	/**
+	 * Returns the normalized axioms.
+	 *
+	 * @return the normalized axioms
+	 */
+	public Set<NormalizedIntegerAxiom> getNormalizedAxioms() {
+		return this.moduleExtractor.getAxioms();
+	}
+
+	/**
+	 * Returns the OWL axioms that have been added.
+	 *
+	 * @return the OWL axioms that have been added
+	 */
+	public Set<OWLAxiom> getAxioms() {
+		return Collections.unmodifiableSet(this.normalizedAxiomMap.keySet());
+	}
+
+	/**
+	 * Returns the normalized axioms obtained from the given OWL axiom, or an
+	 * empty set if the axiom has not been added.
+	 *
+	 * @param axiom
+	 *            OWL axiom
+	 * @return the normalized axioms obtained from the given OWL axiom
+	 */
+	public Set<NormalizedIntegerAxiom> getNormalizedAxioms(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		Set<NormalizedIntegerAxiom> ret = this.normalizedAxiomMap.get(axiom);
+		return Objects.isNull(ret) ? Collections.emptySet() : Collections.unmodifiableSet(ret);
+	}
+
+	Set<ComplexIntegerAxiom> translate(OWLAxiom axiom) {
+		return axiom.accept(this.translator.getAxiomTranslator());
+	}
+
+	boolean isInverseObjectPropertiesAxiom(Set<ComplexIntegerAxiom> axioms) {
+		return axioms.stream().anyMatch(axiom -> axiom instanceof IntegerInverseObjectPropertiesAxiom);
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the ontology has axioms
+	 * declaring inverse object properties. Such axioms cannot be removed or
+	 * added incrementally.
+	 *
+	 * @return <code>true</code> if and only if the ontology has axioms
+	 *         declaring inverse object properties
+	 */
+	public boolean hasInverseObjectProperties() {
+		return this.hasInverseObjectProperties;
+	}
+
+	Set<NormalizedIntegerAxiom> normalize(Set<? extends IntegerAxiom> axioms) {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		Set<IntegerAxiom> pending = new HashSet<>(axioms);
+		while (!pending.isEmpty()) {
+			Set<IntegerAxiom> next = new HashSet<>();
+			pending.forEach(axiom -> {
+				if (axiom instanceof NormalizedIntegerAxiom) {
+					ret.add((NormalizedIntegerAxiom) axiom);
+				} else {
+					next.addAll(this.normalizer.normalize(axiom));
+				}
+			});
+			pending = next;
+		}
+		return this.problogInputCreator.removeUnnecessaryAnnotations(ret, this.factory);
+	}
+
+	Set<NormalizedIntegerAxiom> addNormalizedAxioms(Set<NormalizedIntegerAxiom> normalizedAxioms) {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		normalizedAxioms.forEach(normalizedAxiom -> {
+			Integer count = this.referenceCount.get(normalizedAxiom);
+			if (Objects.isNull(count)) {
+				this.referenceCount.put(normalizedAxiom, 1);
+				this.moduleExtractor.add(normalizedAxiom);
+				ret.add(normalizedAxiom);
+			} else {
+				this.referenceCount.put(normalizedAxiom, count + 1);
+			}
+		});
+		return ret;
+	}
+
+	Set<NormalizedIntegerAxiom> add(OWLAxiom axiom, Set<ComplexIntegerAxiom> translatedAxioms) {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		if (!this.normalizedAxiomMap.containsKey(axiom)) {
+			this.hasInverseObjectProperties = this.hasInverseObjectProperties
+					|| isInverseObjectPropertiesAxiom(translatedAxioms);
+			Set<NormalizedIntegerAxiom> normalizedAxioms = normalize(translatedAxioms);
+			this.normalizedAxiomMap.put(axiom, normalizedAxioms);
+			ret.addAll(addNormalizedAxioms(normalizedAxioms));
+
+			// the axioms for the inverse object properties are kept for the
+			// whole life of this object
+			Set<Integer> newObjectProperties = new TreeSet<>();
+			translatedAxioms.forEach(translatedAxiom -> newObjectProperties
+					.addAll(translatedAxiom.getObjectPropertiesInSignature()));
+			newObjectProperties.removeAll(this.objectProperties);
+			newObjectProperties.forEach(property -> {
+				this.objectProperties.add(property);
+				Integer inverseProperty = this.factory.getEntityManager().createOrGetInverseObjectPropertyOf(property);
+				ret.addAll(addNormalizedAxioms(
+						normalize(this.normalizer.getAxiomsForInverseObjectProperties(property, inverseProperty))));
+			});
+		}
+		return ret;
+	}
+
+	/**
+	 * Adds an OWL axiom and returns the normalized axioms that were not
+	 * present before.
+	 *
+	 * @param axiom
+	 *            OWL axiom
+	 * @return the normalized axioms that were not present before
+	 */
+	public Set<NormalizedIntegerAxiom> addAxiom(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		Set<NormalizedIntegerAxiom> ret = add(axiom, translate(axiom));
+		invalidateModules(Collections.emptySet(), ret);
+		return ret;
+	}
+
+	/**
+	 * Removes an OWL axiom and returns the normalized axioms that are no
+	 * longer present.
+	 *
+	 * @param axiom
+	 *            OWL axiom
+	 * @return the normalized axioms that are no longer present
+	 */
+	public Set<NormalizedIntegerAxiom> removeAxiom(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		Set<NormalizedIntegerAxiom> normalizedAxioms = this.normalizedAxiomMap.remove(axiom);
+		if (Objects.nonNull(normalizedAxioms)) {
+			normalizedAxioms.forEach(normalizedAxiom -> {
+				Integer count = this.referenceCount.get(normalizedAxiom);
+				if (count <= 1) {
+					this.referenceCount.remove(normalizedAxiom);
+					this.moduleExtractor.remove(normalizedAxiom);
+					ret.add(normalizedAxiom);
+				} else {
+					this.referenceCount.put(normalizedAxiom, count - 1);
+				}
+			});
+		}
+		invalidateModules(ret, Collections.emptySet());
+		return ret;
+	}
+
+	/**
+	 * Discards the cached modules that can be modified by the given changes.
+	 *
+	 * @param removedAxioms
+	 *            normalized axioms that were removed
+	 * @param addedAxioms
+	 *            normalized axioms that were added
+	 */
+	void invalidateModules(Set<NormalizedIntegerAxiom> removedAxioms, Set<NormalizedIntegerAxiom> addedAxioms) {
+		if (!removedAxioms.isEmpty() || !addedAxioms.isEmpty()) {
+			List<Set<Integer>> keys = new ArrayList<>(this.moduleCache.keySet());
+			keys.forEach(key -> {
+				Module module = this.moduleCache.get(key);
+				if (removedAxioms.stream().anyMatch(axiom -> module.getAxioms().contains(axiom))
+						|| addedAxioms.stream().anyMatch(
+								axiom -> this.moduleExtractor.isRelevant(axiom, module.getEntities()))) {
+					this.moduleCache.remove(key);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns the number of cached modules.
+	 *
+	 * @return the number of cached modules
+	 */
+	public int getNumberOfCachedModules() {
+		return this.moduleCache.size();
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given module is cached, i.e.
+	 * no change has modified it since it was extracted.
+	 *
+	 * @param module
+	 *            module
+	 * @return <code>true</code> if and only if the given module is cached
+	 */
+	public boolean isCachedModule(Module module) {
+		Objects.requireNonNull(module);
+		return this.moduleCache.values().stream().anyMatch(cachedModule -> cachedModule == module);
+	}
+
+	/**
+	 * Returns the module for the given classes. The same object is returned as
+	 * long as no change can modify the module.
+	 *
+	 * @param setOfClasses
+	 *            set of classes
+	 * @return the module for the given classes
+	 */
+	public Module getModule(Set<Integer> setOfClasses) {
+		Objects.requireNonNull(setOfClasses);
+		Set<Integer> key = Collections.unmodifiableSet(new TreeSet<>(setOfClasses));
+		Module ret = this.moduleCache.get(key);
+		if (Objects.isNull(ret)) {
+			ret = this.moduleExtractor.extractModule(key);
+			this.moduleCache.put(key, ret);
+		}
+		return ret;
+	}
+
+}
@@ -0,0 +1,428 @@
+package de.tudresden.inf.lat.born.owlapi.processor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import de.tudresden.inf.lat.born.core.rule.CompletionRule;
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.module.Module;
+import de.tudresden.inf.lat.born.problog.type.ProblogProgram;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.owlapi.translator.TranslationException;
+
+/**
+ * An object of this class computes the probabilities of subsumptions and
+ * class assertions of a preprocessed ontology. The completion rules and the
+ * Bayesian network are kept for all the queries, and each probability is
+ * memoized together with the module used to compute it. A memoized probability
+ * is reused as long as the preprocessed ontology returns the same module for
+ * its query.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ProbabilityEvaluator {
+
+	private static final Logger logger = Logger.getLogger(ProbabilityEvaluator.class.getName());
+
+	static final String QUERY_PREFIX = "query(";
+	static final String QUERY_SUFFIX = ").";
+	static final String SUB = "sub";
+	static final String INST = "inst";
+
+	/**
+	 * An object of this class is a memoized probability.
+	 */
+	static class MemoizedProbability {
+
+		private final Module module;
+		private final double probability;
+
+		MemoizedProbability(Module module, double probability) {
+			this.module = module;
+			this.probability = probability;
+		}
+
+		Module getModule() {
+			return this.module;
+		}
+
+		double getProbability() {
+			return this.probability;
+		}
+
+	}
+
+	/**
+	 * An object of this class is the computation of the probabilities of some
+	 * queries, which may need an execution of the query processor.
+	 */
+	public static class Computation {
+
+		private final List<String> terms;
+		private final Map<String, Double> values;
+		private final Map<String, Module> pending;
+		private final String program;
+
+		Computation(List<String> terms, Map<String, Double> values, Map<String, Module> pending, String program) {
+			this.terms = terms;
+			this.values = values;
+			this.pending = pending;
+			this.program = program;
+		}
+
+		List<String> getTerms() {
+			return this.terms;
+		}
+
+		Map<String, Double> getValues() {
+			return this.values;
+		}
+
+		Map<String, Module> getPending() {
+			return this.pending;
+		}
+
+		/**
+		 * Returns <code>true</code> if and only if all the probabilities are
+		 * known, and the query processor does not need to be executed.
+		 *
+		 * @return <code>true</code> if and only if all the probabilities are
+		 *         known
+		 */
+		public boolean isComplete() {
+			return this.pending.isEmpty();
+		}
+
+		/**
+		 * Returns the ProbLog program that computes the unknown probabilities.
+		 *
+		 * @return the ProbLog program that computes the unknown probabilities
+		 */
+		public String getProgram() {
+			return this.program;
+		}
+
+	}
+
+	private final PreprocessedOntology preprocessedOntology;
+	private final String bayesianNetwork;
+	private final Function<String, String> queryProcessor;
+	private final ProblogInputCreator problogInputCreator = new ProblogInputCreator();
+	private final List<CompletionRule> completionRules;
+	private final Map<String, MemoizedProbability> memoizedProbabilities = new HashMap<>();
+
+	/**
+	 * Constructs a new probability evaluator.
+	 *
+	 * @param preprocessedOntology
+	 *            preprocessed ontology
+	 * @param bayesianNetwork
+	 *            Bayesian network
+	 * @param queryProcessor
+	 *            query processor, which receives a ProbLog program and returns
+	 *            the ProbLog output
+	 */
+	public ProbabilityEvaluator(PreprocessedOntology preprocessedOntology, String bayesianNetwork,
+			Function<String, String> queryProcessor) {
+		Objects.requireNonNull(preprocessedOntology);
+		Objects.requireNonNull(bayesianNetwork);
+		Objects.requireNonNull(queryProcessor);
+		this.preprocessedOntology = preprocessedOntology;
+		this.bayesianNetwork = bayesianNetwork;
+		this.queryProcessor = queryProcessor;
+		this.completionRules = Collections.unmodifiableList(this.problogInputCreator.getDefaultCompletionRules());
+	}
+
+	/**
+	 * Returns the preprocessed ontology.
+	 *
+	 * @return the preprocessed ontology
+	 */
+	public PreprocessedOntology getPreprocessedOntology() {
+		return this.preprocessedOntology;
+	}
+
+	/**
+	 * Returns the query processor.
+	 *
+	 * @return the query processor
+	 */
+	public Function<String, String> getQueryProcessor() {
+		return this.queryProcessor;
+	}
+
+	/**
+	 * Returns the number of memoized probabilities.
+	 *
+	 * @return the number of memoized probabilities
+	 */
+	public int getNumberOfMemoizedProbabilities() {
+		return this.memoizedProbabilities.size();
+	}
+
+	/**
+	 * Returns the ProbLog term of a subsumption query.
+	 *
+	 * @param subClass
+	 *            sub class
+	 * @param superClass
+	 *            super class
+	 * @return the ProbLog term of a subsumption query
+	 */
+	public String getSubsumptionTerm(OWLClass subClass, OWLClass superClass) {
+		Objects.requireNonNull(subClass);
+		Objects.requireNonNull(superClass);
+		return SUB + Symbol.PAR_A_CHAR + quote(subClass.getIRI().toString()) + Symbol.COMMA_CHAR
+				+ Symbol.SPACE_CHAR + quote(superClass.getIRI().toString()) + Symbol.PAR_B_CHAR;
+	}
+
+	/**
+	 * Returns the ProbLog term of an instance query.
+	 *
+	 * @param individual
+	 *            individual
+	 * @param cls
+	 *            class
+	 * @return the ProbLog term of an instance query
+	 */
+	public String getInstanceTerm(OWLNamedIndividual individual, OWLClass cls) {
+		Objects.requireNonNull(individual);
+		Objects.requireNonNull(cls);
+		return INST + Symbol.PAR_A_CHAR + quote(individual.getIRI().toString()) + Symbol.COMMA_CHAR
+				+ Symbol.SPACE_CHAR + quote(cls.getIRI().toString()) + Symbol.PAR_B_CHAR;
+	}
+
+	String quote(String str) {
+		return "" + Symbol.APOSTROPHE_CHAR + str + Symbol.APOSTROPHE_CHAR;
+	}
+
+	/**
+	 * Returns the classes that determine the module of a subsumption query.
+	 *
+	 * @param subClass
+	 *            sub class
+	 * @return the classes that determine the module of a subsumption query
+	 */
+	public Set<Integer> getSubsumptionSeed(OWLClass subClass) {
+		Objects.requireNonNull(subClass);
+		Set<Integer> ret = new TreeSet<>();
+		try {
+			ret.add(this.preprocessedOntology.getTranslator().getTranslationRepository().getId(subClass));
+		} catch (TranslationException e) {
+			// the class does not occur in the ontology
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the classes that determine the module of an instance query.
+	 *
+	 * @param individual
+	 *            individual
+	 * @return the classes that determine the module of an instance query
+	 */
+	public Set<Integer> getInstanceSeed(OWLNamedIndividual individual) {
+		Objects.requireNonNull(individual);
+		Set<Integer> entities = new TreeSet<>();
+		try {
+			entities.add(this.preprocessedOntology.getTranslator().getTranslationRepository().getId(individual));
+		} catch (TranslationException e) {
+			// the individual does not occur in the ontology
+		}
+		return this.problogInputCreator.getSetOfClasses(this.preprocessedOntology.getOntologyObjectFactory(),
+				entities);
+	}
+
+	/**
+	 * Prepares the computation of the probabilities of the given queries. Each
+	 * query is given as a ProbLog term together with the classes that
+	 * determine its module. The probabilities that are memoized are taken
+	 * immediately, and a single ProbLog program is created for the other ones.
+	 * The program can be executed without accessing this object, so that
+	 * several programs can be executed at the same time. The preparation stops
+	 * with a cancellation exception if the current thread is interrupted, and
+	 * in that case no probability is memoized.
+	 *
+	 * @param queries
+	 *            map from ProbLog terms to the classes that determine their
+	 *            modules
+	 * @return the computation of the probabilities of the given queries
+	 */
+	public Computation prepare(Map<String, Set<Integer>> queries) {
+		Objects.requireNonNull(queries);
+		Map<String, Module> pending = new LinkedHashMap<>();
+		Map<String, Double> memoizedValues = new HashMap<>();
+		queries.forEach((term, seed) -> {
+			ProblogInputCreator.checkInterruption();
+			Module module = this.preprocessedOntology.getModule(seed);
+			MemoizedProbability memoized = this.memoizedProbabilities.get(term);
+			if (Objects.nonNull(memoized) && memoized.getModule() == module) {
+				memoizedValues.put(term, memoized.getProbability());
+			} else {
+				pending.put(term, module);
+			}
+		});
+
+		String program = "";
+		if (!pending.isEmpty()) {
+			logger.fine("computing " + pending.size() + " probabilities (" + memoizedValues.size() + " memoized)");
+			program = createProgram(pending);
+			ProblogInputCreator.checkInterruption();
+		}
+		return new Computation(new ArrayList<>(queries.keySet()), memoizedValues, pending, program);
+	}
+
+	/**
+	 * Completes a computation with the output of the query processor, memoizes
+	 * the new probabilities, and returns all the probabilities of the
+	 * computation.
+	 *
+	 * @param computation
+	 *            computation
+	 * @param output
+	 *            output of the query processor for the program of the
+	 *            computation, which is ignored if the computation does not
+	 *            need the query processor
+	 * @return a map from ProbLog terms to their probabilities
+	 */
+	public Map<String, Double> complete(Computation computation, String output) {
+		Objects.requireNonNull(computation);
+		Objects.requireNonNull(output);
+		Map<String, Double> computed = computation.isComplete() ? Collections.emptyMap() : parseResult(output);
+		computation.getPending().forEach((term, module) -> {
+			Double probability = computed.get(normalizeTerm(term));
+			if (Objects.isNull(probability)) {
+				throw new IllegalStateException("The query processor did not return a result for '" + term + "'.");
+			}
+			this.memoizedProbabilities.put(term, new MemoizedProbability(module, probability));
+			computation.getValues().put(term, probability);
+		});
+
+		Map<String, Double> ret = new LinkedHashMap<>();
+		computation.getTerms().forEach(term -> ret.put(term, computation.getValues().get(term)));
+		return ret;
+	}
+
+	/**
+	 * Returns the probabilities of the given queries. All the probabilities
+	 * that are not memoized are computed with a single execution of the query
+	 * processor.
+	 *
+	 * @param queries
+	 *            map from ProbLog terms to the classes that determine their
+	 *            modules
+	 * @return a map from ProbLog terms to their probabilities
+	 */
+	public Map<String, Double> getProbabilities(Map<String, Set<Integer>> queries) {
+		Objects.requireNonNull(queries);
+		Computation computation = prepare(queries);
+		String output = computation.isComplete() ? "" : ProcessorCore.QUERY_PROCESSOR_TIME
+				.time(() -> this.queryProcessor.apply(computation.getProgram()));
+		return complete(computation, output);
+	}
+
+	/**
+	 * Returns the probability of the given query.
+	 *
+	 * @param term
+	 *            ProbLog term
+	 * @param seed
+	 *            classes that determine the module of the query
+	 * @return the probability of the given query
+	 */
+	public double getProbability(String term, Set<Integer> seed) {
+		Objects.requireNonNull(term);
+		Objects.requireNonNull(seed);
+		return getProbabilities(Collections.singletonMap(term, seed)).get(term);
+	}
+
+	/**
+	 * Removes the memoized probabilities whose modules are no longer valid.
+	 */
+	public void removeInvalidProbabilities() {
+		Set<String> terms = new HashSet<>(this.memoizedProbabilities.keySet());
+		terms.forEach(term -> {
+			MemoizedProbability memoized = this.memoizedProbabilities.get(term);
+			if (!this.preprocessedOntology.isCachedModule(memoized.getModule())) {
+				this.memoizedProbabilities.remove(term);
+			}
+		});
+	}
+
+	String createProgram(Map<String, Module> pending) {
+		Set<Integer> entities = new TreeSet<>();
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		StringBuffer queryList = new StringBuffer();
+		pending.forEach((term, module) -> {
+			entities.addAll(module.getEntities());
+			axioms.addAll(module.getAxioms());
+			queryList.append(QUERY_PREFIX + term + QUERY_SUFFIX);
+			queryList.append(Symbol.NEW_LINE_CHAR);
+		});
+
+		try {
+			ProblogProgram program = this.problogInputCreator.createProblogProgram(
+					this.preprocessedOntology.getOntologyObjectFactory(), new Module(entities, axioms),
+					this.completionRules, "", this.bayesianNetwork, queryList.toString());
+			return program.asString();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns a term without apostrophes and spaces, so that terms can be
+	 * compared regardless of how the query processor quotes them.
+	 *
+	 * @param term
+	 *            term
+	 * @return a term without apostrophes and spaces
+	 */
+	public static String normalizeTerm(String term) {
+		StringBuilder sb = new StringBuilder();
+		term.chars().filter(ch -> ch != Symbol.APOSTROPHE_CHAR && !Character.isWhitespace(ch))
+				.forEach(ch -> sb.append((char) ch));
+		return sb.toString();
+	}
+
+	/**
+	 * Parses the output of ProbLog, where each line has a term, a colon, and
+	 * a probability.
+	 *
+	 * @param result
+	 *            output of ProbLog
+	 * @return a map from normalized terms to their probabilities
+	 */
+	public static Map<String, Double> parseResult(String result) {
+		Objects.requireNonNull(result);
+		Map<String, Double> ret = new HashMap<>();
+		for (String line : result.split("" + Symbol.NEW_LINE_CHAR)) {
+			int pos = line.lastIndexOf(Symbol.COLON_CHAR);
+			if (pos != -1) {
+				try {
+					ret.put(normalizeTerm(line.substring(0, pos)), Double.parseDouble(line.substring(pos + 1).trim()));
+				} catch (NumberFormatException e) {
+					logger.fine("ignoring line '" + line + "'");
+				}
+			}
+		}
+		return ret;
+	}
+
+}
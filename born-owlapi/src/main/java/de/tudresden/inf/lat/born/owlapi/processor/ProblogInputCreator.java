@@ -1,12 +1,9 @@
 package de.tudresden.inf.lat.born.owlapi.processor;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
-import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,13 +17,26 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.semanticweb.owlapi.formats.PrefixDocumentFormat;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-
+import org.semanticweb.owlapi.model.OWLOntologyID;
+
+import de.tudresden.inf.lat.born.core.event.FlightRecorderSupport;
+import de.tudresden.inf.lat.born.core.event.ModuleExtractionEvent;
+import de.tudresden.inf.lat.born.core.event.NormalizationEvent;
+import de.tudresden.inf.lat.born.core.event.ProgramEmissionEvent;
+import de.tudresden.inf.lat.born.core.event.TranslationEvent;
+import de.tudresden.inf.lat.born.core.metrics.LatencyHistogram;
+import de.tudresden.inf.lat.born.core.metrics.MetricsRegistry;
+import de.tudresden.inf.lat.born.core.metrics.ResourceUsage;
 import de.tudresden.inf.lat.born.core.rule.BR1Rule;
 import de.tudresden.inf.lat.born.core.rule.BR2Rule;
 import de.tudresden.inf.lat.born.core.rule.BR3Rule;
@@ -47,8 +57,10 @@ import de.tudresden.inf.lat.born.core.rule.TR2Rule;
 import de.tudresden.inf.lat.born.core.rule.TR3Rule;
 import de.tudresden.inf.lat.born.core.term.Clause;
 import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.module.BottomLocalityModuleExtractor;
 import de.tudresden.inf.lat.born.module.DefaultModuleExtractor;
 import de.tudresden.inf.lat.born.module.Module;
+import de.tudresden.inf.lat.born.module.ModuleStrategy;
 import de.tudresden.inf.lat.born.problog.parser.Token;
 import de.tudresden.inf.lat.born.problog.parser.TokenCreator;
 import de.tudresden.inf.lat.born.problog.parser.TokenType;
@@ -60,8 +72,6 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
-import de.tudresden.inf.lat.jcel.ontology.normalization.OntologyNormalizer;
-import de.tudresden.inf.lat.jcel.owlapi.translator.Translator;
 
 /**
  * 
@@ -72,6 +82,11 @@ public class ProblogInputCreator {
 
 	private static final Logger logger = Logger.getLogger(ProblogInputCreator.class.getName());
 
+	public static final String PROGRAM_CREATION_METRIC = "born_program_creation_seconds";
+
+	static final LatencyHistogram PROGRAM_CREATION_TIME = MetricsRegistry.getDefault()
+			.getHistogram(PROGRAM_CREATION_METRIC);
+
 	static final String NUMBER_OF_OWL_AXIOMS_MSG = "  Number of OWL axioms: ";
 	static final String NUMBER_OF_AXIOMS_MSG = "  Number of axioms: ";
 	static final String NUMBER_OF_NORM_AXIOMS_MSG = "  Number of normalized axioms: ";
@@ -83,6 +98,21 @@ public class ProblogInputCreator {
 	static final String EL_COMPLETION_RULES_MSG = " EL complettion rules";
 	static final String RULES_TO_AVOID_EMPTY_PREDICATES_OF_ENTITIES_MSG = " Rules to avoid empty predicates of entities";
 
+	/**
+	 * Throws a cancellation exception if the current thread has been
+	 * interrupted. This is checked between the stages of the creation of a
+	 * ProbLog program, so that a cancelled execution stops as soon as the
+	 * current stage is finished.
+	 * 
+	 * @throws CancellationException
+	 *             if the current thread has been interrupted
+	 */
+	public static void checkInterruption() {
+		if (Thread.currentThread().isInterrupted()) {
+			throw new CancellationException();
+		}
+	}
+
 	Set<String> parseRelevantSymbols(Reader reader) throws IOException {
 		TokenCreator c = new TokenCreator();
 		List<Token> tokens = c.createTokens(reader);
@@ -141,13 +171,40 @@ public class ProblogInputCreator {
 		return completionRules;
 	}
 
-	void write(Writer output, ProblogProgram program) throws IOException {
+	/**
+	 * Writes a ProbLog program and closes the output.
+	 * 
+	 * @param output
+	 *            output
+	 * @param program
+	 *            ProbLog program
+	 * @return the number of bytes written
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	long write(OutputStream output, ProblogProgram program) throws IOException {
 		Objects.requireNonNull(output);
 		Objects.requireNonNull(program);
-		BufferedWriter writer = new BufferedWriter(output);
-		writer.write(program.asString());
-		writer.flush();
-		writer.close();
+		byte[] bytes = program.asString().getBytes();
+		output.write(bytes);
+		output.flush();
+		output.close();
+		return bytes.length;
+	}
+
+	/**
+	 * Returns the name of an ontology, which is its IRI, or its document IRI
+	 * if it is anonymous.
+	 * 
+	 * @param ontology
+	 *            ontology
+	 * @return the name of an ontology
+	 */
+	public static String getOntologyName(OWLOntology ontology) {
+		Objects.requireNonNull(ontology);
+		OWLOntologyID id = ontology.getOntologyID();
+		return id.getOntologyIRI().isPresent() ? id.getOntologyIRI().get().toString()
+				: ontology.getOWLOntologyManager().getOntologyDocumentIRI(ontology).toString();
 	}
 
 	List<Clause> getDeclarations(IntegerOntologyObjectFactory factory, Module module) {
@@ -318,13 +375,98 @@ public class ProblogInputCreator {
 		return replaceAll(revPrefixNames, text);
 	}
 
+	/**
+	 * Returns a ProbLog program for the given module.
+	 * 
+	 * @param factory
+	 *            factory of integer ontology objects
+	 * @param module
+	 *            module
+	 * @param completionRules
+	 *            completion rules
+	 * @param additionalCompletionRules
+	 *            additional completion rules
+	 * @param bayesianNetwork
+	 *            Bayesian network
+	 * @param queryList
+	 *            queries, with their prefixes expanded
+	 * @return a ProbLog program for the given module
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public ProblogProgram createProblogProgram(IntegerOntologyObjectFactory factory, Module module,
+			List<CompletionRule> completionRules, String additionalCompletionRules, String bayesianNetwork,
+			String queryList) throws IOException {
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(module);
+		Objects.requireNonNull(completionRules);
+		Objects.requireNonNull(additionalCompletionRules);
+		Objects.requireNonNull(bayesianNetwork);
+		Objects.requireNonNull(queryList);
+		long start = System.nanoTime();
+		try {
+			return createProgram(factory, module, completionRules, additionalCompletionRules, bayesianNetwork,
+					queryList);
+		} finally {
+			PROGRAM_CREATION_TIME.recordSince(start);
+		}
+	}
+
+	ProblogProgram createProgram(IntegerOntologyObjectFactory factory, Module module,
+			List<CompletionRule> completionRules, String additionalCompletionRules, String bayesianNetwork,
+			String queryList) throws IOException {
+		ProblogProgram program = new ProblogProgram();
+		program.setQueryListAddendum(queryList);
+
+		List<Clause> clauses = getClauses(factory, module);
+		program.getData().setOntology(clauses);
+		logger.fine("Ontology: " + program.getData().getOntology());
+
+		program.getData().setCompletionRules(completionRules);
+		logger.fine("Completion Rules: " + program.getData().getCompletionRules());
+
+		program.setAdditionalCompletionRulesAsText(additionalCompletionRules);
+		logger.fine("Additional Completion Rules: " + program.getAdditionalCompletionRulesAsText());
+
+		program.setBayesianNetworkAddendum(bayesianNetwork);
+		logger.fine("Bayesian Network: " + program.getBayesianNetworkAddendum());
+		return program;
+	}
+
 	public String createProblogFile(boolean useOfDefaultCompletionRules, String additionalCompletionRules,
 			OWLOntology owlOntology, String bayesianNetwork, String query, OutputStream resultOutputStream,
 			ProcessorExecutionResult executionResult) throws IOException, OWLOntologyCreationException {
+		return createProblogFile(useOfDefaultCompletionRules, additionalCompletionRules, owlOntology, bayesianNetwork,
+				query, ModuleStrategy.DEFAULT, resultOutputStream, executionResult);
+	}
+
+	/**
+	 * Returns the OWL classes and individuals of the given ontology that are
+	 * named by the given symbols.
+	 * 
+	 * @param owlOntology
+	 *            OWL ontology
+	 * @param symbolStrSet
+	 *            symbols
+	 * @return the OWL classes and individuals of the given ontology that are
+	 *         named by the given symbols
+	 */
+	Set<OWLEntity> getSignature(OWLOntology owlOntology, Set<String> symbolStrSet) {
+		Set<String> names = symbolStrSet.stream().map(this::removeApostrophes).collect(Collectors.toSet());
+		return Stream
+				.concat(owlOntology.getClassesInSignature().stream(), owlOntology.getIndividualsInSignature().stream())
+				.filter(entity -> names.contains(entity.getIRI().toString())).collect(Collectors.toSet());
+	}
+
+	public String createProblogFile(boolean useOfDefaultCompletionRules, String additionalCompletionRules,
+			OWLOntology owlOntology, String bayesianNetwork, String query, ModuleStrategy moduleStrategy,
+			OutputStream resultOutputStream, ProcessorExecutionResult executionResult)
+			throws IOException, OWLOntologyCreationException {
 		Objects.requireNonNull(additionalCompletionRules);
 		Objects.requireNonNull(owlOntology);
 		Objects.requireNonNull(bayesianNetwork);
 		Objects.requireNonNull(query);
+		Objects.requireNonNull(moduleStrategy);
 		Objects.requireNonNull(resultOutputStream);
 		StringBuffer sbuf = new StringBuffer();
 		sbuf.append(Symbol.NEW_LINE_CHAR);
@@ -332,69 +474,102 @@ public class ProblogInputCreator {
 		sbuf.append(NUMBER_OF_OWL_AXIOMS_MSG + owlOntology.getAxiomCount());
 		sbuf.append(Symbol.NEW_LINE_CHAR);
 
-		ProblogProgram program = new ProblogProgram();
 		String expandedQuery = expandPrefixes(owlOntology, query);
-		program.setQueryListAddendum(expandedQuery);
 
 		Set<String> relevantSymbols = parseRelevantSymbols(new StringReader(expandedQuery));
 
 		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+		boolean recording = FlightRecorderSupport.isAvailable();
+		String ontologyName = recording ? getOntologyName(owlOntology) : null;
+
+		// the locality module is extracted from the OWL axioms, so that only
+		// the axioms of the module are translated and normalized
+		boolean usingLocality = moduleStrategy.equals(ModuleStrategy.BOTTOM_LOCALITY);
+		Set<OWLAxiom> owlAxioms = owlOntology.getAxioms();
+		ResourceUsage localityUsage = new ResourceUsage();
+		long localityTime = 0;
+		if (usingLocality) {
+			long localityStart = System.nanoTime();
+			Set<OWLAxiom> allAxioms = owlAxioms;
+			owlAxioms = localityUsage.measure(() -> new BottomLocalityModuleExtractor(allAxioms)
+					.extractModule(getSignature(owlOntology, relevantSymbols)));
+			localityTime = System.nanoTime() - localityStart;
+			checkInterruption();
+		}
 
 		long translationStart = System.nanoTime();
-		logger.fine("OWL Axioms: " + owlOntology.getAxioms());
+		logger.fine("OWL Axioms: " + owlAxioms);
 
-		Translator translator = new Translator(owlOntology.getOWLOntologyManager().getOWLDataFactory(), factory);
-		Set<ComplexIntegerAxiom> axioms = translator.translateSA(owlOntology.getAxioms());
+		TranslationEvent translationEvent = recording ? new TranslationEvent(ontologyName) : null;
+		ParallelPreprocessor preprocessor = new ParallelPreprocessor(
+				owlOntology.getOWLOntologyManager().getOWLDataFactory(), factory);
+		List<ComplexIntegerAxiom> axioms = preprocessor.translate(owlAxioms);
 		logger.fine("Integer Axioms: " + axioms);
+		if (recording) {
+			translationEvent.end(owlAxioms.size(), axioms.size());
+		}
 
 		executionResult.setTranslationTime(System.nanoTime() - translationStart);
+		executionResult.setTranslationCpuTime(preprocessor.getTranslationUsage().getCpuTime());
+		executionResult.setTranslationAllocatedBytes(preprocessor.getTranslationUsage().getAllocatedBytes());
 		executionResult.setOntologySize(axioms.size());
 		sbuf.append(NUMBER_OF_AXIOMS_MSG + axioms.size());
 		sbuf.append(Symbol.NEW_LINE_CHAR);
+		checkInterruption();
 
 		long normalizationStart = System.nanoTime();
-		OntologyNormalizer normalizer = new OntologyNormalizer();
-		Set<NormalizedIntegerAxiom> normalizedAxioms = removeUnnecessaryAnnotations(
-				normalizer.normalize(axioms, factory), factory);
+		NormalizationEvent normalizationEvent = recording ? new NormalizationEvent(ontologyName) : null;
+		Set<NormalizedIntegerAxiom> normalizedAxioms = removeUnnecessaryAnnotations(preprocessor.normalize(axioms),
+				factory);
 		logger.fine("Normalized Axioms: " + normalizedAxioms);
+		if (recording) {
+			normalizationEvent.end(axioms.size(), normalizedAxioms.size());
+		}
 
 		executionResult.setNormalizationTime(System.nanoTime() - normalizationStart);
+		executionResult.setNormalizationCpuTime(preprocessor.getNormalizationUsage().getCpuTime());
+		executionResult.setNormalizationAllocatedBytes(preprocessor.getNormalizationUsage().getAllocatedBytes());
 		executionResult.setNormalizedOntologySize(normalizedAxioms.size());
 		sbuf.append(NUMBER_OF_NORM_AXIOMS_MSG + normalizedAxioms.size());
 		sbuf.append(Symbol.NEW_LINE_CHAR);
+		checkInterruption();
 
 		long moduleExtractionStart = System.nanoTime();
+		ModuleExtractionEvent moduleExtractionEvent = recording ? new ModuleExtractionEvent(ontologyName) : null;
 		DefaultModuleExtractor moduleExtractor = new DefaultModuleExtractor();
-		Set<Integer> setOfEntities = getSetOfEntities(factory, relevantSymbols);
-		Set<Integer> setOfClasses = getSetOfClasses(factory, setOfEntities);
-
-		Module module = moduleExtractor.extractModule(normalizedAxioms, setOfClasses);
+		ResourceUsage moduleExtractionUsage = new ResourceUsage();
+		Module module = moduleExtractionUsage.measure(() -> {
+			Set<Integer> setOfEntities = getSetOfEntities(factory, relevantSymbols);
+			Set<Integer> setOfClasses = getSetOfClasses(factory, setOfEntities);
+			return usingLocality ? moduleExtractor.createModule(normalizedAxioms, setOfClasses)
+					: moduleExtractor.extractModule(normalizedAxioms, setOfClasses);
+		});
 		logger.fine("Module entities: " + module.getEntities());
 		logger.fine("Module axioms: " + module.getAxioms());
+		if (recording) {
+			moduleExtractionEvent.end(normalizedAxioms.size(), module.getAxioms().size());
+		}
 
-		executionResult.setModuleExtractionTime(System.nanoTime() - moduleExtractionStart);
+		executionResult.setModuleExtractionTime(System.nanoTime() - moduleExtractionStart + localityTime);
+		executionResult.setModuleExtractionCpuTime(moduleExtractionUsage.getCpuTime() + localityUsage.getCpuTime());
+		executionResult.setModuleExtractionAllocatedBytes(
+				moduleExtractionUsage.getAllocatedBytes() + localityUsage.getAllocatedBytes());
 		executionResult.setModuleSize(module.getAxioms().size());
 		sbuf.append(NUMBER_OF_AXIOMS_IN_MODULE + module.getAxioms().size());
 		sbuf.append(Symbol.NEW_LINE_CHAR);
-
-		List<Clause> clauses = getClauses(factory, module);
-		program.getData().setOntology(clauses);
-		logger.fine("Ontology: " + program.getData().getOntology());
-
-		if (useOfDefaultCompletionRules) {
-			program.getData().setCompletionRules(getDefaultCompletionRules());
-		} else {
-			program.getData().setCompletionRules(Collections.emptyList());
+		checkInterruption();
+
+		ProgramEmissionEvent programEmissionEvent = recording ? new ProgramEmissionEvent(ontologyName) : null;
+		List<CompletionRule> completionRules = useOfDefaultCompletionRules ? getDefaultCompletionRules()
+				: Collections.emptyList();
+		ProblogProgram program = createProblogProgram(factory, module, completionRules, additionalCompletionRules,
+				bayesianNetwork, expandedQuery);
+
+		long programSize = write(resultOutputStream, program);
+		executionResult.setProgramSize(programSize);
+		if (recording) {
+			programEmissionEvent.end(module.getAxioms().size(), programSize);
 		}
-		logger.fine("Completion Rules: " + program.getData().getCompletionRules());
-
-		program.setAdditionalCompletionRulesAsText(additionalCompletionRules);
-		logger.fine("Additional Completion Rules: " + program.getAdditionalCompletionRulesAsText());
-
-		program.setBayesianNetworkAddendum(bayesianNetwork);
-		logger.fine("Bayesian Network: " + program.getBayesianNetworkAddendum());
-
-		write(new OutputStreamWriter(resultOutputStream), program);
 
 		return sbuf.toString();
 	}
@@ -4,6 +4,8 @@ import java.util.function.Function;
 
 import org.semanticweb.owlapi.model.OWLOntology;
 
+import de.tudresden.inf.lat.born.module.ModuleStrategy;
+
 /**
  * This interface models the configuration of a processor.
  * 
@@ -133,4 +135,22 @@ public interface ProcessorConfiguration {
 	 */
 	void setShowingLog(boolean showingLog);
 
+	/**
+	 * Returns the strategy to extract the module used to create the ProbLog
+	 * program.
+	 * 
+	 * @return the strategy to extract the module used to create the ProbLog
+	 *         program
+	 */
+	ModuleStrategy getModuleStrategy();
+
+	/**
+	 * Sets the strategy to extract the module used to create the ProbLog
+	 * program.
+	 * 
+	 * @param moduleStrategy
+	 *            strategy to extract the module
+	 */
+	void setModuleStrategy(ModuleStrategy moduleStrategy);
+
 }
@@ -16,6 +16,8 @@ import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
 import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.module.ModuleStrategy;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyReader;
 
 /**
  * 
@@ -32,6 +34,7 @@ public class ProcessorConfigurationImpl implements ProcessorConfiguration {
 	private String outputFileName = "";
 	private Function<String, String> queryProcessor = null;
 	private boolean showingLog = true;
+	private ModuleStrategy moduleStrategy = ModuleStrategy.DEFAULT;
 
 	public ProcessorConfigurationImpl() {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
@@ -127,6 +130,17 @@ public class ProcessorConfigurationImpl implements ProcessorConfiguration {
 		this.showingLog = showingLog;
 	}
 
+	@Override
+	public ModuleStrategy getModuleStrategy() {
+		return this.moduleStrategy;
+	}
+
+	@Override
+	public void setModuleStrategy(ModuleStrategy moduleStrategy) {
+		Objects.requireNonNull(moduleStrategy);
+		this.moduleStrategy = moduleStrategy;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -141,7 +155,8 @@ public class ProcessorConfigurationImpl implements ProcessorConfiguration {
 					&& getBayesianNetwork().equals(other.getBayesianNetwork()) && getQuery().equals(other.getQuery())
 					&& getOutputFileName().equals(other.getOutputFileName())
 					&& getQueryProcessor().equals(other.getQueryProcessor())
-					&& (isShowingLog() == other.isShowingLog());
+					&& (isShowingLog() == other.isShowingLog())
+					&& getModuleStrategy().equals(other.getModuleStrategy());
 		}
 	}
 
@@ -154,14 +169,15 @@ public class ProcessorConfigurationImpl implements ProcessorConfiguration {
 										0x1F * (this.query.hashCode() + //
 												0x1F * (this.outputFileName.hashCode() + //
 														0x1F * (this.queryProcessor.hashCode() + //
-																0x1F * (this.showingLog ? 1 : 0)))))));
+																0x1F * ((this.showingLog ? 1 : 0) + //
+																		0x1F * this.moduleStrategy.hashCode())))))));
 	}
 
 	@Override
 	public String toString() {
 		return this.hasDefaultCompletionRules + "  " + this.completionRules + " " + this.ontology + " "
 				+ this.bayesianNetwork + " " + this.query + " " + this.outputFileName + " " + this.queryProcessor + " "
-				+ this.showingLog;
+				+ this.showingLog + " " + this.moduleStrategy.getName();
 	}
 
 	/**
@@ -207,7 +223,8 @@ public class ProcessorConfigurationImpl implements ProcessorConfiguration {
 	}
 
 	/**
-	 * Returns an OWL ontology after reading the input stream.
+	 * Returns an OWL ontology after reading the input stream. The format of
+	 * the ontology is recognized by an {@link OntologyReader}.
 	 * 
 	 * @param input
 	 *            input stream
@@ -217,8 +234,7 @@ public class ProcessorConfigurationImpl implements ProcessorConfiguration {
 	 */
 	public static OWLOntology readOntology(InputStream input) throws OWLOntologyCreationException {
 		Objects.requireNonNull(input);
-		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
-		return manager.loadOntologyFromOntologyDocument(input);
+		return new OntologyReader().read(input);
 	}
 
 	/**
@@ -5,29 +5,110 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 
+import de.tudresden.inf.lat.born.core.event.FlightRecorderSupport;
+import de.tudresden.inf.lat.born.core.event.QueryProcessorEvent;
+import de.tudresden.inf.lat.born.core.metrics.Counter;
+import de.tudresden.inf.lat.born.core.metrics.Gauge;
+import de.tudresden.inf.lat.born.core.metrics.LatencyHistogram;
+import de.tudresden.inf.lat.born.core.metrics.MetricsRegistry;
+import de.tudresden.inf.lat.born.core.metrics.ResourceUsage;
 import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.module.ModuleStrategy;
 
 /**
  * An object of this class processes an OWL ontology, produces a ProbLog file,
- * and executes ProbLog to obtain the result.
+ * and executes ProbLog to obtain the result. An execution can be run in the
+ * current thread, or submitted to an executor with an optional deadline. A
+ * submitted execution that is cancelled or that exceeds its deadline
+ * interrupts the thread running it, which stops the creation of the ProbLog
+ * program after the current stage, and the wait for ProbLog.
+ * <p>
+ * Only the Java side of the execution is stopped. The query processor, like
+ * JProblog, starts the ProbLog process without giving access to it, so a
+ * ProbLog process that is already running is not destroyed. It keeps running
+ * until it finishes, and its result is discarded.
+ * <p>
+ * The executions record their latencies, and the number of executions,
+ * failures and timeouts, in the {@link MetricsRegistry#getDefault() default
+ * metrics registry}.
  * 
  * @author Julian Mendez
  *
  */
 public class ProcessorCore {
 
+	public static final String PROCESSOR_METRIC = "born_processor_seconds";
+	public static final String QUERY_PROCESSOR_METRIC = "born_query_processor_seconds";
+	public static final String EXECUTIONS_METRIC = "born_processor_executions_total";
+	public static final String FAILURES_METRIC = "born_processor_failures_total";
+	public static final String TIMEOUTS_METRIC = "born_processor_timeouts_total";
+	public static final String ACTIVE_EXECUTIONS_METRIC = "born_processor_active_executions";
+
+	static final LatencyHistogram PROCESSOR_TIME = MetricsRegistry.getDefault().getHistogram(PROCESSOR_METRIC);
+	static final LatencyHistogram QUERY_PROCESSOR_TIME = MetricsRegistry.getDefault()
+			.getHistogram(QUERY_PROCESSOR_METRIC);
+	static final Counter EXECUTIONS = MetricsRegistry.getDefault().getCounter(EXECUTIONS_METRIC);
+	static final Counter FAILURES = MetricsRegistry.getDefault().getCounter(FAILURES_METRIC);
+	static final Counter TIMEOUTS = MetricsRegistry.getDefault().getCounter(TIMEOUTS_METRIC);
+	static final Gauge ACTIVE_EXECUTIONS = MetricsRegistry.getDefault().getGauge(ACTIVE_EXECUTIONS_METRIC);
+
+	private static final ThreadFactory DAEMON_THREAD_FACTORY = runnable -> {
+		Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+		thread.setDaemon(true);
+		return thread;
+	};
+
+	private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(DAEMON_THREAD_FACTORY);
+
+	private static final ScheduledExecutorService DEADLINE_SCHEDULER = Executors
+			.newSingleThreadScheduledExecutor(DAEMON_THREAD_FACTORY);
+
 	private boolean isShowingLog = false;
+	private final Executor executor;
 
 	/**
-	 * Constructs a new processor.
+	 * Constructs a new processor. Submitted executions run in a shared pool of
+	 * daemon threads.
 	 */
 	public ProcessorCore() {
+		this(DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Constructs a new processor.
+	 * 
+	 * @param executor
+	 *            executor that runs the submitted executions
+	 */
+	public ProcessorCore(Executor executor) {
+		Objects.requireNonNull(executor);
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the executor that runs the submitted executions.
+	 * 
+	 * @return the executor that runs the submitted executions
+	 */
+	public Executor getExecutor() {
+		return this.executor;
 	}
 
 	/**
@@ -85,6 +166,8 @@ public class ProcessorCore {
 	 *            Bayesian network
 	 * @param query
 	 *            query
+	 * @param moduleStrategy
+	 *            strategy to extract the module
 	 * @param executionResult
 	 *            execution result
 	 * @param inputForProblog
@@ -96,23 +179,165 @@ public class ProcessorCore {
 	 *             if something goes wrong with I/O
 	 */
 	String createProblogFile(long start, boolean useOfDefaultCompletionRules, String additionalCompletionRules,
-			OWLOntology ontology, String bayesianNetwork, String query, ProcessorExecutionResult executionResult,
-			OutputStream inputForProblog) throws OWLOntologyCreationException, IOException {
+			OWLOntology ontology, String bayesianNetwork, String query, ModuleStrategy moduleStrategy,
+			ProcessorExecutionResult executionResult, OutputStream inputForProblog)
+			throws OWLOntologyCreationException, IOException {
 		Objects.requireNonNull(additionalCompletionRules);
 		Objects.requireNonNull(ontology);
 		Objects.requireNonNull(bayesianNetwork);
 		Objects.requireNonNull(query);
+		Objects.requireNonNull(moduleStrategy);
 		log("Create ProbLog file.", start);
 		ProblogInputCreator instance = new ProblogInputCreator();
 		String ret = instance.createProblogFile(useOfDefaultCompletionRules, additionalCompletionRules, ontology,
-				bayesianNetwork, query, inputForProblog, executionResult);
+				bayesianNetwork, query, moduleStrategy, inputForProblog, executionResult);
 		return ret;
 	}
 
+	/**
+	 * Submits an execution without deadline.
+	 * 
+	 * @param conf
+	 *            configuration
+	 * @return a future that is completed with the execution result, or
+	 *         completed exceptionally if the execution fails
+	 */
+	public CompletableFuture<ProcessorExecutionResult> submit(ProcessorConfiguration conf) {
+		return submit(conf, null);
+	}
+
+	/**
+	 * Submits an execution with a deadline. If the execution does not finish
+	 * before the deadline, it is stopped, and the future is completed with a
+	 * result that is marked as timed out and contains the elapsed time. If the
+	 * future is cancelled, the execution is stopped as well. In both cases,
+	 * only the thread running the execution is interrupted, and a ProbLog
+	 * process that is already running is not destroyed.
+	 * 
+	 * @param conf
+	 *            configuration
+	 * @param deadline
+	 *            maximum duration of the execution, or <code>null</code> if the
+	 *            execution has no deadline
+	 * @return a future that is completed with the execution result, or
+	 *         completed exceptionally if the execution fails
+	 */
+	public CompletableFuture<ProcessorExecutionResult> submit(ProcessorConfiguration conf, Duration deadline) {
+		Objects.requireNonNull(conf);
+		long start = System.nanoTime();
+		CompletableFuture<ProcessorExecutionResult> ret = new CompletableFuture<>();
+		AtomicReference<Thread> worker = new AtomicReference<>();
+
+		this.executor.execute(() -> {
+			synchronized (worker) {
+				if (ret.isDone()) {
+					return;
+				}
+				worker.set(Thread.currentThread());
+			}
+			try {
+				ProcessorExecutionResult executionResult = new ProcessorExecutionResultImpl();
+				run(conf, start, executionResult, ret::isDone);
+				ret.complete(executionResult);
+			} catch (Throwable e) {
+				ret.completeExceptionally(e);
+			} finally {
+				synchronized (worker) {
+					worker.set(null);
+					// the interruption only concerns this execution, and
+					// must not affect the next task of a pooled thread
+					Thread.interrupted();
+				}
+			}
+		});
+
+		if (Objects.nonNull(deadline)) {
+			ScheduledFuture<?> timeout = DEADLINE_SCHEDULER.schedule(() -> {
+				ProcessorExecutionResult executionResult = new ProcessorExecutionResultImpl();
+				executionResult.setTimedOut(true);
+				executionResult.setTotalTime(System.nanoTime() - start);
+				if (ret.complete(executionResult)) {
+					TIMEOUTS.increment();
+					interrupt(worker);
+				}
+			}, deadline.toNanos(), TimeUnit.NANOSECONDS);
+			ret.whenComplete((result, exception) -> timeout.cancel(false));
+		}
+		ret.whenComplete((result, exception) -> {
+			if (ret.isCancelled()) {
+				interrupt(worker);
+			}
+		});
+		return ret;
+	}
+
+	/**
+	 * Interrupts the thread running an execution, if any.
+	 * 
+	 * @param worker
+	 *            reference to the thread running the execution
+	 */
+	void interrupt(AtomicReference<Thread> worker) {
+		synchronized (worker) {
+			Thread thread = worker.get();
+			if (Objects.nonNull(thread)) {
+				thread.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Runs an execution in the current thread.
+	 * 
+	 * @param conf
+	 *            configuration
+	 * @param start
+	 *            execution start
+	 * @param executionResult
+	 *            execution result
+	 */
 	public void run(ProcessorConfiguration conf, long start, ProcessorExecutionResult executionResult) {
-		long processorStart = System.nanoTime();
+		run(conf, start, executionResult, () -> false);
+	}
+
+	/**
+	 * Runs an execution in the current thread. An execution that fails after
+	 * it has been stopped is not counted as a failure, since it was already
+	 * counted as a timeout, or it was cancelled.
+	 * 
+	 * @param conf
+	 *            configuration
+	 * @param start
+	 *            execution start
+	 * @param executionResult
+	 *            execution result
+	 * @param stopped
+	 *            tells whether the execution has timed out or has been
+	 *            cancelled
+	 */
+	void run(ProcessorConfiguration conf, long start, ProcessorExecutionResult executionResult,
+			BooleanSupplier stopped) {
 		Objects.requireNonNull(conf);
 		Objects.requireNonNull(executionResult);
+		Objects.requireNonNull(stopped);
+		long processorStart = System.nanoTime();
+		EXECUTIONS.increment();
+		ACTIVE_EXECUTIONS.increment();
+		boolean successful = false;
+		try {
+			runExecution(conf, start, executionResult);
+			successful = true;
+		} finally {
+			ACTIVE_EXECUTIONS.decrement();
+			PROCESSOR_TIME.recordSince(processorStart);
+			if (!successful && !stopped.getAsBoolean()) {
+				FAILURES.increment();
+			}
+		}
+	}
+
+	void runExecution(ProcessorConfiguration conf, long start, ProcessorExecutionResult executionResult) {
+		long processorStart = System.nanoTime();
 		StringBuffer sbuf = new StringBuffer();
 		try {
 			log("Start. Each row shows nanoseconds from start and task that is starting.", start);
@@ -122,13 +347,23 @@ public class ProcessorCore {
 			ByteArrayOutputStream inputForProblogByteArray = new ByteArrayOutputStream();
 			String info = createProblogFile(start, conf.hasDefaultCompletionRules(),
 					conf.getAdditionalCompletionRules(), conf.getOntology(), conf.getBayesianNetwork(), conf.getQuery(),
-					executionResult, inputForProblogByteArray);
+					conf.getModuleStrategy(), executionResult, inputForProblogByteArray);
 			log(info, start);
 
+			ProblogInputCreator.checkInterruption();
 			long queryProcessingStart = System.nanoTime();
 			String inputForProblog = new String(inputForProblogByteArray.toByteArray());
-			String result = queryProcessor.apply(inputForProblog);
+			QueryProcessorEvent queryProcessorEvent = FlightRecorderSupport.isAvailable()
+					? new QueryProcessorEvent(ProblogInputCreator.getOntologyName(conf.getOntology())) : null;
+			ResourceUsage queryProcessingUsage = new ResourceUsage();
+			String result = QUERY_PROCESSOR_TIME
+					.time(() -> queryProcessingUsage.measure(() -> queryProcessor.apply(inputForProblog)));
+			if (Objects.nonNull(queryProcessorEvent)) {
+				queryProcessorEvent.end(inputForProblogByteArray.size(), conf.getQuery());
+			}
 			executionResult.setProblogReasoningTime(System.nanoTime() - queryProcessingStart);
+			executionResult.setProblogReasoningCpuTime(queryProcessingUsage.getCpuTime());
+			executionResult.setProblogReasoningAllocatedBytes(queryProcessingUsage.getAllocatedBytes());
 
 			log("End and show results.", start);
 
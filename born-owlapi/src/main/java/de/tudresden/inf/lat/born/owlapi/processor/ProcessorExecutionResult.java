@@ -130,6 +130,164 @@ public interface ProcessorExecutionResult {
 	 */
 	void setModuleSize(int moduleSize);
 
+	/**
+	 * Returns the CPU time in nanoseconds used for the translation of OWL
+	 * axioms into integers, in all the threads that took part in it, or -1 if
+	 * it was not measured.
+	 * 
+	 * @return the CPU time in nanoseconds used for the translation of OWL
+	 *         axioms into integers, in all the threads that took part in it, or
+	 *         -1 if it was not measured
+	 */
+	long getTranslationCpuTime();
+
+	/**
+	 * Sets the translation CPU time.
+	 * 
+	 * @param translationCpuTime
+	 *            translation CPU time
+	 */
+	void setTranslationCpuTime(long translationCpuTime);
+
+	/**
+	 * Returns the number of bytes allocated in the heap for the translation of
+	 * OWL axioms into integers, or -1 if it was not measured.
+	 * 
+	 * @return the number of bytes allocated in the heap for the translation of
+	 *         OWL axioms into integers, or -1 if it was not measured
+	 */
+	long getTranslationAllocatedBytes();
+
+	/**
+	 * Sets the translation allocated bytes.
+	 * 
+	 * @param translationAllocatedBytes
+	 *            translation allocated bytes
+	 */
+	void setTranslationAllocatedBytes(long translationAllocatedBytes);
+
+	/**
+	 * Returns the CPU time in nanoseconds used for the normalization of axioms,
+	 * in all the threads that took part in it, or -1 if it was not measured.
+	 * 
+	 * @return the CPU time in nanoseconds used for the normalization of axioms,
+	 *         in all the threads that took part in it, or -1 if it was not
+	 *         measured
+	 */
+	long getNormalizationCpuTime();
+
+	/**
+	 * Sets the normalization CPU time.
+	 * 
+	 * @param normalizationCpuTime
+	 *            normalization CPU time
+	 */
+	void setNormalizationCpuTime(long normalizationCpuTime);
+
+	/**
+	 * Returns the number of bytes allocated in the heap for the normalization
+	 * of axioms, or -1 if it was not measured.
+	 * 
+	 * @return the number of bytes allocated in the heap for the normalization
+	 *         of axioms, or -1 if it was not measured
+	 */
+	long getNormalizationAllocatedBytes();
+
+	/**
+	 * Sets the normalization allocated bytes.
+	 * 
+	 * @param normalizationAllocatedBytes
+	 *            normalization allocated bytes
+	 */
+	void setNormalizationAllocatedBytes(long normalizationAllocatedBytes);
+
+	/**
+	 * Returns the CPU time in nanoseconds used for the module extraction, or -1
+	 * if it was not measured.
+	 * 
+	 * @return the CPU time in nanoseconds used for the module extraction, or -1
+	 *         if it was not measured
+	 */
+	long getModuleExtractionCpuTime();
+
+	/**
+	 * Sets the module extraction CPU time.
+	 * 
+	 * @param moduleExtractionCpuTime
+	 *            module extraction CPU time
+	 */
+	void setModuleExtractionCpuTime(long moduleExtractionCpuTime);
+
+	/**
+	 * Returns the number of bytes allocated in the heap for the module
+	 * extraction, or -1 if it was not measured.
+	 * 
+	 * @return the number of bytes allocated in the heap for the module
+	 *         extraction, or -1 if it was not measured
+	 */
+	long getModuleExtractionAllocatedBytes();
+
+	/**
+	 * Sets the module extraction allocated bytes.
+	 * 
+	 * @param moduleExtractionAllocatedBytes
+	 *            module extraction allocated bytes
+	 */
+	void setModuleExtractionAllocatedBytes(long moduleExtractionAllocatedBytes);
+
+	/**
+	 * Returns the CPU time in nanoseconds used by the Java thread that called
+	 * ProbLog, without the CPU time of the ProbLog process, or -1 if it was not
+	 * measured.
+	 * 
+	 * @return the CPU time in nanoseconds used by the Java thread that called
+	 *         ProbLog, without the CPU time of the ProbLog process, or -1 if it
+	 *         was not measured
+	 */
+	long getProblogReasoningCpuTime();
+
+	/**
+	 * Sets the ProbLog reasoning CPU time.
+	 * 
+	 * @param problogReasoningCpuTime
+	 *            ProbLog reasoning CPU time
+	 */
+	void setProblogReasoningCpuTime(long problogReasoningCpuTime);
+
+	/**
+	 * Returns the number of bytes allocated in the heap by the Java thread that
+	 * called ProbLog, or -1 if it was not measured.
+	 * 
+	 * @return the number of bytes allocated in the heap by the Java thread that
+	 *         called ProbLog, or -1 if it was not measured
+	 */
+	long getProblogReasoningAllocatedBytes();
+
+	/**
+	 * Sets the ProbLog reasoning allocated bytes.
+	 * 
+	 * @param problogReasoningAllocatedBytes
+	 *            ProbLog reasoning allocated bytes
+	 */
+	void setProblogReasoningAllocatedBytes(long problogReasoningAllocatedBytes);
+
+	/**
+	 * Returns the size in bytes of the ProbLog program, or -1 if it was not
+	 * measured.
+	 * 
+	 * @return the size in bytes of the ProbLog program, or -1 if it was not
+	 *         measured
+	 */
+	long getProgramSize();
+
+	/**
+	 * Sets the program size.
+	 * 
+	 * @param programSize
+	 *            program size
+	 */
+	void setProgramSize(long programSize);
+
 	/**
 	 * Returns the results of the processing.
 	 * 
@@ -145,4 +303,23 @@ public interface ProcessorExecutionResult {
 	 */
 	void setResult(String result);
 
+	/**
+	 * Returns <code>true</code> if and only if the processing was stopped
+	 * because it did not finish before its deadline.
+	 * 
+	 * @return <code>true</code> if and only if the processing was stopped
+	 *         because it did not finish before its deadline
+	 */
+	boolean isTimedOut();
+
+	/**
+	 * Sets whether the processing was stopped because it did not finish before
+	 * its deadline.
+	 * 
+	 * @param timedOut
+	 *            <code>true</code> if the processing did not finish before its
+	 *            deadline
+	 */
+	void setTimedOut(boolean timedOut);
+
 }
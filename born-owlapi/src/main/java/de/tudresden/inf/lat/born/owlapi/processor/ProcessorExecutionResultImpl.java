@@ -16,7 +16,17 @@ public class ProcessorExecutionResultImpl implements ProcessorExecutionResult {
 	private int normalizedOntologySize = -1;
 	private int ontologySize = -1;
 	private int moduleSize = -1;
+	private long translationCpuTime = -1;
+	private long translationAllocatedBytes = -1;
+	private long normalizationCpuTime = -1;
+	private long normalizationAllocatedBytes = -1;
+	private long moduleExtractionCpuTime = -1;
+	private long moduleExtractionAllocatedBytes = -1;
+	private long problogReasoningCpuTime = -1;
+	private long problogReasoningAllocatedBytes = -1;
+	private long programSize = -1;
 	private String result = "";
+	private boolean timedOut = false;
 
 	/**
 	 * Constructs a new processor execution result.
@@ -104,6 +114,96 @@ public class ProcessorExecutionResultImpl implements ProcessorExecutionResult {
 		this.moduleSize = moduleSize;
 	}
 
+	@Override
+	public long getTranslationCpuTime() {
+		return this.translationCpuTime;
+	}
+
+	@Override
+	public void setTranslationCpuTime(long translationCpuTime) {
+		this.translationCpuTime = translationCpuTime;
+	}
+
+	@Override
+	public long getTranslationAllocatedBytes() {
+		return this.translationAllocatedBytes;
+	}
+
+	@Override
+	public void setTranslationAllocatedBytes(long translationAllocatedBytes) {
+		this.translationAllocatedBytes = translationAllocatedBytes;
+	}
+
+	@Override
+	public long getNormalizationCpuTime() {
+		return this.normalizationCpuTime;
+	}
+
+	@Override
+	public void setNormalizationCpuTime(long normalizationCpuTime) {
+		this.normalizationCpuTime = normalizationCpuTime;
+	}
+
+	@Override
+	public long getNormalizationAllocatedBytes() {
+		return this.normalizationAllocatedBytes;
+	}
+
+	@Override
+	public void setNormalizationAllocatedBytes(long normalizationAllocatedBytes) {
+		this.normalizationAllocatedBytes = normalizationAllocatedBytes;
+	}
+
+	@Override
+	public long getModuleExtractionCpuTime() {
+		return this.moduleExtractionCpuTime;
+	}
+
+	@Override
+	public void setModuleExtractionCpuTime(long moduleExtractionCpuTime) {
+		this.moduleExtractionCpuTime = moduleExtractionCpuTime;
+	}
+
+	@Override
+	public long getModuleExtractionAllocatedBytes() {
+		return this.moduleExtractionAllocatedBytes;
+	}
+
+	@Override
+	public void setModuleExtractionAllocatedBytes(long moduleExtractionAllocatedBytes) {
+		this.moduleExtractionAllocatedBytes = moduleExtractionAllocatedBytes;
+	}
+
+	@Override
+	public long getProblogReasoningCpuTime() {
+		return this.problogReasoningCpuTime;
+	}
+
+	@Override
+	public void setProblogReasoningCpuTime(long problogReasoningCpuTime) {
+		this.problogReasoningCpuTime = problogReasoningCpuTime;
+	}
+
+	@Override
+	public long getProblogReasoningAllocatedBytes() {
+		return this.problogReasoningAllocatedBytes;
+	}
+
+	@Override
+	public void setProblogReasoningAllocatedBytes(long problogReasoningAllocatedBytes) {
+		this.problogReasoningAllocatedBytes = problogReasoningAllocatedBytes;
+	}
+
+	@Override
+	public long getProgramSize() {
+		return this.programSize;
+	}
+
+	@Override
+	public void setProgramSize(long programSize) {
+		this.programSize = programSize;
+	}
+
 	@Override
 	public String getResult() {
 		return this.result;
@@ -114,17 +214,38 @@ public class ProcessorExecutionResultImpl implements ProcessorExecutionResult {
 		this.result = result;
 	}
 
+	@Override
+	public boolean isTimedOut() {
+		return this.timedOut;
+	}
+
+	@Override
+	public void setTimedOut(boolean timedOut) {
+		this.timedOut = timedOut;
+	}
+
 	@Override
 	public int hashCode() {
-		return (int) (this.translationTime //
-				+ 0x1F * (this.normalizationTime //
-						+ 0x1F * (this.moduleExtractionTime //
-								+ 0x1F * (this.problogReasoningTime //
-										+ 0x1F * (this.totalTime //
-												+ 0x1F * (this.ontologySize //
-														+ 0x1F * (this.normalizedOntologySize //
-																+ 0x1F * (this.moduleSize //
-																		+ 0x1F * this.result.hashCode()))))))));
+		long ret = this.timedOut ? 1 : 0;
+		ret = this.result.hashCode() + 0x1F * ret;
+		ret = this.programSize + 0x1F * ret;
+		ret = this.problogReasoningAllocatedBytes + 0x1F * ret;
+		ret = this.problogReasoningCpuTime + 0x1F * ret;
+		ret = this.moduleExtractionAllocatedBytes + 0x1F * ret;
+		ret = this.moduleExtractionCpuTime + 0x1F * ret;
+		ret = this.normalizationAllocatedBytes + 0x1F * ret;
+		ret = this.normalizationCpuTime + 0x1F * ret;
+		ret = this.translationAllocatedBytes + 0x1F * ret;
+		ret = this.translationCpuTime + 0x1F * ret;
+		ret = this.moduleSize + 0x1F * ret;
+		ret = this.normalizedOntologySize + 0x1F * ret;
+		ret = this.ontologySize + 0x1F * ret;
+		ret = this.totalTime + 0x1F * ret;
+		ret = this.problogReasoningTime + 0x1F * ret;
+		ret = this.moduleExtractionTime + 0x1F * ret;
+		ret = this.normalizationTime + 0x1F * ret;
+		ret = this.translationTime + 0x1F * ret;
+		return (int) ret;
 	}
 
 	@Override
@@ -141,7 +262,18 @@ public class ProcessorExecutionResultImpl implements ProcessorExecutionResult {
 					&& (getProblogReasoningTime() == other.getProblogReasoningTime())
 					&& (getTotalTime() == other.getTotalTime()) && (getOntologySize() == other.getOntologySize())
 					&& (getNormalizedOntologySize() == other.getNormalizedOntologySize())
-					&& (getModuleSize() == other.getModuleSize()) && (getResult().equals(other.getResult()));
+					&& (getModuleSize() == other.getModuleSize())
+					&& (getTranslationCpuTime() == other.getTranslationCpuTime())
+					&& (getTranslationAllocatedBytes() == other.getTranslationAllocatedBytes())
+					&& (getNormalizationCpuTime() == other.getNormalizationCpuTime())
+					&& (getNormalizationAllocatedBytes() == other.getNormalizationAllocatedBytes())
+					&& (getModuleExtractionCpuTime() == other.getModuleExtractionCpuTime())
+					&& (getModuleExtractionAllocatedBytes() == other.getModuleExtractionAllocatedBytes())
+					&& (getProblogReasoningCpuTime() == other.getProblogReasoningCpuTime())
+					&& (getProblogReasoningAllocatedBytes() == other.getProblogReasoningAllocatedBytes())
+					&& (getProgramSize() == other.getProgramSize())
+					&& (getResult().equals(other.getResult()))
+					&& (isTimedOut() == other.isTimedOut());
 		}
 	}
 
@@ -164,6 +296,26 @@ public class ProcessorExecutionResultImpl implements ProcessorExecutionResult {
 		sb.append("" + normalizedOntologySize);
 		sb.append(" , module_size=");
 		sb.append("" + moduleSize);
+		sb.append(" , translation_cpu_ns=");
+		sb.append("" + translationCpuTime);
+		sb.append(" , translation_allocated_bytes=");
+		sb.append("" + translationAllocatedBytes);
+		sb.append(" , normalization_cpu_ns=");
+		sb.append("" + normalizationCpuTime);
+		sb.append(" , normalization_allocated_bytes=");
+		sb.append("" + normalizationAllocatedBytes);
+		sb.append(" , module_extraction_cpu_ns=");
+		sb.append("" + moduleExtractionCpuTime);
+		sb.append(" , module_extraction_allocated_bytes=");
+		sb.append("" + moduleExtractionAllocatedBytes);
+		sb.append(" , ProbLog_reasoning_cpu_ns=");
+		sb.append("" + problogReasoningCpuTime);
+		sb.append(" , ProbLog_reasoning_allocated_bytes=");
+		sb.append("" + problogReasoningAllocatedBytes);
+		sb.append(" , program_size_bytes=");
+		sb.append("" + programSize);
+		sb.append(" , timed_out=");
+		sb.append("" + timedOut);
 		sb.append(" , result=\"");
 		sb.append("\" ] ");
 		return sb.toString();
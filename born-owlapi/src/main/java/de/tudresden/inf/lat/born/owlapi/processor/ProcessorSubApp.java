@@ -4,11 +4,15 @@ import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 
 import de.tudresden.inf.lat.born.core.term.SubApp;
+import de.tudresden.inf.lat.born.module.ModuleStrategy;
 import de.tudresden.inf.lat.jproblog.JProblog;
 
 /**
@@ -23,16 +27,20 @@ import de.tudresden.inf.lat.jproblog.JProblog;
 public class ProcessorSubApp implements SubApp {
 
 	static final String LOGGING_OPTION = "--log";
+	static final String MODULE_OPTION = "--module=";
 	public static final String COMMAND = "get";
 	static final String HELP = ""
-			+ "\nParameters: [--log] <ontology file> <Bayesian network file> <query file> <output file> [<ProbLog directory>]"
+			+ "\nParameters: [--log] [--module=<strategy>] <ontology file> <Bayesian network file> <query file> <output file> [<ProbLog directory>]"
 			+ "\n"
 			+ "\n  <ontology file>          : file name of the probabilistic ontology, i.e. the OWL file with annotations"
 			+ "\n  <Bayesian network file>  : file name of the Bayesian network"
 			+ "\n  <query file>             : file name of the query"
 			+ "\n  <output file>            : file name of the output"
 			+ "\n  <ProbLog directory>      : (optional) directory where ProbLog is installed" + "\n" + "\n Option:"
-			+ "\n   --log                   : shows log" + "\n" + "\nExamples:" + "\n" + "\n Execution:"
+			+ "\n   --log                   : shows log" //
+			+ "\n   --module=<strategy>     : strategy to extract the module: "
+			+ ModuleStrategy.getValues().stream().map(ModuleStrategy::getName).collect(Collectors.joining(", "))
+			+ " (default: " + ModuleStrategy.DEFAULT.getName() + ")" + "\n" + "\nExamples:" + "\n" + "\n Execution:"
 			+ "\n  java -jar born.jar " + COMMAND + " ontology.owl network.pl query.pl output.pl" + "\n"
 			+ "\n Execution not showing log:" + "\n  java -jar born.jar " + COMMAND
 			+ " ontology.owl network.pl query.pl output.pl" + "\n" + "\n Execution showing log:"
@@ -40,6 +48,8 @@ public class ProcessorSubApp implements SubApp {
 			+ "\n Example of Bayesian network:" + "\n  0.58::x1." + "\n  0.35::x2." + "\n" + "\n Example of query:"
 			+ "\n  query(sub('A', 'C'))." + "\n" + "\n" + "\n"
 			+ "\nNote: this program requires an Internet connection to install ProbLog." + "\n" //
+			+ "\nNote: a running execution cannot be cancelled from the graphical user interface, and a ProbLog process"
+			+ "\n      that is already running is not stopped when the execution times out or is cancelled." + "\n" //
 			+ "\n" //
 			+ "\n" //
 			+ "\n";
@@ -50,10 +60,38 @@ public class ProcessorSubApp implements SubApp {
 	public ProcessorSubApp() {
 	}
 
+	/**
+	 * Returns the module strategy given by the module option, if the option is
+	 * present and valid.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @return the module strategy given by the module option, if the option is
+	 *         present and valid
+	 */
+	Optional<ModuleStrategy> findModuleStrategy(String[] args) {
+		return Arrays.stream(args).filter(arg -> arg.startsWith(MODULE_OPTION)).findFirst()
+				.flatMap(arg -> ModuleStrategy.find(arg.substring(MODULE_OPTION.length())));
+	}
+
+	/**
+	 * Returns the arguments without the module option.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @return the arguments without the module option
+	 */
+	String[] removeModuleOption(String[] args) {
+		return Arrays.stream(args).filter(arg -> !arg.startsWith(MODULE_OPTION)).toArray(String[]::new);
+	}
+
 	@Override
-	public boolean isValid(String[] args) {
-		Objects.requireNonNull(args);
-		return (((args.length == 4) && !args[0].equals(LOGGING_OPTION))
+	public boolean isValid(String[] arguments) {
+		Objects.requireNonNull(arguments);
+		String[] args = removeModuleOption(arguments);
+		boolean validModuleOption = (args.length == arguments.length) || ((args.length == arguments.length - 1)
+				&& findModuleStrategy(arguments).isPresent());
+		return validModuleOption && (((args.length == 4) && !args[0].equals(LOGGING_OPTION))
 				|| ((args.length == 5) && args[0].equals(LOGGING_OPTION)));
 	}
 
@@ -63,11 +101,13 @@ public class ProcessorSubApp implements SubApp {
 	}
 
 	@Override
-	public String run(String[] args) {
-		Objects.requireNonNull(args);
+	public String run(String[] arguments) {
+		Objects.requireNonNull(arguments);
 		long start = System.nanoTime();
-		if (isValid(args)) {
+		if (isValid(arguments)) {
+			String[] args = removeModuleOption(arguments);
 			ProcessorConfiguration conf = new ProcessorConfigurationImpl();
+			conf.setModuleStrategy(findModuleStrategy(arguments).orElse(ModuleStrategy.DEFAULT));
 
 			StringBuffer sbuf = new StringBuffer();
 			String[] newArgs = null;
@@ -0,0 +1,92 @@
+package de.tudresden.inf.lat.born.owlapi.server;
+
+import java.util.List;
+import java.util.function.Function;
+
+import de.tudresden.inf.lat.born.owlapi.multiprocessor.OntologyAndNetwork;
+
+/**
+ * This interface models the configuration of a server.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public interface ServerConfiguration {
+
+	/**
+	 * Returns the ontologies with their Bayesian networks.
+	 * 
+	 * @return the ontologies with their Bayesian networks
+	 */
+	List<OntologyAndNetwork> getOntologyList();
+
+	/**
+	 * Sets the ontologies with their Bayesian networks.
+	 * 
+	 * @param ontologyList
+	 *            ontologies with their Bayesian networks
+	 */
+	void setOntologyList(List<OntologyAndNetwork> ontologyList);
+
+	/**
+	 * Returns the port. The port 0 means that any free port can be used.
+	 * 
+	 * @return the port
+	 */
+	int getPort();
+
+	/**
+	 * Sets the port.
+	 * 
+	 * @param port
+	 *            port
+	 */
+	void setPort(int port);
+
+	/**
+	 * Returns the number of threads that answer requests.
+	 * 
+	 * @return the number of threads that answer requests
+	 */
+	int getNumberOfThreads();
+
+	/**
+	 * Sets the number of threads that answer requests.
+	 * 
+	 * @param numberOfThreads
+	 *            number of threads
+	 */
+	void setNumberOfThreads(int numberOfThreads);
+
+	/**
+	 * Returns the maximum number of requests that can wait for a thread.
+	 * Further requests are rejected until the waiting requests are answered.
+	 * 
+	 * @return the maximum number of requests that can wait for a thread
+	 */
+	int getQueueCapacity();
+
+	/**
+	 * Sets the maximum number of requests that can wait for a thread.
+	 * 
+	 * @param queueCapacity
+	 *            queue capacity
+	 */
+	void setQueueCapacity(int queueCapacity);
+
+	/**
+	 * Returns the query processor.
+	 * 
+	 * @return the query processor
+	 */
+	Function<String, String> getQueryProcessor();
+
+	/**
+	 * Sets the query processor.
+	 * 
+	 * @param queryProcessor
+	 *            query processor
+	 */
+	void setQueryProcessor(Function<String, String> queryProcessor);
+
+}
@@ -0,0 +1,113 @@
+package de.tudresden.inf.lat.born.owlapi.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import de.tudresden.inf.lat.born.owlapi.multiprocessor.OntologyAndNetwork;
+
+/**
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class ServerConfigurationImpl implements ServerConfiguration {
+
+	public static final int DEFAULT_PORT = 8080;
+	public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+	private List<OntologyAndNetwork> ontologyList = new ArrayList<>();
+	private int port = DEFAULT_PORT;
+	private int numberOfThreads = Runtime.getRuntime().availableProcessors();
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+	private Function<String, String> queryProcessor;
+
+	@Override
+	public List<OntologyAndNetwork> getOntologyList() {
+		return this.ontologyList;
+	}
+
+	@Override
+	public void setOntologyList(List<OntologyAndNetwork> ontologyList) {
+		Objects.requireNonNull(ontologyList);
+		this.ontologyList = ontologyList;
+	}
+
+	@Override
+	public int getPort() {
+		return this.port;
+	}
+
+	@Override
+	public void setPort(int port) {
+		if (port < 0 || port > 0xFFFF) {
+			throw new IllegalArgumentException("Invalid port: " + port + ".");
+		}
+		this.port = port;
+	}
+
+	@Override
+	public int getNumberOfThreads() {
+		return this.numberOfThreads;
+	}
+
+	@Override
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads + ".");
+		}
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	@Override
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	@Override
+	public void setQueueCapacity(int queueCapacity) {
+		if (queueCapacity < 0) {
+			throw new IllegalArgumentException("Invalid queue capacity: " + queueCapacity + ".");
+		}
+		this.queueCapacity = queueCapacity;
+	}
+
+	@Override
+	public Function<String, String> getQueryProcessor() {
+		return this.queryProcessor;
+	}
+
+	@Override
+	public void setQueryProcessor(Function<String, String> queryProcessor) {
+		Objects.requireNonNull(queryProcessor);
+		this.queryProcessor = queryProcessor;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof ServerConfiguration)) {
+			return false;
+		} else {
+			ServerConfiguration other = (ServerConfiguration) obj;
+			return getOntologyList().equals(other.getOntologyList()) && getPort() == other.getPort()
+					&& getNumberOfThreads() == other.getNumberOfThreads()
+					&& getQueueCapacity() == other.getQueueCapacity()
+					&& Objects.equals(getQueryProcessor(), other.getQueryProcessor());
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return this.ontologyList.hashCode()
+				+ 0x1F * (this.port + 0x1F * (this.numberOfThreads + 0x1F * this.queueCapacity));
+	}
+
+	@Override
+	public String toString() {
+		return this.ontologyList + " " + this.port + " " + this.numberOfThreads + " " + this.queueCapacity;
+	}
+
+}
@@ -0,0 +1,375 @@
+package de.tudresden.inf.lat.born.owlapi.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.tudresden.inf.lat.born.core.metrics.MetricsRegistry;
+import de.tudresden.inf.lat.born.core.metrics.PrometheusExporter;
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.owlapi.main.BornReasoner;
+import de.tudresden.inf.lat.born.owlapi.multiprocessor.OntologyAndNetwork;
+import de.tudresden.inf.lat.born.owlapi.processor.ProblogInputCreator;
+
+/**
+ * An object of this class is a local HTTP server that keeps ontologies and
+ * their Bayesian networks loaded, and answers probability queries about them.
+ * Each ontology has its own reasoner, which is prepared when the server is
+ * created, so that its preprocessed ontology, its modules, and its memoized
+ * probabilities are reused by all the requests.
+ * <p>
+ * The server offers three resources:
+ * <ul>
+ * <li><code>GET /ontologies</code> returns the names of the loaded ontologies,
+ * one per line.</li>
+ * <li><code>GET /metrics</code> returns the metrics of the
+ * {@link MetricsRegistry#getDefault() default metrics registry}, which include
+ * the latencies of the reasoning stages, in the text format of
+ * Prometheus.</li>
+ * <li><code>POST /probability?ontology=&lt;name&gt;</code> receives queries in
+ * the syntax of the <code>get</code> command, e.g.
+ * <code>query(sub('A', 'B')).</code> or <code>query(inst('i', 'C')).</code>,
+ * one per line, and returns one line per query with the query term as it was
+ * written, a colon, a tab, and the probability. All the queries of a request
+ * are computed as a batch, with at most one execution of ProbLog. The ontology
+ * name can be omitted if only one ontology is loaded.</li>
+ * </ul>
+ * Requests are answered by a fixed number of threads. When all the threads are
+ * busy and the queue of waiting requests is full, new requests are rejected
+ * with status 503, so that clients can retry later.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ServerCore {
+
+	private static final Logger logger = Logger.getLogger(ServerCore.class.getName());
+
+	public static final String ONTOLOGIES_PATH = "/ontologies";
+	public static final String PROBABILITY_PATH = "/probability";
+	public static final String METRICS_PATH = "/metrics";
+	public static final String ONTOLOGY_PARAMETER = "ontology";
+	public static final String GET_METHOD = "GET";
+	public static final String POST_METHOD = "POST";
+	public static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+	public static final String RETRY_AFTER_SECONDS = "1";
+	public static final String SUB = "sub";
+	public static final String INST = "inst";
+	public static final char TAB_CHAR = '\t';
+
+	static final Pattern QUERY_PATTERN = Pattern.compile(
+			"query\\(\\s*((" + SUB + "|" + INST + ")\\(\\s*'([^']*)'\\s*,\\s*'([^']*)'\\s*\\))\\s*\\)\\s*\\.");
+	static final String COMMENT_PREFIX = "%";
+
+	private final Map<String, OntologyAndNetwork> ontologies = new LinkedHashMap<>();
+	private final Map<String, BornReasoner> reasoners = new LinkedHashMap<>();
+	private final ProblogInputCreator problogInputCreator = new ProblogInputCreator();
+	private final ServerConfiguration configuration;
+	private final Semaphore permits;
+	private final CountDownLatch stopped = new CountDownLatch(1);
+	private HttpServer server;
+	private ExecutorService workers;
+
+	/**
+	 * Constructs a new server and prepares the reasoners of its ontologies.
+	 * The server does not accept requests until it is started.
+	 *
+	 * @param conf
+	 *            configuration
+	 */
+	public ServerCore(ServerConfiguration conf) {
+		Objects.requireNonNull(conf);
+		this.configuration = conf;
+		this.permits = new Semaphore(conf.getNumberOfThreads() + conf.getQueueCapacity());
+		conf.getOntologyList().forEach(ontPair -> {
+			BornReasoner reasoner = new BornReasoner(ontPair.getOntology(), false);
+			reasoner.setBayesianNetwork(ontPair.getBayesianNetwork());
+			Function<String, String> queryProcessor = conf.getQueryProcessor();
+			if (Objects.nonNull(queryProcessor)) {
+				reasoner.setQueryProcessor(queryProcessor);
+			}
+			reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY);
+			this.ontologies.put(ontPair.getOntologyName(), ontPair);
+			this.reasoners.put(ontPair.getOntologyName(), reasoner);
+		});
+	}
+
+	/**
+	 * Starts accepting requests. The server only listens on the loopback
+	 * interface.
+	 *
+	 * @throws IOException
+	 *             if the server cannot listen on the configured port
+	 */
+	public synchronized void start() throws IOException {
+		if (Objects.nonNull(this.server)) {
+			throw new IllegalStateException("The server has already been started.");
+		}
+		this.workers = Executors.newFixedThreadPool(this.configuration.getNumberOfThreads());
+		this.server = HttpServer.create(
+				new InetSocketAddress(InetAddress.getLoopbackAddress(), this.configuration.getPort()), 0);
+		this.server.createContext(ONTOLOGIES_PATH, exchange -> dispatch(exchange));
+		this.server.createContext(PROBABILITY_PATH, exchange -> dispatch(exchange));
+		this.server.createContext(METRICS_PATH, exchange -> dispatch(exchange));
+		this.server.start();
+		logger.info("BORN server listening on port " + getPort() + ".");
+	}
+
+	/**
+	 * Stops accepting requests, interrupts the requests being answered, and
+	 * releases the reasoners.
+	 */
+	public synchronized void stop() {
+		if (Objects.nonNull(this.server)) {
+			this.server.stop(0);
+			this.workers.shutdownNow();
+			this.reasoners.values().forEach(reasoner -> reasoner.dispose());
+			this.server = null;
+		}
+		this.stopped.countDown();
+	}
+
+	/**
+	 * Waits until the server is stopped.
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting
+	 */
+	public void awaitStop() throws InterruptedException {
+		this.stopped.await();
+	}
+
+	/**
+	 * Returns the port where the server is listening.
+	 *
+	 * @return the port where the server is listening
+	 */
+	public synchronized int getPort() {
+		if (Objects.isNull(this.server)) {
+			throw new IllegalStateException("The server has not been started.");
+		}
+		return this.server.getAddress().getPort();
+	}
+
+	/**
+	 * Returns the names of the loaded ontologies.
+	 *
+	 * @return the names of the loaded ontologies
+	 */
+	public List<String> getOntologyNames() {
+		return Collections.unmodifiableList(new ArrayList<>(this.ontologies.keySet()));
+	}
+
+	/**
+	 * Hands a request over to the threads that answer requests, or rejects it
+	 * if there is no room for it.
+	 *
+	 * @param exchange
+	 *            HTTP exchange
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	void dispatch(HttpExchange exchange) throws IOException {
+		if (!this.permits.tryAcquire()) {
+			exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+			respond(exchange, HttpURLConnection.HTTP_UNAVAILABLE, "The server is busy." + Symbol.NEW_LINE_CHAR);
+		} else {
+			try {
+				this.workers.execute(() -> {
+					try {
+						handle(exchange);
+					} finally {
+						this.permits.release();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				this.permits.release();
+				respond(exchange, HttpURLConnection.HTTP_UNAVAILABLE, "The server is stopping." + Symbol.NEW_LINE_CHAR);
+			}
+		}
+	}
+
+	/**
+	 * Answers a request.
+	 *
+	 * @param exchange
+	 *            HTTP exchange
+	 */
+	void handle(HttpExchange exchange) {
+		try {
+			String path = exchange.getRequestURI().getPath();
+			String method = exchange.getRequestMethod();
+			if (path.equals(ONTOLOGIES_PATH) && method.equals(GET_METHOD)) {
+				StringBuilder sb = new StringBuilder();
+				getOntologyNames().forEach(name -> {
+					sb.append(name);
+					sb.append(Symbol.NEW_LINE_CHAR);
+				});
+				respond(exchange, HttpURLConnection.HTTP_OK, sb.toString());
+
+			} else if (path.equals(METRICS_PATH) && method.equals(GET_METHOD)) {
+				StringWriter output = new StringWriter();
+				new PrometheusExporter(MetricsRegistry.getDefault()).write(output);
+				respond(exchange, HttpURLConnection.HTTP_OK, output.toString());
+
+			} else if (path.equals(PROBABILITY_PATH) && method.equals(POST_METHOD)) {
+				String name = getOntologyName(exchange.getRequestURI().getRawQuery());
+				if (Objects.isNull(name) || !this.reasoners.containsKey(name)) {
+					respond(exchange, HttpURLConnection.HTTP_NOT_FOUND,
+							"Unknown ontology: '" + name + "'." + Symbol.NEW_LINE_CHAR);
+				} else {
+					String body = read(exchange.getRequestBody());
+					try {
+						respond(exchange, HttpURLConnection.HTTP_OK, answer(name, body));
+					} catch (IllegalArgumentException e) {
+						respond(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage() + Symbol.NEW_LINE_CHAR);
+					}
+				}
+
+			} else if (path.equals(ONTOLOGIES_PATH) || path.equals(PROBABILITY_PATH) || path.equals(METRICS_PATH)) {
+				respond(exchange, HttpURLConnection.HTTP_BAD_METHOD,
+						"Unsupported method: '" + method + "'." + Symbol.NEW_LINE_CHAR);
+
+			} else {
+				respond(exchange, HttpURLConnection.HTTP_NOT_FOUND,
+						"Unknown resource: '" + path + "'." + Symbol.NEW_LINE_CHAR);
+			}
+
+		} catch (IOException e) {
+			logger.log(Level.FINE, "the response could not be sent", e);
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "the request could not be answered", e);
+			try {
+				respond(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, e + "" + Symbol.NEW_LINE_CHAR);
+			} catch (IOException ioException) {
+				logger.log(Level.FINE, "the response could not be sent", ioException);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Returns the name of the requested ontology, or <code>null</code> if it
+	 * is not given and there is not exactly one loaded ontology.
+	 *
+	 * @param rawQuery
+	 *            query component of the URI, which can be <code>null</code>
+	 * @return the name of the requested ontology
+	 * @throws UnsupportedEncodingException
+	 *             if UTF-8 is not supported
+	 */
+	String getOntologyName(String rawQuery) throws UnsupportedEncodingException {
+		String ret = null;
+		if (Objects.nonNull(rawQuery)) {
+			for (String parameter : rawQuery.split("&")) {
+				int index = parameter.indexOf('=');
+				if (index >= 0 && URLDecoder.decode(parameter.substring(0, index), StandardCharsets.UTF_8.name())
+						.equals(ONTOLOGY_PARAMETER)) {
+					ret = URLDecoder.decode(parameter.substring(index + 1), StandardCharsets.UTF_8.name());
+				}
+			}
+		}
+		if (Objects.isNull(ret) && this.ontologies.size() == 1) {
+			ret = this.ontologies.keySet().iterator().next();
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the answer to the given queries.
+	 *
+	 * @param ontologyName
+	 *            name of a loaded ontology
+	 * @param queries
+	 *            queries, one per line
+	 * @return the answer to the given queries, one line per query
+	 * @throws IllegalArgumentException
+	 *             if a query cannot be parsed
+	 */
+	String answer(String ontologyName, String queries) {
+		OntologyAndNetwork ontPair = this.ontologies.get(ontologyName);
+		OWLDataFactory factory = ontPair.getOntology().getOWLOntologyManager().getOWLDataFactory();
+		Map<OWLAxiom, String> terms = new LinkedHashMap<>();
+		for (String line : queries.split("\n")) {
+			String trimmedLine = line.trim();
+			if (!trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_PREFIX)) {
+				Matcher matcher = QUERY_PATTERN.matcher(trimmedLine);
+				if (!matcher.matches()) {
+					throw new IllegalArgumentException("Invalid query: '" + trimmedLine + "'.");
+				}
+				String predicate = matcher.group(2);
+				IRI first = IRI.create(this.problogInputCreator.expandPrefixes(ontPair.getOntology(), matcher.group(3)));
+				IRI second = IRI
+						.create(this.problogInputCreator.expandPrefixes(ontPair.getOntology(), matcher.group(4)));
+				OWLAxiom axiom = predicate.equals(SUB)
+						? factory.getOWLSubClassOfAxiom(factory.getOWLClass(first), factory.getOWLClass(second))
+						: factory.getOWLClassAssertionAxiom(factory.getOWLClass(second),
+								factory.getOWLNamedIndividual(first));
+				terms.put(axiom, matcher.group(1));
+			}
+		}
+
+		Map<OWLAxiom, Double> probabilities = this.reasoners.get(ontologyName).getProbabilities(terms.keySet());
+		StringBuilder sb = new StringBuilder();
+		terms.forEach((axiom, term) -> {
+			sb.append(term);
+			sb.append(Symbol.COLON_CHAR);
+			sb.append(TAB_CHAR);
+			sb.append(probabilities.get(axiom));
+			sb.append(Symbol.NEW_LINE_CHAR);
+		});
+		return sb.toString();
+	}
+
+	String read(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[0x1000];
+		for (int count = input.read(buffer); count != -1; count = input.read(buffer)) {
+			output.write(buffer, 0, count);
+		}
+		return new String(output.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	void respond(HttpExchange exchange, int status, String text) throws IOException {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+		exchange.sendResponseHeaders(status, bytes.length);
+		OutputStream output = exchange.getResponseBody();
+		output.write(bytes);
+		output.close();
+	}
+
+}
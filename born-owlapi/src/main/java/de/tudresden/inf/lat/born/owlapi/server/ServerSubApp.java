@@ -0,0 +1,102 @@
+package de.tudresden.inf.lat.born.owlapi.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+import de.tudresden.inf.lat.born.core.term.SubApp;
+import de.tudresden.inf.lat.born.owlapi.multiprocessor.MultiProcessorCore;
+import de.tudresden.inf.lat.jproblog.JProblog;
+
+/**
+ * An object of this class runs a local HTTP server that keeps ontologies and
+ * Bayesian networks loaded, and answers probability queries about them.
+ *
+ * @see ServerCore
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ServerSubApp implements SubApp {
+
+	public static final String COMMAND = "serve";
+	static final String HELP = ""
+			+ "\nParameters: <ontology directory> <Bayesian network directory> <port> [<number of threads> [<queue capacity>]]"
+			+ "\n"
+			+ "\n  <ontology directory>          : directory containing the ontologies, i.e. the OWL files with annotations"
+			+ "\n  <Bayesian network directory>  : directory containing the Bayesian networks, with the same names as the ontologies"
+			+ "\n  <port>                        : port of the server, which only listens on the loopback interface"
+			+ "\n  <number of threads>           : (optional) number of threads that answer requests, by default the number of processors"
+			+ "\n  <queue capacity>              : (optional) number of requests that can wait for a thread, by default "
+			+ ServerConfigurationImpl.DEFAULT_QUEUE_CAPACITY + "\n"
+			+ "\nRequests:" + "\n  GET  /ontologies                 : names of the loaded ontologies"
+			+ "\n  POST /probability?ontology=<name> : probabilities of the queries in the body, one per line,"
+			+ "\n                                      written as for command 'get', e.g. query(sub('A', 'B'))."
+			+ "\n  GET  /metrics                    : latencies of the reasoning stages, in the text format of Prometheus"
+			+ "\n" + "\nExample:" + "\n  java -jar born.jar " + COMMAND + " ontologies/ networks/ 8080" + "\n"
+			+ "\n  curl --data-binary @queries.pl 'http://localhost:8080/probability?ontology=example'" + "\n"
+			+ "\nNote: this program requires an Internet connection to install ProbLog." + "\n";
+
+	/**
+	 * Constructs a new server sub app.
+	 */
+	public ServerSubApp() {
+	}
+
+	@Override
+	public String getHelp() {
+		return HELP;
+	}
+
+	@Override
+	public boolean isValid(String[] args) {
+		Objects.requireNonNull(args);
+		return (args.length >= 3) && (args.length <= 5) && args[2].matches("[0-9]+")
+				&& ((args.length < 4) || args[3].matches("[1-9][0-9]*"))
+				&& ((args.length < 5) || args[4].matches("[0-9]+"));
+	}
+
+	@Override
+	public String run(String[] args) {
+		Objects.requireNonNull(args);
+		if (isValid(args)) {
+			ServerConfiguration conf = new ServerConfigurationImpl();
+			conf.setOntologyList(MultiProcessorCore.getOntologyAndNetworkList(args[0], args[1]));
+			conf.setPort(Integer.parseInt(args[2]));
+			if (args.length >= 4) {
+				conf.setNumberOfThreads(Integer.parseInt(args[3]));
+			}
+			if (args.length >= 5) {
+				conf.setQueueCapacity(Integer.parseInt(args[4]));
+			}
+
+			// ProbLog uses the same working files for every execution,
+			// so only one execution can run at a time
+			JProblog problog = new JProblog();
+			conf.setQueryProcessor(program -> {
+				synchronized (problog) {
+					return problog.apply(program);
+				}
+			});
+
+			ServerCore core = new ServerCore(conf);
+			try {
+				core.start();
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> core.stop()));
+				System.out.println("Listening on port " + core.getPort() + " with ontologies " + core.getOntologyNames());
+				core.awaitStop();
+				return "Server stopped.";
+
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				core.stop();
+				return "Server interrupted.";
+			}
+		} else {
+			return getHelp();
+		}
+	}
+
+}
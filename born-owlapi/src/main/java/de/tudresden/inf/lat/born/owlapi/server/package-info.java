@@ -0,0 +1,6 @@
+/**
+ * This package contains classes and interfaces to run a local HTTP server
+ * that keeps ontologies and Bayesian networks loaded, and answers probability
+ * queries about them.
+ */
+package de.tudresden.inf.lat.born.owlapi.server;
@@ -2,9 +2,11 @@ package de.tudresden.inf.lat.born.owlapi.splitter;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 
@@ -37,6 +39,7 @@ import org.semanticweb.owlapi.model.OWLHasKeyAxiom;
 import org.semanticweb.owlapi.model.OWLInverseFunctionalObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLIrreflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
@@ -72,11 +75,31 @@ public class AnnotationProcessor implements OWLAxiomVisitorEx<Boolean> {
 	private final OWLOntology owlOntology;
 	private final List<String> variableOrder = new ArrayList<>();
 	private final Map<String, String> network = new TreeMap<>();
+	private final VariableSharing variableSharing;
+	private final Map<String, String> sharedVariables = new HashMap<>();
 
 	public AnnotationProcessor(OWLOntologyManager manager) throws OWLOntologyCreationException {
+		this(manager, VariableSharing.NONE);
+	}
+
+	/**
+	 * Constructs a new annotation processor that can share variables among
+	 * annotations.
+	 * 
+	 * @param manager
+	 *            OWL ontology manager
+	 * @param variableSharing
+	 *            grouping of the annotation values that share a variable
+	 * @throws OWLOntologyCreationException
+	 *             if something went wrong while creating the OWL ontology
+	 */
+	public AnnotationProcessor(OWLOntologyManager manager, VariableSharing variableSharing)
+			throws OWLOntologyCreationException {
 		Objects.requireNonNull(manager);
+		Objects.requireNonNull(variableSharing);
 		this.owlOntology = manager.createOntology();
 		this.df = manager.getOWLDataFactory();
+		this.variableSharing = variableSharing;
 	}
 
 	public List<String> getVariables() {
@@ -100,6 +123,8 @@ public class AnnotationProcessor implements OWLAxiomVisitorEx<Boolean> {
 		Objects.requireNonNull(value);
 		if (Objects.isNull(value)) {
 			return "";
+		} else if (value instanceof OWLLiteral) {
+			return ((OWLLiteral) value).getLiteral();
 		} else {
 			String str = value.toString().trim();
 			if (str.startsWith(QUOTES)) {
@@ -122,10 +147,17 @@ public class AnnotationProcessor implements OWLAxiomVisitorEx<Boolean> {
 
 		} else if (annotations.size() == 1) {
 			OWLAnnotation annotation = annotations.iterator().next();
-			String varName = VARIABLE_PREFIX + this.network.keySet().size();
-			this.variableOrder.add(varName);
 			String annotStr = asString(annotation.getValue());
-			this.network.put(varName, annotStr);
+			Optional<String> key = this.variableSharing.getKey(annotStr);
+			String varName = key.map(this.sharedVariables::get).orElse(null);
+			if (Objects.isNull(varName)) {
+				varName = VARIABLE_PREFIX + this.network.keySet().size();
+				if (key.isPresent()) {
+					this.sharedVariables.put(key.get(), varName);
+				}
+				this.variableOrder.add(varName);
+				this.network.put(varName, annotStr);
+			}
 			OWLAnnotationValue value = this.df.getOWLLiteral(varName);
 			OWLAnnotation newAnnotation = this.df.getOWLAnnotation(annotation.getProperty(), value);
 			return Collections.singleton(newAnnotation);
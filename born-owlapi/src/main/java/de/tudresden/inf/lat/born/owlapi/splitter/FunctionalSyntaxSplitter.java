@@ -0,0 +1,388 @@
+package de.tudresden.inf.lat.born.owlapi.splitter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import de.tudresden.inf.lat.born.core.term.Symbol;
+
+/**
+ * An object of this class splits a probabilistic OWL ontology written in OWL
+ * functional syntax without loading it. The ontology is read element by
+ * element, and each axiom is written as soon as its annotation is replaced by
+ * a variable, together with the line of the Bayesian network that gives the
+ * original value to that variable. Only one axiom, the prefixes, the number
+ * of variables, and the shared variables, if any, are kept in memory.
+ * <p>
+ * As in {@link AnnotationProcessor}, each axiom can have at most one
+ * annotation, and the annotations of annotations are removed.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class FunctionalSyntaxSplitter {
+
+	public static final String PREFIX_KEYWORD = "Prefix";
+	public static final String ONTOLOGY_KEYWORD = "Ontology";
+	public static final String ANNOTATION_KEYWORD = "Annotation";
+	public static final String IMPORT_KEYWORD = "Import";
+	public static final String XSD_NAMESPACE = "http://www.w3.org/2001/XMLSchema#";
+	public static final String XSD_STRING = "string";
+
+	static final char BACKSLASH_CHAR = '\\';
+	static final char LESS_THAN_CHAR = '<';
+	static final char GREATER_THAN_CHAR = '>';
+	static final char COMMENT_CHAR = '#';
+	static final String PREFIX_SEPARATOR = ":=";
+	static final String DATATYPE_SEPARATOR = "^^";
+
+	private final Writer ontologyOutput;
+	private final Writer networkOutput;
+	private final Map<String, String> prefixes = new TreeMap<>();
+	private final VariableSharing variableSharing;
+	private final Map<String, String> sharedVariables = new HashMap<>();
+	private long numberOfVariables = 0;
+
+	/**
+	 * Constructs a new splitter.
+	 *
+	 * @param ontologyOutput
+	 *            output of the ontology with variables
+	 * @param networkOutput
+	 *            output of the Bayesian network
+	 */
+	public FunctionalSyntaxSplitter(Writer ontologyOutput, Writer networkOutput) {
+		this(ontologyOutput, networkOutput, VariableSharing.NONE);
+	}
+
+	/**
+	 * Constructs a new splitter that can share variables among annotations.
+	 *
+	 * @param ontologyOutput
+	 *            output of the ontology with variables
+	 * @param networkOutput
+	 *            output of the Bayesian network
+	 * @param variableSharing
+	 *            grouping of the annotation values that share a variable
+	 */
+	public FunctionalSyntaxSplitter(Writer ontologyOutput, Writer networkOutput, VariableSharing variableSharing) {
+		Objects.requireNonNull(ontologyOutput);
+		Objects.requireNonNull(networkOutput);
+		Objects.requireNonNull(variableSharing);
+		this.ontologyOutput = ontologyOutput;
+		this.networkOutput = networkOutput;
+		this.variableSharing = variableSharing;
+	}
+
+	/**
+	 * Returns the number of variables created so far.
+	 *
+	 * @return the number of variables created so far
+	 */
+	public long getNumberOfVariables() {
+		return this.numberOfVariables;
+	}
+
+	/**
+	 * Returns the prefixes read so far.
+	 *
+	 * @return the prefixes read so far
+	 */
+	public Map<String, String> getPrefixes() {
+		return this.prefixes;
+	}
+
+	/**
+	 * Returns the position after the element that starts at the given
+	 * position, where an element is an IRI, a parenthesized expression, or a
+	 * sequence of other non-blank characters. Comments, which start with
+	 * <code>#</code> outside strings and IRIs and end at the end of the line,
+	 * are skipped.
+	 *
+	 * @param text
+	 *            text
+	 * @param start
+	 *            position of the first character of the element
+	 * @return the position after the element that starts at the given position
+	 */
+	static int skipElement(String text, int start) {
+		int depth = 0;
+		boolean inString = false;
+		boolean inIri = false;
+		boolean inComment = false;
+		for (int index = start; index < text.length(); index++) {
+			char ch = text.charAt(index);
+			if (inComment) {
+				if (ch == Symbol.NEW_LINE_CHAR) {
+					inComment = false;
+					if (depth == 0) {
+						return index;
+					}
+				}
+			} else if (inString) {
+				if (ch == BACKSLASH_CHAR) {
+					index++;
+				} else if (ch == Symbol.QUOTES_CHAR) {
+					inString = false;
+				}
+			} else if (inIri) {
+				if (ch == GREATER_THAN_CHAR) {
+					inIri = false;
+					if (depth == 0) {
+						return index + 1;
+					}
+				}
+			} else if (ch == Symbol.QUOTES_CHAR) {
+				inString = true;
+			} else if (ch == LESS_THAN_CHAR) {
+				inIri = true;
+			} else if (ch == COMMENT_CHAR) {
+				inComment = true;
+			} else if (ch == Symbol.PAR_A_CHAR) {
+				depth++;
+			} else if (ch == Symbol.PAR_B_CHAR) {
+				if (depth == 0) {
+					return index;
+				}
+				depth--;
+				if (depth == 0) {
+					return index + 1;
+				}
+			} else if (depth == 0 && Character.isWhitespace(ch)) {
+				return index;
+			}
+		}
+		return text.length();
+	}
+
+	static int skipWhitespace(String text, int start) {
+		int ret = start;
+		while (ret < text.length() && Character.isWhitespace(text.charAt(ret))) {
+			ret++;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the lexical form of a literal, or the text itself if it is not a
+	 * literal.
+	 *
+	 * @param text
+	 *            literal or other annotation value
+	 * @return the lexical form of a literal, or the text itself if it is not a
+	 *         literal
+	 */
+	static String getLexicalForm(String text) {
+		if (text.isEmpty() || text.charAt(0) != Symbol.QUOTES_CHAR) {
+			return text;
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int index = 1; index < text.length() && text.charAt(index) != Symbol.QUOTES_CHAR; index++) {
+			char ch = text.charAt(index);
+			if (ch == BACKSLASH_CHAR && index + 1 < text.length()) {
+				index++;
+				ch = text.charAt(index);
+			}
+			sb.append(ch);
+		}
+		return sb.toString();
+	}
+
+	static String escape(String text) {
+		StringBuilder sb = new StringBuilder();
+		text.chars().forEach(ch -> {
+			if (ch == Symbol.QUOTES_CHAR || ch == BACKSLASH_CHAR) {
+				sb.append(BACKSLASH_CHAR);
+			}
+			sb.append((char) ch);
+		});
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the datatype of the literals that replace the annotation values,
+	 * using a prefix if there is one for the XML Schema namespace.
+	 *
+	 * @return the datatype of the literals that replace the annotation values
+	 */
+	String getStringDatatype() {
+		return this.prefixes.entrySet().stream().filter(entry -> entry.getValue().equals(XSD_NAMESPACE)).findFirst()
+				.map(entry -> entry.getKey() + XSD_STRING)
+				.orElse(LESS_THAN_CHAR + XSD_NAMESPACE + XSD_STRING + GREATER_THAN_CHAR);
+	}
+
+	/**
+	 * Registers a prefix declaration.
+	 *
+	 * @param element
+	 *            prefix declaration, like
+	 *            <code>Prefix(ont:=&lt;http://example.org/#&gt;)</code>
+	 */
+	void addPrefix(String element) {
+		int separator = element.indexOf(PREFIX_SEPARATOR);
+		int iriStart = element.indexOf(LESS_THAN_CHAR, separator);
+		int iriEnd = element.indexOf(GREATER_THAN_CHAR, iriStart);
+		if (separator != -1 && iriStart != -1 && iriEnd != -1) {
+			String name = element.substring(element.indexOf(Symbol.PAR_A_CHAR) + 1, separator).trim()
+					+ Symbol.COLON_CHAR;
+			this.prefixes.put(name, element.substring(iriStart + 1, iriEnd));
+		}
+	}
+
+	/**
+	 * Replaces the annotation of an axiom by a variable, and writes the value
+	 * of the variable in the Bayesian network if the variable is new.
+	 *
+	 * @param axiom
+	 *            axiom in OWL functional syntax
+	 * @return the axiom with a variable in place of its annotation value
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	String replaceAnnotation(String axiom) throws IOException {
+		int afterKeyword = axiom.indexOf(Symbol.PAR_A_CHAR) + 1;
+		int annotationStart = skipWhitespace(axiom, afterKeyword);
+		if (!axiom.startsWith(ANNOTATION_KEYWORD + Symbol.PAR_A_CHAR, annotationStart)) {
+			return axiom;
+		}
+		int annotationEnd = skipElement(axiom, annotationStart);
+		int next = skipWhitespace(axiom, annotationEnd);
+		if (axiom.startsWith(ANNOTATION_KEYWORD + Symbol.PAR_A_CHAR, next)) {
+			throw new IllegalArgumentException(
+					"Unexpected number of annotations. The OWL axiom can have at most 1 annotation. Axiom: '" + axiom
+							+ "'.");
+		}
+
+		int position = skipWhitespace(axiom, annotationStart + ANNOTATION_KEYWORD.length() + 1);
+		while (axiom.startsWith(ANNOTATION_KEYWORD + Symbol.PAR_A_CHAR, position)) {
+			position = skipWhitespace(axiom, skipElement(axiom, position));
+		}
+		int propertyEnd = skipElement(axiom, position);
+		String property = axiom.substring(position, propertyEnd);
+		int valueStart = skipWhitespace(axiom, propertyEnd);
+		String value = axiom.substring(valueStart, annotationEnd - 1).trim();
+
+		String lexicalForm = getLexicalForm(value);
+		Optional<String> key = this.variableSharing.getKey(lexicalForm);
+		String variable = key.map(this.sharedVariables::get).orElse(null);
+		if (Objects.isNull(variable)) {
+			variable = AnnotationProcessor.VARIABLE_PREFIX + this.numberOfVariables;
+			this.numberOfVariables++;
+			if (key.isPresent()) {
+				this.sharedVariables.put(key.get(), variable);
+			}
+			this.networkOutput.write(
+					lexicalForm + SplitterCore.COLON_COLON + variable + SplitterCore.POINT + Symbol.NEW_LINE_CHAR);
+		}
+
+		return axiom.substring(0, annotationStart) + ANNOTATION_KEYWORD + Symbol.PAR_A_CHAR + property
+				+ Symbol.SPACE_CHAR + Symbol.QUOTES_CHAR + escape(variable) + Symbol.QUOTES_CHAR + DATATYPE_SEPARATOR
+				+ getStringDatatype() + Symbol.PAR_B_CHAR + axiom.substring(annotationEnd);
+	}
+
+	/**
+	 * Processes a complete element of the ontology document and writes it.
+	 *
+	 * @param element
+	 *            element
+	 * @param insideOntology
+	 *            <code>true</code> if the element is inside the ontology
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	void processElement(String element, boolean insideOntology) throws IOException {
+		String keyword = element.substring(0, Math.max(0, element.indexOf(Symbol.PAR_A_CHAR))).trim();
+		if (!insideOntology && keyword.equals(PREFIX_KEYWORD)) {
+			addPrefix(element);
+			this.ontologyOutput.write(element);
+		} else if (insideOntology && !keyword.isEmpty() && !keyword.equals(ANNOTATION_KEYWORD)
+				&& !keyword.equals(IMPORT_KEYWORD)) {
+			this.ontologyOutput.write(replaceAnnotation(element));
+		} else {
+			this.ontologyOutput.write(element);
+		}
+	}
+
+	/**
+	 * Splits the ontology provided by the given reader. Comments are copied
+	 * without changes, and the parentheses in them are not counted.
+	 *
+	 * @param input
+	 *            reader of an ontology in OWL functional syntax
+	 * @return the number of variables created
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	public long split(Reader input) throws IOException {
+		Objects.requireNonNull(input);
+		StringBuilder element = new StringBuilder();
+		int depth = 0;
+		boolean insideOntology = false;
+		boolean inString = false;
+		boolean inIri = false;
+		boolean inComment = false;
+		boolean escaped = false;
+		for (int next = input.read(); next != -1; next = input.read()) {
+			char ch = (char) next;
+			element.append(ch);
+			if (inComment) {
+				if (ch == Symbol.NEW_LINE_CHAR) {
+					inComment = false;
+					if (depth == (insideOntology ? 1 : 0)) {
+						this.ontologyOutput.write(element.toString());
+						element.setLength(0);
+					}
+				}
+			} else if (inString) {
+				if (escaped) {
+					escaped = false;
+				} else if (ch == BACKSLASH_CHAR) {
+					escaped = true;
+				} else if (ch == Symbol.QUOTES_CHAR) {
+					inString = false;
+				}
+			} else if (inIri) {
+				inIri = (ch != GREATER_THAN_CHAR);
+			} else if (ch == Symbol.QUOTES_CHAR) {
+				inString = true;
+			} else if (ch == LESS_THAN_CHAR) {
+				inIri = true;
+			} else if (ch == COMMENT_CHAR) {
+				inComment = true;
+			} else if (ch == Symbol.PAR_A_CHAR) {
+				depth++;
+				if (!insideOntology && depth == 1
+						&& element.toString().trim().equals(ONTOLOGY_KEYWORD + Symbol.PAR_A_CHAR)) {
+					insideOntology = true;
+					this.ontologyOutput.write(element.toString());
+					element.setLength(0);
+				}
+			} else if (ch == Symbol.PAR_B_CHAR) {
+				depth--;
+				if (depth < 0) {
+					throw new IllegalArgumentException("Unbalanced parentheses in ontology.");
+				} else if (insideOntology && depth == 0) {
+					insideOntology = false;
+					this.ontologyOutput.write(element.toString());
+					element.setLength(0);
+				} else if (depth == (insideOntology ? 1 : 0)) {
+					processElement(element.toString(), insideOntology);
+					element.setLength(0);
+				}
+			} else if (Character.isWhitespace(ch) && depth == (insideOntology ? 1 : 0)) {
+				this.ontologyOutput.write(element.toString());
+				element.setLength(0);
+			}
+		}
+		this.ontologyOutput.write(element.toString());
+		this.ontologyOutput.flush();
+		this.networkOutput.flush();
+		return this.numberOfVariables;
+	}
+
+}
@@ -3,6 +3,8 @@ package de.tudresden.inf.lat.born.owlapi.splitter;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+
 /**
  * This interface models the configuration of a splitter.
  * 
@@ -56,4 +58,34 @@ public interface SplitterConfiguration {
 	 */
 	void setBayesianNetwork(OutputStream bayesianNetwork);
 
+	/**
+	 * Returns the grouping of the annotation values that share a variable.
+	 * 
+	 * @return the grouping of the annotation values that share a variable
+	 */
+	VariableSharing getVariableSharing();
+
+	/**
+	 * Sets the grouping of the annotation values that share a variable.
+	 * 
+	 * @param variableSharing
+	 *            grouping of the annotation values that share a variable
+	 */
+	void setVariableSharing(VariableSharing variableSharing);
+
+	/**
+	 * Returns the format of the output ontology.
+	 * 
+	 * @return the format of the output ontology
+	 */
+	OntologyFormat getOutputFormat();
+
+	/**
+	 * Sets the format of the output ontology.
+	 * 
+	 * @param outputFormat
+	 *            format of the output ontology
+	 */
+	void setOutputFormat(OntologyFormat outputFormat);
+
 }
@@ -4,6 +4,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Objects;
 
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+
 /**
  * 
  * @author Julian Mendez
@@ -14,6 +16,8 @@ public class SplitterConfigurationImpl implements SplitterConfiguration {
 	private InputStream inputOntology;
 	private OutputStream outputOntology;
 	private OutputStream bayesianNetwork;
+	private VariableSharing variableSharing = VariableSharing.NONE;
+	private OntologyFormat outputFormat = OntologyFormat.DEFAULT;
 
 	@Override
 	public InputStream getInputOntology() {
@@ -48,6 +52,28 @@ public class SplitterConfigurationImpl implements SplitterConfiguration {
 		this.bayesianNetwork = bayesianNetwork;
 	}
 
+	@Override
+	public VariableSharing getVariableSharing() {
+		return variableSharing;
+	}
+
+	@Override
+	public void setVariableSharing(VariableSharing variableSharing) {
+		Objects.requireNonNull(variableSharing);
+		this.variableSharing = variableSharing;
+	}
+
+	@Override
+	public OntologyFormat getOutputFormat() {
+		return outputFormat;
+	}
+
+	@Override
+	public void setOutputFormat(OntologyFormat outputFormat) {
+		Objects.requireNonNull(outputFormat);
+		this.outputFormat = outputFormat;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -58,20 +84,24 @@ public class SplitterConfigurationImpl implements SplitterConfiguration {
 			SplitterConfiguration other = (SplitterConfiguration) obj;
 			return getInputOntology().equals(other.getInputOntology())
 					&& getOutputOntology().equals(other.getOutputOntology())
-					&& getBayesianNetwork().equals(other.getBayesianNetwork());
+					&& getBayesianNetwork().equals(other.getBayesianNetwork())
+					&& getVariableSharing().equals(other.getVariableSharing())
+					&& getOutputFormat().equals(other.getOutputFormat());
 		}
 	}
 
 	@Override
 	public int hashCode() {
-		return this.inputOntology.hashCode()
-				+ 0x1F * (this.outputOntology.hashCode() + 0x1F * this.bayesianNetwork.hashCode());
+		return this.inputOntology.hashCode() + 0x1F * (this.outputOntology.hashCode()
+				+ 0x1F * (this.bayesianNetwork.hashCode()
+				+ 0x1F * (this.variableSharing.hashCode() + 0x1F * this.outputFormat.hashCode())));
 	}
 
 	@Override
 	public String toString() {
 		return this.inputOntology.toString() + " " + this.outputOntology.toString() + " "
-				+ this.bayesianNetwork.toString();
+				+ this.bayesianNetwork.toString() + " " + this.variableSharing.getName() + " "
+				+ this.outputFormat.getName();
 	}
 
 }
@@ -1,21 +1,26 @@
 package de.tudresden.inf.lat.born.owlapi.splitter;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import org.semanticweb.owlapi.apibinding.OWLManager;
-import org.semanticweb.owlapi.io.AbstractOWLRenderer;
 import org.semanticweb.owlapi.io.OWLRendererException;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
-import org.semanticweb.owlapi.owlxml.renderer.OWLXMLRenderer;
+
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyReader;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
 
 /**
  * An object of this class splits a probabilistic OWL ontology in two parts: an
@@ -46,8 +51,7 @@ public class SplitterCore {
 	 */
 	OWLOntology loadOWLOntology(InputStream input) throws OWLOntologyCreationException {
 		Objects.requireNonNull(input);
-		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
-		return manager.loadOntologyFromOntologyDocument(input);
+		return new OntologyReader().read(input);
 	}
 
 	/**
@@ -57,18 +61,19 @@ public class SplitterCore {
 	 *            ontology
 	 * @param ontologyOutputStream
 	 *            output stream to store the ontology
+	 * @param format
+	 *            format of the ontology
 	 * @throws IOException
 	 *             if something went wrong with the I/O
 	 * @throws OWLRendererException
 	 *             if the ontology could not be rendered
 	 */
-	void storeOWLOntology(OWLOntology ontology, OutputStream ontologyOutputStream)
+	void storeOWLOntology(OWLOntology ontology, OutputStream ontologyOutputStream, OntologyFormat format)
 			throws IOException, OWLRendererException {
 		Objects.requireNonNull(ontology);
 		Objects.requireNonNull(ontologyOutputStream);
-		AbstractOWLRenderer renderer = new OWLXMLRenderer();
-		renderer.render(ontology, ontologyOutputStream);
-		ontologyOutputStream.flush();
+		Objects.requireNonNull(format);
+		new OntologyWriter().write(ontology, ontologyOutputStream, format);
 	}
 
 	/**
@@ -102,7 +107,10 @@ public class SplitterCore {
 
 	/**
 	 * Splits a probabilistic OWL ontology in two parts: an OWL ontology with
-	 * variables, and a Bayesian network.
+	 * variables, and a Bayesian network. An ontology written in OWL functional
+	 * syntax is processed axiom by axiom, and the new ontology is written in
+	 * the same syntax. Any other ontology is loaded, and the new ontology is
+	 * written in the default format.
 	 * 
 	 * @param ontologyInputStream
 	 *            input stream of ontology
@@ -120,19 +128,65 @@ public class SplitterCore {
 	public void split(InputStream ontologyInputStream, OutputStream newOntologyOutputStream,
 			OutputStream networkOutputStream) throws IOException, OWLOntologyCreationException, OWLRendererException {
 		Objects.requireNonNull(ontologyInputStream);
+		BufferedInputStream input = new BufferedInputStream(ontologyInputStream);
+		split(input, newOntologyOutputStream, networkOutputStream, VariableSharing.NONE,
+				OntologyReader.isFunctionalSyntax(input) ? OntologyFormat.FUNCTIONAL : OntologyFormat.DEFAULT);
+	}
+
+	/**
+	 * Splits a probabilistic OWL ontology in two parts: an OWL ontology with
+	 * variables, and a Bayesian network, where the annotations with values in
+	 * the same group share a variable. An ontology written in OWL functional
+	 * syntax is processed axiom by axiom without being loaded if the new
+	 * ontology is also written in OWL functional syntax. Otherwise, the
+	 * ontology is loaded.
+	 * 
+	 * @param ontologyInputStream
+	 *            input stream of ontology
+	 * @param newOntologyOutputStream
+	 *            output stream of new ontology
+	 * @param networkOutputStream
+	 *            output stream of Bayesian network
+	 * @param variableSharing
+	 *            grouping of the annotation values that share a variable
+	 * @param outputFormat
+	 *            format of the new ontology
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 * @throws OWLOntologyCreationException
+	 *             if the OWL ontology could not be created
+	 * @throws OWLRendererException
+	 *             if the OWL ontology could not be rendered
+	 */
+	public void split(InputStream ontologyInputStream, OutputStream newOntologyOutputStream,
+			OutputStream networkOutputStream, VariableSharing variableSharing, OntologyFormat outputFormat)
+			throws IOException, OWLOntologyCreationException, OWLRendererException {
+		Objects.requireNonNull(ontologyInputStream);
 		Objects.requireNonNull(newOntologyOutputStream);
 		Objects.requireNonNull(networkOutputStream);
-		OWLOntology ont = loadOWLOntology(ontologyInputStream);
-		AnnotationProcessor processor = new AnnotationProcessor(ont.getOWLOntologyManager());
+		Objects.requireNonNull(variableSharing);
+		Objects.requireNonNull(outputFormat);
+		BufferedInputStream input = new BufferedInputStream(ontologyInputStream);
+		if (outputFormat == OntologyFormat.FUNCTIONAL && OntologyReader.isFunctionalSyntax(input)) {
+			Writer ontologyWriter = new BufferedWriter(
+					new OutputStreamWriter(newOntologyOutputStream, StandardCharsets.UTF_8));
+			Writer networkWriter = new BufferedWriter(new OutputStreamWriter(networkOutputStream));
+			new FunctionalSyntaxSplitter(ontologyWriter, networkWriter, variableSharing)
+					.split(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+			return;
+		}
+		OWLOntology ont = loadOWLOntology(input);
+		AnnotationProcessor processor = new AnnotationProcessor(ont.getOWLOntologyManager(), variableSharing);
 		ont.getAxioms().forEach(axiom -> axiom.accept(processor));
-		storeOWLOntology(processor.getOWLOntology(), newOntologyOutputStream);
+		storeOWLOntology(processor.getOWLOntology(), newOntologyOutputStream, outputFormat);
 		storeBayesianNetwork(processor.getVariables(), processor.getNetwork(), networkOutputStream);
 	}
 
 	public void run(SplitterConfiguration conf) {
 		Objects.requireNonNull(conf);
 		try {
-			split(conf.getInputOntology(), conf.getOutputOntology(), conf.getBayesianNetwork());
+			split(conf.getInputOntology(), conf.getOutputOntology(), conf.getBayesianNetwork(),
+					conf.getVariableSharing(), conf.getOutputFormat());
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		} catch (OWLRendererException e) {
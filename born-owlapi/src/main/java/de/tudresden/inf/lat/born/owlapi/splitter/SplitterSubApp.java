@@ -10,6 +10,7 @@ import java.util.Objects;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
 import de.tudresden.inf.lat.born.core.term.SubApp;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
 
 /**
  * An object of this class splits a probabilistic OWL ontology in two parts: an
@@ -22,7 +23,13 @@ import de.tudresden.inf.lat.born.core.term.SubApp;
  */
 public class SplitterSubApp implements SubApp {
 
-	public static final String HELP = "Parameters: <input ontology> <output ontology> <Bayesian network>";
+	public static final String HELP = "Parameters: <input ontology> <output ontology> <Bayesian network>" //
+			+ " [<variable sharing>] [--format=<format>]" //
+			+ "\n\n<variable sharing> : none (default), value, probability" //
+			+ "\n    none        : each annotated axiom gets a new variable" //
+			+ "\n    value       : the annotations with the same value share a variable" //
+			+ "\n    probability : the annotations with the same value or number share a variable" //
+			+ "\n" + OntologyFormat.HELP;
 	public static final String COMMAND = "split";
 
 	/**
@@ -37,15 +44,18 @@ public class SplitterSubApp implements SubApp {
 	}
 
 	@Override
-	public boolean isValid(String args[]) {
-		Objects.requireNonNull(args);
-		return (args.length == 3);
+	public boolean isValid(String arguments[]) {
+		Objects.requireNonNull(arguments);
+		String[] args = OntologyFormat.removeFormatOption(arguments);
+		return OntologyFormat.hasValidFormatOption(arguments) && (args.length == 3)
+				|| (args.length == 4 && VariableSharing.find(args[3]).isPresent());
 	}
 
 	@Override
-	public String run(String args[]) {
-		Objects.requireNonNull(args);
-		if (isValid(args)) {
+	public String run(String arguments[]) {
+		Objects.requireNonNull(arguments);
+		if (isValid(arguments)) {
+			String[] args = OntologyFormat.removeFormatOption(arguments);
 			try {
 				SplitterConfiguration conf = new SplitterConfigurationImpl();
 
@@ -54,10 +64,15 @@ public class SplitterSubApp implements SubApp {
 
 				OutputStream outOnt = new FileOutputStream(ResourceUtil.ensurePath(args[1]));
 				conf.setOutputOntology(outOnt);
+				conf.setOutputFormat(OntologyFormat.getFormat(arguments, args[1]));
 
 				OutputStream outNet = new FileOutputStream(ResourceUtil.ensurePath(args[2]));
 				conf.setBayesianNetwork(outNet);
 
+				if (args.length == 4) {
+					conf.setVariableSharing(VariableSharing.find(args[3]).get());
+				}
+
 				SplitterCore core = new SplitterCore();
 				core.run(conf);
 
@@ -0,0 +1,93 @@
+package de.tudresden.inf.lat.born.owlapi.splitter;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This enumeration models how the splitter groups the annotation values that
+ * share a variable of the Bayesian network.
+ * <ul>
+ * <li><code>none</code>: each annotated axiom gets a new variable</li>
+ * <li><code>value</code>: the axioms whose annotations have the same value
+ * share a variable</li>
+ * <li><code>probability</code>: like <code>value</code>, but the values that
+ * are the same number, like <code>0.5</code> and <code>0.50</code>, are also
+ * grouped</li>
+ * </ul>
+ * A shared variable makes the axioms that share it dependent on each other,
+ * so the grouping should only be used if that is the intended meaning of
+ * equal annotations.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public enum VariableSharing {
+
+	NONE("none"), //
+	VALUE("value"), //
+	PROBABILITY("probability"); //
+
+	private final String name;
+
+	private VariableSharing(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the key that identifies the group of an annotation value, if
+	 * the value is grouped with others.
+	 * 
+	 * @param value
+	 *            annotation value
+	 * @return the key that identifies the group of an annotation value, if the
+	 *         value is grouped with others
+	 */
+	public Optional<String> getKey(String value) {
+		Objects.requireNonNull(value);
+		if (this == NONE) {
+			return Optional.empty();
+		} else if (this == PROBABILITY) {
+			try {
+				return Optional.of(new BigDecimal(value.trim()).stripTrailingZeros().toPlainString());
+			} catch (NumberFormatException e) {
+				return Optional.of(value);
+			}
+		} else {
+			return Optional.of(value);
+		}
+	}
+
+	/**
+	 * Returns the grouping with the given name, if it exists.
+	 * 
+	 * @param name
+	 *            name
+	 * @return the grouping with the given name, if it exists
+	 */
+	public static Optional<VariableSharing> find(String name) {
+		Objects.requireNonNull(name);
+		return getValues().stream().filter(value -> value.getName().equals(name)).findFirst();
+	}
+
+	/**
+	 * Returns the values.
+	 * 
+	 * @return the values
+	 */
+	public static List<VariableSharing> getValues() {
+		return Arrays.asList(values());
+	}
+
+}
@@ -12,9 +12,11 @@ import java.util.List;
 public interface BayesianNetworkCreatorConfiguration {
 
 	/**
-	 * Returns the dependencies.
+	 * Returns the dependencies, whose meaning depends on the structure of the
+	 * network.
 	 * 
 	 * @return the dependencies
+	 * @see NetworkStructure
 	 */
 	List<Integer> getDependencies();
 
@@ -41,4 +43,66 @@ public interface BayesianNetworkCreatorConfiguration {
 	 */
 	void setOutput(OutputStream output);
 
+	/**
+	 * Returns the structure of the network.
+	 * 
+	 * @return the structure of the network
+	 */
+	NetworkStructure getStructure();
+
+	/**
+	 * Sets the structure of the network.
+	 * 
+	 * @param structure
+	 *            structure of the network
+	 */
+	void setStructure(NetworkStructure structure);
+
+	/**
+	 * Returns the type of the conditional probability tables.
+	 * 
+	 * @return the type of the conditional probability tables
+	 */
+	ProbabilityTableType getProbabilityTableType();
+
+	/**
+	 * Sets the type of the conditional probability tables.
+	 * 
+	 * @param probabilityTableType
+	 *            type of the conditional probability tables
+	 */
+	void setProbabilityTableType(ProbabilityTableType probabilityTableType);
+
+	/**
+	 * Returns the maximum number of parents of each variable, which is used
+	 * by the structures based on layers and on treewidth.
+	 * 
+	 * @return the maximum number of parents of each variable
+	 */
+	int getNumberOfParents();
+
+	/**
+	 * Sets the maximum number of parents of each variable, which is used by
+	 * the structures based on layers and on treewidth.
+	 * 
+	 * @param numberOfParents
+	 *            maximum number of parents of each variable
+	 */
+	void setNumberOfParents(int numberOfParents);
+
+	/**
+	 * Returns the seed of the pseudorandom number generator.
+	 * 
+	 * @return the seed of the pseudorandom number generator
+	 */
+	long getSeed();
+
+	/**
+	 * Sets the seed of the pseudorandom number generator.
+	 * 
+	 * @param seed
+	 *            seed of the pseudorandom number generator
+	 */
+	void setSeed(long seed);
+
 }
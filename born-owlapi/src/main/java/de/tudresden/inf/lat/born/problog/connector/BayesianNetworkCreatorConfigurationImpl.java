@@ -11,8 +11,15 @@ import java.util.Objects;
  */
 public class BayesianNetworkCreatorConfigurationImpl implements BayesianNetworkCreatorConfiguration {
 
+	public static final int DEFAULT_NUMBER_OF_PARENTS = 2;
+	public static final long DEFAULT_SEED = 0;
+
 	private List<Integer> dependencies;
 	private OutputStream output;
+	private NetworkStructure structure = NetworkStructure.PARENTS;
+	private ProbabilityTableType probabilityTableType = ProbabilityTableType.FULL;
+	private int numberOfParents = DEFAULT_NUMBER_OF_PARENTS;
+	private long seed = DEFAULT_SEED;
 
 	@Override
 	public List<Integer> getDependencies() {
@@ -36,6 +43,48 @@ public class BayesianNetworkCreatorConfigurationImpl implements BayesianNetworkC
 		this.output = output;
 	}
 
+	@Override
+	public NetworkStructure getStructure() {
+		return this.structure;
+	}
+
+	@Override
+	public void setStructure(NetworkStructure structure) {
+		Objects.requireNonNull(structure);
+		this.structure = structure;
+	}
+
+	@Override
+	public ProbabilityTableType getProbabilityTableType() {
+		return this.probabilityTableType;
+	}
+
+	@Override
+	public void setProbabilityTableType(ProbabilityTableType probabilityTableType) {
+		Objects.requireNonNull(probabilityTableType);
+		this.probabilityTableType = probabilityTableType;
+	}
+
+	@Override
+	public int getNumberOfParents() {
+		return this.numberOfParents;
+	}
+
+	@Override
+	public void setNumberOfParents(int numberOfParents) {
+		this.numberOfParents = numberOfParents;
+	}
+
+	@Override
+	public long getSeed() {
+		return this.seed;
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -44,18 +93,23 @@ public class BayesianNetworkCreatorConfigurationImpl implements BayesianNetworkC
 			return false;
 		} else {
 			BayesianNetworkCreatorConfiguration other = (BayesianNetworkCreatorConfiguration) obj;
-			return getDependencies().equals(other.getDependencies()) && getOutput().equals(other.getOutput());
+			return getDependencies().equals(other.getDependencies()) && getOutput().equals(other.getOutput())
+					&& getStructure().equals(other.getStructure())
+					&& getProbabilityTableType().equals(other.getProbabilityTableType())
+					&& getNumberOfParents() == other.getNumberOfParents() && getSeed() == other.getSeed();
 		}
 	}
 
 	@Override
 	public int hashCode() {
-		return this.dependencies.hashCode() + 0x1F * this.output.hashCode();
+		return this.dependencies.hashCode() + 0x1F * (this.output.hashCode() + 0x1F * (this.structure.hashCode()
+				+ 0x1F * (this.probabilityTableType.hashCode() + 0x1F * (this.numberOfParents + 0x1F * Long.hashCode(this.seed)))));
 	}
 
 	@Override
 	public String toString() {
-		return this.dependencies.toString() + " " + this.output.toString();
+		return this.dependencies.toString() + " " + this.output.toString() + " " + this.structure.getName() + " "
+				+ this.probabilityTableType.getName() + " " + this.numberOfParents + " " + this.seed;
 	}
 
 }
@@ -3,22 +3,31 @@ package de.tudresden.inf.lat.born.problog.connector;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.Random;
 
 import de.tudresden.inf.lat.born.core.term.ProbClause;
 import de.tudresden.inf.lat.born.core.term.ProbClauseImpl;
+import de.tudresden.inf.lat.born.core.term.Symbol;
 import de.tudresden.inf.lat.born.core.term.Term;
 import de.tudresden.inf.lat.born.core.term.TermImpl;
 
 /**
  * An object of this class creates a Bayesian network using randomized values.
- * 
+ * The values are given by a pseudorandom number generator with a seed, so
+ * that the same configuration always creates the same network. The clauses
+ * are written as soon as they are created, and the states of the parents of
+ * each variable are enumerated as bit masks, where the bit <i>i</i> is set if
+ * the parent <i>i</i> is negated.
+ *
+ * @see NetworkStructure
+ * @see ProbabilityTableType
+ *
  * @author Julian Mendez
  *
  */
@@ -28,73 +37,360 @@ public class BayesianNetworkCreatorCore {
 	public static final String NEGATION_PREFIX = "\\+";
 	public static final int PRECISION = 2;
 	public static final int PRECISION_PLUS_2 = PRECISION + 2;
+	public static final int MAX_NUMBER_OF_PARENTS = Long.SIZE - 2;
+
+	static final int PROBABILITY_SCALE = (int) Math.pow(10, PRECISION);
 
+	/**
+	 * An object implementing this interface receives the clauses of a
+	 * Bayesian network.
+	 */
+	interface ClauseReceiver {
+
+		/**
+		 * Receives a clause.
+		 *
+		 * @param variable
+		 *            head of the clause
+		 * @param body
+		 *            array containing the variables of the body
+		 * @param bodySize
+		 *            number of variables of the body, which are the first
+		 *            ones in the array
+		 * @param negationMask
+		 *            bit mask where the bit <i>i</i> is set if the
+		 *            variable <i>i</i> of the body is negated
+		 * @param probability
+		 *            probability multiplied by {@link #PROBABILITY_SCALE}
+		 * @throws IOException
+		 *             if something goes wrong with I/O
+		 */
+		void receive(int variable, int[] body, int bodySize, long negationMask, int probability) throws IOException;
+
+	}
+
+	/**
+	 * Constructs a new Bayesian network creator.
+	 */
 	public BayesianNetworkCreatorCore() {
 	}
 
-	Term newTerm(int variableIndex, boolean isNegative) {
-		return new TermImpl((isNegative ? NEGATION_PREFIX : "") + VARIABLE_PREFIX + variableIndex);
+	/**
+	 * Appends a probability given as an integer multiplied by
+	 * {@link #PROBABILITY_SCALE}.
+	 *
+	 * @param output
+	 *            output
+	 * @param probability
+	 *            probability multiplied by {@link #PROBABILITY_SCALE}
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	static void appendProbability(Appendable output, int probability) throws IOException {
+		output.append('0');
+		output.append(Symbol.POINT_CHAR);
+		for (int scale = PROBABILITY_SCALE / 10; scale > 0; scale /= 10) {
+			output.append((char) ('0' + (probability / scale) % 10));
+		}
 	}
 
-	List<Integer> chooseDependencies(int variableIndex, int parents) {
-		if ((variableIndex < 0) || (parents < 0) || (parents > variableIndex)) {
-			throw new IllegalArgumentException("It is not possible to create dependencies for " + VARIABLE_PREFIX
-					+ variableIndex + " with " + parents + " parents.");
+	/**
+	 * Writes a clause in ProbLog syntax.
+	 *
+	 * @param output
+	 *            output
+	 * @param variable
+	 *            head of the clause
+	 * @param body
+	 *            array containing the variables of the body
+	 * @param bodySize
+	 *            number of variables of the body
+	 * @param negationMask
+	 *            bit mask of the negated variables of the body
+	 * @param probability
+	 *            probability multiplied by {@link #PROBABILITY_SCALE}
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	static void writeClause(Writer output, int variable, int[] body, int bodySize, long negationMask,
+			int probability) throws IOException {
+		appendProbability(output, probability);
+		output.write(Symbol.COLON_COLON);
+		output.write(VARIABLE_PREFIX);
+		output.write(Integer.toString(variable));
+		for (int index = 0; index < bodySize; index++) {
+			output.write((index == 0) ? " " + Symbol.IF_SYMBOL + Symbol.SPACE_CHAR : ", ");
+			if ((negationMask & (1L << index)) != 0) {
+				output.write(NEGATION_PREFIX);
+			}
+			output.write(VARIABLE_PREFIX);
+			output.write(Integer.toString(body[index]));
 		}
+		output.write(Symbol.POINT_CHAR);
+		output.write(Symbol.NEW_LINE_CHAR);
+	}
 
-		List<Integer> chosen = IntStream.range(0, parents).mapToObj(x -> ((int) (Math.random() * variableIndex)))
-				.distinct().collect(Collectors.toList());
-		List<Integer> remaining = IntStream.range(chosen.size(), parents).mapToObj(x -> x).collect(Collectors.toList());
-		List<Integer> ret = Stream.concat(chosen.stream(), remaining.stream()).collect(Collectors.toList());
-		return ret;
+	/**
+	 * Returns a probabilistic clause.
+	 *
+	 * @param variable
+	 *            head of the clause
+	 * @param body
+	 *            array containing the variables of the body
+	 * @param bodySize
+	 *            number of variables of the body
+	 * @param negationMask
+	 *            bit mask of the negated variables of the body
+	 * @param probability
+	 *            probability multiplied by {@link #PROBABILITY_SCALE}
+	 * @return a probabilistic clause
+	 */
+	static ProbClause createClause(int variable, int[] body, int bodySize, long negationMask, int probability) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			appendProbability(sb, probability);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		List<Term> terms = new ArrayList<>();
+		for (int index = 0; index < bodySize; index++) {
+			terms.add(new TermImpl(((negationMask & (1L << index)) != 0 ? NEGATION_PREFIX : "") + VARIABLE_PREFIX
+					+ body[index]));
+		}
+		return new ProbClauseImpl(new TermImpl(VARIABLE_PREFIX + variable), terms, sb.toString());
 	}
 
-	ProbClause renderClause(int variableIndex, List<Integer> dependencies, List<Boolean> permutation,
-			double probability) {
-		if (dependencies.size() != permutation.size()) {
-			throw new IllegalArgumentException("It is not possible to create a probabilistic clause with these values:"
-					+ " variable index '" + variableIndex + "' with dependencies '" + dependencies + "' with state '"
-					+ permutation + "'.");
+	/**
+	 * Returns distinct variables chosen at random in an interval, in
+	 * ascending order. This uses Floyd's algorithm, so that the number of
+	 * random values does not depend on the size of the interval.
+	 *
+	 * @param random
+	 *            pseudorandom number generator
+	 * @param start
+	 *            first variable of the interval
+	 * @param size
+	 *            size of the interval
+	 * @param count
+	 *            number of variables to choose
+	 * @return distinct variables chosen at random in an interval
+	 */
+	static int[] choose(Random random, int start, int size, int count) {
+		int[] ret = new int[count];
+		int chosen = 0;
+		for (int bound = size - count; bound < size; bound++) {
+			int candidate = random.nextInt(bound + 1);
+			for (int index = 0; index < chosen; index++) {
+				if (ret[index] == candidate) {
+					candidate = bound;
+				}
+			}
+			ret[chosen] = candidate;
+			chosen++;
 		}
+		for (int index = 0; index < count; index++) {
+			ret[index] += start;
+		}
+		Arrays.sort(ret);
+		return ret;
+	}
+
+	/**
+	 * Sends the clauses of the conditional probability table of a variable to
+	 * a receiver.
+	 *
+	 * @param receiver
+	 *            receiver
+	 * @param random
+	 *            pseudorandom number generator
+	 * @param type
+	 *            type of the conditional probability table
+	 * @param variable
+	 *            variable
+	 * @param parents
+	 *            parents of the variable
+	 * @return the number of clauses
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	long createTable(ClauseReceiver receiver, Random random, ProbabilityTableType type, int variable, int[] parents)
+			throws IOException {
+		int size = parents.length;
+		long ret = 0;
+		if (type.equals(ProbabilityTableType.FULL)) {
+			long numberOfStates = 1L << size;
+			for (long mask = 0; mask < numberOfStates; mask++) {
+				receiver.receive(variable, parents, size, mask, random.nextInt(PROBABILITY_SCALE));
+				ret++;
+			}
 
-		Term head = newTerm(variableIndex, false);
-		List<Term> body = IntStream.range(0, dependencies.size())
-				.mapToObj(x -> newTerm(dependencies.get(x), permutation.get(x))).collect(Collectors.toList());
+		} else if (type.equals(ProbabilityTableType.NOISY_OR)) {
+			receiver.receive(variable, parents, 0, 0, random.nextInt(PROBABILITY_SCALE));
+			ret++;
+			int[] body = new int[1];
+			for (int parent : parents) {
+				body[0] = parent;
+				receiver.receive(variable, body, 1, 0, random.nextInt(PROBABILITY_SCALE));
+				ret++;
+			}
+
+		} else if (type.equals(ProbabilityTableType.CONTEXT_SPECIFIC)) {
+			for (int index = 0; index < size; index++) {
+				receiver.receive(variable, parents, index + 1, (1L << index) - 1, random.nextInt(PROBABILITY_SCALE));
+				ret++;
+			}
+			receiver.receive(variable, parents, size, (1L << size) - 1, random.nextInt(PROBABILITY_SCALE));
+			ret++;
 
-		ProbClause ret = new ProbClauseImpl(head, body, asAnnotation(probability));
+		} else {
+			throw new IllegalArgumentException("Unknown type of table: '" + type + "'.");
+		}
 		return ret;
 	}
 
-	String asAnnotation(double probability) {
-		String ret = "" + probability;
-		if (ret.length() > PRECISION_PLUS_2) {
-			ret = ret.substring(0, PRECISION_PLUS_2);
+	/**
+	 * Checks that the dependencies can be used with the given structure.
+	 *
+	 * @param structure
+	 *            structure
+	 * @param dependencies
+	 *            dependencies
+	 * @param numberOfParents
+	 *            maximum number of parents of each variable
+	 * @return <code>true</code> if and only if the dependencies can be used
+	 *         with the given structure
+	 */
+	public static boolean isValid(NetworkStructure structure, List<Integer> dependencies, int numberOfParents) {
+		Objects.requireNonNull(structure);
+		Objects.requireNonNull(dependencies);
+		if (dependencies.stream().anyMatch(value -> value < 0) || numberOfParents < 0
+				|| numberOfParents > MAX_NUMBER_OF_PARENTS) {
+			return false;
+		} else if (structure.equals(NetworkStructure.PARENTS)) {
+			long accumVars = 0;
+			for (int parents = 0; parents < dependencies.size(); parents++) {
+				if ((parents > accumVars) || (parents > MAX_NUMBER_OF_PARENTS)) {
+					return false;
+				}
+				accumVars += dependencies.get(parents);
+			}
+			return true;
+		} else if (structure.equals(NetworkStructure.TREEWIDTH)) {
+			return dependencies.size() == 1;
+		} else {
+			return true;
 		}
-		return ret;
 	}
 
-	List<ProbClause> computeDependencies(int variableIndex, int parents) {
-		List<ProbClause> ret = new ArrayList<>();
-		List<Integer> dependencies = chooseDependencies(variableIndex, parents);
-		boolean valid = true;
-		for (Permutation permutation = new Permutation(parents); valid; valid = permutation.computeNextPermutation()) {
-			double probability = Math.random();
-			ret.add(renderClause(variableIndex, dependencies, permutation.getPermutation(), probability));
+	/**
+	 * Sends the clauses of a Bayesian network to a receiver.
+	 *
+	 * @param receiver
+	 *            receiver
+	 * @param conf
+	 *            configuration
+	 * @return the number of clauses
+	 * @throws IOException
+	 *             if something goes wrong with I/O
+	 */
+	long createNetwork(ClauseReceiver receiver, BayesianNetworkCreatorConfiguration conf) throws IOException {
+		NetworkStructure structure = conf.getStructure();
+		List<Integer> dependencies = conf.getDependencies();
+		int numberOfParents = conf.getNumberOfParents();
+		if (!isValid(structure, dependencies, numberOfParents)) {
+			throw new IllegalArgumentException("It is not possible to create a Bayesian network with structure '"
+					+ structure.getName() + "', dependencies " + dependencies + " and " + numberOfParents
+					+ " parents.");
+		}
+		Random random = new Random(conf.getSeed());
+		ProbabilityTableType type = conf.getProbabilityTableType();
+		long ret = 0;
+		int variable = 0;
+
+		if (structure.equals(NetworkStructure.PARENTS)) {
+			for (int parents = 0; parents < dependencies.size(); parents++) {
+				int n = dependencies.get(parents);
+				for (int index = 0; index < n; index++) {
+					ret += createTable(receiver, random, type, variable, choose(random, 0, variable, parents));
+					variable++;
+				}
+			}
+
+		} else if (structure.equals(NetworkStructure.LAYERS)) {
+			int previousLayerStart = 0;
+			int previousLayerSize = 0;
+			for (int layerSize : dependencies) {
+				int parents = Math.min(numberOfParents, previousLayerSize);
+				int layerStart = variable;
+				for (int index = 0; index < layerSize; index++) {
+					ret += createTable(receiver, random, type, variable,
+							choose(random, previousLayerStart, previousLayerSize, parents));
+					variable++;
+				}
+				previousLayerStart = layerStart;
+				previousLayerSize = layerSize;
+			}
+
+		} else if (structure.equals(NetworkStructure.TREEWIDTH)) {
+			// the parents of each variable are a subset of the family, i.e.
+			// the variable and its parents, of a previous variable, so that
+			// the moral graph has a perfect elimination ordering with
+			// cliques of at most numberOfParents + 1 variables
+			int n = dependencies.get(0);
+			int[][] families = new int[n][];
+			for (; variable < n; variable++) {
+				int[] parents = new int[0];
+				if (variable > 0) {
+					int[] family = families[random.nextInt(variable)];
+					int[] chosen = choose(random, 0, family.length, Math.min(numberOfParents, family.length));
+					parents = new int[chosen.length];
+					for (int index = 0; index < chosen.length; index++) {
+						parents[index] = family[chosen[index]];
+					}
+					Arrays.sort(parents);
+				}
+				families[variable] = Arrays.copyOf(parents, parents.length + 1);
+				families[variable][parents.length] = variable;
+				ret += createTable(receiver, random, type, variable, parents);
+			}
+
+		} else {
+			throw new IllegalArgumentException("Unknown structure: '" + structure + "'.");
 		}
 		return ret;
 	}
 
+	/**
+	 * Returns a Bayesian network where the parents of each variable are chosen
+	 * among the previous variables, with full conditional probability tables
+	 * and the default seed.
+	 *
+	 * @param variables
+	 *            number of variables with 0, 1, 2, ... parents
+	 * @return a Bayesian network
+	 */
 	public List<ProbClause> createNetwork(List<Integer> variables) {
 		Objects.requireNonNull(variables);
+		BayesianNetworkCreatorConfiguration conf = new BayesianNetworkCreatorConfigurationImpl();
+		conf.setDependencies(variables);
+		return createNetwork(conf);
+	}
+
+	/**
+	 * Returns a Bayesian network.
+	 *
+	 * @param conf
+	 *            configuration, where the output is not used
+	 * @return a Bayesian network
+	 */
+	public List<ProbClause> createNetwork(BayesianNetworkCreatorConfiguration conf) {
+		Objects.requireNonNull(conf);
 		List<ProbClause> ret = new ArrayList<>();
-		int variableIndex = 0;
-		for (int parents = 0; parents < variables.size(); parents++) {
-			int n = variables.get(parents);
-			for (int currVar = 0; currVar < n; currVar++) {
-				List<ProbClause> current = computeDependencies(variableIndex, parents);
-				ret.addAll(current);
-				variableIndex++;
-			}
+		try {
+			createNetwork((variable, body, bodySize, negationMask, probability) -> ret
+					.add(createClause(variable, body, bodySize, negationMask, probability)), conf);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
 		return ret;
 	}
@@ -110,13 +406,23 @@ public class BayesianNetworkCreatorCore {
 		output.flush();
 	}
 
-	public void run(BayesianNetworkCreatorConfiguration conf) {
+	/**
+	 * Writes a Bayesian network to the output of the configuration.
+	 *
+	 * @param conf
+	 *            configuration
+	 * @return the number of clauses written
+	 */
+	public long run(BayesianNetworkCreatorConfiguration conf) {
 		Objects.requireNonNull(conf);
 		try {
-			List<ProbClause> network = createNetwork(conf.getDependencies());
-			write(new OutputStreamWriter(conf.getOutput()), network);
+			Writer output = new BufferedWriter(new OutputStreamWriter(conf.getOutput()));
+			long ret = createNetwork((variable, body, bodySize, negationMask, probability) -> writeClause(output,
+					variable, body, bodySize, negationMask, probability), conf);
+			output.flush();
+			return ret;
 		} catch (IOException e) {
-			throw new RuntimeException(e);
+			throw new UncheckedIOException(e);
 		}
 	}
 
@@ -6,11 +6,15 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
 import de.tudresden.inf.lat.born.core.term.SubApp;
+import de.tudresden.inf.lat.born.core.term.Symbol;
 
 /**
  * An object of this class creates a Bayesian network using randomized values.
@@ -22,26 +26,93 @@ import de.tudresden.inf.lat.born.core.term.SubApp;
  */
 public class BayesianNetworkCreatorSubApp implements SubApp {
 
+	static final String OPTION_PREFIX = "--";
+	static final String STRUCTURE_OPTION = "structure";
+	static final String PARENTS_OPTION = "parents";
+	static final String TABLE_OPTION = "table";
+	static final String SEED_OPTION = "seed";
+	static final int NUMBER_OF_PARAMETERS = 2;
+
 	public static final String COMMAND = "link";
-	public static final String HELP = "Parameters: <list of parents> <output file>"
+	public static final String HELP = "Parameters: <list of parents> <output file> [<option>=<value> ...]"
 			+ "\n\nExample of parameters: \"1,1,2,3,5,8\" network.pl"
 			+ "\n\nThe example creates a Bayesian network with:" + "\n  1 independent variable (no parents),"
 			+ "\n  1 variable with 1 parent," + "\n  2 variables with 2 parents," + "\n  3 variables with 3 parents,"
-			+ "\n  5 variables with 4 parents," + "\n  and 8 variables with 5 parents.";
+			+ "\n  5 variables with 4 parents," + "\n  and 8 variables with 5 parents." + "\n\nOptions:"
+			+ "\n  --structure=parents     : (default) the list gives the number of variables with 0, 1, 2, ... parents"
+			+ "\n  --structure=layers      : the list gives the number of variables in each layer,"
+			+ "\n                            and the parents are chosen in the previous layer"
+			+ "\n  --structure=treewidth   : the list gives the number of variables,"
+			+ "\n                            and the treewidth is at most the number of parents"
+			+ "\n  --parents=<n>           : number of parents for layers and treewidth, by default "
+			+ BayesianNetworkCreatorConfigurationImpl.DEFAULT_NUMBER_OF_PARENTS
+			+ "\n  --table=full            : (default) one clause for each state of the parents"
+			+ "\n  --table=noisy-or        : one clause for each parent and one for the leak"
+			+ "\n  --table=context-specific: one clause for each parent, where only the first true parent matters"
+			+ "\n  --seed=<n>              : seed used by the pseudorandom number generator, by default "
+			+ BayesianNetworkCreatorConfigurationImpl.DEFAULT_SEED
+			+ "\n\nExample with options: \"10,100,100\" network.pl --structure=layers --parents=3 --table=noisy-or --seed=127";
 
 	public BayesianNetworkCreatorSubApp() {
 	}
 
-	boolean isValidInput(List<Integer> variables) {
-		Objects.requireNonNull(variables);
-		int accumVars = 0;
-		boolean isValid = true;
-		for (int parents = 0; isValid && (parents < variables.size()); parents++) {
-			isValid = isValid && (parents <= accumVars);
-			int current = variables.get(parents);
-			accumVars += current;
+	/**
+	 * Returns the options given after the parameters, or <code>null</code> if
+	 * they are not valid.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @return the options given after the parameters, or <code>null</code> if
+	 *         they are not valid
+	 */
+	Map<String, String> getOptions(String[] args) {
+		Map<String, String> ret = new TreeMap<>();
+		for (int index = NUMBER_OF_PARAMETERS; index < args.length; index++) {
+			String arg = args[index];
+			int pos = arg.indexOf(Symbol.EQUALS_CHAR);
+			if (!arg.startsWith(OPTION_PREFIX) || pos == -1
+					|| Objects.nonNull(ret.put(arg.substring(OPTION_PREFIX.length(), pos), arg.substring(pos + 1)))) {
+				return null;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the configuration given by the arguments, if they are valid.
+	 * 
+	 * @param args
+	 *            arguments
+	 * @return the configuration given by the arguments, if they are valid
+	 */
+	Optional<BayesianNetworkCreatorConfiguration> getConfiguration(String[] args) {
+		Objects.requireNonNull(args);
+		Map<String, String> options = (args.length >= NUMBER_OF_PARAMETERS) ? getOptions(args) : null;
+		if (Objects.isNull(options)) {
+			return Optional.empty();
+		}
+		try {
+			BayesianNetworkCreatorConfiguration conf = new BayesianNetworkCreatorConfigurationImpl();
+			conf.setDependencies(parseIntegers(args[0]));
+			for (String key : options.keySet()) {
+				String value = options.get(key);
+				if (key.equals(STRUCTURE_OPTION) && NetworkStructure.find(value).isPresent()) {
+					conf.setStructure(NetworkStructure.find(value).get());
+				} else if (key.equals(TABLE_OPTION) && ProbabilityTableType.find(value).isPresent()) {
+					conf.setProbabilityTableType(ProbabilityTableType.find(value).get());
+				} else if (key.equals(PARENTS_OPTION)) {
+					conf.setNumberOfParents(Integer.parseInt(value));
+				} else if (key.equals(SEED_OPTION)) {
+					conf.setSeed(Long.parseLong(value));
+				} else {
+					return Optional.empty();
+				}
+			}
+			return BayesianNetworkCreatorCore.isValid(conf.getStructure(), conf.getDependencies(),
+					conf.getNumberOfParents()) ? Optional.of(conf) : Optional.empty();
+		} catch (NumberFormatException e) {
+			return Optional.empty();
 		}
-		return isValid;
 	}
 
 	List<Integer> parseIntegers(String listAsStr) {
@@ -61,35 +132,28 @@ public class BayesianNetworkCreatorSubApp implements SubApp {
 
 	@Override
 	public boolean isValid(String[] args) {
-		if (args.length == 2) {
-			List<Integer> dependencies = parseIntegers(args[0]);
-			return isValidInput(dependencies);
-		} else {
-			return false;
-		}
+		return getConfiguration(args).isPresent();
 	}
 
 	@Override
 	public String run(String[] args) {
-		if (isValid(args)) {
+		Optional<BayesianNetworkCreatorConfiguration> optConf = getConfiguration(args);
+		if (optConf.isPresent()) {
 			try {
-				BayesianNetworkCreatorConfiguration conf = new BayesianNetworkCreatorConfigurationImpl();
-
-				List<Integer> dependencies = parseIntegers(args[0]);
-				conf.setDependencies(dependencies);
+				BayesianNetworkCreatorConfiguration conf = optConf.get();
 
 				OutputStream output = new FileOutputStream(ResourceUtil.ensurePath(args[1]));
 				conf.setOutput(output);
 
 				BayesianNetworkCreatorCore core = new BayesianNetworkCreatorCore();
-				core.run(conf);
+				long count = core.run(conf);
 
 				output.close();
+				return "Clauses: " + count;
 
 			} catch (IOException e) {
 				throw new UncheckedIOException(e);
 			}
-			return "Done.";
 		} else {
 			return getHelp();
 		}
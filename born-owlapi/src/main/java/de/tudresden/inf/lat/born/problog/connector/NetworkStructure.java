@@ -0,0 +1,67 @@
+package de.tudresden.inf.lat.born.problog.connector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This enumeration models the structure of a generated Bayesian network, i.e.
+ * how the parents of each variable are chosen.
+ * <ul>
+ * <li><code>parents</code>: the dependencies are the number of variables with
+ * 0, 1, 2, ... parents, which are chosen among all the previous variables</li>
+ * <li><code>layers</code>: the dependencies are the number of variables in
+ * each layer, and the parents of each variable are chosen in the previous
+ * layer</li>
+ * <li><code>treewidth</code>: the dependency is the number of variables, and
+ * the parents are chosen so that the treewidth of the network is at most the
+ * number of parents</li>
+ * </ul>
+ * 
+ * @author Julian Mendez
+ *
+ */
+public enum NetworkStructure {
+
+	PARENTS("parents"), //
+	LAYERS("layers"), //
+	TREEWIDTH("treewidth"); //
+
+	private final String name;
+
+	private NetworkStructure(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the structure with the given name, if it exists.
+	 * 
+	 * @param name
+	 *            name
+	 * @return the structure with the given name, if it exists
+	 */
+	public static Optional<NetworkStructure> find(String name) {
+		Objects.requireNonNull(name);
+		return getValues().stream().filter(value -> value.getName().equals(name)).findFirst();
+	}
+
+	/**
+	 * Returns the values.
+	 * 
+	 * @return the values
+	 */
+	public static List<NetworkStructure> getValues() {
+		return Arrays.asList(values());
+	}
+
+}
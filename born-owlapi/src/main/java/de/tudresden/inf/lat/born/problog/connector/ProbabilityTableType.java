@@ -0,0 +1,65 @@
+package de.tudresden.inf.lat.born.problog.connector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This enumeration models how the conditional probability table of each
+ * variable of a generated Bayesian network is written as ProbLog clauses.
+ * <ul>
+ * <li><code>full</code>: one clause for each state of the parents, i.e.
+ * 2<sup><i>k</i></sup> clauses for <i>k</i> parents</li>
+ * <li><code>noisy-or</code>: one clause for each parent and one clause
+ * without body for the leak, i.e. <i>k</i> + 1 clauses</li>
+ * <li><code>context-specific</code>: a decision list where the variable only
+ * depends on the first parent that is true, i.e. <i>k</i> + 1 clauses</li>
+ * </ul>
+ * 
+ * @author Julian Mendez
+ *
+ */
+public enum ProbabilityTableType {
+
+	FULL("full"), //
+	NOISY_OR("noisy-or"), //
+	CONTEXT_SPECIFIC("context-specific"); //
+
+	private final String name;
+
+	private ProbabilityTableType(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the type with the given name, if it exists.
+	 * 
+	 * @param name
+	 *            name
+	 * @return the type with the given name, if it exists
+	 */
+	public static Optional<ProbabilityTableType> find(String name) {
+		Objects.requireNonNull(name);
+		return getValues().stream().filter(value -> value.getName().equals(name)).findFirst();
+	}
+
+	/**
+	 * Returns the values.
+	 * 
+	 * @return the values
+	 */
+	public static List<ProbabilityTableType> getValues() {
+		return Arrays.asList(values());
+	}
+
+}
@@ -0,0 +1,80 @@
+package de.tudresden.inf.lat.born.tool.cycleremover;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * This enumeration models the order in which the cycle remover processes the
+ * axioms. Since an axiom is removed only if it produces a cycle with the
+ * axioms processed before, the axioms that come first are kept.
+ * <ul>
+ * <li><code>natural</code>: the natural order of the OWL API axioms</li>
+ * <li><code>annotated-last</code>: the axioms without annotations, which are
+ * certain, come first, and then the annotated axioms, which are usually
+ * probabilistic; each group is in the natural order</li>
+ * </ul>
+ *
+ * @author Julian Mendez
+ *
+ */
+public enum AxiomPriority {
+
+	NATURAL("natural", Comparator.naturalOrder()), //
+	ANNOTATED_LAST("annotated-last",
+			Comparator.comparing(OWLAxiom::isAnnotated).thenComparing(Comparator.naturalOrder())); //
+
+	public static final AxiomPriority DEFAULT = NATURAL;
+
+	private final String name;
+	private final Comparator<OWLAxiom> comparator;
+
+	private AxiomPriority(String name, Comparator<OWLAxiom> comparator) {
+		this.name = name;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Returns the name.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the comparator that gives the processing order of the axioms.
+	 *
+	 * @return the comparator that gives the processing order of the axioms
+	 */
+	public Comparator<OWLAxiom> getComparator() {
+		return this.comparator;
+	}
+
+	/**
+	 * Returns the priority with the given name, if it exists.
+	 *
+	 * @param name
+	 *            name
+	 * @return the priority with the given name, if it exists
+	 */
+	public static Optional<AxiomPriority> find(String name) {
+		Objects.requireNonNull(name);
+		return getValues().stream().filter(value -> value.getName().equals(name)).findFirst();
+	}
+
+	/**
+	 * Returns the values.
+	 *
+	 * @return the values
+	 */
+	public static List<AxiomPriority> getValues() {
+		return Arrays.asList(values());
+	}
+
+}
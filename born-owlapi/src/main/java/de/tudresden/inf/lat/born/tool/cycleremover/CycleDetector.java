@@ -1,5 +1,9 @@
 package de.tudresden.inf.lat.born.tool.cycleremover;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -11,7 +15,6 @@ import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
-import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
@@ -48,27 +51,30 @@ import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.SWRLRule;
 
 import de.tudresden.inf.lat.born.tool.filter.OwlAxiomFilter;
-import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
-import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
-import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
-import de.tudresden.inf.lat.jcel.owlapi.translator.Translator;
 
 /**
  * An object of this class determines whether the OWL classes in an axiom
  * produce a cyclic dependency. If the axiom does not produce a cycle, its
  * classes are added.
+ * <p>
+ * The dependencies are kept in a {@link DynamicTopologicalOrder}, so that
+ * adding the dependencies of an axiom only visits the classes between the
+ * dependent classes in the current order, instead of keeping all the
+ * ancestors of every class. A class that depends on itself, like in
+ * <i>A</i> &sqsube; &exist; <i>r</i>.<i>A</i>, is also a cycle.
  * 
  * @author Julian Mendez
  *
  */
 public class CycleDetector implements OWLAxiomVisitorEx<Boolean>, OwlAxiomFilter {
 
-	private IntegerSubsumerGraphImpl dependencyGraph = new IntegerSubsumerGraphImpl(IntegerEntityManager.bottomClassId,
-			IntegerEntityManager.topClassId);
-	private final Translator translator;
+	private final DynamicTopologicalOrder dependencyOrder = new DynamicTopologicalOrder();
+	private final Map<OWLClass, Integer> classIds = new HashMap<>();
 
-	public CycleDetector(OWLDataFactory dataFactory) {
-		this.translator = new Translator(dataFactory, new IntegerOntologyObjectFactoryImpl());
+	/**
+	 * Constructs a new cycle detector.
+	 */
+	public CycleDetector() {
 	}
 
 	@Override
@@ -95,13 +101,22 @@ public class CycleDetector implements OWLAxiomVisitorEx<Boolean>, OwlAxiomFilter
 	public Boolean visit(OWLSubClassOfAxiom axiom) {
 		Set<OWLClass> classesInSub = axiom.getSubClass().getClassesInSignature();
 		Set<OWLClass> classesInSuper = axiom.getSuperClass().getClassesInSignature();
-		boolean acceptable = classesInSub.stream()
-				.allMatch(subClass -> classesInSuper.stream().allMatch(superClass -> check(subClass, superClass)));
-		if (acceptable) {
-			classesInSub.stream()
-					.forEach(subClass -> classesInSuper.stream().forEach(superClass -> add(subClass, superClass)));
+		List<int[]> addedEdges = new ArrayList<>();
+		for (OWLClass subClass : classesInSub) {
+			for (OWLClass superClass : classesInSuper) {
+				int subClassId = getId(subClass);
+				int superClassId = getId(superClass);
+				if (this.dependencyOrder.addEdge(subClassId, superClassId)) {
+					addedEdges.add(new int[] { subClassId, superClassId });
+				} else {
+					for (int index = addedEdges.size() - 1; index >= 0; index--) {
+						this.dependencyOrder.removeEdge(addedEdges.get(index)[0], addedEdges.get(index)[1]);
+					}
+					return false;
+				}
+			}
 		}
-		return acceptable;
+		return true;
 	}
 
 	@Override
@@ -280,20 +295,8 @@ public class CycleDetector implements OWLAxiomVisitorEx<Boolean>, OwlAxiomFilter
 		return axiom.accept(this);
 	}
 
-	boolean add(OWLClass owlSubClass, OWLClass owlSuperClass) {
-		this.translator.getTranslationRepository().addClass(owlSubClass);
-		int subClass = translator.getTranslationRepository().getId(owlSubClass);
-		this.translator.getTranslationRepository().addClass(owlSuperClass);
-		int superClass = translator.getTranslationRepository().getId(owlSuperClass);
-		return this.dependencyGraph.addAncestor(subClass, superClass);
-	}
-
-	boolean check(OWLClass owlSubClass, OWLClass owlSuperClass) {
-		this.translator.getTranslationRepository().addClass(owlSubClass);
-		int subClass = translator.getTranslationRepository().getId(owlSubClass);
-		this.translator.getTranslationRepository().addClass(owlSuperClass);
-		int superClass = translator.getTranslationRepository().getId(owlSuperClass);
-		return !this.dependencyGraph.getSubsumers(superClass).contains(subClass);
+	int getId(OWLClass owlClass) {
+		return this.classIds.computeIfAbsent(owlClass, key -> this.dependencyOrder.addNode());
 	}
 
 }
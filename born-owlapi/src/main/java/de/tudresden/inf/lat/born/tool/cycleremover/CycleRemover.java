@@ -7,16 +7,15 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
-import org.semanticweb.owlapi.io.OWLRenderer;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
-import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLException;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.owlxml.renderer.OWLXMLRenderer;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
 
 /**
@@ -28,16 +27,20 @@ import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
 public class CycleRemover {
 
 	public static final String HELP = "Parameters: \n" + //
-			"  <ontology file> <output file>: removes the cycles in a given ontology \n";
+			"  <ontology file> <output file> [<priority>]: removes the cycles in a given ontology \n" + //
+			"  <priority> : (optional) order in which the axioms are kept: natural (default), annotated-last\n" + //
+			OntologyFormat.HELP;
 	public static final String NEW_ONTOLOGY_SUFFIX = "-acyclic";
 
 	public CycleRemover() {
 	}
 
-	Set<OWLAxiom> removeCycles(OWLDataFactory dataFactory, Set<OWLAxiom> axioms) {
+	Set<OWLAxiom> removeCycles(Set<OWLAxiom> axioms, AxiomPriority priority) {
+		Objects.requireNonNull(axioms);
+		Objects.requireNonNull(priority);
 		Set<OWLAxiom> newAxioms = new HashSet<>();
-		CycleDetector axiomFilter = new CycleDetector(dataFactory);
-		axioms.forEach(axiom -> {
+		CycleDetector axiomFilter = new CycleDetector();
+		axioms.stream().sorted(priority.getComparator()).forEachOrdered(axiom -> {
 			boolean axiomWasAccepted = axiom.accept(axiomFilter);
 			if (axiomWasAccepted) {
 				newAxioms.add(axiom);
@@ -46,42 +49,45 @@ public class CycleRemover {
 		return newAxioms;
 	}
 
-	OWLOntology removeCycles(OWLOntology owlOntology) throws OWLOntologyCreationException {
+	OWLOntology removeCycles(OWLOntology owlOntology, AxiomPriority priority) throws OWLOntologyCreationException {
 		Objects.requireNonNull(owlOntology);
-		Set<OWLAxiom> newAxioms = removeCycles(owlOntology.getOWLOntologyManager().getOWLDataFactory(),
-				owlOntology.getAxioms());
+		Objects.requireNonNull(priority);
+		Set<OWLAxiom> newAxioms = removeCycles(owlOntology.getAxioms(), priority);
 		IRI oldOntologyIri = owlOntology.getOntologyID().getOntologyIRI().get();
 		IRI newOntologyIri = IRI.create(oldOntologyIri.toURI().toASCIIString() + NEW_ONTOLOGY_SUFFIX);
 		return owlOntology.getOWLOntologyManager().createOntology(newAxioms, newOntologyIri);
 	}
 
-	void removeCycle(String ontologyFileName, String outputFileName, OWLRenderer renderer)
+	void removeCycle(String ontologyFileName, String outputFileName, AxiomPriority priority, OntologyFormat format)
 			throws OWLException, IOException {
 		Objects.requireNonNull(ontologyFileName);
 		Objects.requireNonNull(outputFileName);
-		Objects.requireNonNull(renderer);
+		Objects.requireNonNull(priority);
+		Objects.requireNonNull(format);
 		OWLOntology owlOntology = ProcessorConfigurationImpl.readOntology(new FileInputStream(ontologyFileName));
-		storeOntology(removeCycles(owlOntology), outputFileName, renderer);
+		storeOntology(removeCycles(owlOntology, priority), outputFileName, format);
 	}
 
-	void storeOntology(OWLOntology owlOntology, String fileName, OWLRenderer renderer)
+	void storeOntology(OWLOntology owlOntology, String fileName, OntologyFormat format)
 			throws OWLException, IOException {
 		Objects.requireNonNull(owlOntology);
 		Objects.requireNonNull(fileName);
-		Objects.requireNonNull(renderer);
+		Objects.requireNonNull(format);
 		FileOutputStream output = new FileOutputStream(ResourceUtil.ensurePath(fileName));
-		renderer.render(owlOntology, output);
-		output.flush();
+		new OntologyWriter().write(owlOntology, output, format);
 		output.close();
 	}
 
-	public static void main(String[] args) throws IOException, OWLException {
-		Objects.requireNonNull(args);
-		if (args.length == 2) {
+	public static void main(String[] arguments) throws IOException, OWLException {
+		Objects.requireNonNull(arguments);
+		String[] args = OntologyFormat.removeFormatOption(arguments);
+		if ((args.length == 2) || (args.length == 3 && AxiomPriority.find(args[2]).isPresent())) {
 			String ontologyFileName = args[0];
 			String outputFileName = args[1];
+			AxiomPriority priority = (args.length == 3) ? AxiomPriority.find(args[2]).get() : AxiomPriority.DEFAULT;
+			OntologyFormat format = OntologyFormat.getFormat(arguments, outputFileName);
 			CycleRemover instance = new CycleRemover();
-			instance.removeCycle(ontologyFileName, outputFileName, new OWLXMLRenderer());
+			instance.removeCycle(ontologyFileName, outputFileName, priority, format);
 
 		} else {
 			System.out.println(HELP);
@@ -0,0 +1,269 @@
+package de.tudresden.inf.lat.born.tool.cycleremover;
+
+import java.util.Arrays;
+
+/**
+ * An object of this class maintains a topological order of a directed acyclic
+ * graph while edges are added, using the algorithm of Pearce and Kelly. An
+ * edge that would produce a cycle is rejected. When an edge from
+ * <i>x</i> to <i>y</i> is added and <i>y</i> already comes after <i>x</i>,
+ * nothing has to be done. Otherwise, only the nodes whose positions lie
+ * between the positions of <i>y</i> and <i>x</i> are visited, and the nodes
+ * reachable from <i>y</i> are moved after the nodes that reach <i>x</i>,
+ * reusing their positions.
+ * <p>
+ * The nodes are the numbers 0, 1, 2, ..., in the order in which they are
+ * created.
+ *
+ * @author Julian Mendez
+ *
+ */
+class DynamicTopologicalOrder {
+
+	static final int INITIAL_CAPACITY = 0x10;
+
+	private static final int[] EMPTY = new int[0];
+
+	private int size = 0;
+	private int[] position = new int[INITIAL_CAPACITY];
+	private int[][] successors = new int[INITIAL_CAPACITY][];
+	private int[] successorCount = new int[INITIAL_CAPACITY];
+	private int[][] predecessors = new int[INITIAL_CAPACITY][];
+	private int[] predecessorCount = new int[INITIAL_CAPACITY];
+	private boolean[] visited = new boolean[INITIAL_CAPACITY];
+
+	private int[] stack = new int[INITIAL_CAPACITY];
+	private int[] forward = new int[INITIAL_CAPACITY];
+	private int forwardCount = 0;
+	private int[] backward = new int[INITIAL_CAPACITY];
+	private int backwardCount = 0;
+
+	/**
+	 * Constructs a new empty topological order.
+	 */
+	DynamicTopologicalOrder() {
+	}
+
+	static int[] ensureCapacity(int[] array, int capacity) {
+		return (capacity <= array.length) ? array : Arrays.copyOf(array, Math.max(capacity, 2 * array.length));
+	}
+
+	/**
+	 * Creates a new node, which comes after all the existing nodes.
+	 *
+	 * @return the new node
+	 */
+	int addNode() {
+		int ret = this.size;
+		if (ret == this.position.length) {
+			int capacity = 2 * ret;
+			this.position = Arrays.copyOf(this.position, capacity);
+			this.successors = Arrays.copyOf(this.successors, capacity);
+			this.successorCount = Arrays.copyOf(this.successorCount, capacity);
+			this.predecessors = Arrays.copyOf(this.predecessors, capacity);
+			this.predecessorCount = Arrays.copyOf(this.predecessorCount, capacity);
+			this.visited = Arrays.copyOf(this.visited, capacity);
+		}
+		this.position[ret] = ret;
+		this.successors[ret] = EMPTY;
+		this.predecessors[ret] = EMPTY;
+		this.size++;
+		return ret;
+	}
+
+	/**
+	 * Returns the number of nodes.
+	 *
+	 * @return the number of nodes
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the position of a node in the topological order.
+	 *
+	 * @param x
+	 *            node
+	 * @return the position of a node in the topological order
+	 */
+	int getPosition(int x) {
+		return this.position[x];
+	}
+
+	/**
+	 * Adds an edge from one node to another one, if the edge does not produce
+	 * a cycle. An edge from a node to itself is a cycle.
+	 *
+	 * @param x
+	 *            source node
+	 * @param y
+	 *            target node
+	 * @return <code>true</code> if and only if the edge was added
+	 */
+	boolean addEdge(int x, int y) {
+		if (x == y) {
+			return false;
+		}
+		int lowerBound = this.position[y];
+		int upperBound = this.position[x];
+		if (lowerBound < upperBound) {
+			if (!searchForward(y, upperBound)) {
+				for (int i = 0; i < this.forwardCount; i++) {
+					this.visited[this.forward[i]] = false;
+				}
+				return false;
+			}
+			searchBackward(x, lowerBound);
+			reorder();
+		}
+		this.successors[x] = ensureCapacity(this.successors[x], this.successorCount[x] + 1);
+		this.successors[x][this.successorCount[x]++] = y;
+		this.predecessors[y] = ensureCapacity(this.predecessors[y], this.predecessorCount[y] + 1);
+		this.predecessors[y][this.predecessorCount[y]++] = x;
+		return true;
+	}
+
+	/**
+	 * Removes the last added edge from one node to another one. The
+	 * topological order remains valid.
+	 *
+	 * @param x
+	 *            source node
+	 * @param y
+	 *            target node
+	 */
+	void removeEdge(int x, int y) {
+		this.successorCount[x] = remove(this.successors[x], this.successorCount[x], y);
+		this.predecessorCount[y] = remove(this.predecessors[y], this.predecessorCount[y], x);
+	}
+
+	static int remove(int[] array, int count, int value) {
+		for (int i = count - 1; i >= 0; i--) {
+			if (array[i] == value) {
+				System.arraycopy(array, i + 1, array, i, count - i - 1);
+				return count - 1;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Collects the nodes reachable from the start node whose positions are
+	 * smaller than the upper bound.
+	 *
+	 * @param start
+	 *            start node
+	 * @param upperBound
+	 *            position of the source node of the new edge
+	 * @return <code>false</code> if and only if the node at the upper bound is
+	 *         reachable, that is, if the new edge produces a cycle
+	 */
+	boolean searchForward(int start, int upperBound) {
+		this.forwardCount = 0;
+		int stackSize = 0;
+		this.stack = ensureCapacity(this.stack, 1);
+		this.stack[stackSize++] = start;
+		this.visited[start] = true;
+		this.forward = ensureCapacity(this.forward, 1);
+		this.forward[this.forwardCount++] = start;
+		while (stackSize > 0) {
+			int current = this.stack[--stackSize];
+			int[] next = this.successors[current];
+			for (int i = 0; i < this.successorCount[current]; i++) {
+				int w = next[i];
+				int p = this.position[w];
+				if (p == upperBound) {
+					return false;
+				}
+				if (!this.visited[w] && p < upperBound) {
+					this.visited[w] = true;
+					this.forward = ensureCapacity(this.forward, this.forwardCount + 1);
+					this.forward[this.forwardCount++] = w;
+					this.stack = ensureCapacity(this.stack, stackSize + 1);
+					this.stack[stackSize++] = w;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Collects the nodes that reach the start node whose positions are greater
+	 * than the lower bound.
+	 *
+	 * @param start
+	 *            start node
+	 * @param lowerBound
+	 *            position of the target node of the new edge
+	 */
+	void searchBackward(int start, int lowerBound) {
+		this.backwardCount = 0;
+		int stackSize = 0;
+		this.stack = ensureCapacity(this.stack, 1);
+		this.stack[stackSize++] = start;
+		this.visited[start] = true;
+		this.backward = ensureCapacity(this.backward, 1);
+		this.backward[this.backwardCount++] = start;
+		while (stackSize > 0) {
+			int current = this.stack[--stackSize];
+			int[] next = this.predecessors[current];
+			for (int i = 0; i < this.predecessorCount[current]; i++) {
+				int w = next[i];
+				if (!this.visited[w] && this.position[w] > lowerBound) {
+					this.visited[w] = true;
+					this.backward = ensureCapacity(this.backward, this.backwardCount + 1);
+					this.backward[this.backwardCount++] = w;
+					this.stack = ensureCapacity(this.stack, stackSize + 1);
+					this.stack[stackSize++] = w;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sorts nodes by their positions.
+	 *
+	 * @param nodes
+	 *            nodes
+	 * @param count
+	 *            number of nodes to sort
+	 * @return the nodes sorted by their positions
+	 */
+	int[] sortByPosition(int[] nodes, int count) {
+		long[] keys = new long[count];
+		for (int i = 0; i < count; i++) {
+			keys[i] = (((long) this.position[nodes[i]]) << 32) | nodes[i];
+		}
+		Arrays.sort(keys);
+		int[] ret = new int[count];
+		for (int i = 0; i < count; i++) {
+			ret[i] = (int) keys[i];
+		}
+		return ret;
+	}
+
+	/**
+	 * Moves the nodes found by the forward search after the nodes found by the
+	 * backward search, keeping the relative order inside each group and
+	 * reusing the positions of all of them.
+	 */
+	void reorder() {
+		int[] sortedBackward = sortByPosition(this.backward, this.backwardCount);
+		int[] sortedForward = sortByPosition(this.forward, this.forwardCount);
+		int total = sortedBackward.length + sortedForward.length;
+		int[] nodes = new int[total];
+		System.arraycopy(sortedBackward, 0, nodes, 0, sortedBackward.length);
+		System.arraycopy(sortedForward, 0, nodes, sortedBackward.length, sortedForward.length);
+		int[] positions = new int[total];
+		for (int i = 0; i < total; i++) {
+			positions[i] = this.position[nodes[i]];
+			this.visited[nodes[i]] = false;
+		}
+		Arrays.sort(positions);
+		for (int i = 0; i < total; i++) {
+			this.position[nodes[i]] = positions[i];
+		}
+	}
+
+}
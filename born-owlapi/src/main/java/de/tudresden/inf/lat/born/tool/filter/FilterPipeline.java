@@ -0,0 +1,217 @@
+package de.tudresden.inf.lat.born.tool.filter;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLException;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+
+/**
+ * An object of this class applies a sequence of axiom filters to an ontology
+ * in one pass. An axiom is kept if and only if every stage accepts it.
+ * <p>
+ * The axioms are first sorted, so that the result does not depend on the
+ * order in which the ontology returns them. Consecutive stateless stages are
+ * applied together to the axioms in parallel, and each stateful stage is
+ * applied to the axioms accepted by the previous stages, one at a time and in
+ * the sorted order. Each stage counts the axioms it examines and accepts.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class FilterPipeline {
+
+	public static final String NEW_ONTOLOGY_SUFFIX = "-filtered";
+
+	private final List<FilterStage> stages = new ArrayList<>();
+	private Comparator<OWLAxiom> order = Comparator.naturalOrder();
+
+	/**
+	 * Constructs a new filter pipeline without stages.
+	 */
+	public FilterPipeline() {
+	}
+
+	/**
+	 * Adds a stateless stage, which can examine several axioms at the same
+	 * time.
+	 *
+	 * @param name
+	 *            name of the stage
+	 * @param filter
+	 *            axiom filter
+	 * @return this pipeline
+	 */
+	public FilterPipeline addStateless(String name, OwlAxiomFilter filter) {
+		this.stages.add(new FilterStage(name, filter, false));
+		return this;
+	}
+
+	/**
+	 * Adds a stateful stage, which examines the axioms one at a time in the
+	 * order of the pipeline.
+	 *
+	 * @param name
+	 *            name of the stage
+	 * @param filter
+	 *            axiom filter
+	 * @return this pipeline
+	 */
+	public FilterPipeline addStateful(String name, OwlAxiomFilter filter) {
+		this.stages.add(new FilterStage(name, filter, true));
+		return this;
+	}
+
+	/**
+	 * Returns the stages.
+	 *
+	 * @return the stages
+	 */
+	public List<FilterStage> getStages() {
+		return Collections.unmodifiableList(this.stages);
+	}
+
+	/**
+	 * Returns the order in which the axioms are examined.
+	 *
+	 * @return the order in which the axioms are examined
+	 */
+	public Comparator<OWLAxiom> getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Sets the order in which the axioms are examined. It is the natural order
+	 * of the axioms by default.
+	 *
+	 * @param order
+	 *            order in which the axioms are examined
+	 */
+	public void setOrder(Comparator<OWLAxiom> order) {
+		Objects.requireNonNull(order);
+		this.order = order;
+	}
+
+	/**
+	 * Returns the axioms accepted by all the stages, in the order of the
+	 * pipeline.
+	 *
+	 * @param axioms
+	 *            axioms
+	 * @return the axioms accepted by all the stages
+	 */
+	public List<OWLAxiom> filter(Collection<OWLAxiom> axioms) {
+		Objects.requireNonNull(axioms);
+		List<OWLAxiom> ret = new ArrayList<>(axioms);
+		ret.sort(this.order);
+		int index = 0;
+		while (index < this.stages.size()) {
+			if (this.stages.get(index).isStateful()) {
+				FilterStage stage = this.stages.get(index);
+				ret = ret.stream().filter(stage::accept).collect(Collectors.toList());
+				index++;
+			} else {
+				int end = index;
+				while (end < this.stages.size() && !this.stages.get(end).isStateful()) {
+					end++;
+				}
+				List<FilterStage> group = this.stages.subList(index, end);
+				ret = ret.parallelStream().filter(axiom -> group.stream().allMatch(stage -> stage.accept(axiom)))
+						.collect(Collectors.toList());
+				index = end;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Reads an ontology, filters its axioms, and writes the accepted axioms as
+	 * a new ontology. The identifier of the new ontology is the one of the
+	 * given ontology with a suffix.
+	 *
+	 * @param input
+	 *            input stream of the ontology
+	 * @param output
+	 *            output stream of the new ontology
+	 * @param format
+	 *            format of the new ontology
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 * @throws OWLException
+	 *             if something went wrong when reading or writing the
+	 *             ontology
+	 */
+	public void run(InputStream input, OutputStream output, OntologyFormat format) throws IOException, OWLException {
+		Objects.requireNonNull(input);
+		Objects.requireNonNull(output);
+		Objects.requireNonNull(format);
+		OWLOntology owlOntology = ProcessorConfigurationImpl.readOntology(input);
+		Optional<IRI> newOntologyIri = OntologyWriter.getOntologyIri(owlOntology)
+				.map(iri -> IRI.create(iri.toURI().toASCIIString() + NEW_ONTOLOGY_SUFFIX));
+		new OntologyWriter().write(filter(owlOntology.getAxioms()), newOntologyIri, output, format);
+	}
+
+	/**
+	 * Reads an ontology from a file, filters its axioms, and writes the
+	 * accepted axioms as a new ontology to another file.
+	 *
+	 * @param ontologyFileName
+	 *            file name of the ontology
+	 * @param filteredOntologyFileName
+	 *            file name of the new ontology
+	 * @param format
+	 *            format of the new ontology
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 * @throws OWLException
+	 *             if something went wrong when reading or writing the
+	 *             ontology
+	 */
+	public void run(String ontologyFileName, String filteredOntologyFileName, OntologyFormat format)
+			throws IOException, OWLException {
+		Objects.requireNonNull(ontologyFileName);
+		Objects.requireNonNull(filteredOntologyFileName);
+		Objects.requireNonNull(format);
+		try (InputStream input = new FileInputStream(ontologyFileName);
+				OutputStream output = new FileOutputStream(ResourceUtil.ensurePath(filteredOntologyFileName))) {
+			run(input, output, format);
+		}
+	}
+
+	/**
+	 * Returns a report with one line per stage that shows the number of
+	 * examined and accepted axioms.
+	 *
+	 * @return a report with one line per stage
+	 */
+	public String getReport() {
+		StringBuilder sb = new StringBuilder();
+		this.stages.forEach(stage -> sb.append(stage.toString() + Symbol.NEW_LINE_CHAR));
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return getReport();
+	}
+
+}
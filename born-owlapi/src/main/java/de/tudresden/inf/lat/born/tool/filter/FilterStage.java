@@ -0,0 +1,109 @@
+package de.tudresden.inf.lat.born.tool.filter;
+
+import java.util.Objects;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import de.tudresden.inf.lat.born.core.metrics.Counter;
+
+/**
+ * An object of this class is a stage of a {@link FilterPipeline}. It applies
+ * an axiom filter and counts the examined and the accepted axioms. A stateless
+ * stage can be applied to several axioms at the same time, while a stateful
+ * stage, whose result depends on the axioms accepted before, is applied to
+ * one axiom at a time in a deterministic order.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class FilterStage implements OwlAxiomFilter {
+
+	private final String name;
+	private final OwlAxiomFilter filter;
+	private final boolean stateful;
+	private final Counter examined = new Counter();
+	private final Counter accepted = new Counter();
+
+	/**
+	 * Constructs a new filter stage.
+	 *
+	 * @param name
+	 *            name of the stage
+	 * @param filter
+	 *            axiom filter
+	 * @param stateful
+	 *            <code>true</code> if and only if the result of the filter
+	 *            depends on the axioms accepted before
+	 */
+	public FilterStage(String name, OwlAxiomFilter filter, boolean stateful) {
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(filter);
+		this.name = name;
+		this.filter = filter;
+		this.stateful = stateful;
+	}
+
+	/**
+	 * Returns the name.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the axiom filter.
+	 *
+	 * @return the axiom filter
+	 */
+	public OwlAxiomFilter getFilter() {
+		return this.filter;
+	}
+
+	/**
+	 * Tells whether the result of the filter depends on the axioms accepted
+	 * before.
+	 *
+	 * @return <code>true</code> if and only if the result of the filter
+	 *         depends on the axioms accepted before
+	 */
+	public boolean isStateful() {
+		return this.stateful;
+	}
+
+	/**
+	 * Returns the number of axioms examined by this stage.
+	 *
+	 * @return the number of axioms examined by this stage
+	 */
+	public long getExamined() {
+		return this.examined.get();
+	}
+
+	/**
+	 * Returns the number of axioms accepted by this stage.
+	 *
+	 * @return the number of axioms accepted by this stage
+	 */
+	public long getAccepted() {
+		return this.accepted.get();
+	}
+
+	@Override
+	public boolean accept(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		this.examined.increment();
+		boolean ret = this.filter.accept(axiom);
+		if (ret) {
+			this.accepted.increment();
+		}
+		return ret;
+	}
+
+	@Override
+	public String toString() {
+		return this.name + " examined=" + getExamined() + " accepted=" + getAccepted();
+	}
+
+}
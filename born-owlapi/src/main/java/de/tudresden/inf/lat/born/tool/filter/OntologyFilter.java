@@ -3,31 +3,55 @@ package de.tudresden.inf.lat.born.tool.filter;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.semanticweb.owlapi.io.OWLRenderer;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLException;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.owlxml.renderer.OWLXMLRenderer;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.born.tool.cycleremover.AxiomPriority;
+import de.tudresden.inf.lat.born.tool.cycleremover.CycleDetector;
+import de.tudresden.inf.lat.born.tool.fingerprint.AxiomFingerprinter;
+import de.tudresden.inf.lat.born.tool.fingerprint.FingerprintSubtractionFilter;
 
 /**
  * An object of this class is a tool to filter the EL subset of axioms of a
- * given ontology.
+ * given ontology. It can also apply several filters in one pass with a
+ * {@link FilterPipeline}, like keeping the EL subset, subtracting another
+ * ontology and removing cycles.
  * 
  * @author Julian Mendez
  *
  */
 public class OntologyFilter {
 
-	public static final String HELP = "Parameters: <input ontology> <output ontology>";
+	public static final String EL_FILTER = "el";
+	public static final String SUBTRACT_FILTER = "subtract=";
+	public static final String LOGICAL_SUBTRACT_FILTER = "subtract-logical=";
+	public static final String ACYCLIC_FILTER = "acyclic";
+	public static final String HELP = "Parameters: <input ontology> <output ontology> [<filter> ...]"
+			+ " [--format=<format>]\n" //
+			+ "  <filter> : (optional) filters applied in one pass, in the given order; by default, " + EL_FILTER
+			+ "\n" //
+			+ "    " + EL_FILTER + "                          : keeps the EL axioms\n" //
+			+ "    " + SUBTRACT_FILTER + "<ontology>         : removes the axioms of another ontology\n" //
+			+ "    " + LOGICAL_SUBTRACT_FILTER + "<ontology> : removes the axioms of another ontology, ignoring"
+			+ " annotations\n" //
+			+ "    " + ACYCLIC_FILTER + "[=<priority>]        : removes the axioms that produce cycles,"
+			+ " keeping the axioms in the order given by <priority>: natural (default), annotated-last\n" //
+			+ OntologyFormat.HELP;
 	public static final String NEW_ONTOLOGY_SUFFIX = "-filtered";
 
 	public OWLOntology readOntology(String ontologyFileName) throws OWLOntologyCreationException, IOException {
@@ -46,32 +70,106 @@ public class OntologyFilter {
 		return owlOntology.getOWLOntologyManager().createOntology(newAxioms, newOntologyIri);
 	}
 
-	public void storeOntology(OWLOntology owlOntology, String fileName, OWLRenderer renderer)
+	public void storeOntology(OWLOntology owlOntology, String fileName, OntologyFormat format)
 			throws IOException, OWLException {
 		Objects.requireNonNull(owlOntology);
 		Objects.requireNonNull(fileName);
-		Objects.requireNonNull(renderer);
+		Objects.requireNonNull(format);
 		FileOutputStream output = new FileOutputStream(ResourceUtil.ensurePath(fileName));
-		renderer.render(owlOntology, output);
-		output.flush();
+		new OntologyWriter().write(owlOntology, output, format);
 		output.close();
 	}
 
 	public void filter(String ontologyFileName, String filteredOntologyFileName, OwlAxiomFilter filter,
-			OWLRenderer renderer) throws IOException, OWLException {
+			OntologyFormat format) throws IOException, OWLException {
 		Objects.requireNonNull(ontologyFileName);
 		Objects.requireNonNull(filteredOntologyFileName);
-		Objects.requireNonNull(renderer);
-		storeOntology(filterOntology(readOntology(ontologyFileName), filter), filteredOntologyFileName, renderer);
+		Objects.requireNonNull(format);
+		storeOntology(filterOntology(readOntology(ontologyFileName), filter), filteredOntologyFileName, format);
 	}
 
-	public static void main(String[] args) throws IOException, OWLException {
-		Objects.requireNonNull(args);
-		if (args.length == 2) {
+	/**
+	 * Returns a filter that rejects the axioms of the given ontology, which
+	 * compares the fingerprints of the axioms and does not keep the ontology.
+	 * 
+	 * @param subtrahendFileName
+	 *            file name of the ontology to subtract
+	 * @param withAnnotations
+	 *            <code>true</code> if and only if the axioms that only differ
+	 *            in their annotations are considered different
+	 * @return a filter that rejects the axioms of the given ontology
+	 * @throws IOException
+	 *             if the ontology could not be read
+	 * @throws OWLOntologyCreationException
+	 *             if the ontology could not be created
+	 */
+	public static OwlAxiomFilter createSubtractionFilter(String subtrahendFileName, boolean withAnnotations)
+			throws IOException, OWLOntologyCreationException {
+		Objects.requireNonNull(subtrahendFileName);
+		AxiomFingerprinter fingerprinter = new AxiomFingerprinter(withAnnotations);
+		try (InputStream input = new FileInputStream(subtrahendFileName)) {
+			return new FingerprintSubtractionFilter(fingerprinter.getFingerprints(input), fingerprinter);
+		}
+	}
+
+	/**
+	 * Returns a filter pipeline with the given filters, or with the EL filter
+	 * if no filter is given.
+	 * 
+	 * @param filters
+	 *            filters, like <code>el</code>,
+	 *            <code>subtract=&lt;ontology&gt;</code> or
+	 *            <code>acyclic=annotated-last</code>
+	 * @return a filter pipeline with the given filters
+	 * @throws IOException
+	 *             if an ontology to subtract could not be read
+	 * @throws OWLOntologyCreationException
+	 *             if an ontology to subtract could not be created
+	 * @throws IllegalArgumentException
+	 *             if a filter is not known
+	 */
+	public FilterPipeline createPipeline(List<String> filters) throws IOException, OWLOntologyCreationException {
+		Objects.requireNonNull(filters);
+		FilterPipeline ret = new FilterPipeline();
+		for (String filter : filters.isEmpty() ? Collections.singletonList(EL_FILTER) : filters) {
+			if (filter.equals(EL_FILTER)) {
+				ret.addStateless(filter, new ElAxiomFilter());
+
+			} else if (filter.startsWith(SUBTRACT_FILTER)) {
+				String subtrahendFileName = filter.substring(SUBTRACT_FILTER.length());
+				ret.addStateless(filter, createSubtractionFilter(subtrahendFileName, true));
+
+			} else if (filter.startsWith(LOGICAL_SUBTRACT_FILTER)) {
+				String subtrahendFileName = filter.substring(LOGICAL_SUBTRACT_FILTER.length());
+				ret.addStateless(filter, createSubtractionFilter(subtrahendFileName, false));
+
+			} else if (filter.equals(ACYCLIC_FILTER) || filter.startsWith(ACYCLIC_FILTER + "=")) {
+				String priorityName = filter.equals(ACYCLIC_FILTER) ? AxiomPriority.DEFAULT.getName()
+						: filter.substring(ACYCLIC_FILTER.length() + 1);
+				AxiomPriority priority = AxiomPriority.find(priorityName)
+						.orElseThrow(() -> new IllegalArgumentException("Unknown priority: '" + priorityName + "'."));
+				ret.setOrder(priority.getComparator());
+				ret.addStateful(filter, new CycleDetector());
+
+			} else {
+				throw new IllegalArgumentException("Unknown filter: '" + filter + "'.");
+
+			}
+		}
+		return ret;
+	}
+
+	public static void main(String[] arguments) throws IOException, OWLException {
+		Objects.requireNonNull(arguments);
+		String[] args = OntologyFormat.removeFormatOption(arguments);
+		if (args.length >= 2) {
 			String ontologyFileName = args[0];
 			String outputFileName = args[1];
+			OntologyFormat format = OntologyFormat.getFormat(arguments, outputFileName);
 			OntologyFilter instance = new OntologyFilter();
-			instance.filter(ontologyFileName, outputFileName, new ElAxiomFilter(), new OWLXMLRenderer());
+			FilterPipeline pipeline = instance.createPipeline(Arrays.asList(args).subList(2, args.length));
+			pipeline.run(ontologyFileName, outputFileName, format);
+			System.out.print(pipeline.getReport());
 
 		} else {
 			System.out.println(HELP);
@@ -7,27 +7,34 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.semanticweb.owlapi.io.OWLRenderer;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLException;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.owlxml.renderer.OWLXMLRenderer;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
 
 /**
  * An object of this class is a tool to get the result of subtracting one
- * ontology from another one.
+ * ontology from another one. The axioms are compared by their fingerprints,
+ * so that only the fingerprints of the subtrahend ontology are kept in
+ * memory.
  * 
  * @author Julian Mendez
  *
  */
 public class OntologySubtractor {
 
-	public static final String HELP = "Parameters: <minuend ontology> <subtrahend ontology> <difference ontology>";
+	public static final String IGNORE_ANNOTATIONS = "ignore-annotations";
+	public static final String HELP = "Parameters: <minuend ontology> <subtrahend ontology> <difference ontology>"
+			+ " [" + IGNORE_ANNOTATIONS + "] [--format=<format>]\n" //
+			+ "  " + IGNORE_ANNOTATIONS
+			+ " : (optional) removes also the axioms that only differ in their annotations\n"
+			+ OntologyFormat.HELP;
 	public static final String NEW_ONTOLOGY_SUFFIX = "-filtered";
 
 	public static OWLOntology readOntology(String ontologyFileName) throws OWLOntologyCreationException, IOException {
@@ -46,35 +53,39 @@ public class OntologySubtractor {
 		return owlOntology.getOWLOntologyManager().createOntology(newAxioms, newOntologyIri);
 	}
 
-	public void storeOntology(OWLOntology owlOntology, String fileName, OWLRenderer renderer)
+	public void storeOntology(OWLOntology owlOntology, String fileName, OntologyFormat format)
 			throws IOException, OWLException {
 		Objects.requireNonNull(owlOntology);
 		Objects.requireNonNull(fileName);
-		Objects.requireNonNull(renderer);
+		Objects.requireNonNull(format);
 		FileOutputStream output = new FileOutputStream(ResourceUtil.ensurePath(fileName));
-		renderer.render(owlOntology, output);
-		output.flush();
+		new OntologyWriter().write(owlOntology, output, format);
 		output.close();
 	}
 
 	public void filter(String ontologyFileName, String filteredOntologyFileName, OwlAxiomFilter filter,
-			OWLRenderer renderer) throws IOException, OWLException {
+			OntologyFormat format) throws IOException, OWLException {
 		Objects.requireNonNull(ontologyFileName);
 		Objects.requireNonNull(filteredOntologyFileName);
-		Objects.requireNonNull(renderer);
-		storeOntology(filterOntology(readOntology(ontologyFileName), filter), filteredOntologyFileName, renderer);
+		Objects.requireNonNull(format);
+		storeOntology(filterOntology(readOntology(ontologyFileName), filter), filteredOntologyFileName, format);
 	}
 
-	public static void main(String[] args) throws IOException, OWLException {
-		Objects.requireNonNull(args);
-		if (args.length == 3) {
+	public static void main(String[] arguments) throws IOException, OWLException {
+		Objects.requireNonNull(arguments);
+		String[] args = OntologyFormat.removeFormatOption(arguments);
+		if ((args.length == 3) || (args.length == 4 && args[3].equals(IGNORE_ANNOTATIONS))) {
 			String minuendFileName = args[0];
 			String subtrahendFileName = args[1];
 			String outputFileName = args[2];
-			OntologyFilter instance = new OntologyFilter();
-			OWLOntology subtrahendOntology = readOntology(subtrahendFileName);
-			instance.filter(minuendFileName, outputFileName, new SubtractionFilter(subtrahendOntology.getAxioms()),
-					new OWLXMLRenderer());
+			boolean withAnnotations = (args.length == 3);
+			OntologyFormat format = OntologyFormat.getFormat(arguments, outputFileName);
+			FilterPipeline pipeline = new FilterPipeline().addStateless(
+					(withAnnotations ? OntologyFilter.SUBTRACT_FILTER : OntologyFilter.LOGICAL_SUBTRACT_FILTER)
+							+ subtrahendFileName,
+					OntologyFilter.createSubtractionFilter(subtrahendFileName, withAnnotations));
+			pipeline.run(minuendFileName, outputFileName, format);
+			System.out.print(pipeline.getReport());
 
 		} else {
 			System.out.println(HELP);
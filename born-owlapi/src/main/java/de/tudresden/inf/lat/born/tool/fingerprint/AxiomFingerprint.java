@@ -0,0 +1,105 @@
+package de.tudresden.inf.lat.born.tool.fingerprint;
+
+import java.util.Objects;
+
+/**
+ * An object of this class is a 128-bit fingerprint of an axiom.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class AxiomFingerprint implements Comparable<AxiomFingerprint> {
+
+	static final int HEXADECIMAL_LENGTH = 0x10;
+
+	private final long high;
+	private final long low;
+
+	/**
+	 * Constructs a new fingerprint.
+	 *
+	 * @param high
+	 *            most significant 64 bits
+	 * @param low
+	 *            least significant 64 bits
+	 */
+	public AxiomFingerprint(long high, long low) {
+		this.high = high;
+		this.low = low;
+	}
+
+	/**
+	 * Returns the most significant 64 bits.
+	 *
+	 * @return the most significant 64 bits
+	 */
+	public long getHigh() {
+		return this.high;
+	}
+
+	/**
+	 * Returns the least significant 64 bits.
+	 *
+	 * @return the least significant 64 bits
+	 */
+	public long getLow() {
+		return this.low;
+	}
+
+	/**
+	 * Returns the fingerprint given by 32 hexadecimal digits.
+	 *
+	 * @param str
+	 *            32 hexadecimal digits
+	 * @return the fingerprint given by 32 hexadecimal digits
+	 * @throws NumberFormatException
+	 *             if the string does not have 32 hexadecimal digits
+	 */
+	public static AxiomFingerprint parse(String str) {
+		Objects.requireNonNull(str);
+		if (str.length() != 2 * HEXADECIMAL_LENGTH) {
+			throw new NumberFormatException("Invalid fingerprint: '" + str + "'.");
+		}
+		return new AxiomFingerprint(Long.parseUnsignedLong(str.substring(0, HEXADECIMAL_LENGTH), 0x10),
+				Long.parseUnsignedLong(str.substring(HEXADECIMAL_LENGTH), 0x10));
+	}
+
+	static String asHexadecimal(long value) {
+		String str = Long.toHexString(value);
+		StringBuilder sb = new StringBuilder();
+		for (int i = str.length(); i < HEXADECIMAL_LENGTH; i++) {
+			sb.append('0');
+		}
+		sb.append(str);
+		return sb.toString();
+	}
+
+	@Override
+	public int compareTo(AxiomFingerprint other) {
+		int ret = Long.compare(this.high, other.high);
+		return (ret == 0) ? Long.compare(this.low, other.low) : ret;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof AxiomFingerprint)) {
+			return false;
+		} else {
+			AxiomFingerprint other = (AxiomFingerprint) obj;
+			return (this.high == other.high) && (this.low == other.low);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.high) + 0x1F * Long.hashCode(this.low);
+	}
+
+	@Override
+	public String toString() {
+		return asHexadecimal(this.high) + asHexadecimal(this.low);
+	}
+
+}
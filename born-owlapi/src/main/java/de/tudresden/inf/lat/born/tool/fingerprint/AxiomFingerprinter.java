@@ -0,0 +1,112 @@
+package de.tudresden.inf.lat.born.tool.fingerprint;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.util.SimpleRenderer;
+
+import de.tudresden.inf.lat.born.owlapi.format.OntologyReader;
+
+/**
+ * An object of this class computes structural fingerprints of axioms. The
+ * fingerprint of an axiom is the MD5 digest of its rendering in functional
+ * syntax with full IRIs. Since the OWL API keeps the operands of class
+ * expressions and the annotations sorted, two axioms that are structurally
+ * equal have the same fingerprint, in every run and in every ontology.
+ * <p>
+ * A fingerprint can include the annotations of the axiom, or ignore them, so
+ * that the axioms that only differ in their annotations get the same
+ * fingerprint. MD5 is used only to spread the values, not for security.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class AxiomFingerprinter {
+
+	static final String ALGORITHM = "MD5";
+
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final boolean withAnnotations;
+
+	/**
+	 * Constructs a new fingerprinter.
+	 *
+	 * @param withAnnotations
+	 *            <code>true</code> if and only if the annotations of the
+	 *            axioms are part of their fingerprints
+	 */
+	public AxiomFingerprinter(boolean withAnnotations) {
+		this.withAnnotations = withAnnotations;
+	}
+
+	/**
+	 * Tells whether the annotations of the axioms are part of their
+	 * fingerprints.
+	 *
+	 * @return <code>true</code> if and only if the annotations of the axioms
+	 *         are part of their fingerprints
+	 */
+	public boolean isWithAnnotations() {
+		return this.withAnnotations;
+	}
+
+	/**
+	 * Returns the fingerprint of an axiom.
+	 *
+	 * @param axiom
+	 *            axiom
+	 * @return the fingerprint of an axiom
+	 */
+	public AxiomFingerprint getFingerprint(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		OWLAxiom renderedAxiom = this.withAnnotations ? axiom : axiom.getAxiomWithoutAnnotations();
+		String text = new SimpleRenderer().render(renderedAxiom);
+		MessageDigest digest = DIGEST.get();
+		digest.reset();
+		ByteBuffer buffer = ByteBuffer.wrap(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+		return new AxiomFingerprint(buffer.getLong(), buffer.getLong());
+	}
+
+	/**
+	 * Returns the set of fingerprints of the given axioms, which are computed
+	 * in parallel.
+	 *
+	 * @param axioms
+	 *            axioms
+	 * @return the set of fingerprints of the given axioms
+	 */
+	public FingerprintSet getFingerprints(Collection<? extends OWLAxiom> axioms) {
+		Objects.requireNonNull(axioms);
+		return new FingerprintSet(axioms.parallelStream().map(this::getFingerprint).toArray(AxiomFingerprint[]::new));
+	}
+
+	/**
+	 * Reads an ontology and returns the set of fingerprints of its axioms. The
+	 * ontology is not kept, so that only the fingerprints stay in memory.
+	 *
+	 * @param input
+	 *            input stream of the ontology
+	 * @return the set of fingerprints of the axioms of the ontology
+	 * @throws OWLOntologyCreationException
+	 *             if the ontology could not be created
+	 */
+	public FingerprintSet getFingerprints(InputStream input) throws OWLOntologyCreationException {
+		Objects.requireNonNull(input);
+		return getFingerprints(new OntologyReader().read(input).getAxioms());
+	}
+
+}
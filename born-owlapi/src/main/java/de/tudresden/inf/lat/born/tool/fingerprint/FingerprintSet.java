@@ -0,0 +1,115 @@
+package de.tudresden.inf.lat.born.tool.fingerprint;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An object of this class is an immutable set of fingerprints. The
+ * fingerprints are kept in two sorted arrays of <code>long</code> values,
+ * which take 16 bytes per fingerprint, and are found by binary search.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class FingerprintSet {
+
+	private final long[] high;
+	private final long[] low;
+
+	/**
+	 * Constructs a new set of fingerprints.
+	 *
+	 * @param fingerprints
+	 *            fingerprints, which can be repeated
+	 */
+	public FingerprintSet(AxiomFingerprint[] fingerprints) {
+		Objects.requireNonNull(fingerprints);
+		AxiomFingerprint[] sorted = Arrays.copyOf(fingerprints, fingerprints.length);
+		Arrays.parallelSort(sorted);
+		int size = 0;
+		for (int index = 0; index < sorted.length; index++) {
+			if (index == 0 || !sorted[index].equals(sorted[index - 1])) {
+				sorted[size] = sorted[index];
+				size++;
+			}
+		}
+		this.high = new long[size];
+		this.low = new long[size];
+		for (int index = 0; index < size; index++) {
+			this.high[index] = sorted[index].getHigh();
+			this.low[index] = sorted[index].getLow();
+		}
+	}
+
+	/**
+	 * Returns the number of fingerprints.
+	 *
+	 * @return the number of fingerprints
+	 */
+	public int size() {
+		return this.high.length;
+	}
+
+	/**
+	 * Tells whether this set contains the given fingerprint.
+	 *
+	 * @param fingerprint
+	 *            fingerprint
+	 * @return <code>true</code> if and only if this set contains the given
+	 *         fingerprint
+	 */
+	public boolean contains(AxiomFingerprint fingerprint) {
+		Objects.requireNonNull(fingerprint);
+		int first = 0;
+		int last = this.high.length - 1;
+		while (first <= last) {
+			int middle = (first + last) >>> 1;
+			int comparison = Long.compare(this.high[middle], fingerprint.getHigh());
+			if (comparison == 0) {
+				comparison = Long.compare(this.low[middle], fingerprint.getLow());
+			}
+			if (comparison < 0) {
+				first = middle + 1;
+			} else if (comparison > 0) {
+				last = middle - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the fingerprint at the given position in the sorted order.
+	 *
+	 * @param index
+	 *            position
+	 * @return the fingerprint at the given position in the sorted order
+	 */
+	public AxiomFingerprint get(int index) {
+		return new AxiomFingerprint(this.high[index], this.low[index]);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof FingerprintSet)) {
+			return false;
+		} else {
+			FingerprintSet other = (FingerprintSet) obj;
+			return Arrays.equals(this.high, other.high) && Arrays.equals(this.low, other.low);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.high) + 0x1F * Arrays.hashCode(this.low);
+	}
+
+	@Override
+	public String toString() {
+		return "size=" + size();
+	}
+
+}
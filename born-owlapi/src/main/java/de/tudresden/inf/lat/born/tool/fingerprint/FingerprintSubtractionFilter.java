@@ -0,0 +1,43 @@
+package de.tudresden.inf.lat.born.tool.fingerprint;
+
+import java.util.Objects;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import de.tudresden.inf.lat.born.tool.filter.OwlAxiomFilter;
+
+/**
+ * An object of this class is an axiom filter that rejects the axioms whose
+ * fingerprints belong to a given set. Unlike a subtraction filter, it does not
+ * need the axioms to subtract, but only their fingerprints.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class FingerprintSubtractionFilter implements OwlAxiomFilter {
+
+	private final FingerprintSet fingerprints;
+	private final AxiomFingerprinter fingerprinter;
+
+	/**
+	 * Constructs a new fingerprint subtraction filter.
+	 *
+	 * @param fingerprints
+	 *            fingerprints of the axioms to subtract
+	 * @param fingerprinter
+	 *            fingerprinter that computed the fingerprints
+	 */
+	public FingerprintSubtractionFilter(FingerprintSet fingerprints, AxiomFingerprinter fingerprinter) {
+		Objects.requireNonNull(fingerprints);
+		Objects.requireNonNull(fingerprinter);
+		this.fingerprints = fingerprints;
+		this.fingerprinter = fingerprinter;
+	}
+
+	@Override
+	public boolean accept(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return !this.fingerprints.contains(this.fingerprinter.getFingerprint(axiom));
+	}
+
+}
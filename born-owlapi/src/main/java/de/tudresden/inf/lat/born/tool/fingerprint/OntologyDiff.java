@@ -0,0 +1,211 @@
+package de.tudresden.inf.lat.born.tool.fingerprint;
+
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.util.SimpleRenderer;
+
+import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyReader;
+
+/**
+ * This is an executable class to find the axioms that changed between two
+ * versions of an ontology, using the fingerprints of the axioms. Only one
+ * version is in memory at a time, together with the fingerprints of the
+ * other one.
+ * <p>
+ * Each line of the difference has a sign, the fingerprint of the axiom with
+ * annotations, and the axiom:
+ * <ul>
+ * <li><code>-</code>: the axiom was removed</li>
+ * <li><code>+</code>: the axiom was added</li>
+ * <li><code>&lt;</code>: the axiom was replaced by an axiom that only differs
+ * in its annotations</li>
+ * <li><code>&gt;</code>: the axiom replaced an axiom that only differs in its
+ * annotations</li>
+ * </ul>
+ * The fingerprints in the difference are the ones that a cache indexed by
+ * fingerprints has to invalidate or add.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class OntologyDiff {
+
+	public static final String HELP = "Parameters: <old ontology> <new ontology> <difference file>\n"
+			+ "  writes the axioms that were removed (-), added (+), or whose annotations changed (< old, > new)\n";
+
+	public static final char REMOVED = '-';
+	public static final char ADDED = '+';
+	public static final char OLD_ANNOTATIONS = '<';
+	public static final char NEW_ANNOTATIONS = '>';
+
+	private final AxiomFingerprinter fingerprinter = new AxiomFingerprinter(true);
+	private final AxiomFingerprinter logicalFingerprinter = new AxiomFingerprinter(false);
+
+	private long removed = 0;
+	private long added = 0;
+	private long changed = 0;
+
+	/**
+	 * Constructs a new ontology diff.
+	 */
+	public OntologyDiff() {
+	}
+
+	/**
+	 * Writes the axioms of an ontology that are not in another ontology,
+	 * according to the fingerprints of the other ontology.
+	 *
+	 * @param axioms
+	 *            axioms of the ontology
+	 * @param otherFingerprints
+	 *            fingerprints of the other ontology with annotations
+	 * @param otherLogicalFingerprints
+	 *            fingerprints of the other ontology without annotations
+	 * @param sign
+	 *            sign of an axiom that is not in the other ontology
+	 * @param annotationSign
+	 *            sign of an axiom that is in the other ontology with other
+	 *            annotations
+	 * @param output
+	 *            output
+	 * @return the number of axioms that are not in the other ontology, and the
+	 *         number of those axioms whose annotations changed
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 */
+	long[] writeMissingAxioms(Iterable<OWLAxiom> axioms, FingerprintSet otherFingerprints,
+			FingerprintSet otherLogicalFingerprints, char sign, char annotationSign, Writer output)
+			throws IOException {
+		long missing = 0;
+		long annotationChanges = 0;
+		SimpleRenderer renderer = new SimpleRenderer();
+		for (OWLAxiom axiom : axioms) {
+			AxiomFingerprint fingerprint = this.fingerprinter.getFingerprint(axiom);
+			if (!otherFingerprints.contains(fingerprint)) {
+				boolean annotationsChanged = otherLogicalFingerprints
+						.contains(this.logicalFingerprinter.getFingerprint(axiom));
+				missing++;
+				if (annotationsChanged) {
+					annotationChanges++;
+				}
+				output.write((annotationsChanged ? annotationSign : sign) + "" + Symbol.SPACE_CHAR + fingerprint
+						+ Symbol.SPACE_CHAR + renderer.render(axiom) + Symbol.NEW_LINE_CHAR);
+			}
+		}
+		return new long[] { missing, annotationChanges };
+	}
+
+	List<OWLAxiom> readSortedAxioms(String fileName) throws IOException, OWLOntologyCreationException {
+		try (InputStream input = new FileInputStream(fileName)) {
+			return new OntologyReader().read(input).getAxioms().stream().sorted().collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Writes the difference between two versions of an ontology. The old
+	 * version is read twice, so that only one version is in memory at a time.
+	 *
+	 * @param oldOntologyFileName
+	 *            file name of the old version
+	 * @param newOntologyFileName
+	 *            file name of the new version
+	 * @param output
+	 *            output
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 * @throws OWLOntologyCreationException
+	 *             if an ontology could not be created
+	 */
+	public void diff(String oldOntologyFileName, String newOntologyFileName, Writer output)
+			throws IOException, OWLOntologyCreationException {
+		Objects.requireNonNull(oldOntologyFileName);
+		Objects.requireNonNull(newOntologyFileName);
+		Objects.requireNonNull(output);
+
+		List<OWLAxiom> oldAxioms = readSortedAxioms(oldOntologyFileName);
+		FingerprintSet oldFingerprints = this.fingerprinter.getFingerprints(oldAxioms);
+		FingerprintSet oldLogicalFingerprints = this.logicalFingerprinter.getFingerprints(oldAxioms);
+		oldAxioms = null;
+
+		List<OWLAxiom> newAxioms = readSortedAxioms(newOntologyFileName);
+		FingerprintSet newFingerprints = this.fingerprinter.getFingerprints(newAxioms);
+		FingerprintSet newLogicalFingerprints = this.logicalFingerprinter.getFingerprints(newAxioms);
+		long[] newCounts = writeMissingAxioms(newAxioms, oldFingerprints, oldLogicalFingerprints, ADDED,
+				NEW_ANNOTATIONS, output);
+		newAxioms = null;
+
+		oldAxioms = readSortedAxioms(oldOntologyFileName);
+		long[] oldCounts = writeMissingAxioms(oldAxioms, newFingerprints, newLogicalFingerprints, REMOVED,
+				OLD_ANNOTATIONS, output);
+		output.flush();
+
+		this.added = newCounts[0] - newCounts[1];
+		this.changed = newCounts[1];
+		this.removed = oldCounts[0] - oldCounts[1];
+	}
+
+	/**
+	 * Returns the number of removed axioms in the last difference.
+	 *
+	 * @return the number of removed axioms in the last difference
+	 */
+	public long getRemoved() {
+		return this.removed;
+	}
+
+	/**
+	 * Returns the number of added axioms in the last difference.
+	 *
+	 * @return the number of added axioms in the last difference
+	 */
+	public long getAdded() {
+		return this.added;
+	}
+
+	/**
+	 * Returns the number of axioms of the new version whose annotations
+	 * changed in the last difference.
+	 *
+	 * @return the number of axioms of the new version whose annotations
+	 *         changed in the last difference
+	 */
+	public long getChanged() {
+		return this.changed;
+	}
+
+	@Override
+	public String toString() {
+		return "removed=" + getRemoved() + " added=" + getAdded() + " annotations_changed=" + getChanged();
+	}
+
+	public static void main(String[] args) throws IOException, OWLOntologyCreationException {
+		Objects.requireNonNull(args);
+		if (args.length == 3) {
+			OntologyDiff instance = new OntologyDiff();
+			try (Writer output = new BufferedWriter(new OutputStreamWriter(
+					new FileOutputStream(ResourceUtil.ensurePath(args[2])), StandardCharsets.UTF_8))) {
+				instance.diff(args[0], args[1], output);
+			}
+			System.out.println(instance);
+
+		} else {
+			System.out.println(HELP);
+
+		}
+	}
+
+}
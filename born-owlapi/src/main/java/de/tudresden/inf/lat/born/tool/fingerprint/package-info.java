@@ -0,0 +1,6 @@
+/**
+ * Provides interfaces and classes of a tool to compute structural fingerprints
+ * of axioms, and to compare ontologies with them.
+ */
+
+package de.tudresden.inf.lat.born.tool.fingerprint;
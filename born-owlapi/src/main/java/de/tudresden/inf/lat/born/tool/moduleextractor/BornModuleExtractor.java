@@ -7,18 +7,15 @@ import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
-import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import org.semanticweb.owlapi.io.OWLRenderer;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
@@ -27,9 +24,10 @@ import org.semanticweb.owlapi.model.OWLException;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
-import org.semanticweb.owlapi.owlxml.renderer.OWLXMLRenderer;
 
 import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
 import de.tudresden.inf.lat.born.module.DefaultModuleExtractor;
 import de.tudresden.inf.lat.born.module.Module;
 import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
@@ -48,12 +46,18 @@ import de.tudresden.inf.lat.jcel.owlapi.translator.Translator;
  */
 public class BornModuleExtractor {
 
+	public static final String ALL_CLASSES = "all";
+	public static final long DEFAULT_SEED = 0;
+
 	public static final String HELP = "Parameters: \n" + //
-			"  <ontology file> <signature file> <module file> : extract a module from <ontology file> using signature in <signature file> and store it in <module file> (<signature file> cannot be a valid number)\n"
-			+ //
-			"  <ontology file> <repetitions> <count file> : choose <repetitions> random classes from <ontology file> and append to <count file> a line for each class that contains the class and its module size\n"
+			"  <ontology file> <signature file> <module file> : extract a module from <ontology file> using signature in <signature file> and store it in <module file> (<signature file> cannot be a valid number or '"
+			+ ALL_CLASSES + "')\n" + //
+			"  <ontology file> <repetitions> <count file> [<seed>] : choose <repetitions> random classes (with replacement) from <ontology file> and append to <count file> a line for each class that contains the class and its module size, using the given seed (default: "
+			+ DEFAULT_SEED + ")\n" + //
+			"  <ontology file> " + ALL_CLASSES
+			+ " <count file> : append to <count file> a line for each class of <ontology file> that contains the class and its module size\n"
 			+ //
-			"";
+			OntologyFormat.HELP;
 
 	public static final String SEPARATOR = "\t";
 
@@ -62,26 +66,91 @@ public class BornModuleExtractor {
 
 	public void countRandom(String ontologyFileName, int repetitions, String countFile)
 			throws IOException, OWLException {
+		countRandom(ontologyFileName, repetitions, countFile, DEFAULT_SEED);
+	}
+
+	/**
+	 * Appends to a file the module sizes of classes chosen at random. The
+	 * ontology is preprocessed only once, and the module sizes are computed in
+	 * parallel.
+	 *
+	 * @param ontologyFileName
+	 *            file name of the ontology
+	 * @param repetitions
+	 *            number of classes to choose
+	 * @param countFile
+	 *            file name of the count file
+	 * @param seed
+	 *            seed of the random number generator
+	 * @return a summary of the module sizes
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 * @throws OWLException
+	 *             if something went wrong when reading the ontology
+	 */
+	public String countRandom(String ontologyFileName, int repetitions, String countFile, long seed)
+			throws IOException, OWLException {
 		Objects.requireNonNull(ontologyFileName);
+		Objects.requireNonNull(countFile);
+		ModuleSizeCalculator calculator = new ModuleSizeCalculator(
+				ProcessorConfigurationImpl.readOntology(new FileInputStream(ontologyFileName)));
+		return count(calculator, calculator.getSample(repetitions, seed), countFile);
+	}
 
-		OWLOntology owlOntology = ProcessorConfigurationImpl.readOntology(new FileInputStream(ontologyFileName));
+	/**
+	 * Appends to a file the module sizes of all the classes of an ontology.
+	 * The ontology is preprocessed only once, and the module sizes are
+	 * computed in parallel.
+	 *
+	 * @param ontologyFileName
+	 *            file name of the ontology
+	 * @param countFile
+	 *            file name of the count file
+	 * @return a summary of the module sizes
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 * @throws OWLException
+	 *             if something went wrong when reading the ontology
+	 */
+	public String countAll(String ontologyFileName, String countFile) throws IOException, OWLException {
+		Objects.requireNonNull(ontologyFileName);
+		Objects.requireNonNull(countFile);
+		ModuleSizeCalculator calculator = new ModuleSizeCalculator(
+				ProcessorConfigurationImpl.readOntology(new FileInputStream(ontologyFileName)));
+		return count(calculator, calculator.getClasses(), countFile);
+	}
 
-		List<OWLClass> list = new ArrayList<>();
-		list.addAll(owlOntology.getClassesInSignature());
+	String count(ModuleSizeCalculator calculator, List<OWLClass> owlClasses, String countFile) throws IOException {
+		int[] sizes = calculator.getModuleSizes(owlClasses);
+		appendPairs(countFile, owlClasses, sizes);
+		return getSummary(sizes);
+	}
 
-		IntStream.range(0, repetitions).forEach(index -> {
-			OWLClass chosenOwlClass = list.get((new Random()).nextInt(list.size()));
-			Set<OWLClass> signature = Collections.singleton(chosenOwlClass);
-			try {
-				appendPair(countFile, chosenOwlClass, extractModule(owlOntology, signature).getAxiomCount());
-			} catch (IOException | OWLOntologyCreationException e) {
-				throw new RuntimeException(e);
-			}
-		});
+	/**
+	 * Returns a summary of the given module sizes, with the number of
+	 * modules, and the minimum, median, mean, and maximum size.
+	 *
+	 * @param sizes
+	 *            module sizes
+	 * @return a summary of the given module sizes
+	 */
+	public String getSummary(int[] sizes) {
+		Objects.requireNonNull(sizes);
+		StringBuilder sb = new StringBuilder();
+		sb.append("count=" + sizes.length);
+		if (sizes.length > 0) {
+			int[] sortedSizes = Arrays.copyOf(sizes, sizes.length);
+			Arrays.sort(sortedSizes);
+			sb.append(" min=" + sortedSizes[0]);
+			sb.append(" median=" + sortedSizes[sortedSizes.length / 2]);
+			sb.append(" mean=" + String.format(Locale.ROOT, "%.2f", Arrays.stream(sizes).average().getAsDouble()));
+			sb.append(" max=" + sortedSizes[sortedSizes.length - 1]);
+		}
+		return sb.toString();
 	}
 
 	public void extractModule(String ontologyFileName, String signatureFileName, String moduleFileName,
-			OWLRenderer renderer) throws IOException, OWLException {
+			OntologyFormat format) throws IOException, OWLException {
 		Objects.requireNonNull(ontologyFileName);
 		Objects.requireNonNull(signatureFileName);
 		Objects.requireNonNull(moduleFileName);
@@ -93,7 +162,7 @@ public class BornModuleExtractor {
 						.getOWLClass(IRI.create(classStr))) //
 				.collect(Collectors.toSet());
 
-		storeOntology(extractModule(owlOntology, signature), moduleFileName, renderer);
+		storeOntology(extractModule(owlOntology, signature), moduleFileName, format);
 	}
 
 	public OWLOntology extractModule(OWLOntology owlOntology, Set<OWLClass> signature)
@@ -142,48 +211,57 @@ public class BornModuleExtractor {
 		return ret;
 	}
 
-	void storeOntology(OWLOntology owlOntology, String fileName, OWLRenderer renderer)
+	void storeOntology(OWLOntology owlOntology, String fileName, OntologyFormat format)
 			throws OWLException, IOException {
 		Objects.requireNonNull(owlOntology);
 		Objects.requireNonNull(fileName);
-		Objects.requireNonNull(renderer);
+		Objects.requireNonNull(format);
 		FileOutputStream output = new FileOutputStream(ResourceUtil.ensurePath(fileName));
-		renderer.render(owlOntology, output);
-		output.flush();
+		new OntologyWriter().write(owlOntology, output, format);
 		output.close();
 	}
 
-	void appendPair(String fileName, OWLClass owlClass, int size) throws IOException {
+	void appendPairs(String fileName, List<OWLClass> owlClasses, int[] sizes) throws IOException {
 		Objects.requireNonNull(fileName);
-		Objects.requireNonNull(owlClass);
-		BufferedWriter output = new BufferedWriter(new FileWriter(ResourceUtil.ensurePath(fileName), true));
-		output.write(owlClass.getIRI().toURI().toString());
-		output.write(SEPARATOR);
-		output.write("" + size);
-		output.newLine();
-		output.flush();
-		output.close();
+		Objects.requireNonNull(owlClasses);
+		Objects.requireNonNull(sizes);
+		try (BufferedWriter output = new BufferedWriter(new FileWriter(ResourceUtil.ensurePath(fileName), true))) {
+			for (int index = 0; index < sizes.length; index++) {
+				output.write(owlClasses.get(index).getIRI().toURI().toString());
+				output.write(SEPARATOR);
+				output.write("" + sizes[index]);
+				output.newLine();
+			}
+		}
 	}
 
-	public static void main(String[] args) throws IOException, OWLException {
-		Objects.requireNonNull(args);
-		if (args.length == 3) {
+	public static void main(String[] arguments) throws IOException, OWLException {
+		Objects.requireNonNull(arguments);
+		String[] args = OntologyFormat.removeFormatOption(arguments);
+		if (args.length == 3 || args.length == 4) {
 			boolean storingModuleMode = false;
+			boolean allClassesMode = args[1].equals(ALL_CLASSES);
 			int repetitions = 1;
-			try {
-				repetitions = Integer.parseInt(args[1]);
-			} catch (NumberFormatException e) {
-				storingModuleMode = true;
+			if (!allClassesMode) {
+				try {
+					repetitions = Integer.parseInt(args[1]);
+				} catch (NumberFormatException e) {
+					storingModuleMode = true;
+				}
 			}
+			long seed = (args.length == 4) ? Long.parseLong(args[3]) : DEFAULT_SEED;
 			String ontologyFileName = args[0];
 			String outputFileName = args[2];
+			OntologyFormat format = OntologyFormat.getFormat(arguments, outputFileName);
 			BornModuleExtractor instance = new BornModuleExtractor();
 
 			if (storingModuleMode) {
 				String signatureFileName = args[1];
-				instance.extractModule(ontologyFileName, signatureFileName, outputFileName, new OWLXMLRenderer());
+				instance.extractModule(ontologyFileName, signatureFileName, outputFileName, format);
+			} else if (allClassesMode) {
+				System.out.println(instance.countAll(ontologyFileName, outputFileName));
 			} else {
-				instance.countRandom(ontologyFileName, repetitions, outputFileName);
+				System.out.println(instance.countRandom(ontologyFileName, repetitions, outputFileName, seed));
 			}
 
 		} else {
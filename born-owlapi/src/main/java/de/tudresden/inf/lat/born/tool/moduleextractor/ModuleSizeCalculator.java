@@ -0,0 +1,266 @@
+package de.tudresden.inf.lat.born.tool.moduleextractor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+import de.tudresden.inf.lat.born.module.DefaultIdentifierCollector;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.normalization.OntologyNormalizer;
+import de.tudresden.inf.lat.jcel.owlapi.translator.Translator;
+
+/**
+ * An object of this class computes the sizes of the modules of many classes of
+ * an ontology. The ontology is translated and normalized once into an index of
+ * arrays, which is not modified afterwards, so that the sizes of several
+ * modules can be computed at the same time.
+ * <p>
+ * The size of a module is computed like in
+ * {@link BornModuleExtractor#extractModule(OWLOntology, Set)}: it is the number
+ * of OWL axioms that are subclass axioms whose subclass contains a class of the
+ * module, or equivalent classes axioms that contain a class of the module.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ModuleSizeCalculator {
+
+	/**
+	 * State of a thread computing module sizes. Visited elements are marked
+	 * with the number of the current module, so that the arrays do not need to
+	 * be cleared for each module.
+	 */
+	class SearchState {
+
+		final int[] visitedClasses = new int[axiomsWithClassOnTheLeft.length];
+		final int[] visitedAxioms = new int[classesOnTheRight.length];
+		final int[] visitedOwlAxioms = new int[isInBaseOwlAxiom.length];
+		final int[] stack = new int[classesOnTheRight.length];
+		int generation = 0;
+
+	}
+
+	private final Map<OWLClass, Integer> classIndices = new HashMap<>();
+	private final Map<Integer, Integer> classIdIndices = new HashMap<>();
+	private final List<OWLClass> classes;
+	private final int[][] axiomsWithClassOnTheLeft;
+	private final int[][] owlAxiomsOfClass;
+	private final int[][] classesOnTheRight;
+	private final int[][] classesInSignature;
+	private final boolean[] isInBase;
+	private final boolean[] isInBaseOwlAxiom;
+	private final int baseSize;
+	private final ThreadLocal<SearchState> state = ThreadLocal.withInitial(() -> new SearchState());
+
+	/**
+	 * Constructs a new module size calculator, which translates and normalizes
+	 * the given ontology.
+	 *
+	 * @param owlOntology
+	 *            ontology
+	 */
+	public ModuleSizeCalculator(OWLOntology owlOntology) {
+		Objects.requireNonNull(owlOntology);
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+		Translator translator = new Translator(owlOntology.getOWLOntologyManager().getOWLDataFactory(), factory);
+		Set<ComplexIntegerAxiom> axioms = translator.translateSA(owlOntology.getAxioms());
+		List<DefaultIdentifierCollector> normalizedAxioms = new ArrayList<>();
+		new OntologyNormalizer().normalize(axioms, factory)
+				.forEach(axiom -> normalizedAxioms.add(new DefaultIdentifierCollector(axiom)));
+
+		this.classes = new ArrayList<>(owlOntology.getClassesInSignature());
+		this.classes.sort(null);
+		this.classes.forEach(owlClass -> this.classIndices.put(owlClass,
+				getClassIndex(translator.translateC(owlClass).getId())));
+
+		// OWL axioms are related to the classes that make them part of a module
+		Map<Integer, List<Integer>> owlAxiomMap = new HashMap<>();
+		int owlAxiomIndex = 0;
+		for (OWLAxiom axiom : owlOntology.getAxioms()) {
+			Set<OWLClass> relevantClasses = null;
+			if (axiom instanceof OWLSubClassOfAxiom) {
+				relevantClasses = ((OWLSubClassOfAxiom) axiom).getSubClass().getClassesInSignature();
+			} else if (axiom instanceof OWLEquivalentClassesAxiom) {
+				relevantClasses = axiom.getClassesInSignature();
+			}
+			if (Objects.nonNull(relevantClasses)) {
+				int currentIndex = owlAxiomIndex;
+				relevantClasses.forEach(owlClass -> owlAxiomMap
+						.computeIfAbsent(this.classIndices.get(owlClass), key -> new ArrayList<>())
+						.add(currentIndex));
+				owlAxiomIndex++;
+			}
+		}
+		this.isInBaseOwlAxiom = new boolean[owlAxiomIndex];
+
+		// normalized axioms are related to the classes on their left-hand side
+		Map<Integer, List<Integer>> axiomMap = new HashMap<>();
+		this.classesOnTheRight = new int[normalizedAxioms.size()][];
+		this.classesInSignature = new int[normalizedAxioms.size()][];
+		this.isInBase = new boolean[normalizedAxioms.size()];
+		for (int index = 0; index < normalizedAxioms.size(); index++) {
+			DefaultIdentifierCollector axiom = normalizedAxioms.get(index);
+			this.isInBase[index] = axiom.getClassesOnTheLeft().isEmpty()
+					&& axiom.getObjectPropertiesOnTheLeft().isEmpty();
+			int axiomIndex = index;
+			axiom.getClassesOnTheLeft().forEach(classId -> axiomMap
+					.computeIfAbsent(getClassIndex(classId), key -> new ArrayList<>()).add(axiomIndex));
+			this.classesOnTheRight[index] = axiom.getClassesOnTheRight().stream().mapToInt(this::getClassIndex)
+					.toArray();
+			this.classesInSignature[index] = axiom.getAxiom().getClassesInSignature().stream()
+					.mapToInt(this::getClassIndex).filter(classIndex -> owlAxiomMap.containsKey(classIndex))
+					.toArray();
+		}
+
+		int numberOfClasses = this.classIdIndices.size();
+		this.axiomsWithClassOnTheLeft = toArrays(axiomMap, numberOfClasses);
+		this.owlAxiomsOfClass = toArrays(owlAxiomMap, numberOfClasses);
+
+		// the axioms without entities on the left-hand side are in every
+		// module, so their OWL axioms are counted only once
+		int count = 0;
+		for (int index = 0; index < this.isInBase.length; index++) {
+			if (this.isInBase[index]) {
+				for (int classIndex : this.classesInSignature[index]) {
+					for (int currentIndex : this.owlAxiomsOfClass[classIndex]) {
+						if (!this.isInBaseOwlAxiom[currentIndex]) {
+							this.isInBaseOwlAxiom[currentIndex] = true;
+							count++;
+						}
+					}
+				}
+			}
+		}
+		this.baseSize = count;
+	}
+
+	int getClassIndex(Integer classId) {
+		Integer ret = this.classIdIndices.get(classId);
+		if (Objects.isNull(ret)) {
+			ret = this.classIdIndices.size();
+			this.classIdIndices.put(classId, ret);
+		}
+		return ret;
+	}
+
+	int[][] toArrays(Map<Integer, List<Integer>> map, int size) {
+		int[][] ret = new int[size][];
+		for (int index = 0; index < size; index++) {
+			List<Integer> list = map.get(index);
+			ret[index] = Objects.isNull(list) ? new int[0] : list.stream().mapToInt(Integer::intValue).toArray();
+		}
+		return ret;
+	}
+
+	int countOwlAxioms(int axiomIndex, SearchState searchState) {
+		int ret = 0;
+		for (int classIndex : this.classesInSignature[axiomIndex]) {
+			for (int owlAxiomIndex : this.owlAxiomsOfClass[classIndex]) {
+				if (!this.isInBaseOwlAxiom[owlAxiomIndex]
+						&& searchState.visitedOwlAxioms[owlAxiomIndex] != searchState.generation) {
+					searchState.visitedOwlAxioms[owlAxiomIndex] = searchState.generation;
+					ret++;
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the classes of the ontology, sorted.
+	 *
+	 * @return the classes of the ontology, sorted
+	 */
+	public List<OWLClass> getClasses() {
+		return this.classes;
+	}
+
+	/**
+	 * Returns the size of the module of the given class.
+	 *
+	 * @param owlClass
+	 *            class of the ontology
+	 * @return the size of the module of the given class
+	 */
+	public int getModuleSize(OWLClass owlClass) {
+		Objects.requireNonNull(owlClass);
+		Integer classIndex = this.classIndices.get(owlClass);
+		if (Objects.isNull(classIndex)) {
+			throw new IllegalArgumentException("Class not found: '" + owlClass + "'.");
+		}
+		SearchState searchState = this.state.get();
+		searchState.generation++;
+		int ret = this.baseSize;
+		int stackSize = 0;
+		searchState.visitedClasses[classIndex] = searchState.generation;
+		for (int axiomIndex : this.axiomsWithClassOnTheLeft[classIndex]) {
+			if (searchState.visitedAxioms[axiomIndex] != searchState.generation) {
+				searchState.visitedAxioms[axiomIndex] = searchState.generation;
+				searchState.stack[stackSize++] = axiomIndex;
+			}
+		}
+		while (stackSize > 0) {
+			int axiomIndex = searchState.stack[--stackSize];
+			if (!this.isInBase[axiomIndex]) {
+				ret += countOwlAxioms(axiomIndex, searchState);
+			}
+			for (int rightClassIndex : this.classesOnTheRight[axiomIndex]) {
+				if (searchState.visitedClasses[rightClassIndex] != searchState.generation) {
+					searchState.visitedClasses[rightClassIndex] = searchState.generation;
+					for (int nextAxiomIndex : this.axiomsWithClassOnTheLeft[rightClassIndex]) {
+						if (searchState.visitedAxioms[nextAxiomIndex] != searchState.generation) {
+							searchState.visitedAxioms[nextAxiomIndex] = searchState.generation;
+							searchState.stack[stackSize++] = nextAxiomIndex;
+						}
+					}
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the sizes of the modules of the given classes, which are
+	 * computed in parallel.
+	 *
+	 * @param owlClasses
+	 *            classes of the ontology
+	 * @return the sizes of the modules of the given classes, in the same order
+	 */
+	public int[] getModuleSizes(List<OWLClass> owlClasses) {
+		Objects.requireNonNull(owlClasses);
+		return owlClasses.parallelStream().mapToInt(this::getModuleSize).toArray();
+	}
+
+	/**
+	 * Returns a sample of classes of the ontology chosen at random with
+	 * replacement. The same seed gives the same sample.
+	 *
+	 * @param size
+	 *            number of classes to choose
+	 * @param seed
+	 *            seed of the random number generator
+	 * @return a sample of classes of the ontology chosen at random
+	 */
+	public List<OWLClass> getSample(int size, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		List<OWLClass> ret = new ArrayList<>();
+		for (int index = 0; index < size; index++) {
+			ret.add(this.classes.get(random.nextInt(this.classes.size())));
+		}
+		return ret;
+	}
+
+}
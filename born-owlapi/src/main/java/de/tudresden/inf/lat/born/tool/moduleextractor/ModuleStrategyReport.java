@@ -0,0 +1,222 @@
+package de.tudresden.inf.lat.born.tool.moduleextractor;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLException;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import de.tudresden.inf.lat.born.core.common.ResourceUtil;
+import de.tudresden.inf.lat.born.core.term.Symbol;
+import de.tudresden.inf.lat.born.module.BottomLocalityModuleExtractor;
+import de.tudresden.inf.lat.born.module.ModuleStrategy;
+import de.tudresden.inf.lat.born.owlapi.processor.PreprocessedOntology;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+
+/**
+ * This is an executable class to compare the module strategies on a set of
+ * queries. Each query is given by its signature, i.e. a line with the IRIs of
+ * its classes separated by spaces. The ontology is preprocessed once for each
+ * strategy, and for each query the report contains the number of normalized
+ * axioms in the module and the time to extract it with each strategy. The
+ * number of normalized axioms is what determines the size of the ProbLog
+ * program.
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ModuleStrategyReport {
+
+	public static final String HELP = "Parameters: <ontology file> <query file> <report file>\n"
+			+ "  <query file> : file with one query per line, given by the IRIs of its classes separated by spaces\n"
+			+ "  writes to <report file> a line for each query with the module size (normalized axioms) "
+			+ "and the extraction time (nanoseconds) of each strategy\n";
+
+	public static final String SEPARATOR = "\t";
+	public static final String COMMENT = "#";
+
+	private final PreprocessedOntology preprocessedOntology;
+	private final BottomLocalityModuleExtractor localityExtractor;
+	private final long[] preprocessingTime = new long[ModuleStrategy.values().length];
+	private final long[] totalSize = new long[ModuleStrategy.values().length];
+	private final long[] totalTime = new long[ModuleStrategy.values().length];
+	private final int[] smallest = new int[ModuleStrategy.values().length];
+	private int numberOfQueries = 0;
+
+	/**
+	 * Constructs a new module strategy report, which preprocesses the given
+	 * ontology for each strategy.
+	 *
+	 * @param owlOntology
+	 *            ontology
+	 */
+	public ModuleStrategyReport(OWLOntology owlOntology) {
+		Objects.requireNonNull(owlOntology);
+		long start = System.nanoTime();
+		this.preprocessedOntology = new PreprocessedOntology(owlOntology.getOWLOntologyManager().getOWLDataFactory(),
+				owlOntology.getAxioms());
+		this.preprocessingTime[ModuleStrategy.REACHABILITY.ordinal()] = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		this.localityExtractor = new BottomLocalityModuleExtractor(owlOntology.getAxioms());
+		this.preprocessingTime[ModuleStrategy.BOTTOM_LOCALITY.ordinal()] = System.nanoTime() - start;
+	}
+
+	/**
+	 * Returns the number of normalized axioms in the module of the given
+	 * signature extracted with the given strategy.
+	 *
+	 * @param strategy
+	 *            module strategy
+	 * @param signature
+	 *            classes of the query
+	 * @return the number of normalized axioms in the module of the given
+	 *         signature extracted with the given strategy
+	 */
+	public int getModuleSize(ModuleStrategy strategy, Set<OWLClass> signature) {
+		Objects.requireNonNull(strategy);
+		Objects.requireNonNull(signature);
+		if (strategy.equals(ModuleStrategy.BOTTOM_LOCALITY)) {
+			Set<NormalizedIntegerAxiom> normalizedAxioms = new HashSet<>();
+			this.localityExtractor.extractModule(signature).forEach(
+					axiom -> normalizedAxioms.addAll(this.preprocessedOntology.getNormalizedAxioms(axiom)));
+			return normalizedAxioms.size();
+		} else {
+			Set<Integer> setOfClasses = signature.stream()
+					.map(owlClass -> this.preprocessedOntology.getTranslator().translateC(owlClass).getId())
+					.collect(Collectors.toSet());
+			return this.preprocessedOntology.getModule(setOfClasses).getAxioms().size();
+		}
+	}
+
+	/**
+	 * Writes a line for each query with the module size and the extraction
+	 * time of each strategy, and accumulates the totals.
+	 *
+	 * @param queries
+	 *            signatures of the queries
+	 * @param output
+	 *            output
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 */
+	public void report(List<Set<OWLClass>> queries, Writer output) throws IOException {
+		Objects.requireNonNull(queries);
+		Objects.requireNonNull(output);
+		output.write(COMMENT + "query");
+		for (ModuleStrategy strategy : ModuleStrategy.getValues()) {
+			output.write(SEPARATOR + strategy.getName() + "_size" + SEPARATOR + strategy.getName() + "_time");
+		}
+		output.write(Symbol.NEW_LINE_CHAR);
+
+		for (Set<OWLClass> query : queries) {
+			int[] sizes = new int[ModuleStrategy.values().length];
+			output.write(query.stream().map(owlClass -> owlClass.getIRI().toString()).sorted()
+					.collect(Collectors.joining("" + Symbol.SPACE_CHAR)));
+			for (ModuleStrategy strategy : ModuleStrategy.getValues()) {
+				long start = System.nanoTime();
+				int size = getModuleSize(strategy, query);
+				long time = System.nanoTime() - start;
+				sizes[strategy.ordinal()] = size;
+				this.totalSize[strategy.ordinal()] += size;
+				this.totalTime[strategy.ordinal()] += time;
+				output.write(SEPARATOR + size + SEPARATOR + time);
+			}
+			output.write(Symbol.NEW_LINE_CHAR);
+			int minimum = Arrays.stream(sizes).min().getAsInt();
+			ModuleStrategy.getValues().stream().filter(strategy -> sizes[strategy.ordinal()] == minimum)
+					.forEach(strategy -> this.smallest[strategy.ordinal()]++);
+			this.numberOfQueries++;
+		}
+		output.flush();
+	}
+
+	/**
+	 * Returns a summary of the queries reported so far, with a line for each
+	 * strategy.
+	 *
+	 * @return a summary of the queries reported so far
+	 */
+	public String getSummary() {
+		StringBuilder sb = new StringBuilder();
+		ModuleStrategy.getValues().forEach(strategy -> {
+			int index = strategy.ordinal();
+			double queries = Math.max(1, this.numberOfQueries);
+			sb.append(strategy.getName());
+			sb.append(" queries=" + this.numberOfQueries);
+			sb.append(" preprocessing_ms=" + (this.preprocessingTime[index] / 1000000));
+			sb.append(" mean_size=" + String.format(Locale.ROOT, "%.2f", this.totalSize[index] / queries));
+			sb.append(" mean_time_ms=" + String.format(Locale.ROOT, "%.3f", this.totalTime[index] / queries / 1e6));
+			sb.append(" smallest=" + this.smallest[index]);
+			sb.append(Symbol.NEW_LINE_CHAR);
+		});
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the queries read from a file that has the IRIs of the classes of
+	 * a query in each line.
+	 *
+	 * @param fileName
+	 *            file name
+	 * @param dataFactory
+	 *            OWL data factory
+	 * @return the queries read from a file
+	 * @throws IOException
+	 *             if something went wrong with the I/O
+	 */
+	public static List<Set<OWLClass>> readQueries(String fileName, OWLDataFactory dataFactory) throws IOException {
+		Objects.requireNonNull(fileName);
+		Objects.requireNonNull(dataFactory);
+		List<Set<OWLClass>> ret = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
+			for (String line = reader.readLine(); Objects.nonNull(line); line = reader.readLine()) {
+				String trimmedLine = line.trim();
+				if (!trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT)) {
+					ret.add(Arrays.stream(trimmedLine.split("\\s+"))
+							.map(iri -> dataFactory.getOWLClass(IRI.create(iri))).collect(Collectors.toSet()));
+				}
+			}
+		}
+		return ret;
+	}
+
+	public static void main(String[] args) throws IOException, OWLException {
+		Objects.requireNonNull(args);
+		if (args.length == 3) {
+			OWLOntology owlOntology = ProcessorConfigurationImpl.readOntology(new FileInputStream(args[0]));
+			List<Set<OWLClass>> queries = readQueries(args[1],
+					owlOntology.getOWLOntologyManager().getOWLDataFactory());
+			ModuleStrategyReport instance = new ModuleStrategyReport(owlOntology);
+			try (Writer output = new BufferedWriter(new OutputStreamWriter(
+					new FileOutputStream(ResourceUtil.ensurePath(args[2])), StandardCharsets.UTF_8))) {
+				instance.report(queries, output);
+			}
+			System.out.print(instance.getSummary());
+
+		} else {
+			System.out.println(HELP);
+
+		}
+	}
+
+}
@@ -0,0 +1,89 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class MetricsRegistryTest {
+
+	@Test
+	public void testBuckets() {
+		for (long value = 0; value < 100000; value++) {
+			int bucket = LatencyHistogram.getBucket(value);
+			Assert.assertTrue(value <= LatencyHistogram.getHighestValue(bucket));
+			Assert.assertTrue(bucket == 0 || value > LatencyHistogram.getHighestValue(bucket - 1));
+		}
+		Assert.assertTrue(LatencyHistogram.getBucket(Long.MAX_VALUE) < LatencyHistogram.NUMBER_OF_BUCKETS);
+		Assert.assertEquals(Long.MAX_VALUE,
+				LatencyHistogram.getHighestValue(LatencyHistogram.getBucket(Long.MAX_VALUE)));
+	}
+
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(0, histogram.getPercentile(50));
+		IntStream.rangeClosed(1, 1000).parallel().forEach(index -> histogram.record(index * 1000L));
+		Assert.assertEquals(1000, histogram.getCount());
+		Assert.assertEquals(500500000L, histogram.getSum());
+		Assert.assertEquals(1000000L, histogram.getMax());
+		Assert.assertEquals(1000000L, histogram.getPercentile(100));
+		double maximumError = 1.0 / LatencyHistogram.SUB_BUCKET_COUNT;
+		for (int percentile : new int[] { 1, 50, 90, 99 }) {
+			long expected = percentile * 10000L;
+			long actual = histogram.getPercentile(percentile);
+			Assert.assertTrue(actual >= expected);
+			Assert.assertTrue(actual <= expected * (1 + maximumError));
+		}
+	}
+
+	@Test
+	public void testRegistry() {
+		MetricsRegistry registry = new MetricsRegistry();
+		registry.getCounter("born_test_total").add(3);
+		registry.getCounter("born_test_total").increment();
+		Assert.assertEquals(4, registry.getCounter("born_test_total").get());
+		Assert.assertSame(registry.getHistogram("born_test_seconds"), registry.getHistogram("born_test_seconds"));
+		try {
+			registry.getGauge("born_test_total");
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			registry.getCounter("born test");
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testPrometheusExporter() throws IOException {
+		MetricsRegistry registry = new MetricsRegistry();
+		registry.getCounter("born_test_total").add(2);
+		registry.getGauge("born_test_active").set(5);
+		registry.getHistogram("born_test_seconds").record(1500000000L);
+		StringWriter output = new StringWriter();
+		new PrometheusExporter(registry).write(output);
+		String expected = "" //
+				+ "# TYPE born_test_total counter\n" //
+				+ "born_test_total 2\n" //
+				+ "# TYPE born_test_active gauge\n" //
+				+ "born_test_active 5\n" //
+				+ "# TYPE born_test_seconds summary\n" //
+				+ "born_test_seconds{quantile=\"0.5\"} 1.500000000\n" //
+				+ "born_test_seconds{quantile=\"0.9\"} 1.500000000\n" //
+				+ "born_test_seconds{quantile=\"0.99\"} 1.500000000\n" //
+				+ "born_test_seconds{quantile=\"0.999\"} 1.500000000\n" //
+				+ "born_test_seconds_sum 1.500000000\n" //
+				+ "born_test_seconds_count 1\n";
+		Assert.assertEquals(expected, output.toString());
+	}
+
+}
@@ -0,0 +1,33 @@
+package de.tudresden.inf.lat.born.core.metrics;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ResourceUsageTest {
+
+	static final int NUMBER_OF_ARRAYS = 0x100;
+	static final int ARRAY_SIZE = 0x1000;
+
+	@Test
+	public void testMeasure() {
+		ResourceUsage usage = new ResourceUsage();
+		byte[][] arrays = usage.measure(() -> {
+			byte[][] ret = new byte[NUMBER_OF_ARRAYS][];
+			for (int index = 0; index < NUMBER_OF_ARRAYS; index++) {
+				ret[index] = new byte[ARRAY_SIZE];
+			}
+			return ret;
+		});
+		Assert.assertEquals(NUMBER_OF_ARRAYS, arrays.length);
+		Assume.assumeTrue(usage.getAllocatedBytes() != ResourceUsage.UNSUPPORTED);
+		Assert.assertTrue(usage.getAllocatedBytes() >= NUMBER_OF_ARRAYS * ARRAY_SIZE);
+		Assert.assertTrue(usage.getCpuTime() >= 0);
+	}
+
+}
@@ -0,0 +1,92 @@
+package de.tudresden.inf.lat.born.module;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLException;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import de.tudresden.inf.lat.born.owlapi.processor.ProblogInputCreator;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResult;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResultImpl;
+import de.tudresden.inf.lat.born.tool.moduleextractor.ModuleStrategyReport;
+import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
+import uk.ac.manchester.cs.owlapi.modularity.SyntacticLocalityModuleExtractor;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class BottomLocalityModuleExtractorTest {
+
+	static final String ONTOLOGY_FILE_NAME = "src/test/resources/born-example.owl";
+	static final String NETWORK_FILE_NAME = "src/test/resources/network.pl";
+	static final String QUERY_FILE_NAME = "src/test/resources/born-example.pl";
+
+	Set<OWLAxiom> getLogicalAxioms(Set<OWLAxiom> axioms) {
+		return axioms.stream().filter(axiom -> axiom.isLogicalAxiom()).collect(Collectors.toSet());
+	}
+
+	@Test
+	public void testExtractModule() throws IOException, OWLException {
+		OWLOntology owlOntology = ProcessorConfigurationImpl.readOntology(new FileInputStream(ONTOLOGY_FILE_NAME));
+		BottomLocalityModuleExtractor instance = new BottomLocalityModuleExtractor(owlOntology.getAxioms());
+		SyntacticLocalityModuleExtractor expectedExtractor = new SyntacticLocalityModuleExtractor(
+				owlOntology.getOWLOntologyManager(), owlOntology, ModuleType.BOT);
+		Assert.assertEquals(owlOntology.getLogicalAxiomCount(), instance.getNumberOfAxioms());
+
+		for (OWLClass owlClass : owlOntology.getClassesInSignature()) {
+			Set<OWLAxiom> module = instance.extractModule(Collections.singleton(owlClass));
+			Assert.assertEquals(getLogicalAxioms(expectedExtractor.extract(Collections.singleton(owlClass))),
+					getLogicalAxioms(module));
+			module.stream().filter(axiom -> !axiom.isLogicalAxiom())
+					.forEach(axiom -> Assert.assertTrue(owlOntology.containsAxiom(axiom)));
+		}
+		Assert.assertEquals(getLogicalAxioms(expectedExtractor.extract(owlOntology.getSignature())),
+				getLogicalAxioms(instance.extractModule(owlOntology.getSignature())));
+	}
+
+	@Test
+	public void testStrategies() throws IOException, OWLException {
+		OWLOntology owlOntology = ProcessorConfigurationImpl.readOntology(new FileInputStream(ONTOLOGY_FILE_NAME));
+		String bayesianNetwork = ProcessorConfigurationImpl.read(new FileReader(NETWORK_FILE_NAME));
+		String query = ProcessorConfigurationImpl.read(new FileReader(QUERY_FILE_NAME));
+		ProblogInputCreator creator = new ProblogInputCreator();
+
+		ProcessorExecutionResult reachabilityResult = new ProcessorExecutionResultImpl();
+		creator.createProblogFile(true, "", owlOntology, bayesianNetwork, query, ModuleStrategy.REACHABILITY,
+				new ByteArrayOutputStream(), reachabilityResult);
+		ProcessorExecutionResult localityResult = new ProcessorExecutionResultImpl();
+		creator.createProblogFile(true, "", owlOntology, bayesianNetwork, query, ModuleStrategy.BOTTOM_LOCALITY,
+				new ByteArrayOutputStream(), localityResult);
+		Assert.assertTrue(localityResult.getModuleSize() > 0);
+		Assert.assertTrue(localityResult.getModuleSize() <= reachabilityResult.getModuleSize());
+		Assert.assertTrue(localityResult.getProgramSize() <= reachabilityResult.getProgramSize());
+
+		ModuleStrategyReport report = new ModuleStrategyReport(owlOntology);
+		List<Set<OWLClass>> queries = owlOntology.getClassesInSignature().stream().map(Collections::singleton)
+				.collect(Collectors.toList());
+		StringWriter output = new StringWriter();
+		report.report(queries, output);
+		Assert.assertEquals(queries.size() + 1, output.toString().split("\n").length);
+		for (Set<OWLClass> signature : queries) {
+			Assert.assertTrue(report.getModuleSize(ModuleStrategy.BOTTOM_LOCALITY, signature) <= report
+					.getModuleSize(ModuleStrategy.REACHABILITY, signature));
+		}
+		Assert.assertTrue(report.getSummary().startsWith(ModuleStrategy.REACHABILITY.getName() + " queries="));
+	}
+
+}
@@ -0,0 +1,68 @@
+package de.tudresden.inf.lat.born.owlapi.annotator;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+/**
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class AnnotatorCoreTest {
+
+	@Test
+	public void testAnnotate() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = OWLManager.createOWLOntologyManager()
+				.loadOntologyFromOntologyDocument(new FileInputStream("src/test/resources/born-example.owl"));
+		OWLDataFactory df = ontology.getOWLOntologyManager().getOWLDataFactory();
+		Set<String> variables = new TreeSet<>(Arrays.asList("x1", "x2", "x3"));
+		AnnotatorCore instance = new AnnotatorCore();
+
+		List<OWLAxiom> annotated = instance.annotate(df, ontology.getAxioms(), 1, variables, 1);
+		Assert.assertEquals(ontology.getAxiomCount(), annotated.size());
+		annotated.stream().filter(OWLAxiom::isLogicalAxiom)
+				.forEach(axiom -> Assert.assertEquals(1, axiom.getAnnotations().size()));
+		Assert.assertTrue(instance.annotate(df, ontology.getAxioms(), 0, variables, 1).stream()
+				.allMatch(axiom -> axiom.getAnnotations().isEmpty()));
+	}
+
+	@Test
+	public void testReproducibility() throws InterruptedException, ExecutionException {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		List<OWLClass> classes = IntStream.range(0, 3 * AnnotatorCore.CHUNK_SIZE)
+				.mapToObj(index -> df.getOWLClass(IRI.create("http://example.org/#A" + index))).collect(Collectors.toList());
+		Set<OWLAxiom> axioms = IntStream.range(1, classes.size())
+				.mapToObj(index -> df.getOWLSubClassOfAxiom(classes.get(index), classes.get(index - 1)))
+				.collect(Collectors.toSet());
+		Set<String> variables = new TreeSet<>(Arrays.asList("x1", "x2", "x3"));
+		AnnotatorCore instance = new AnnotatorCore();
+
+		List<OWLAxiom> expected = new ForkJoinPool(1)
+				.submit(() -> instance.annotate(df, axioms, 0.5, variables, 42)).get();
+		List<OWLAxiom> actual = new ForkJoinPool(4)
+				.submit(() -> instance.annotate(df, axioms, 0.5, variables, 42)).get();
+		Assert.assertEquals(expected, actual);
+		long annotatedAxioms = actual.stream().filter(axiom -> !axiom.getAnnotations().isEmpty()).count();
+		Assert.assertTrue(annotatedAxioms > 0 && annotatedAxioms < axioms.size());
+		Assert.assertNotEquals(expected, instance.annotate(df, axioms, 0.5, variables, 43));
+	}
+
+}
@@ -0,0 +1,58 @@
+package de.tudresden.inf.lat.born.owlapi.classifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ClassifierCoreTest {
+
+	static final String NAMESPACE = "http://lat.inf.tu-dresden.de/systems/born/born-example#";
+
+	String answerAll(String program) {
+		StringBuilder sb = new StringBuilder();
+		for (String line : program.split("\n")) {
+			if (line.startsWith("query(")) {
+				sb.append(line.substring("query(".length(), line.length() - ").".length()));
+				sb.append(":\t0.25\n");
+			}
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testRun() throws OWLOntologyCreationException, IOException {
+		ClassifierConfiguration conf = new ClassifierConfigurationImpl();
+		conf.setOntology(
+				ProcessorConfigurationImpl.readOntology(new FileInputStream("src/test/resources/born-example.owl")));
+		conf.setQueryProcessor(this::answerAll);
+		conf.setNumberOfThreads(2);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		conf.setOutput(output);
+
+		long count = new ClassifierCore().run(conf);
+
+		List<String> expected = new ArrayList<>();
+		expected.add("sub class\tsuper class\tprobability");
+		expected.add(NAMESPACE + "a\t" + NAMESPACE + "c\t0.25");
+		expected.add(NAMESPACE + "a\t" + NAMESPACE + "d\t0.25");
+		expected.add(NAMESPACE + "a\t" + NAMESPACE + "e\t0.25");
+		expected.add(NAMESPACE + "c\t" + NAMESPACE + "e\t0.25");
+		Assert.assertEquals(4, count);
+		Assert.assertEquals(expected, Arrays.asList(new String(output.toByteArray()).split("\\R")));
+	}
+
+}
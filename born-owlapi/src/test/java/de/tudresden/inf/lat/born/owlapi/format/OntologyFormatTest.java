@@ -0,0 +1,94 @@
+package de.tudresden.inf.lat.born.owlapi.format;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.OWLRendererException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class OntologyFormatTest {
+
+	static final String ONTOLOGY_FILE_NAME = "src/test/resources/born-example.owl";
+	static final String NAMESPACE = "http://example.org/#";
+
+	@Test
+	public void testGetFormat() {
+		Assert.assertEquals(OntologyFormat.OWL_XML, OntologyFormat.getFormat("ontology.owx"));
+		Assert.assertEquals(OntologyFormat.FUNCTIONAL, OntologyFormat.getFormat("ontology.ofn"));
+		Assert.assertEquals(OntologyFormat.LINES, OntologyFormat.getFormat("ontology.ofnl"));
+		Assert.assertEquals(OntologyFormat.BINARY, OntologyFormat.getFormat("ontology.bax"));
+		Assert.assertEquals(OntologyFormat.DEFAULT, OntologyFormat.getFormat("ontology.owl"));
+		Assert.assertEquals(OntologyFormat.OWL_XML, OntologyFormat.getFormat("ontology.owl"));
+		Assert.assertEquals(OntologyFormat.OWL_XML, OntologyFormat.getFormat("ontology.ttl"));
+
+		String[] args = { "input.owl", "--format=binary", "output.owx" };
+		Assert.assertEquals(OntologyFormat.BINARY, OntologyFormat.getFormat(args, "output.owx"));
+		Assert.assertArrayEquals(new String[] { "input.owl", "output.owx" }, OntologyFormat.removeFormatOption(args));
+		Assert.assertTrue(OntologyFormat.hasValidFormatOption(args));
+		Assert.assertFalse(OntologyFormat.hasValidFormatOption(new String[] { "--format=turtle" }));
+		try {
+			OntologyFormat.getFormat(new String[] { "--format=turtle" }, "output.owx");
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException, OWLOntologyCreationException, OWLRendererException {
+		OWLOntology original = OWLManager.createOWLOntologyManager()
+				.loadOntologyFromOntologyDocument(new FileInputStream(ONTOLOGY_FILE_NAME));
+		for (OntologyFormat format : OntologyFormat.getValues()) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			new OntologyWriter().write(original, output, format);
+			OWLOntology copy = new OntologyReader().read(new ByteArrayInputStream(output.toByteArray()));
+			Assert.assertEquals(format.getName(), original.getAxioms(), copy.getAxioms());
+			Assert.assertEquals(format.getName(), OntologyFormat.BINARY.equals(format),
+					OntologyReader.isBinary(new ByteArrayInputStream(output.toByteArray())));
+		}
+	}
+
+	@Test
+	public void testBinaryFallback() throws IOException, OWLOntologyCreationException, OWLRendererException {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		OWLClass a = df.getOWLClass(IRI.create(NAMESPACE + "a"));
+		OWLClass b = df.getOWLClass(IRI.create(NAMESPACE + "b"));
+		OWLClass c = df.getOWLClass(IRI.create(NAMESPACE + "c"));
+		OWLObjectProperty r = df.getOWLObjectProperty(IRI.create(NAMESPACE + "r"));
+		List<OWLAxiom> axioms = new ArrayList<>();
+		axioms.add(df.getOWLDeclarationAxiom(a));
+		axioms.add(df.getOWLSubClassOfAxiom(df.getOWLObjectSomeValuesFrom(r, a), b,
+				Collections.singleton(df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("x0")))));
+		axioms.add(df.getOWLSubClassOfAxiom(df.getOWLObjectUnionOf(a, b), c));
+		axioms.add(df.getOWLDisjointClassesAxiom(a, c));
+		axioms.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectIntersectionOf(a, b)));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new OntologyWriter().write(axioms, Optional.of(IRI.create("http://example.org/")), output,
+				OntologyFormat.BINARY);
+		OWLOntology copy = new OntologyReader().read(new ByteArrayInputStream(output.toByteArray()));
+		Assert.assertEquals(new HashSet<>(axioms), copy.getAxioms());
+		Assert.assertEquals(Optional.of(IRI.create("http://example.org/")), OntologyWriter.getOntologyIri(copy));
+	}
+
+}
@@ -0,0 +1,89 @@
+package de.tudresden.inf.lat.born.owlapi.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.owlapi.annotator.AnnotationCreator;
+import de.tudresden.inf.lat.born.owlapi.processor.ParallelPreprocessor;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+
+/**
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class GeneratorCoreTest {
+
+	GeneratorConfiguration createConfiguration(ByteArrayOutputStream outputOntology,
+			ByteArrayOutputStream outputBayesianNetwork) {
+		GeneratorConfiguration conf = new GeneratorConfigurationImpl();
+		conf.setOutputOntology(outputOntology);
+		conf.setOutputBayesianNetwork(outputBayesianNetwork);
+		conf.setNumberOfClasses(500);
+		conf.setNumberOfRoles(3);
+		conf.setNumberOfIndividuals(20);
+		conf.setDepth(3);
+		conf.setFanOut(3);
+		conf.setExistentialDensity(1.5);
+		conf.setConjunctionRatio(0.2);
+		conf.setCycleRate(0.1);
+		conf.setNumberOfVariables(50);
+		conf.setSeed(127);
+		return conf;
+	}
+
+	@Test
+	public void testRun() throws OWLOntologyCreationException {
+		ByteArrayOutputStream outputOntology = new ByteArrayOutputStream();
+		ByteArrayOutputStream outputBayesianNetwork = new ByteArrayOutputStream();
+		GeneratorConfiguration conf = createConfiguration(outputOntology, outputBayesianNetwork);
+		long count = new GeneratorCore().run(conf);
+
+		OWLOntology ontology = ProcessorConfigurationImpl
+				.readOntology(new ByteArrayInputStream(outputOntology.toByteArray()));
+		Assert.assertEquals(count, ontology.getLogicalAxiomCount());
+		Assert.assertEquals(500, ontology.getClassesInSignature().size());
+		Assert.assertEquals(3, ontology.getObjectPropertiesInSignature().size());
+		Assert.assertEquals(20, ontology.getIndividualsInSignature().size());
+		Assert.assertEquals(20, ontology.getAxiomCount(AxiomType.CLASS_ASSERTION));
+		Assert.assertTrue(ontology.getLogicalAxioms().stream().allMatch(axiom -> axiom.isAnnotated()));
+
+		String bayesianNetwork = new String(outputBayesianNetwork.toByteArray());
+		Assert.assertEquals(50, AnnotationCreator.extractVariables(bayesianNetwork).size());
+
+		ParallelPreprocessor preprocessor = new ParallelPreprocessor(
+				ontology.getOWLOntologyManager().getOWLDataFactory(), new IntegerOntologyObjectFactoryImpl());
+		Assert.assertFalse(preprocessor.normalize(preprocessor.translate(ontology.getAxioms())).isEmpty());
+	}
+
+	@Test
+	public void testSeed() {
+		ByteArrayOutputStream output0 = new ByteArrayOutputStream();
+		ByteArrayOutputStream output1 = new ByteArrayOutputStream();
+		new GeneratorCore().run(createConfiguration(output0, null));
+		new GeneratorCore().run(createConfiguration(output1, null));
+		Assert.assertArrayEquals(output0.toByteArray(), output1.toByteArray());
+		Assert.assertFalse(new String(output0.toByteArray()).contains("Annotation(born:probability"));
+	}
+
+	@Test
+	public void testHierarchy() {
+		long treeSize = GeneratorCore.getTreeSize(2, 3);
+		Assert.assertEquals(13, treeSize);
+		Assert.assertEquals(-1, GeneratorCore.getParent(0, treeSize, 3));
+		Assert.assertEquals(0, GeneratorCore.getParent(3, treeSize, 3));
+		Assert.assertEquals(1, GeneratorCore.getParent(4, treeSize, 3));
+		Assert.assertEquals(-1, GeneratorCore.getParent(13, treeSize, 3));
+		Assert.assertEquals(14, GeneratorCore.getParent(17, treeSize, 3));
+		Assert.assertEquals(4, GeneratorCore.getChild(1, 100, treeSize, 3));
+		Assert.assertEquals(12, GeneratorCore.getChild(12, 100, treeSize, 3));
+	}
+
+}
@@ -0,0 +1,235 @@
+package de.tudresden.inf.lat.born.owlapi.main;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+import org.semanticweb.owlapi.reasoner.ReasonerInterruptedException;
+import org.semanticweb.owlapi.reasoner.SimpleConfiguration;
+import org.semanticweb.owlapi.reasoner.TimeOutException;
+
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class BornReasonerTest {
+
+	static final String NAMESPACE = "http://lat.inf.tu-dresden.de/systems/born/born-example#";
+
+	/**
+	 * Query processor that answers every query with the same probability, and
+	 * counts how many times it is executed.
+	 */
+	static class MockQueryProcessor implements Function<String, String> {
+
+		private int numberOfExecutions = 0;
+
+		public int getNumberOfExecutions() {
+			return this.numberOfExecutions;
+		}
+
+		@Override
+		public String apply(String program) {
+			this.numberOfExecutions++;
+			StringBuilder sb = new StringBuilder();
+			for (String line : program.split("\n")) {
+				if (line.startsWith("query(")) {
+					sb.append(line.substring("query(".length(), line.length() - ").".length()));
+					sb.append(":\t0.5\n");
+				}
+			}
+			return sb.toString();
+		}
+
+	}
+
+	/**
+	 * Query processor that blocks until it is interrupted.
+	 */
+	static class BlockingQueryProcessor implements Function<String, String> {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		public CountDownLatch getStarted() {
+			return this.started;
+		}
+
+		@Override
+		public String apply(String program) {
+			this.started.countDown();
+			try {
+				Thread.sleep(Long.MAX_VALUE);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			return "";
+		}
+
+	}
+
+	OWLOntology readOntology() throws OWLOntologyCreationException, IOException {
+		return ProcessorConfigurationImpl.readOntology(new FileInputStream("src/test/resources/born-example.owl"));
+	}
+
+	OWLClass getClass(OWLDataFactory factory, String name) {
+		return factory.getOWLClass(IRI.create(NAMESPACE + name));
+	}
+
+	@Test
+	public void testGetProbability() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		BornReasoner reasoner = new BornReasonerFactory().createNonBufferingReasoner(ontology);
+		MockQueryProcessor queryProcessor = new MockQueryProcessor();
+		reasoner.setQueryProcessor(queryProcessor);
+
+		OWLSubClassOfAxiom query = factory.getOWLSubClassOfAxiom(getClass(factory, "a"), getClass(factory, "e"));
+		Assert.assertEquals(0.5, reasoner.getProbability(query), 0);
+		Assert.assertEquals(0.5, reasoner.getProbability(query), 0);
+		Assert.assertEquals(1, queryProcessor.getNumberOfExecutions());
+
+		ontology.getOWLOntologyManager().addAxiom(ontology,
+				factory.getOWLSubClassOfAxiom(getClass(factory, "a"), getClass(factory, "d")));
+		Assert.assertEquals(0.5, reasoner.getProbability(query), 0);
+		Assert.assertEquals(2, queryProcessor.getNumberOfExecutions());
+		reasoner.dispose();
+	}
+
+	@Test
+	public void testGetProbabilities() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		BornReasoner reasoner = new BornReasonerFactory().createNonBufferingReasoner(ontology);
+		MockQueryProcessor queryProcessor = new MockQueryProcessor();
+		reasoner.setQueryProcessor(queryProcessor);
+
+		List<OWLAxiom> queries = new ArrayList<>();
+		queries.add(factory.getOWLSubClassOfAxiom(getClass(factory, "a"), getClass(factory, "e")));
+		queries.add(factory.getOWLSubClassOfAxiom(getClass(factory, "b"), getClass(factory, "e")));
+		queries.add(factory.getOWLClassAssertionAxiom(getClass(factory, "e"),
+				factory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i0"))));
+		Map<OWLAxiom, Double> probabilities = reasoner.getProbabilities(queries);
+		Assert.assertEquals(queries, new ArrayList<>(probabilities.keySet()));
+		Assert.assertEquals(1, queryProcessor.getNumberOfExecutions());
+
+		reasoner.getProbabilities(queries);
+		Assert.assertEquals(1, queryProcessor.getNumberOfExecutions());
+		reasoner.dispose();
+	}
+
+	@Test
+	public void testClassHierarchy() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		BornReasoner reasoner = new BornReasonerFactory().createNonBufferingReasoner(ontology);
+		Assert.assertFalse(reasoner.isPrecomputed(InferenceType.CLASS_HIERARCHY));
+		reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY);
+		Assert.assertTrue(reasoner.isPrecomputed(InferenceType.CLASS_HIERARCHY));
+
+		OWLClass a = getClass(factory, "a");
+		Assert.assertTrue(reasoner.getSuperClasses(a, true).containsEntity(getClass(factory, "c")));
+		Assert.assertTrue(reasoner.getSuperClasses(a, true).containsEntity(getClass(factory, "d")));
+		Assert.assertFalse(reasoner.getSuperClasses(a, true).containsEntity(getClass(factory, "e")));
+		Assert.assertTrue(reasoner.getSuperClasses(a, false).containsEntity(getClass(factory, "e")));
+		Assert.assertTrue(reasoner.getSuperClasses(a, false).containsEntity(factory.getOWLThing()));
+		Assert.assertTrue(reasoner.getSubClasses(getClass(factory, "e"), false).containsEntity(a));
+		Assert.assertTrue(reasoner.isSatisfiable(a));
+		Assert.assertTrue(reasoner.isEntailed(factory.getOWLSubClassOfAxiom(a, getClass(factory, "e"))));
+		Assert.assertFalse(reasoner.isEntailed(factory.getOWLSubClassOfAxiom(getClass(factory, "e"), a)));
+
+		ontology.getOWLOntologyManager().addAxiom(ontology,
+				factory.getOWLEquivalentClassesAxiom(a, getClass(factory, "b")));
+		Assert.assertFalse(reasoner.isPrecomputed(InferenceType.CLASS_HIERARCHY));
+		Assert.assertTrue(reasoner.getEquivalentClasses(a).contains(getClass(factory, "b")));
+		reasoner.dispose();
+	}
+
+	@Test
+	public void testCertainProbability() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		BornReasoner reasoner = new BornReasonerFactory().createNonBufferingReasoner(ontology);
+		MockQueryProcessor queryProcessor = new MockQueryProcessor();
+		reasoner.setQueryProcessor(queryProcessor);
+
+		ontology.getOWLOntologyManager().addAxiom(ontology,
+				factory.getOWLSubClassOfAxiom(getClass(factory, "b"), getClass(factory, "d")));
+		Assert.assertEquals(1.0, reasoner.getProbability(
+				factory.getOWLSubClassOfAxiom(getClass(factory, "b"), getClass(factory, "d"))), 0);
+		Assert.assertEquals(0, queryProcessor.getNumberOfExecutions());
+		Assert.assertEquals(0.5, reasoner.getProbability(
+				factory.getOWLSubClassOfAxiom(getClass(factory, "a"), getClass(factory, "d"))), 0);
+		Assert.assertEquals(1, queryProcessor.getNumberOfExecutions());
+		reasoner.dispose();
+	}
+
+	@Test
+	public void testInterrupt() throws OWLOntologyCreationException, IOException, InterruptedException {
+		OWLOntology ontology = readOntology();
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		BornReasoner reasoner = new BornReasonerFactory().createNonBufferingReasoner(ontology);
+		BlockingQueryProcessor blockingQueryProcessor = new BlockingQueryProcessor();
+		reasoner.setQueryProcessor(blockingQueryProcessor);
+		OWLSubClassOfAxiom query = factory.getOWLSubClassOfAxiom(getClass(factory, "a"), getClass(factory, "e"));
+
+		Thread interrupter = new Thread(() -> {
+			try {
+				blockingQueryProcessor.getStarted().await(1, TimeUnit.MINUTES);
+				reasoner.interrupt();
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		interrupter.start();
+		try {
+			reasoner.getProbability(query);
+			Assert.fail();
+		} catch (ReasonerInterruptedException e) {
+			Assert.assertFalse(Thread.currentThread().isInterrupted());
+		}
+		interrupter.join();
+
+		MockQueryProcessor queryProcessor = new MockQueryProcessor();
+		reasoner.setQueryProcessor(queryProcessor);
+		Assert.assertEquals(0.5, reasoner.getProbability(query), 0);
+		Assert.assertEquals(1, queryProcessor.getNumberOfExecutions());
+		reasoner.dispose();
+	}
+
+	@Test
+	public void testTimeOut() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		BornReasoner reasoner = new BornReasonerFactory().createNonBufferingReasoner(ontology,
+				new SimpleConfiguration(500));
+		Assert.assertEquals(500, reasoner.getTimeOut());
+		reasoner.setQueryProcessor(new BlockingQueryProcessor());
+		OWLSubClassOfAxiom query = factory.getOWLSubClassOfAxiom(getClass(factory, "a"), getClass(factory, "e"));
+		try {
+			reasoner.getProbability(query);
+			Assert.fail();
+		} catch (TimeOutException e) {
+			Assert.assertFalse(Thread.currentThread().isInterrupted());
+		}
+		reasoner.dispose();
+	}
+
+}
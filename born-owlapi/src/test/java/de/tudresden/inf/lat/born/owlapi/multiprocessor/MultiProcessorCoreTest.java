@@ -0,0 +1,168 @@
+package de.tudresden.inf.lat.born.owlapi.multiprocessor;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResult;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorExecutionResultImpl;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class MultiProcessorCoreTest {
+
+	static final String NAMESPACE = "http://lat.inf.tu-dresden.de/systems/born/born-example#";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	String answerAll(String program) {
+		StringBuilder sb = new StringBuilder();
+		for (String line : program.split("\n")) {
+			if (line.startsWith("query(")) {
+				sb.append(line.substring("query(".length(), line.length() - ").".length()));
+				sb.append(":\t0.25\n");
+			}
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testRunAndStream() throws OWLOntologyCreationException, IOException {
+		File outputDirectory = this.temporaryFolder.newFolder();
+		MultiProcessorConfiguration conf = new MultiProcessorConfigurationImpl();
+		conf.setOntologyList(Collections.singletonList(new OntologyAndNetwork("example",
+				ProcessorConfigurationImpl.readOntology(new FileInputStream("src/test/resources/born-example.owl")),
+				"")));
+		conf.setOutputDirectory(outputDirectory.getAbsolutePath());
+		conf.setNumberOfQueries(5);
+		conf.setSeed(127);
+		conf.setQueryProcessor(this::answerAll);
+		conf.setShowingLog(false);
+
+		Assert.assertEquals(5, new MultiProcessorCore().runAndStream(conf, System.nanoTime()));
+		List<String> lines = Files.readAllLines(
+				new File(outputDirectory, "example" + JsonLinesResultWriter.JSON_LINES_EXTENSION).toPath(),
+				StandardCharsets.UTF_8);
+		Assert.assertEquals(5, lines.size());
+		lines.forEach(line -> {
+			Assert.assertTrue(line.startsWith("{\"ontology\":\"example.owl\","));
+			Assert.assertTrue(line.contains(",\"probability\":0.25,\"timed_out\":false,"));
+			Assert.assertTrue(line.endsWith("}"));
+		});
+	}
+
+	@Test
+	public void testColumns() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = ProcessorConfigurationImpl
+				.readOntology(new FileInputStream("src/test/resources/born-example.owl"));
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		MultiProcessorCore core = new MultiProcessorCore();
+		SubsumptionQuery query = new SubsumptionQuery(factory.getOWLClass(IRI.create(NAMESPACE + "a")),
+				factory.getOWLClass(IRI.create(NAMESPACE + "b")));
+		ProcessorExecutionResult executionResult = new ProcessorExecutionResultImpl();
+		executionResult.setResult(answerAll("query(" + query.asProblogString() + ")."));
+
+		String header = core.makeLine(MultiProcessorCore.FIRST_LINE_LIST).trim();
+		String row = core.makeLine(core.getConditions(new OntologyAndNetwork("example", ontology, ""),
+				new ProcessorConfigurationImpl(), query)) + core.makeLine(core.getResult(executionResult)).trim();
+		Assert.assertEquals(header.split("\t", -1).length, row.split("\t", -1).length);
+	}
+
+	@Test
+	public void testWriteEscapedStrings() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = ProcessorConfigurationImpl
+				.readOntology(new FileInputStream("src/test/resources/born-example.owl"));
+		OWLDataFactory factory = ontology.getOWLOntologyManager().getOWLDataFactory();
+		StringWriter output = new StringWriter();
+		JsonLinesResultWriter writer = new JsonLinesResultWriter(output);
+		SubsumptionQuery query = new SubsumptionQuery(factory.getOWLClass(IRI.create(NAMESPACE + "a\"b")),
+				factory.getOWLClass(IRI.create(NAMESPACE + "c\\d")));
+		ProcessorExecutionResult executionResult = new ProcessorExecutionResultImpl();
+		executionResult.setResult("no result\there");
+		writer.write(new OntologyAndNetwork("ex\tample", ontology, ""), query, executionResult);
+		writer.close();
+
+		String line = output.toString();
+		Assert.assertTrue(line.startsWith("{\"ontology\":\"ex\\u0009ample.owl\","));
+		Assert.assertTrue(line.contains("\"sub_class\":\"" + NAMESPACE + "a\\\"b\""));
+		Assert.assertTrue(line.contains("\"super_class\":\"" + NAMESPACE + "c\\\\d\""));
+		Assert.assertTrue(line.contains("\"probability\":null"));
+		Assert.assertEquals(1, writer.getNumberOfResults());
+	}
+
+	@Test
+	public void testLazyLoading() throws IOException {
+		File ontologyDirectory = this.temporaryFolder.newFolder();
+		File networkDirectory = this.temporaryFolder.newFolder();
+		int numberOfOntologies = 5;
+		for (int index = 0; index < numberOfOntologies; index++) {
+			Files.copy(new File("src/test/resources/born-example.owl").toPath(),
+					new File(ontologyDirectory, "example" + index + MultiProcessorCore.OWL_EXTENSION).toPath());
+			Files.copy(new File("src/test/resources/network.pl").toPath(),
+					new File(networkDirectory, "example" + index + MultiProcessorCore.PL_EXTENSION).toPath());
+		}
+
+		List<OntologyAndNetwork> ontologyList = MultiProcessorCore
+				.getOntologyAndNetworkList(ontologyDirectory.getAbsolutePath(), networkDirectory.getAbsolutePath());
+		Assert.assertEquals(numberOfOntologies, ontologyList.size());
+		ontologyList.forEach(ontPair -> Assert.assertFalse(ontPair.isLoaded()));
+
+		MultiProcessorConfiguration conf = new MultiProcessorConfigurationImpl();
+		conf.setOntologyList(ontologyList);
+		conf.setLookAhead(2);
+		List<String> processed = new ArrayList<>();
+		new MultiProcessorCore().forEachOntology(conf, ontPair -> {
+			Assert.assertTrue(ontPair.isLoaded());
+			Assert.assertFalse(ontPair.getBayesianNetwork().isEmpty());
+			Assert.assertTrue(ontologyList.stream().filter(OntologyAndNetwork::isLoaded).count() <= 1
+					+ conf.getLookAhead());
+			processed.add(ontPair.getOntologyName());
+		});
+		Assert.assertEquals(Arrays.asList("example0", "example1", "example2", "example3", "example4"), processed);
+		ontologyList.forEach(ontPair -> Assert.assertFalse(ontPair.isLoaded()));
+
+		// a released ontology is read again on use
+		OntologyAndNetwork ontPair = ontologyList.get(0);
+		Assert.assertTrue(ontPair.getOntology().getAxiomCount() > 0);
+		Assert.assertTrue(ontPair.isLoaded());
+		Assert.assertEquals(ontPair, MultiProcessorCore
+				.getOntologyAndNetworkList(ontologyDirectory.getAbsolutePath(), networkDirectory.getAbsolutePath())
+				.get(0));
+		ontPair.release();
+
+		// the current ontology is released when the action fails
+		try {
+			new MultiProcessorCore().forEachOntology(conf, current -> {
+				throw new UncheckedIOException(new IOException());
+			});
+			Assert.fail();
+		} catch (UncheckedIOException e) {
+		}
+		Assert.assertFalse(ontologyList.get(0).isLoaded());
+		Assert.assertTrue(ontologyList.stream().filter(OntologyAndNetwork::isLoaded).count() <= conf
+				.getLookAhead());
+	}
+
+}
@@ -0,0 +1,84 @@
+package de.tudresden.inf.lat.born.owlapi.processor;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.core.metrics.ResourceUsage;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.normalization.OntologyNormalizer;
+import de.tudresden.inf.lat.jcel.owlapi.translator.Translator;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ParallelPreprocessorTest {
+
+	OWLOntology readOntology() throws OWLOntologyCreationException, IOException {
+		return ProcessorConfigurationImpl.readOntology(new FileInputStream("src/test/resources/born-example.owl"));
+	}
+
+	Set<NormalizedIntegerAxiom> preprocess(OWLOntology ontology, int partitionSize) {
+		ParallelPreprocessor instance = new ParallelPreprocessor(ontology.getOWLOntologyManager().getOWLDataFactory(),
+				new IntegerOntologyObjectFactoryImpl(), ForkJoinPool.commonPool(), partitionSize);
+		return instance.normalize(instance.translate(ontology.getAxioms()));
+	}
+
+	@Test
+	public void testTranslate() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+		Set<ComplexIntegerAxiom> expected = new Translator(ontology.getOWLOntologyManager().getOWLDataFactory(),
+				factory).translateSA(ontology.getAxioms());
+		List<ComplexIntegerAxiom> actual = new ParallelPreprocessor(
+				ontology.getOWLOntologyManager().getOWLDataFactory(), new IntegerOntologyObjectFactoryImpl())
+						.translate(ontology.getAxioms());
+		Assert.assertEquals(expected.size(), actual.size());
+	}
+
+	@Test
+	public void testNormalize() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+		Set<NormalizedIntegerAxiom> expected = new OntologyNormalizer().normalize(
+				new Translator(ontology.getOWLOntologyManager().getOWLDataFactory(), factory)
+						.translateSA(ontology.getAxioms()),
+				factory);
+
+		Set<NormalizedIntegerAxiom> sequential = preprocess(ontology, Integer.MAX_VALUE);
+		Set<NormalizedIntegerAxiom> parallel = preprocess(ontology, 1);
+		Assert.assertEquals(expected.size(), sequential.size());
+		Assert.assertEquals(expected.size(), parallel.size());
+		Assert.assertEquals(new HashSet<>(parallel), preprocess(ontology, 1));
+	}
+
+	@Test
+	public void testMeasureInWorker() {
+		ResourceUsage usage = new ResourceUsage();
+		Assume.assumeTrue(usage.getAllocatedBytes() != -1);
+		Thread caller = Thread.currentThread();
+		ParallelPreprocessor.measureInWorker(usage, caller, () -> new long[0x1000]);
+		Assert.assertEquals(0, usage.getAllocatedBytes());
+
+		CompletableFuture
+				.supplyAsync(() -> ParallelPreprocessor.measureInWorker(usage, caller, () -> new long[0x1000]))
+				.join();
+		Assert.assertTrue(usage.getAllocatedBytes() >= 0x1000 * Long.BYTES);
+	}
+
+}
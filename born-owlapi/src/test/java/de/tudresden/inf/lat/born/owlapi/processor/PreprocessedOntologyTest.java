@@ -0,0 +1,65 @@
+package de.tudresden.inf.lat.born.owlapi.processor;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.module.Module;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class PreprocessedOntologyTest {
+
+	OWLOntology readOntology() throws OWLOntologyCreationException, IOException {
+		return ProcessorConfigurationImpl.readOntology(new FileInputStream("src/test/resources/born-example.owl"));
+	}
+
+	@Test
+	public void testRemoveAndAddAxiom() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		PreprocessedOntology instance = new PreprocessedOntology(ontology.getOWLOntologyManager().getOWLDataFactory(),
+				ontology.getAxioms());
+		Set<NormalizedIntegerAxiom> expected = new HashSet<>(instance.getNormalizedAxioms());
+
+		OWLAxiom axiom = ontology.getAxioms(AxiomType.SUBCLASS_OF).iterator().next();
+		Set<NormalizedIntegerAxiom> removed = instance.removeAxiom(axiom);
+		Assert.assertFalse(instance.getAxioms().contains(axiom));
+		Assert.assertTrue(removed.stream().noneMatch(elem -> instance.getNormalizedAxioms().contains(elem)));
+
+		Set<NormalizedIntegerAxiom> added = instance.addAxiom(axiom);
+		Assert.assertEquals(removed, added);
+		Assert.assertEquals(expected, instance.getNormalizedAxioms());
+	}
+
+	@Test
+	public void testModuleCache() throws OWLOntologyCreationException, IOException {
+		OWLOntology ontology = readOntology();
+		PreprocessedOntology instance = new PreprocessedOntology(ontology.getOWLOntologyManager().getOWLDataFactory(),
+				ontology.getAxioms());
+		Set<Integer> classes = new HashSet<>();
+		classes.add(instance.getTranslator().getTranslationRepository()
+				.getId(ontology.getClassesInSignature().iterator().next()));
+
+		Module module = instance.getModule(classes);
+		Assert.assertSame(module, instance.getModule(classes));
+		Assert.assertEquals(1, instance.getNumberOfCachedModules());
+
+		OWLAxiom axiom = ontology.getAxioms(AxiomType.SUBCLASS_OF).iterator().next();
+		instance.removeAxiom(axiom);
+		instance.addAxiom(axiom);
+		Assert.assertEquals(module.getAxioms(), instance.getModule(classes).getAxioms());
+	}
+
+}
@@ -0,0 +1,165 @@
+package de.tudresden.inf.lat.born.owlapi.processor;
+
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.core.event.FlightRecorderSupport;
+import de.tudresden.inf.lat.born.core.event.StageEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ProcessorCoreTest {
+
+	static final String RESULT = "sub('a','e'):\t0.5\n";
+
+	/**
+	 * Query processor that blocks until it is interrupted.
+	 */
+	static class BlockingQueryProcessor implements Function<String, String> {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch interrupted = new CountDownLatch(1);
+
+		public CountDownLatch getStarted() {
+			return this.started;
+		}
+
+		public CountDownLatch getInterrupted() {
+			return this.interrupted;
+		}
+
+		@Override
+		public String apply(String program) {
+			this.started.countDown();
+			try {
+				Thread.sleep(Long.MAX_VALUE);
+			} catch (InterruptedException e) {
+				this.interrupted.countDown();
+				throw new RuntimeException(e);
+			}
+			return "";
+		}
+
+	}
+
+	ProcessorConfiguration createConfiguration(Function<String, String> queryProcessor)
+			throws OWLOntologyCreationException, IOException {
+		ProcessorConfiguration ret = new ProcessorConfigurationImpl();
+		ret.setOntology(
+				ProcessorConfigurationImpl.readOntology(new FileInputStream("src/test/resources/born-example.owl")));
+		ret.setBayesianNetwork(ProcessorConfigurationImpl.read(new FileReader("src/test/resources/network.pl")));
+		ret.setQuery(ProcessorConfigurationImpl.read(new FileReader("src/test/resources/born-example.pl")));
+		ret.setQueryProcessor(queryProcessor);
+		return ret;
+	}
+
+	@Test
+	public void testSubmit() throws OWLOntologyCreationException, IOException, InterruptedException,
+			ExecutionException {
+		ProcessorConfiguration conf = createConfiguration(program -> RESULT);
+		ProcessorExecutionResult result = new ProcessorCore().submit(conf, Duration.ofMinutes(1)).get();
+		Assert.assertFalse(result.isTimedOut());
+		Assert.assertEquals(RESULT, result.getResult());
+		Assert.assertTrue(result.getModuleSize() > 0);
+		Assert.assertTrue(result.getProgramSize() > 0);
+		Assert.assertTrue(result.getTranslationCpuTime() >= 0);
+		Assert.assertTrue(result.getModuleExtractionAllocatedBytes() >= 0);
+	}
+
+	@Test
+	public void testDeadline() throws OWLOntologyCreationException, IOException, InterruptedException,
+			ExecutionException {
+		BlockingQueryProcessor queryProcessor = new BlockingQueryProcessor();
+		ProcessorConfiguration conf = createConfiguration(queryProcessor);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		long failures = ProcessorCore.FAILURES.get();
+		ProcessorExecutionResult result = new ProcessorCore(executor).submit(conf, Duration.ofMillis(500)).get();
+		Assert.assertTrue(result.isTimedOut());
+		Assert.assertTrue(result.getTotalTime() >= Duration.ofMillis(500).toNanos());
+		// the execution is stopped either before or while ProbLog runs
+		Assert.assertTrue((queryProcessor.getStarted().getCount() == 1)
+				|| queryProcessor.getInterrupted().await(1, TimeUnit.MINUTES));
+		executor.shutdown();
+		Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		// a timeout is not counted as a failure
+		Assert.assertEquals(failures, ProcessorCore.FAILURES.get());
+	}
+
+	@Test
+	public void testCancel() throws OWLOntologyCreationException, IOException, InterruptedException {
+		BlockingQueryProcessor queryProcessor = new BlockingQueryProcessor();
+		ProcessorConfiguration conf = createConfiguration(queryProcessor);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		long failures = ProcessorCore.FAILURES.get();
+		CompletableFuture<ProcessorExecutionResult> future = new ProcessorCore(executor).submit(conf);
+		Assert.assertTrue(queryProcessor.getStarted().await(1, TimeUnit.MINUTES));
+		Assert.assertTrue(future.cancel(true));
+		Assert.assertTrue(queryProcessor.getInterrupted().await(1, TimeUnit.MINUTES));
+		Assert.assertTrue(future.isCancelled());
+		executor.shutdown();
+		Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		// a cancellation is not counted as a failure
+		Assert.assertEquals(failures, ProcessorCore.FAILURES.get());
+	}
+
+	@Test
+	public void testFlightRecorderEvents() throws OWLOntologyCreationException, IOException {
+		Assume.assumeTrue(FlightRecorderSupport.isAvailable());
+		ProcessorConfiguration conf = createConfiguration(program -> RESULT);
+		Path file = Files.createTempFile("born", ".jfr");
+		try (Recording recording = new Recording()) {
+			String[] names = { "Translation", "Normalization", "ModuleExtraction", "ProgramEmission",
+					"QueryProcessor" };
+			for (String name : names) {
+				recording.enable(StageEvent.NAME_PREFIX + name);
+			}
+			recording.start();
+			ProcessorExecutionResult result = new ProcessorExecutionResultImpl();
+			new ProcessorCore().run(conf, System.nanoTime(), result);
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+					.filter(event -> event.getThread().getJavaThreadId() == Thread.currentThread().getId())
+					.collect(Collectors.toList());
+			Assert.assertEquals(names.length, events.size());
+			for (int index = 0; index < names.length; index++) {
+				Assert.assertEquals(StageEvent.NAME_PREFIX + names[index], events.get(index).getEventType().getName());
+				Assert.assertEquals(ProblogInputCreator.getOntologyName(conf.getOntology()),
+						events.get(index).getString("ontology"));
+			}
+			Assert.assertEquals(result.getModuleSize(), events.get(2).getInt("moduleSize"));
+			Assert.assertEquals(result.getModuleSize(), events.get(3).getInt("moduleSize"));
+			Assert.assertTrue(events.get(3).getLong("programSize") > 0);
+			Assert.assertEquals(events.get(3).getLong("programSize"), events.get(4).getLong("programSize"));
+			Assert.assertEquals(conf.getQuery(), events.get(4).getString("query"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+package de.tudresden.inf.lat.born.owlapi.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import de.tudresden.inf.lat.born.owlapi.multiprocessor.OntologyAndNetwork;
+import de.tudresden.inf.lat.born.owlapi.processor.ProcessorConfigurationImpl;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ServerCoreTest {
+
+	static final String NAMESPACE = "http://lat.inf.tu-dresden.de/systems/born/born-example#";
+
+	private final AtomicInteger numberOfExecutions = new AtomicInteger();
+
+	String answerAll(String program) {
+		this.numberOfExecutions.incrementAndGet();
+		StringBuilder sb = new StringBuilder();
+		for (String line : program.split("\n")) {
+			if (line.startsWith("query(")) {
+				sb.append(line.substring("query(".length(), line.length() - ").".length()));
+				sb.append(":\t0.25\n");
+			}
+		}
+		return sb.toString();
+	}
+
+	ServerCore createServer() throws OWLOntologyCreationException, IOException {
+		ServerConfiguration conf = new ServerConfigurationImpl();
+		conf.setOntologyList(Collections.singletonList(new OntologyAndNetwork("example",
+				ProcessorConfigurationImpl.readOntology(new FileInputStream("src/test/resources/born-example.owl")),
+				"")));
+		conf.setPort(0);
+		conf.setNumberOfThreads(2);
+		conf.setQueryProcessor(this::answerAll);
+		return new ServerCore(conf);
+	}
+
+	String[] send(ServerCore server, String method, String path, String body) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(
+				"http://localhost:" + server.getPort() + path).openConnection();
+		connection.setRequestMethod(method);
+		if (!body.isEmpty()) {
+			connection.setDoOutput(true);
+			OutputStream output = connection.getOutputStream();
+			output.write(body.getBytes(StandardCharsets.UTF_8));
+			output.close();
+		}
+		int status = connection.getResponseCode();
+		InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		for (int ch = input.read(); ch != -1; ch = input.read()) {
+			content.write(ch);
+		}
+		input.close();
+		return new String[] { "" + status, new String(content.toByteArray(), StandardCharsets.UTF_8) };
+	}
+
+	@Test
+	public void testServer() throws OWLOntologyCreationException, IOException {
+		ServerCore server = createServer();
+		server.start();
+		try {
+			String[] response = send(server, "GET", ServerCore.ONTOLOGIES_PATH, "");
+			Assert.assertEquals("200", response[0]);
+			Assert.assertEquals("example\n", response[1]);
+
+			String queries = "query(sub('" + NAMESPACE + "a', '" + NAMESPACE + "e')).\n" //
+					+ "% comment\n" //
+					+ "query(sub('" + NAMESPACE + "a', '" + NAMESPACE + "d')).\n";
+			response = send(server, "POST", ServerCore.PROBABILITY_PATH + "?ontology=example", queries);
+			Assert.assertEquals("200", response[0]);
+			Assert.assertEquals("sub('" + NAMESPACE + "a', '" + NAMESPACE + "e'):\t0.25\n" //
+					+ "sub('" + NAMESPACE + "a', '" + NAMESPACE + "d'):\t0.25\n", response[1]);
+			Assert.assertEquals(1, this.numberOfExecutions.get());
+
+			response = send(server, "POST", ServerCore.PROBABILITY_PATH, queries);
+			Assert.assertEquals("200", response[0]);
+			Assert.assertEquals(1, this.numberOfExecutions.get());
+
+			Assert.assertEquals("404",
+					send(server, "POST", ServerCore.PROBABILITY_PATH + "?ontology=other", queries)[0]);
+			Assert.assertEquals("400", send(server, "POST", ServerCore.PROBABILITY_PATH, "sub(a, e)")[0]);
+			Assert.assertEquals("405", send(server, "GET", ServerCore.PROBABILITY_PATH, "")[0]);
+		} finally {
+			server.stop();
+		}
+	}
+
+}
@@ -1,12 +1,26 @@
 package de.tudresden.inf.lat.born.owlapi.splitter;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
 
+import org.junit.Assert;
 import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
 import org.semanticweb.owlapi.io.OWLRendererException;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
 
 /**
  * 
@@ -15,13 +29,120 @@ import org.semanticweb.owlapi.model.OWLOntologyCreationException;
  */
 public class SplitterCoreTest {
 
+	static final String ONTOLOGY_FILE_NAME = "src/test/resources/born-example.owl";
+
 	@Test
 	public void testRun() throws OWLRendererException, OWLOntologyCreationException, IOException {
 		ByteArrayOutputStream output0 = new ByteArrayOutputStream();
 		ByteArrayOutputStream output1 = new ByteArrayOutputStream();
 		SplitterCore instance = new SplitterCore();
-		instance.split(new FileInputStream("src/test/resources/born-example.owl"), output0, output1);
-		// TODO finish the unit test
+		instance.split(new FileInputStream(ONTOLOGY_FILE_NAME), output0, output1);
+
+		OWLOntology original = OWLManager.createOWLOntologyManager()
+				.loadOntologyFromOntologyDocument(new FileInputStream(ONTOLOGY_FILE_NAME));
+		OWLOntology split = OWLManager.createOWLOntologyManager()
+				.loadOntologyFromOntologyDocument(new ByteArrayInputStream(output0.toByteArray()));
+		Assert.assertEquals(original.getLogicalAxiomCount(), split.getLogicalAxiomCount());
+		Assert.assertEquals(original.getAxiomCount(AxiomType.SUBCLASS_OF), split.getAxiomCount(AxiomType.SUBCLASS_OF));
+
+		String network = output1.toString();
+		Assert.assertTrue(network.contains("x4::x1.\n"));
+		Assert.assertTrue(network.contains("\\+x3::x2.\n"));
+		Assert.assertTrue(network.contains("\\+x2::x4.\n"));
+		Assert.assertTrue(network.contains("x3::x5.\n"));
+	}
+
+	@Test
+	public void testFunctionalSyntaxSplitter() throws IOException {
+		String input = "" //
+				+ "Prefix(xsd:=<http://www.w3.org/2001/XMLSchema#>)\n" //
+				+ "Prefix(:=<http://example.org/#>)\n" //
+				+ "Ontology(<http://example.org/>\n" //
+				+ "Declaration(Class(:a))\n" //
+				+ "SubClassOf(Annotation(:p \"0.3 with (parentheses) and \\\"quotes\\\"\") :a :b)\n" //
+				+ "SubClassOf( Annotation(<http://example.org/#p> \"x0\"^^xsd:string)\n" //
+				+ "  ObjectSomeValuesFrom(:r :a) :b)\n" //
+				+ ")\n";
+		String expected = "" //
+				+ "Prefix(xsd:=<http://www.w3.org/2001/XMLSchema#>)\n" //
+				+ "Prefix(:=<http://example.org/#>)\n" //
+				+ "Ontology(<http://example.org/>\n" //
+				+ "Declaration(Class(:a))\n" //
+				+ "SubClassOf(Annotation(:p \"x0\"^^xsd:string) :a :b)\n" //
+				+ "SubClassOf( Annotation(<http://example.org/#p> \"x1\"^^xsd:string)\n" //
+				+ "  ObjectSomeValuesFrom(:r :a) :b)\n" //
+				+ ")\n";
+		StringWriter ontology = new StringWriter();
+		StringWriter network = new StringWriter();
+		FunctionalSyntaxSplitter instance = new FunctionalSyntaxSplitter(ontology, network);
+		Assert.assertEquals(2, instance.split(new StringReader(input)));
+		Assert.assertEquals(expected, ontology.toString());
+		Assert.assertEquals("0.3 with (parentheses) and \"quotes\"::x0.\nx0::x1.\n", network.toString());
+	}
+
+	@Test
+	public void testVariableSharing() throws IOException {
+		String input = "" //
+				+ "Ontology(\n" //
+				+ "SubClassOf(Annotation(:p \"0.5\") :a :b)\n" //
+				+ "SubClassOf(Annotation(:p \"0.50\") :b :c)\n" //
+				+ "SubClassOf(Annotation(:p \"0.5\") :c :d)\n" //
+				+ "SubClassOf(Annotation(:p \"x0\") :d :e)\n" //
+				+ ")\n";
+		StringWriter network = new StringWriter();
+		new FunctionalSyntaxSplitter(new StringWriter(), network, VariableSharing.NONE).split(new StringReader(input));
+		Assert.assertEquals("0.5::x0.\n0.50::x1.\n0.5::x2.\nx0::x3.\n", network.toString());
+
+		network = new StringWriter();
+		StringWriter ontology = new StringWriter();
+		new FunctionalSyntaxSplitter(ontology, network, VariableSharing.VALUE).split(new StringReader(input));
+		Assert.assertEquals("0.5::x0.\n0.50::x1.\nx0::x2.\n", network.toString());
+		Assert.assertTrue(ontology.toString()
+				.contains("SubClassOf(Annotation(:p \"x0\"^^<http://www.w3.org/2001/XMLSchema#string>) :c :d)"));
+
+		network = new StringWriter();
+		new FunctionalSyntaxSplitter(new StringWriter(), network, VariableSharing.PROBABILITY)
+				.split(new StringReader(input));
+		Assert.assertEquals("0.5::x0.\nx0::x1.\n", network.toString());
+	}
+
+	@Test
+	public void testFunctionalSyntaxSplitterWithComments()
+			throws OWLOntologyCreationException, OWLOntologyStorageException, IOException {
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		OWLDataFactory factory = manager.getOWLDataFactory();
+		OWLOntology owlOntology = manager.createOntology(IRI.create("http://example.org/"));
+		OWLClass a = factory.getOWLClass(IRI.create("http://example.org/#A"));
+		OWLClass b = factory.getOWLClass(IRI.create("http://example.org/#B"));
+		manager.addAxiom(owlOntology, factory.getOWLDeclarationAxiom(a));
+		manager.addAxiom(owlOntology, factory.getOWLAnnotationAssertionAxiom(a.getIRI(),
+				factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral("A (left"))));
+		manager.addAxiom(owlOntology,
+				factory.getOWLSubClassOfAxiom(a, b,
+						Collections.singleton(factory.getOWLAnnotation(
+								factory.getOWLAnnotationProperty(IRI.create("http://example.org/#p")),
+								factory.getOWLLiteral("0.3")))));
+		ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+		manager.saveOntology(owlOntology, new FunctionalSyntaxDocumentFormat(), rendered);
+		Assert.assertTrue(rendered.toString().contains("# Class: "));
+
+		StringWriter ontology = new StringWriter();
+		StringWriter network = new StringWriter();
+		FunctionalSyntaxSplitter instance = new FunctionalSyntaxSplitter(ontology, network);
+		Assert.assertEquals(1, instance.split(new StringReader(rendered.toString())));
+		Assert.assertEquals("0.3::x0.\n", network.toString());
+
+		OWLOntology split = OWLManager.createOWLOntologyManager()
+				.loadOntologyFromOntologyDocument(new ByteArrayInputStream(ontology.toString().getBytes()));
+		Assert.assertEquals(owlOntology.getLogicalAxiomCount(), split.getLogicalAxiomCount());
+		Assert.assertEquals(factory.getOWLLiteral("x0"), split.getAxioms(AxiomType.SUBCLASS_OF).iterator().next()
+				.getAnnotations().iterator().next().getValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFunctionalSyntaxSplitterWithTwoAnnotations() throws IOException {
+		String input = "Ontology(\nSubClassOf(Annotation(:p \"x0\") Annotation(:p \"x1\") :a :b)\n)\n";
+		new FunctionalSyntaxSplitter(new StringWriter(), new StringWriter()).split(new StringReader(input));
 	}
 
 }
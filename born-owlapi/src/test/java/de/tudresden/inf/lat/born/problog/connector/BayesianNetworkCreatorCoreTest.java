@@ -0,0 +1,101 @@
+package de.tudresden.inf.lat.born.problog.connector;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.born.core.term.ProbClause;
+import de.tudresden.inf.lat.born.owlapi.annotator.AnnotationCreator;
+
+/**
+ * 
+ * @author Julian Mendez
+ *
+ */
+public class BayesianNetworkCreatorCoreTest {
+
+	BayesianNetworkCreatorConfiguration createConfiguration(NetworkStructure structure, ProbabilityTableType type,
+			List<Integer> dependencies, ByteArrayOutputStream output) {
+		BayesianNetworkCreatorConfiguration conf = new BayesianNetworkCreatorConfigurationImpl();
+		conf.setStructure(structure);
+		conf.setProbabilityTableType(type);
+		conf.setDependencies(dependencies);
+		conf.setNumberOfParents(3);
+		conf.setSeed(127);
+		conf.setOutput(output);
+		return conf;
+	}
+
+	String write(BayesianNetworkCreatorConfiguration conf) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		conf.setOutput(output);
+		new BayesianNetworkCreatorCore().run(conf);
+		return new String(output.toByteArray());
+	}
+
+	@Test
+	public void testFull() {
+		BayesianNetworkCreatorConfiguration conf = createConfiguration(NetworkStructure.PARENTS,
+				ProbabilityTableType.FULL, Arrays.asList(1, 1, 2), new ByteArrayOutputStream());
+		List<ProbClause> network = new BayesianNetworkCreatorCore().createNetwork(conf);
+		Assert.assertEquals(1 + 2 + 4 + 4, network.size());
+		Assert.assertEquals("x3", network.get(network.size() - 1).getHead().asString());
+		Assert.assertEquals(2, network.get(network.size() - 1).getBody().size());
+
+		String expected = network.stream().map(clause -> clause.asString()).collect(Collectors.joining());
+		Assert.assertEquals(expected, write(conf));
+		Assert.assertEquals(expected, write(conf));
+	}
+
+	@Test
+	public void testTables() {
+		for (NetworkStructure structure : NetworkStructure.getValues()) {
+			List<Integer> dependencies = structure.equals(NetworkStructure.TREEWIDTH) ? Arrays.asList(200)
+					: Arrays.asList(20, 60, 120);
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			BayesianNetworkCreatorConfiguration conf = createConfiguration(structure, ProbabilityTableType.NOISY_OR,
+					dependencies, output);
+			List<ProbClause> noisyOr = new BayesianNetworkCreatorCore().createNetwork(conf);
+			conf.setProbabilityTableType(ProbabilityTableType.CONTEXT_SPECIFIC);
+			List<ProbClause> contextSpecific = new BayesianNetworkCreatorCore().createNetwork(conf);
+
+			long numberOfParents = noisyOr.stream().filter(clause -> !clause.getBody().isEmpty()).count();
+			Assert.assertEquals(noisyOr.size(), contextSpecific.size());
+			Assert.assertEquals(200, noisyOr.size() - numberOfParents);
+			Assert.assertTrue(noisyOr.stream().allMatch(clause -> clause.getBody().size() <= 1));
+			if (!structure.equals(NetworkStructure.PARENTS)) {
+				Assert.assertTrue(contextSpecific.stream().allMatch(clause -> clause.getBody().size() <= 3));
+			}
+
+			String text = write(conf);
+			Assert.assertEquals(IntStream.range(0, 200).mapToObj(index -> "x" + index).collect(Collectors.toSet()),
+					AnnotationCreator.extractVariables(text));
+		}
+	}
+
+	@Test
+	public void testChoose() {
+		Random random = new Random(127);
+		for (int count = 0; count <= 10; count++) {
+			int[] chosen = BayesianNetworkCreatorCore.choose(random, 5, 10, count);
+			Assert.assertEquals(count, Arrays.stream(chosen).distinct().count());
+			Assert.assertTrue(Arrays.stream(chosen).allMatch(value -> 5 <= value && value < 15));
+		}
+	}
+
+	@Test
+	public void testIsValid() {
+		Assert.assertTrue(BayesianNetworkCreatorCore.isValid(NetworkStructure.PARENTS, Arrays.asList(1, 1, 2), 0));
+		Assert.assertFalse(BayesianNetworkCreatorCore.isValid(NetworkStructure.PARENTS, Arrays.asList(1, 0, 2), 0));
+		Assert.assertTrue(BayesianNetworkCreatorCore.isValid(NetworkStructure.TREEWIDTH, Arrays.asList(10), 3));
+		Assert.assertFalse(BayesianNetworkCreatorCore.isValid(NetworkStructure.TREEWIDTH, Arrays.asList(1, 2), 3));
+		Assert.assertFalse(BayesianNetworkCreatorCore.isValid(NetworkStructure.LAYERS, Arrays.asList(1, -2), 3));
+	}
+
+}
@@ -0,0 +1,105 @@
+package de.tudresden.inf.lat.born.tool.cycleremover;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class CycleDetectorTest {
+
+	static final String NAMESPACE = "http://example.org/#";
+
+	static boolean isReachable(List<Set<Integer>> successors, int start, int target) {
+		Set<Integer> visited = new HashSet<>();
+		List<Integer> pending = new ArrayList<>();
+		pending.add(start);
+		while (!pending.isEmpty()) {
+			int current = pending.remove(pending.size() - 1);
+			if (current == target) {
+				return true;
+			}
+			if (visited.add(current)) {
+				pending.addAll(successors.get(current));
+			}
+		}
+		return false;
+	}
+
+	@Test
+	public void testDynamicTopologicalOrder() {
+		int size = 200;
+		Random random = new Random(1);
+		DynamicTopologicalOrder order = new DynamicTopologicalOrder();
+		List<Set<Integer>> successors = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			Assert.assertEquals(i, order.addNode());
+			successors.add(new HashSet<>());
+		}
+		for (int i = 0; i < 4 * size; i++) {
+			int x = random.nextInt(size);
+			int y = random.nextInt(size);
+			boolean expected = !isReachable(successors, y, x);
+			Assert.assertEquals(expected, order.addEdge(x, y));
+			if (expected) {
+				successors.get(x).add(y);
+			}
+			for (int source = 0; source < size; source++) {
+				for (int target : successors.get(source)) {
+					Assert.assertTrue(order.getPosition(source) < order.getPosition(target));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCycleDetector() {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		OWLClass a = df.getOWLClass(IRI.create(NAMESPACE + "A"));
+		OWLClass b = df.getOWLClass(IRI.create(NAMESPACE + "B"));
+		OWLClass c = df.getOWLClass(IRI.create(NAMESPACE + "C"));
+		OWLClass d = df.getOWLClass(IRI.create(NAMESPACE + "D"));
+		OWLObjectProperty r = df.getOWLObjectProperty(IRI.create(NAMESPACE + "r"));
+		CycleDetector detector = new CycleDetector();
+		Assert.assertTrue(detector.accept(df.getOWLSubClassOfAxiom(a, b)));
+		Assert.assertTrue(detector.accept(df.getOWLSubClassOfAxiom(b, c)));
+		Assert.assertFalse(detector.accept(df.getOWLSubClassOfAxiom(c, a)));
+		Assert.assertFalse(detector.accept(df.getOWLSubClassOfAxiom(d, df.getOWLObjectSomeValuesFrom(r, d))));
+
+		// the edge from D to A is added before the edge from D to C is
+		// rejected, and it has to be removed
+		Assert.assertFalse(detector.accept(df.getOWLSubClassOfAxiom(df.getOWLObjectIntersectionOf(c, d), a)));
+		Assert.assertTrue(detector.accept(df.getOWLSubClassOfAxiom(a, d)));
+	}
+
+	@Test
+	public void testAxiomPriority() {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		OWLClass a = df.getOWLClass(IRI.create(NAMESPACE + "A"));
+		OWLClass b = df.getOWLClass(IRI.create(NAMESPACE + "B"));
+		OWLAxiom annotated = df.getOWLSubClassOfAxiom(a, b,
+				new HashSet<>(Arrays.asList(df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("x0")))));
+		OWLAxiom certain = df.getOWLSubClassOfAxiom(b, a);
+		Set<OWLAxiom> axioms = new HashSet<>(Arrays.asList(annotated, certain));
+		CycleRemover remover = new CycleRemover();
+		Assert.assertEquals(new HashSet<>(Arrays.asList(certain)),
+				remover.removeCycles(axioms, AxiomPriority.ANNOTATED_LAST));
+		Assert.assertEquals(1, remover.removeCycles(axioms, AxiomPriority.NATURAL).size());
+	}
+
+}
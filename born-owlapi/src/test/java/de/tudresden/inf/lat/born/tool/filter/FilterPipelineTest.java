@@ -0,0 +1,99 @@
+package de.tudresden.inf.lat.born.tool.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLException;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyReader;
+import de.tudresden.inf.lat.born.tool.cycleremover.CycleDetector;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class FilterPipelineTest {
+
+	static final String ONTOLOGY_FILE_NAME = "src/test/resources/born-example.owl";
+	static final String NAMESPACE = "http://example.org/#";
+
+	@Test
+	public void testFilter() {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		OWLClass a = df.getOWLClass(IRI.create(NAMESPACE + "A"));
+		OWLClass b = df.getOWLClass(IRI.create(NAMESPACE + "B"));
+		OWLClass c = df.getOWLClass(IRI.create(NAMESPACE + "C"));
+		OWLAxiom aSubB = df.getOWLSubClassOfAxiom(a, b);
+		OWLAxiom bSubC = df.getOWLSubClassOfAxiom(b, c);
+		OWLAxiom cSubA = df.getOWLSubClassOfAxiom(c, a);
+		OWLAxiom union = df.getOWLSubClassOfAxiom(df.getOWLObjectUnionOf(a, b), c);
+		OWLAxiom subtracted = df.getOWLSubClassOfAxiom(a, c);
+		Set<OWLAxiom> axioms = new HashSet<>(Arrays.asList(aSubB, bSubC, cSubA, union, subtracted));
+
+		FilterPipeline pipeline = new FilterPipeline() //
+				.addStateless("el", new ElAxiomFilter()) //
+				.addStateless("subtract", new SubtractionFilter(Collections.singleton(subtracted))) //
+				.addStateful("acyclic", new CycleDetector());
+		List<OWLAxiom> result = pipeline.filter(axioms);
+
+		// the natural order of the axioms decides which axiom of the cycle is
+		// removed
+		Assert.assertEquals(2, result.size());
+		Assert.assertFalse(result.contains(union));
+		Assert.assertFalse(result.contains(subtracted));
+		Assert.assertEquals(result, new FilterPipeline().addStateful("acyclic", new CycleDetector())
+				.filter(Arrays.asList(aSubB, bSubC, cSubA)));
+
+		List<FilterStage> stages = pipeline.getStages();
+		Assert.assertEquals(5, stages.get(0).getExamined());
+		Assert.assertEquals(4, stages.get(0).getAccepted());
+		Assert.assertEquals(4, stages.get(1).getExamined());
+		Assert.assertEquals(3, stages.get(1).getAccepted());
+		Assert.assertEquals(3, stages.get(2).getExamined());
+		Assert.assertEquals(2, stages.get(2).getAccepted());
+		Assert.assertEquals("el examined=5 accepted=4\nsubtract examined=4 accepted=3\n"
+				+ "acyclic examined=3 accepted=2\n", pipeline.getReport());
+	}
+
+	@Test
+	public void testRun() throws IOException, OWLException {
+		OntologyFilter ontologyFilter = new OntologyFilter();
+		FilterPipeline pipeline = ontologyFilter.createPipeline(Arrays.asList(OntologyFilter.EL_FILTER,
+				OntologyFilter.ACYCLIC_FILTER + "=annotated-last"));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		pipeline.run(new FileInputStream(ONTOLOGY_FILE_NAME), output, OntologyFormat.BINARY);
+
+		OWLOntology original = ontologyFilter.readOntology(ONTOLOGY_FILE_NAME);
+		OWLOntology filtered = new OntologyReader().read(new ByteArrayInputStream(output.toByteArray()));
+		Assert.assertEquals(original.getAxiomCount(), pipeline.getStages().get(0).getExamined());
+		Assert.assertEquals(filtered.getAxiomCount(), pipeline.getStages().get(1).getAccepted());
+		Assert.assertTrue(original.getAxioms().containsAll(filtered.getAxioms()));
+		IRI originalIri = original.getOntologyID().getOntologyIRI().get();
+		Assert.assertEquals(IRI.create(originalIri + FilterPipeline.NEW_ONTOLOGY_SUFFIX),
+				filtered.getOntologyID().getOntologyIRI().get());
+
+		try {
+			ontologyFilter.createPipeline(Collections.singletonList("unknown"));
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+}
@@ -0,0 +1,118 @@
+package de.tudresden.inf.lat.born.tool.fingerprint;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLException;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import de.tudresden.inf.lat.born.owlapi.format.OntologyFormat;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyReader;
+import de.tudresden.inf.lat.born.owlapi.format.OntologyWriter;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class OntologyDiffTest {
+
+	static final String ONTOLOGY_FILE_NAME = "src/test/resources/born-example.owl";
+	static final String NAMESPACE = "http://example.org/#";
+
+	OWLAxiom createAxiom(OWLDataFactory df, String subClass, String superClass, String annotation) {
+		OWLClass a = df.getOWLClass(IRI.create(NAMESPACE + subClass));
+		OWLClass b = df.getOWLClass(IRI.create(NAMESPACE + superClass));
+		return df.getOWLSubClassOfAxiom(a, b, Objects.isNull(annotation) ? Collections.emptySet()
+				: Collections.singleton(df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral(annotation))));
+	}
+
+	@Test
+	public void testFingerprints() throws IOException, OWLException {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		OWLAxiom axiom = createAxiom(df, "A", "B", "x0");
+		AxiomFingerprinter fingerprinter = new AxiomFingerprinter(true);
+		AxiomFingerprinter logicalFingerprinter = new AxiomFingerprinter(false);
+
+		AxiomFingerprint fingerprint = fingerprinter.getFingerprint(axiom);
+		Assert.assertEquals(fingerprint, fingerprinter.getFingerprint(createAxiom(df, "A", "B", "x0")));
+		Assert.assertNotEquals(fingerprint, fingerprinter.getFingerprint(createAxiom(df, "A", "B", "x1")));
+		Assert.assertEquals(logicalFingerprinter.getFingerprint(axiom),
+				logicalFingerprinter.getFingerprint(createAxiom(df, "A", "B", "x1")));
+		Assert.assertEquals(logicalFingerprinter.getFingerprint(axiom),
+				fingerprinter.getFingerprint(createAxiom(df, "A", "B", null)));
+		Assert.assertEquals(fingerprint, AxiomFingerprint.parse(fingerprint.toString()));
+		Assert.assertEquals(0x20, fingerprint.toString().length());
+
+		OWLOntology ontology = new OntologyReader().read(new FileInputStream(ONTOLOGY_FILE_NAME));
+		FingerprintSet fingerprints = fingerprinter.getFingerprints(ontology.getAxioms());
+		Assert.assertEquals(ontology.getAxiomCount(), fingerprints.size());
+		ontology.getAxioms().forEach(
+				ontologyAxiom -> Assert.assertTrue(fingerprints.contains(fingerprinter.getFingerprint(ontologyAxiom))));
+		Assert.assertFalse(fingerprints.contains(fingerprint));
+		for (int index = 1; index < fingerprints.size(); index++) {
+			Assert.assertTrue(fingerprints.get(index - 1).compareTo(fingerprints.get(index)) < 0);
+		}
+	}
+
+	File createOntologyFile(Set<OWLAxiom> axioms) throws IOException, OWLException {
+		File file = File.createTempFile("born", OntologyFormat.BINARY.getExtension());
+		file.deleteOnExit();
+		try (FileOutputStream output = new FileOutputStream(file)) {
+			new OntologyWriter().write(axioms, Optional.empty(), output, OntologyFormat.BINARY);
+		}
+		return file;
+	}
+
+	@Test
+	public void testDiff() throws IOException, OWLException {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		OWLAxiom kept = createAxiom(df, "A", "B", null);
+		OWLAxiom removed = createAxiom(df, "B", "C", null);
+		OWLAxiom added = createAxiom(df, "C", "D", null);
+		OWLAxiom oldVersion = createAxiom(df, "D", "E", "x0");
+		OWLAxiom newVersion = createAxiom(df, "D", "E", "x1");
+		File oldFile = createOntologyFile(new HashSet<>(Arrays.asList(kept, removed, oldVersion)));
+		File newFile = createOntologyFile(new HashSet<>(Arrays.asList(kept, added, newVersion)));
+
+		OntologyDiff instance = new OntologyDiff();
+		StringWriter output = new StringWriter();
+		instance.diff(oldFile.getAbsolutePath(), newFile.getAbsolutePath(), output);
+		Assert.assertEquals(1, instance.getRemoved());
+		Assert.assertEquals(1, instance.getAdded());
+		Assert.assertEquals(1, instance.getChanged());
+
+		AxiomFingerprinter fingerprinter = new AxiomFingerprinter(true);
+		String diff = output.toString();
+		Assert.assertEquals(4, diff.split("\n").length);
+		Assert.assertTrue(diff.contains("+ " + fingerprinter.getFingerprint(added) + " "));
+		Assert.assertTrue(diff.contains("- " + fingerprinter.getFingerprint(removed) + " "));
+		Assert.assertTrue(diff.contains("> " + fingerprinter.getFingerprint(newVersion) + " "));
+		Assert.assertTrue(diff.contains("< " + fingerprinter.getFingerprint(oldVersion) + " "));
+		Assert.assertFalse(diff.contains(fingerprinter.getFingerprint(kept).toString()));
+
+		FingerprintSubtractionFilter filter = new FingerprintSubtractionFilter(
+				new AxiomFingerprinter(false).getFingerprints(new FileInputStream(oldFile)),
+				new AxiomFingerprinter(false));
+		Assert.assertFalse(filter.accept(kept));
+		Assert.assertTrue(filter.accept(added));
+		Assert.assertFalse(filter.accept(newVersion));
+	}
+
+}
@@ -0,0 +1,62 @@
+package de.tudresden.inf.lat.born.tool.moduleextractor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLException;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import de.tudresden.inf.lat.born.tool.filter.OntologySubtractor;
+
+/**
+ *
+ * @author Julian Mendez
+ *
+ */
+public class ModuleSizeCalculatorTest {
+
+	static final String ONTOLOGY_FILE_NAME = "src/test/resources/born-example.owl";
+
+	@Test
+	public void testModuleSizes() throws IOException, OWLException {
+		OWLOntology owlOntology = OntologySubtractor.readOntology(ONTOLOGY_FILE_NAME);
+		BornModuleExtractor extractor = new BornModuleExtractor();
+		ModuleSizeCalculator calculator = new ModuleSizeCalculator(owlOntology);
+		List<OWLClass> classes = calculator.getClasses();
+		Assert.assertEquals(owlOntology.getClassesInSignature().size(), classes.size());
+
+		int[] sizes = calculator.getModuleSizes(classes);
+		for (int index = 0; index < classes.size(); index++) {
+			Assert.assertEquals(
+					extractor.extractModule(owlOntology, Collections.singleton(classes.get(index))).getAxiomCount(),
+					sizes[index]);
+		}
+
+		Assert.assertEquals(calculator.getSample(100, 1), calculator.getSample(100, 1));
+		Assert.assertEquals(100, calculator.getSample(100, 1).size());
+	}
+
+	@Test
+	public void testCount() throws IOException, OWLException {
+		File countFile = File.createTempFile("born", ".txt");
+		countFile.deleteOnExit();
+		BornModuleExtractor extractor = new BornModuleExtractor();
+		String summary = extractor.countRandom(ONTOLOGY_FILE_NAME, 20, countFile.getAbsolutePath(), 1);
+		List<String> lines = Files.readAllLines(countFile.toPath());
+		Assert.assertEquals(20, lines.size());
+		Assert.assertTrue(summary.startsWith("count=20 "));
+
+		extractor.countRandom(ONTOLOGY_FILE_NAME, 20, countFile.getAbsolutePath(), 1);
+		List<String> allLines = Files.readAllLines(countFile.toPath());
+		Assert.assertEquals(lines, allLines.subList(20, 40));
+		Assert.assertEquals("count=0", extractor.getSummary(new int[0]));
+		Assert.assertEquals("count=3 min=1 median=2 mean=4.00 max=9", extractor.getSummary(new int[] { 9, 1, 2 }));
+	}
+
+}